@@ -0,0 +1,211 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.apriltag;
+
+import java.util.Objects;
+
+/**
+ * A reusable set of AprilTag detections, filled by {@link
+ * AprilTagDetector#detect(org.opencv.core.Mat, AprilTagDetectionBuffer)}.
+ *
+ * <p>Detecting into the same buffer every frame avoids creating an {@link AprilTagDetection} and
+ * its arrays for every tag seen. The buffer only allocates when a frame has more detections than
+ * any frame before it. Each detection is read by its index, which is valid until the next time the
+ * buffer is detected into.
+ */
+public class AprilTagDetectionBuffer {
+  // Layout of each detection in m_data. Must match StoreDetections() in AprilTagJNI.cpp.
+  private static final int kId = 0;
+  private static final int kHamming = 1;
+  private static final int kDecisionMargin = 2;
+  private static final int kCenterX = 3;
+  private static final int kCenterY = 4;
+  private static final int kHomography = 5;
+  private static final int kCorners = 14;
+  private static final int kStride = 22;
+
+  private int m_count;
+  private double[] m_data = new double[0];
+  private String[] m_families = new String[0];
+
+  /** Constructs an empty detection buffer. */
+  public AprilTagDetectionBuffer() {}
+
+  /**
+   * Called from JNI to size the buffer for the detections in a frame.
+   *
+   * @param count The number of detections
+   * @return The array to store detection data in
+   */
+  double[] resizeJNI(int count) {
+    if (count > m_families.length) {
+      int capacity = Math.max(count, m_families.length * 2);
+      m_data = new double[capacity * kStride];
+      m_families = new String[capacity];
+    }
+    m_count = count;
+    return m_data;
+  }
+
+  /**
+   * Called from JNI to set the family of a detection.
+   *
+   * @param index Index of the detection
+   * @param family Decoded family name
+   */
+  void setFamilyJNI(int index, String family) {
+    m_families[index] = family;
+  }
+
+  /**
+   * Gets the number of detections.
+   *
+   * @return Number of detections
+   */
+  public int size() {
+    return m_count;
+  }
+
+  /**
+   * Gets the decoded tag's family name.
+   *
+   * @param index Index of the detection
+   * @return Decoded family name
+   */
+  public String getFamily(int index) {
+    return m_families[Objects.checkIndex(index, m_count)];
+  }
+
+  /**
+   * Gets the decoded ID of the tag.
+   *
+   * @param index Index of the detection
+   * @return Decoded ID
+   */
+  public int getId(int index) {
+    return (int) get(index, kId);
+  }
+
+  /**
+   * Gets how many error bits were corrected. See {@link AprilTagDetection#getHamming()}.
+   *
+   * @param index Index of the detection
+   * @return Hamming distance (number of corrected error bits)
+   */
+  public int getHamming(int index) {
+    return (int) get(index, kHamming);
+  }
+
+  /**
+   * Gets a measure of the quality of the binary decoding process. See {@link
+   * AprilTagDetection#getDecisionMargin()}.
+   *
+   * @param index Index of the detection
+   * @return Decision margin
+   */
+  public float getDecisionMargin(int index) {
+    return (float) get(index, kDecisionMargin);
+  }
+
+  /**
+   * Gets the center of the detection in image pixel coordinates.
+   *
+   * @param index Index of the detection
+   * @return Center point X coordinate
+   */
+  public double getCenterX(int index) {
+    return get(index, kCenterX);
+  }
+
+  /**
+   * Gets the center of the detection in image pixel coordinates.
+   *
+   * @param index Index of the detection
+   * @return Center point Y coordinate
+   */
+  public double getCenterY(int index) {
+    return get(index, kCenterY);
+  }
+
+  /**
+   * Gets a corner of the tag in image pixel coordinates. These always wrap counter-clock wise
+   * around the tag. Index 0 is the bottom left corner.
+   *
+   * @param index Index of the detection
+   * @param ndx Corner index (range is 0-3, inclusive)
+   * @return Corner point X coordinate
+   */
+  public double getCornerX(int index, int ndx) {
+    return get(index, kCorners + Objects.checkIndex(ndx, 4) * 2);
+  }
+
+  /**
+   * Gets a corner of the tag in image pixel coordinates. These always wrap counter-clock wise
+   * around the tag. Index 0 is the bottom left corner.
+   *
+   * @param index Index of the detection
+   * @param ndx Corner index (range is 0-3, inclusive)
+   * @return Corner point Y coordinate
+   */
+  public double getCornerY(int index, int ndx) {
+    return get(index, kCorners + Objects.checkIndex(ndx, 4) * 2 + 1);
+  }
+
+  /**
+   * Copies the corners of the tag in image pixel coordinates. See {@link
+   * AprilTagDetection#getCorners()}.
+   *
+   * @param index Index of the detection
+   * @param corners Array of at least 8 elements to store the corners in (X and Y for each corner in
+   *     order)
+   * @return The corners array
+   */
+  public double[] getCorners(int index, double[] corners) {
+    System.arraycopy(m_data, offset(index) + kCorners, corners, 0, 8);
+    return corners;
+  }
+
+  /**
+   * Copies the 3x3 homography matrix describing the projection from an "ideal" tag to pixels in the
+   * image. See {@link AprilTagDetection#getHomography()}.
+   *
+   * @param index Index of the detection
+   * @param homography Array of at least 9 elements to store the homography matrix data in
+   * @return The homography array
+   */
+  public double[] getHomography(int index, double[] homography) {
+    System.arraycopy(m_data, offset(index) + kHomography, homography, 0, 9);
+    return homography;
+  }
+
+  /**
+   * Creates an {@link AprilTagDetection} from a detection. This allocates a new object; poses can
+   * be estimated without one by passing the arrays from {@link #getHomography(int, double[])} and
+   * {@link #getCorners(int, double[])} to {@link AprilTagPoseEstimator#estimate(double[],
+   * double[])}.
+   *
+   * @param index Index of the detection
+   * @return The detection
+   */
+  public AprilTagDetection getDetection(int index) {
+    return new AprilTagDetection(
+        getFamily(index),
+        getId(index),
+        getHamming(index),
+        getDecisionMargin(index),
+        getHomography(index, new double[9]),
+        getCenterX(index),
+        getCenterY(index),
+        getCorners(index, new double[8]));
+  }
+
+  private int offset(int index) {
+    return Objects.checkIndex(index, m_count) * kStride;
+  }
+
+  private double get(int index, int field) {
+    return m_data[offset(index) + field];
+  }
+}
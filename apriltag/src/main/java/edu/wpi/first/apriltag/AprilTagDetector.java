@@ -300,5 +300,21 @@ public class AprilTagDetector implements AutoCloseable {
     return AprilTagJNI.detect(m_native, img.cols(), img.rows(), (int) img.step1(), img.dataAddr());
   }
 
+  /**
+   * Detect tags from an 8-bit image into a reusable buffer. Unlike {@link #detect(Mat)}, this
+   * doesn't allocate any objects once the buffer has grown to fit the number of tags seen.
+   *
+   * <p>The image must be grayscale.
+   *
+   * @param img 8-bit OpenCV Mat image
+   * @param detections Buffer to store the results in. Its previous contents are replaced.
+   * @return The buffer of results
+   */
+  public AprilTagDetectionBuffer detect(Mat img, AprilTagDetectionBuffer detections) {
+    AprilTagJNI.detectInto(
+        m_native, img.cols(), img.rows(), (int) img.step1(), img.dataAddr(), detections);
+    return detections;
+  }
+
   private long m_native;
 }
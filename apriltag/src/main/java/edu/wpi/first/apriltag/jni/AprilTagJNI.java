@@ -5,6 +5,7 @@
 package edu.wpi.first.apriltag.jni;
 
 import edu.wpi.first.apriltag.AprilTagDetection;
+import edu.wpi.first.apriltag.AprilTagDetectionBuffer;
 import edu.wpi.first.apriltag.AprilTagDetector;
 import edu.wpi.first.apriltag.AprilTagPoseEstimate;
 import edu.wpi.first.math.geometry.Transform3d;
@@ -140,6 +141,24 @@ public class AprilTagJNI {
   public static native AprilTagDetection[] detect(
       long det, int width, int height, int stride, long bufAddr);
 
+  /**
+   * Detect tags from an 8-bit image into a reusable buffer.
+   *
+   * @param det The detector engine handle
+   * @param width The width of the image
+   * @param height The height of the image
+   * @param stride The number of bytes between image rows (often the same as width)
+   * @param bufAddr The address of the image buffer
+   * @param detections The buffer to store the results in
+   */
+  public static native void detectInto(
+      long det,
+      int width,
+      int height,
+      int stride,
+      long bufAddr,
+      AprilTagDetectionBuffer detections);
+
   /**
    * Estimates the pose of the tag using the homography method described in [1].
    *
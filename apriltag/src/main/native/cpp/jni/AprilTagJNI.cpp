@@ -4,12 +4,15 @@
 
 #include <jni.h>
 
+#include <algorithm>
 #include <cstdio>
 #include <cstring>
 
 #define WPI_RAWFRAME_JNI
 #include <wpi/RawFrame.h>
+#include <wpi/StringMap.h>
 #include <wpi/jni_util.h>
+#include <wpi/mutex.h>
 
 #include "edu_wpi_first_apriltag_jni_AprilTagJNI.h"
 #include "frc/apriltag/AprilTag.h"
@@ -22,6 +25,7 @@ using namespace wpi::java;
 static JavaVM* jvm = nullptr;
 
 static JClass detectionCls;
+static JClass detectionBufferCls;
 static JClass detectorConfigCls;
 static JClass detectorQTPCls;
 static JClass poseEstimateCls;
@@ -35,6 +39,7 @@ static JException nullPointerEx;
 
 static const JClassInit classes[] = {
     {"edu/wpi/first/apriltag/AprilTagDetection", &detectionCls},
+    {"edu/wpi/first/apriltag/AprilTagDetectionBuffer", &detectionBufferCls},
     {"edu/wpi/first/apriltag/AprilTagDetector$Config", &detectorConfigCls},
     {"edu/wpi/first/apriltag/AprilTagDetector$QuadThresholdParameters",
      &detectorQTPCls},
@@ -45,6 +50,11 @@ static const JClassInit classes[] = {
     {"edu/wpi/first/math/geometry/Translation3d", &translation3dCls},
     {"edu/wpi/first/util/RawFrame", &rawFrameCls}};
 
+// Family names as Java strings, so detecting into an AprilTagDetectionBuffer
+// doesn't create a string for every detection
+static wpi::mutex familyStringsMutex;
+static wpi::StringMap<JGlobal<jstring>> familyStrings;
+
 static const JExceptionInit exceptions[] = {
     {"java/lang/IllegalArgumentException", &illegalArgEx},
     {"java/lang/NullPointerException", &nullPointerEx}};
@@ -91,6 +101,13 @@ JNIEXPORT void JNICALL JNI_OnUnload(JavaVM* vm, void* reserved) {
   for (auto& c : exceptions) {
     c.cls->free(env);
   }
+  {
+    std::scoped_lock lock{familyStringsMutex};
+    for (auto&& str : familyStrings) {
+      str.second.free(env);
+    }
+    familyStrings.clear();
+  }
   jvm = nullptr;
 }
 
@@ -222,6 +239,56 @@ static jobjectArray MakeJObject(JNIEnv* env,
   return jarr;
 }
 
+static jstring GetFamilyString(JNIEnv* env, std::string_view family) {
+  std::scoped_lock lock{familyStringsMutex};
+  auto& str = familyStrings[family];
+  if (!str) {
+    JLocal<jstring> local{env, MakeJString(env, family)};
+    str = JGlobal<jstring>{env, local.obj()};
+  }
+  return str;
+}
+
+// Must match the layout in AprilTagDetectionBuffer
+static constexpr int kDetectionBufferStride = 22;
+
+static void StoreDetections(JNIEnv* env, jobject buffer,
+                            std::span<const AprilTagDetection* const> arr) {
+  static jmethodID resize =
+      env->GetMethodID(detectionBufferCls, "resizeJNI", "(I)[D");
+  static jmethodID setFamily = env->GetMethodID(
+      detectionBufferCls, "setFamilyJNI", "(ILjava/lang/String;)V");
+  if (!resize || !setFamily) {
+    return;
+  }
+
+  JLocal<jdoubleArray> data{
+      env, static_cast<jdoubleArray>(env->CallObjectMethod(
+               buffer, resize, static_cast<jint>(arr.size())))};
+  if (!data) {
+    return;
+  }
+
+  for (size_t i = 0; i < arr.size(); ++i) {
+    const AprilTagDetection& detect = *arr[i];
+    jdouble values[kDetectionBufferStride];
+    values[0] = detect.GetId();
+    values[1] = detect.GetHamming();
+    values[2] = detect.GetDecisionMargin();
+    auto center = detect.GetCenter();
+    values[3] = center.x;
+    values[4] = center.y;
+    auto homography = detect.GetHomography();
+    std::copy(homography.begin(), homography.end(), values + 5);
+    detect.GetCorners(std::span<double, 8>{values + 14, 8});
+
+    env->SetDoubleArrayRegion(data, i * kDetectionBufferStride,
+                              kDetectionBufferStride, values);
+    env->CallVoidMethod(buffer, setFamily, static_cast<jint>(i),
+                        GetFamilyString(env, detect.GetFamily()));
+  }
+}
+
 static jobject MakeJObject(JNIEnv* env,
                            const AprilTagDetector::Config& config) {
   static jmethodID constructor =
@@ -497,6 +564,34 @@ Java_edu_wpi_first_apriltag_jni_AprilTagJNI_detect
                width, height, stride, reinterpret_cast<uint8_t*>(bufAddr)));
 }
 
+/*
+ * Class:     edu_wpi_first_apriltag_jni_AprilTagJNI
+ * Method:    detectInto
+ * Signature: (JIIIJLedu/wpi/first/apriltag/AprilTagDetectionBuffer;)V
+ */
+JNIEXPORT void JNICALL
+Java_edu_wpi_first_apriltag_jni_AprilTagJNI_detectInto
+  (JNIEnv* env, jclass, jlong det, jint width, jint height, jint stride,
+   jlong bufAddr, jobject detections)
+{
+  if (det == 0) {
+    nullPointerEx.Throw(env, "det cannot be null");
+    return;
+  }
+  if (bufAddr == 0) {
+    nullPointerEx.Throw(env, "bufAddr cannot be null");
+    return;
+  }
+  if (!detections) {
+    nullPointerEx.Throw(env, "detections cannot be null");
+    return;
+  }
+  StoreDetections(
+      env, detections,
+      reinterpret_cast<AprilTagDetector*>(det)->Detect(
+          width, height, stride, reinterpret_cast<uint8_t*>(bufAddr)));
+}
+
 /*
  * Class:     edu_wpi_first_apriltag_jni_AprilTagJNI
  * Method:    estimatePoseHomography
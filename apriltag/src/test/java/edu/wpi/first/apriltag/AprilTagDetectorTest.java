@@ -4,8 +4,11 @@
 
 package edu.wpi.first.apriltag;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import edu.wpi.first.math.geometry.Transform3d;
@@ -189,6 +192,50 @@ class AprilTagDetectorTest {
     }
   }
 
+  @Test
+  void testDetectIntoBuffer() {
+    detector.addFamily("tag16h5");
+    detector.addFamily("tag36h11");
+
+    Mat image;
+    try {
+      image = loadImage("tag1_640_480.jpg");
+    } catch (IOException ex) {
+      fail(ex);
+      return;
+    }
+    try {
+      AprilTagDetection[] expected = detector.detect(image);
+      var buffer = new AprilTagDetectionBuffer();
+      assertSame(buffer, detector.detect(image, buffer));
+
+      assertEquals(expected.length, buffer.size());
+      for (int i = 0; i < expected.length; i++) {
+        assertEquals(expected[i].getFamily(), buffer.getFamily(i));
+        assertEquals(expected[i].getId(), buffer.getId(i));
+        assertEquals(expected[i].getHamming(), buffer.getHamming(i));
+        assertEquals(expected[i].getDecisionMargin(), buffer.getDecisionMargin(i));
+        assertEquals(expected[i].getCenterX(), buffer.getCenterX(i));
+        assertEquals(expected[i].getCenterY(), buffer.getCenterY(i));
+        assertArrayEquals(expected[i].getHomography(), buffer.getHomography(i, new double[9]));
+        assertArrayEquals(expected[i].getCorners(), buffer.getCorners(i, new double[8]));
+        assertEquals(expected[i].toString(), buffer.getDetection(i).toString());
+      }
+
+      // Detecting again replaces the previous results
+      var cropped = image.submat(0, 50, 0, 50);
+      try {
+        detector.detect(cropped, buffer);
+        assertEquals(0, buffer.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.getId(0));
+      } finally {
+        cropped.release();
+      }
+    } finally {
+      image.release();
+    }
+  }
+
   /**
    * This tag is rotated such that the top is closer to the camera than the bottom. In the camera
    * frame, with +x to the right, this is a rotation about +X by 45 degrees.
@@ -0,0 +1,112 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.benchmark;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.simulation.DriverStationSim;
+import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import edu.wpi.first.wpilibj2.command.Commands;
+import edu.wpi.first.wpilibj2.command.Subsystem;
+import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import edu.wpi.first.wpilibj2.command.button.Trigger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for a command scheduler loop with {@code subsystems} subsystems, each with a default
+ * command, plus {@code commands} scheduled commands that each require one of the subsystems, and
+ * {@code triggers} button bindings that are polled every loop but never fire. With {@code
+ * profiling}, the scheduler's profiler times every command and subsystem, and {@code printSlowest}
+ * measures the report printed when the loop overruns.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommandSchedulerBenchmark {
+  @Param({"8"})
+  public int subsystems;
+
+  @Param({"4", "32", "200"})
+  public int commands;
+
+  @Param({"0", "500"})
+  public int triggers;
+
+  @Param({"false", "true"})
+  public boolean profiling;
+
+  private CommandScheduler m_scheduler;
+  private Subsystem[] m_subsystems;
+  private Command[] m_commands;
+
+  @Setup(Level.Trial)
+  public void setupTrial() {
+    HAL.initialize(500, 0);
+    DriverStationSim.setDsAttached(true);
+    DriverStationSim.setEnabled(true);
+    DriverStationSim.notifyNewData();
+    DriverStation.refreshData();
+    m_scheduler = CommandScheduler.getInstance();
+    m_scheduler.setProfilingEnabled(profiling);
+    m_subsystems = new Subsystem[subsystems];
+    for (int i = 0; i < subsystems; i++) {
+      Subsystem subsystem = new SubsystemBase("Subsystem" + i) {};
+      m_subsystems[i] = subsystem;
+      m_scheduler.setDefaultCommand(subsystem, Commands.idle(subsystem));
+    }
+    m_commands = new Command[commands];
+    for (int i = 0; i < commands; i++) {
+      // every other command is unconstrained, so several commands can run at once
+      m_commands[i] =
+          i % 2 == 0 ? Commands.run(() -> {}, m_subsystems[(i / 2) % subsystems]) : Commands.idle();
+    }
+    for (int i = 0; i < triggers; i++) {
+      new Trigger(m_scheduler.getDefaultButtonLoop(), () -> false).onTrue(Commands.none());
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void setupIteration() {
+    m_scheduler.cancelAll();
+    m_scheduler.schedule(m_commands);
+    m_scheduler.run();
+  }
+
+  @TearDown(Level.Trial)
+  public void teardown() {
+    m_scheduler.cancelAll();
+    m_scheduler.unregisterAllSubsystems();
+    m_scheduler.getDefaultButtonLoop().clear();
+    m_scheduler.setProfilingEnabled(false);
+  }
+
+  @Benchmark
+  public void run() {
+    m_scheduler.run();
+  }
+
+  @Benchmark
+  public void scheduleAndCancel() {
+    m_scheduler.cancel(m_commands[0]);
+    m_scheduler.schedule(m_commands[0]);
+  }
+
+  @Benchmark
+  public void printSlowest(Blackhole blackhole) {
+    m_scheduler.getProfiler().printSlowest(5, blackhole::consume);
+  }
+}
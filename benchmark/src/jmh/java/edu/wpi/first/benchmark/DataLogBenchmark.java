@@ -0,0 +1,75 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.benchmark;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.util.datalog.DataLog;
+import edu.wpi.first.util.datalog.DataLogWriter;
+import edu.wpi.first.util.datalog.StructLogEntry;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks for appending to a data log. The log is written to a null output stream so the
+ * benchmarks measure the append path and not the disk.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DataLogBenchmark {
+  private DataLog m_log;
+  private int m_doubleEntry;
+  private int m_doubleArrayEntry;
+  private int m_stringEntry;
+  private StructLogEntry<Pose2d> m_poseEntry;
+  private double[] m_doubles;
+  private Pose2d m_pose;
+  private long m_timestamp;
+
+  @Setup
+  public void setup() {
+    m_log = new DataLogWriter(OutputStream.nullOutputStream());
+    m_doubleEntry = m_log.start("double", "double");
+    m_doubleArrayEntry = m_log.start("doubleArray", "double[]");
+    m_stringEntry = m_log.start("string", "string");
+    m_poseEntry = StructLogEntry.create(m_log, "pose", Pose2d.struct);
+    m_doubles = new double[] {1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0};
+    m_pose = new Pose2d(1.0, 2.0, Rotation2d.fromDegrees(30));
+  }
+
+  @TearDown
+  public void teardown() {
+    m_log.close();
+  }
+
+  @Benchmark
+  public void appendDouble() {
+    m_log.appendDouble(m_doubleEntry, 1.5, ++m_timestamp);
+  }
+
+  @Benchmark
+  public void appendDoubleArray() {
+    m_log.appendDoubleArray(m_doubleArrayEntry, m_doubles, ++m_timestamp);
+  }
+
+  @Benchmark
+  public void appendString() {
+    m_log.appendString(m_stringEntry, "Intake", ++m_timestamp);
+  }
+
+  @Benchmark
+  public void appendStruct() {
+    m_poseEntry.append(m_pose, ++m_timestamp);
+  }
+}
@@ -0,0 +1,75 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.benchmark;
+
+import edu.wpi.first.epilogue.logging.EpilogueBackend;
+import edu.wpi.first.epilogue.logging.FileBackend;
+import edu.wpi.first.epilogue.logging.LogHandle;
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.util.datalog.DataLog;
+import edu.wpi.first.util.datalog.DataLogWriter;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks for logging a few fields of a nested object through an Epilogue file backend, by
+ * identifier and by pre-resolved handle. The log is written to a null output stream.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EpilogueBackendBenchmark {
+  private DataLog m_log;
+  private EpilogueBackend m_backend;
+  private LogHandle[] m_handles;
+  private Pose2d m_pose;
+
+  @Setup
+  public void setup() {
+    m_log = new DataLogWriter(OutputStream.nullOutputStream());
+    m_backend = new FileBackend(m_log).getNested("Robot").getNested("drivetrain");
+    m_handles =
+        new LogHandle[] {
+          m_backend.getHandle("leftVelocity"),
+          m_backend.getHandle("rightVelocity"),
+          m_backend.getHandle("enabled"),
+          m_backend.getHandle("pose")
+        };
+    m_pose = new Pose2d(1.0, 2.0, Rotation2d.fromDegrees(30));
+
+    // Start the entries up front so the benchmarks only measure appends
+    logByHandle();
+  }
+
+  @TearDown
+  public void teardown() {
+    m_log.close();
+  }
+
+  @Benchmark
+  public void logByIdentifier() {
+    m_backend.log("leftVelocity", 1.5);
+    m_backend.log("rightVelocity", 1.25);
+    m_backend.log("enabled", true);
+    m_backend.log("pose", m_pose, Pose2d.struct);
+  }
+
+  @Benchmark
+  public void logByHandle() {
+    m_backend.log(m_handles[0], 1.5);
+    m_backend.log(m_handles[1], 1.25);
+    m_backend.log(m_handles[2], true);
+    m_backend.log(m_handles[3], m_pose, Pose2d.struct);
+  }
+}
@@ -0,0 +1,83 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.benchmark;
+
+import static edu.wpi.first.units.Units.Percent;
+import static edu.wpi.first.units.Units.Seconds;
+
+import edu.wpi.first.wpilibj.AddressableLEDBuffer;
+import edu.wpi.first.wpilibj.AddressableLEDBufferView;
+import edu.wpi.first.wpilibj.CompiledLEDPattern;
+import edu.wpi.first.wpilibj.LEDPattern;
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj.util.Color;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks for applying a scrolling, masked, breathing rainbow to {@code leds} LEDs split into
+ * two views, played directly and compiled. The clock advances by one 20 ms loop per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LEDPatternBenchmark {
+  @Param({"120", "2000"})
+  public int leds;
+
+  private long m_time;
+  private AddressableLEDBuffer m_buffer;
+  private AddressableLEDBufferView m_left;
+  private AddressableLEDBufferView m_right;
+  private LEDPattern m_pattern;
+  private CompiledLEDPattern m_compiledLeft;
+  private CompiledLEDPattern m_compiledRight;
+
+  @Setup
+  public void setup() {
+    m_time = 0;
+    RobotController.setTimeSource(() -> m_time);
+    m_buffer = new AddressableLEDBuffer(leds);
+    m_left = m_buffer.createView(0, leds / 2 - 1);
+    m_right = m_buffer.createView(leds / 2, leds - 1).reversed();
+    m_pattern =
+        LEDPattern.rainbow(255, 255)
+            .scrollAtRelativeSpeed(Percent.per(Seconds).of(25))
+            .mask(LEDPattern.progressMaskLayer(() -> 0.75))
+            .overlayOn(LEDPattern.solid(Color.kDarkBlue))
+            .breathe(Seconds.of(2));
+    m_compiledLeft = m_pattern.compile();
+    m_compiledRight = m_pattern.compile();
+  }
+
+  @TearDown
+  public void teardown() {
+    RobotController.setTimeSource(RobotController::getFPGATime);
+  }
+
+  @Benchmark
+  public AddressableLEDBuffer interpreted() {
+    m_time += 20_000;
+    m_pattern.applyTo(m_left);
+    m_pattern.applyTo(m_right);
+    return m_buffer;
+  }
+
+  @Benchmark
+  public AddressableLEDBuffer compiled() {
+    m_time += 20_000;
+    m_compiledLeft.applyTo(m_left);
+    m_compiledRight.applyTo(m_right);
+    return m_buffer;
+  }
+}
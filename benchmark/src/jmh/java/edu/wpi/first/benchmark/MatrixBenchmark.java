@@ -0,0 +1,73 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.benchmark;
+
+import edu.wpi.first.math.MatBuilder;
+import edu.wpi.first.math.Matrix;
+import edu.wpi.first.math.Nat;
+import edu.wpi.first.math.VecBuilder;
+import edu.wpi.first.math.numbers.N1;
+import edu.wpi.first.math.numbers.N3;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Benchmarks for the small fixed-size matrix operations used by the estimators and controllers. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MatrixBenchmark {
+  private Matrix<N3, N3> m_a;
+  private Matrix<N3, N3> m_b;
+  private Matrix<N3, N1> m_x;
+
+  @Setup
+  public void setup() {
+    m_a = MatBuilder.fill(Nat.N3(), Nat.N3(), 4.0, 1.0, 0.5, 1.0, 3.0, 0.25, 0.5, 0.25, 2.0);
+    m_b = MatBuilder.fill(Nat.N3(), Nat.N3(), 1.0, 2.0, 3.0, 0.0, 1.0, 4.0, 5.0, 6.0, 0.0);
+    m_x = VecBuilder.fill(1.0, 2.0, 3.0);
+  }
+
+  @Benchmark
+  public Matrix<N3, N3> times() {
+    return m_a.times(m_b);
+  }
+
+  @Benchmark
+  public Matrix<N3, N1> timesVector() {
+    return m_a.times(m_x);
+  }
+
+  @Benchmark
+  public Matrix<N3, N3> plus() {
+    return m_a.plus(m_b);
+  }
+
+  @Benchmark
+  public Matrix<N3, N3> transpose() {
+    return m_a.transpose();
+  }
+
+  @Benchmark
+  public Matrix<N3, N3> inv() {
+    return m_a.inv();
+  }
+
+  @Benchmark
+  public Matrix<N3, N1> solve() {
+    return m_a.solve(m_x);
+  }
+
+  @Benchmark
+  public Matrix<N3, N3> kalmanGain() {
+    // P (P + R)^-1, as computed by the pose estimator
+    return m_a.times(m_a.plus(m_b).inv());
+  }
+}
@@ -0,0 +1,88 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.benchmark;
+
+import edu.wpi.first.math.estimator.SwerveDrivePoseEstimator;
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.geometry.Translation2d;
+import edu.wpi.first.math.kinematics.SwerveDriveKinematics;
+import edu.wpi.first.math.kinematics.SwerveModulePosition;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the swerve pose estimator. The odometry buffer is filled with {@code loops} 20 ms
+ * updates before each iteration, and vision measurements land {@code latency} seconds in the past,
+ * so each one replays the odometry updates since then.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PoseEstimatorBenchmark {
+  private static final double kDt = 0.02;
+
+  @Param({"75"})
+  public int loops;
+
+  @Param({"0.1", "1.0"})
+  public double latency;
+
+  private SwerveDrivePoseEstimator m_estimator;
+  private SwerveModulePosition[] m_positions;
+  private Rotation2d m_gyro;
+  private double m_time;
+  private Pose2d m_visionPose;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    var kinematics =
+        new SwerveDriveKinematics(
+            new Translation2d(0.3, 0.3),
+            new Translation2d(0.3, -0.3),
+            new Translation2d(-0.3, 0.3),
+            new Translation2d(-0.3, -0.3));
+    m_positions = new SwerveModulePosition[4];
+    for (int i = 0; i < 4; i++) {
+      m_positions[i] = new SwerveModulePosition();
+    }
+    m_gyro = Rotation2d.kZero;
+    m_estimator = new SwerveDrivePoseEstimator(kinematics, m_gyro, m_positions, Pose2d.kZero);
+    m_time = 0;
+    for (int i = 0; i < loops; i++) {
+      update();
+    }
+    m_visionPose = new Pose2d(m_time * 0.5, 0.1, Rotation2d.fromDegrees(5));
+  }
+
+  private Pose2d update() {
+    m_time += kDt;
+    for (int i = 0; i < 4; i++) {
+      m_positions[i] =
+          new SwerveModulePosition(m_positions[i].distanceMeters + 0.01, Rotation2d.kZero);
+    }
+    m_gyro = m_gyro.plus(Rotation2d.fromDegrees(0.1));
+    return m_estimator.updateWithTime(m_time, m_gyro, m_positions);
+  }
+
+  @Benchmark
+  public Pose2d updateWithTime() {
+    return update();
+  }
+
+  @Benchmark
+  public Pose2d addVisionMeasurement() {
+    m_estimator.addVisionMeasurement(m_visionPose, m_time - latency);
+    return m_estimator.getEstimatedPosition();
+  }
+}
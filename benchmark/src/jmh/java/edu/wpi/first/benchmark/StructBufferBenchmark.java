@@ -0,0 +1,82 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.benchmark;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.kinematics.SwerveModuleState;
+import edu.wpi.first.util.struct.StructBuffer;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Benchmarks for struct serialization, as used by NetworkTables and DataLog struct entries. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StructBufferBenchmark {
+  private StructBuffer<Pose2d> m_poseBuffer;
+  private StructBuffer<SwerveModuleState> m_stateBuffer;
+  private Pose2d m_pose;
+  private SwerveModuleState[] m_states;
+  private SwerveModuleState[] m_statesOut;
+  private ByteBuffer m_poseBytes;
+  private ByteBuffer m_statesBytes;
+
+  @Setup
+  public void setup() {
+    m_poseBuffer = StructBuffer.create(Pose2d.struct);
+    m_stateBuffer = StructBuffer.create(SwerveModuleState.struct);
+    m_pose = new Pose2d(1.0, 2.0, Rotation2d.fromDegrees(30));
+    m_states = new SwerveModuleState[4];
+    m_statesOut = new SwerveModuleState[4];
+    for (int i = 0; i < 4; i++) {
+      m_states[i] = new SwerveModuleState(i, Rotation2d.fromDegrees(i * 10));
+      m_statesOut[i] = new SwerveModuleState();
+    }
+    m_poseBytes = ByteBuffer.allocate(m_poseBuffer.getStruct().getSize());
+    // write() leaves the buffer positioned at the end of the data, so flip it before copying
+    m_poseBytes.put(m_poseBuffer.write(m_pose).flip());
+    m_statesBytes = ByteBuffer.allocate(m_stateBuffer.getStruct().getSize() * 4);
+    m_statesBytes.put(m_stateBuffer.writeArray(m_states).flip());
+
+    if (!m_pose.equals(readPose()) || !Arrays.equals(m_states, readStateArray())) {
+      throw new IllegalStateException("Serialized data doesn't round-trip");
+    }
+  }
+
+  @Benchmark
+  public ByteBuffer writePose() {
+    return m_poseBuffer.write(m_pose);
+  }
+
+  @Benchmark
+  public Pose2d readPose() {
+    return m_poseBuffer.read(m_poseBytes.position(0));
+  }
+
+  @Benchmark
+  public ByteBuffer writeStateArray() {
+    return m_stateBuffer.writeArray(m_states);
+  }
+
+  @Benchmark
+  public SwerveModuleState[] readStateArray() {
+    return m_stateBuffer.readArray(m_statesBytes.position(0));
+  }
+
+  @Benchmark
+  public SwerveModuleState[] readStateArrayInto() {
+    m_stateBuffer.readArrayInto(m_statesOut, m_statesBytes.position(0));
+    return m_statesOut;
+  }
+}
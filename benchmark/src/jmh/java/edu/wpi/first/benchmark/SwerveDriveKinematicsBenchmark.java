@@ -0,0 +1,71 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.benchmark;
+
+import edu.wpi.first.math.geometry.Translation2d;
+import edu.wpi.first.math.geometry.Twist2d;
+import edu.wpi.first.math.kinematics.ChassisSpeeds;
+import edu.wpi.first.math.kinematics.SwerveDriveKinematics;
+import edu.wpi.first.math.kinematics.SwerveModulePosition;
+import edu.wpi.first.math.kinematics.SwerveModuleState;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Benchmarks for the swerve drive kinematics called every robot loop. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SwerveDriveKinematicsBenchmark {
+  private SwerveDriveKinematics m_kinematics;
+  private ChassisSpeeds m_speeds;
+  private SwerveModuleState[] m_states;
+  private SwerveModulePosition[] m_start;
+  private SwerveModulePosition[] m_end;
+
+  @Setup
+  public void setup() {
+    m_kinematics =
+        new SwerveDriveKinematics(
+            new Translation2d(0.3, 0.3),
+            new Translation2d(0.3, -0.3),
+            new Translation2d(-0.3, 0.3),
+            new Translation2d(-0.3, -0.3));
+    m_speeds = new ChassisSpeeds(2.0, 1.0, 0.5);
+    m_states = m_kinematics.toSwerveModuleStates(m_speeds);
+    m_start = new SwerveModulePosition[4];
+    m_end = new SwerveModulePosition[4];
+    for (int i = 0; i < 4; i++) {
+      m_start[i] = new SwerveModulePosition(i, m_states[i].angle);
+      m_end[i] = new SwerveModulePosition(i + 0.02, m_states[i].angle);
+    }
+  }
+
+  @Benchmark
+  public SwerveModuleState[] toSwerveModuleStates() {
+    return m_kinematics.toSwerveModuleStates(m_speeds);
+  }
+
+  @Benchmark
+  public ChassisSpeeds toChassisSpeeds() {
+    return m_kinematics.toChassisSpeeds(m_states);
+  }
+
+  @Benchmark
+  public Twist2d toTwist2d() {
+    return m_kinematics.toTwist2d(m_start, m_end);
+  }
+
+  @Benchmark
+  public SwerveModuleState[] desaturateWheelSpeeds() {
+    SwerveDriveKinematics.desaturateWheelSpeeds(m_states, 4.5);
+    return m_states;
+  }
+}
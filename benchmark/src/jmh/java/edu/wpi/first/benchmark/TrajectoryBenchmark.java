@@ -0,0 +1,74 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.benchmark;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.trajectory.PackedTrajectory;
+import edu.wpi.first.math.trajectory.Trajectory;
+import edu.wpi.first.math.trajectory.TrajectoryConfig;
+import edu.wpi.first.math.trajectory.TrajectoryGenerator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for sampling a trajectory once per follower loop, with the list of states and with the
+ * packed trajectory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TrajectoryBenchmark {
+  private Trajectory m_trajectory;
+  private PackedTrajectory m_packed;
+  private final Trajectory.State m_state = new Trajectory.State();
+  private final PackedTrajectory.Sample m_sample = new PackedTrajectory.Sample();
+  private double m_time;
+
+  @Setup
+  public void setup() {
+    m_trajectory =
+        TrajectoryGenerator.generateTrajectory(
+            List.of(
+                Pose2d.kZero,
+                new Pose2d(3, 2, Rotation2d.kCCW_Pi_2),
+                new Pose2d(0, 4, Rotation2d.kPi),
+                new Pose2d(-3, 2, Rotation2d.kCW_Pi_2)),
+            new TrajectoryConfig(3, 2));
+    m_packed = new PackedTrajectory(m_trajectory);
+    m_time = 0;
+  }
+
+  // Advances by one 4 ms loop, wrapping around at the end of the trajectory
+  private double nextTime() {
+    m_time += 0.004;
+    if (m_time > m_trajectory.getTotalTimeSeconds()) {
+      m_time = 0;
+    }
+    return m_time;
+  }
+
+  @Benchmark
+  public Trajectory.State sample() {
+    return m_trajectory.sample(nextTime());
+  }
+
+  @Benchmark
+  public Trajectory.State packedSampleIntoState() {
+    return m_packed.sampleInto(nextTime(), m_state);
+  }
+
+  @Benchmark
+  public PackedTrajectory.Sample packedSampleInto() {
+    return m_packed.sampleInto(nextTime(), m_sample);
+  }
+}
@@ -0,0 +1,115 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.benchmark;
+
+import static edu.wpi.first.units.Units.Amps;
+import static edu.wpi.first.units.Units.Meters;
+import static edu.wpi.first.units.Units.MetersPerSecond;
+import static edu.wpi.first.units.Units.Ohms;
+import static edu.wpi.first.units.Units.Seconds;
+import static edu.wpi.first.units.Units.Volts;
+
+import edu.wpi.first.units.Measure;
+import edu.wpi.first.units.measure.Current;
+import edu.wpi.first.units.measure.Distance;
+import edu.wpi.first.units.measure.LinearVelocity;
+import edu.wpi.first.units.measure.MutDistance;
+import edu.wpi.first.units.measure.MutVoltage;
+import edu.wpi.first.units.measure.Resistance;
+import edu.wpi.first.units.measure.Time;
+import edu.wpi.first.units.measure.Voltage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for one control loop step of unit math: integrating a position from a velocity, and
+ * computing a voltage from a current and a resistance. Each step is done with raw doubles, with
+ * immutable measures, with the generic {@link Measure#times(Measure)}, and with mutable measures
+ * updated in place.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UnitsBenchmark {
+  private double m_rawPosition;
+  private double m_rawVelocity;
+  private double m_rawDt;
+  private double m_rawCurrent;
+  private double m_rawResistance;
+
+  private Distance m_position;
+  private LinearVelocity m_velocity;
+  private Time m_dt;
+  private Current m_current;
+  private Resistance m_resistance;
+
+  private MutDistance m_mutPosition;
+  private MutDistance m_mutStep;
+  private MutVoltage m_mutVoltage;
+
+  @Setup
+  public void setup() {
+    m_rawPosition = 0;
+    m_rawVelocity = 1.5;
+    m_rawDt = 0.02;
+    m_rawCurrent = 40;
+    m_rawResistance = 0.05;
+
+    m_position = Meters.of(m_rawPosition);
+    m_velocity = MetersPerSecond.of(m_rawVelocity);
+    m_dt = Seconds.of(m_rawDt);
+    m_current = Amps.of(m_rawCurrent);
+    m_resistance = Ohms.of(m_rawResistance);
+
+    m_mutPosition = Meters.mutable(m_rawPosition);
+    m_mutStep = Meters.mutable(0);
+    m_mutVoltage = Volts.mutable(0);
+  }
+
+  @Benchmark
+  public double integrateRaw() {
+    m_rawPosition += m_rawVelocity * m_rawDt;
+    return m_rawPosition;
+  }
+
+  @Benchmark
+  public Distance integrateImmutable() {
+    m_position = m_position.plus(m_velocity.times(m_dt));
+    return m_position;
+  }
+
+  @Benchmark
+  public Measure<?> integrateGeneric() {
+    Measure<?> velocity = m_velocity;
+    Measure<?> dt = m_dt;
+    return velocity.times(dt);
+  }
+
+  @Benchmark
+  public Distance integrateMutable() {
+    return m_mutPosition.mut_plus(m_velocity.times(m_dt, m_mutStep));
+  }
+
+  @Benchmark
+  public double voltageRaw() {
+    return m_rawCurrent * m_rawResistance;
+  }
+
+  @Benchmark
+  public Voltage voltageImmutable() {
+    return m_current.times(m_resistance);
+  }
+
+  @Benchmark
+  public Voltage voltageMutable() {
+    return m_current.times(m_resistance, m_mutVoltage);
+  }
+}
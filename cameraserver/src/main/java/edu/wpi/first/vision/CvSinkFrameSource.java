@@ -0,0 +1,67 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.vision;
+
+import edu.wpi.first.cscore.CvFrame;
+import edu.wpi.first.cscore.CvSink;
+import edu.wpi.first.cscore.VideoSource;
+import edu.wpi.first.util.PixelFormat;
+import org.opencv.core.Mat;
+
+/** Grabs a video source's frames with a {@link CvSink}, directly into {@link CvFrame} buffers. */
+final class CvSinkFrameSource implements FrameSource {
+  private final CvSink m_cvSink;
+
+  private static final class CvSinkFrame implements Frame {
+    final CvFrame m_frame = new CvFrame();
+
+    @Override
+    public Mat getMat() {
+      return m_frame.getMat();
+    }
+
+    @Override
+    public long getTimestamp() {
+      return m_frame.getTimestamp();
+    }
+
+    @Override
+    public void close() {
+      m_frame.close();
+    }
+  }
+
+  /**
+   * Creates a frame source.
+   *
+   * @param name the name of the sink
+   * @param source the video source to grab frames from
+   * @param pixelFormat the pixel format of the grabbed images
+   */
+  CvSinkFrameSource(String name, VideoSource source, PixelFormat pixelFormat) {
+    m_cvSink = new CvSink(name, pixelFormat);
+    m_cvSink.setSource(source);
+  }
+
+  @Override
+  public Frame createFrame() {
+    return new CvSinkFrame();
+  }
+
+  @Override
+  public long grabFrame(Frame frame, double timeout) {
+    return m_cvSink.grabFrameDirect(((CvSinkFrame) frame).m_frame, timeout);
+  }
+
+  @Override
+  public String getError() {
+    return m_cvSink.getError();
+  }
+
+  @Override
+  public void close() {
+    m_cvSink.close();
+  }
+}
@@ -0,0 +1,60 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.vision;
+
+import org.opencv.core.Mat;
+
+/**
+ * Where a {@link VisionScheduler} camera's frames come from. Cameras normally use a {@link
+ * CvSinkFrameSource}; other sources let the scheduler run without a camera.
+ */
+interface FrameSource extends AutoCloseable {
+  /** A reusable buffer that holds one frame. */
+  interface Frame extends AutoCloseable {
+    /**
+     * Gets the image in the frame.
+     *
+     * @return the image
+     */
+    Mat getMat();
+
+    /**
+     * Gets the time the frame was captured.
+     *
+     * @return the time in microseconds, in the same time base as {@code WPIUtilJNI.now()}
+     */
+    long getTimestamp();
+
+    @Override
+    void close();
+  }
+
+  /**
+   * Creates a frame buffer for {@link #grabFrame(Frame, double)} to fill.
+   *
+   * @return the frame
+   */
+  Frame createFrame();
+
+  /**
+   * Waits for the next frame and stores it in a frame buffer created by this source.
+   *
+   * @param frame the frame buffer
+   * @param timeout the longest time to wait, in seconds
+   * @return the time the frame was captured in microseconds, or 0 on error or timeout
+   * @throws InterruptedException if interrupted while waiting
+   */
+  long grabFrame(Frame frame, double timeout) throws InterruptedException;
+
+  /**
+   * Gets a description of the last error from {@link #grabFrame(Frame, double)}.
+   *
+   * @return the error message
+   */
+  String getError();
+
+  @Override
+  void close();
+}
@@ -0,0 +1,170 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.vision;
+
+import edu.wpi.first.cameraserver.CameraServerSharedStore;
+import edu.wpi.first.cscore.CvFrame;
+import edu.wpi.first.cscore.CvSink;
+import edu.wpi.first.cscore.VideoSource;
+import edu.wpi.first.util.PixelFormat;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A vision runner that grabs the next frame while the pipeline processes the last one. Where {@link
+ * VisionRunner} grabs a frame, copies it, and then processes it, this grabs frames directly into a
+ * small pool of buffers without copying, and runs the pipeline on a separate worker thread. If the
+ * pipeline falls behind, frames it didn't get to are dropped so it always processes the newest one.
+ *
+ * <p>Frames are grabbed as 8-bit grayscale by default, which is what {@code AprilTagDetector}
+ * needs. Together with detecting into a reusable {@code AprilTagDetectionBuffer}, this makes a
+ * vision loop that doesn't copy or allocate per frame:
+ *
+ * <pre><code>
+ * var detector = new AprilTagDetector();
+ * detector.addFamily("tag36h11");
+ * var detections = new AprilTagDetectionBuffer();
+ *
+ * var runner =
+ *     new PipelinedVisionRunner&lt;VisionPipeline&gt;(
+ *         camera,
+ *         image -&gt; detector.detect(image, detections),
+ *         pipeline -&gt; {
+ *           synchronized (visionLock) {
+ *             // Copy what's needed out of detections
+ *           }
+ *         });
+ * new VisionThread(runner).start();
+ * </code></pre>
+ *
+ * <p>The image passed to the pipeline is only valid until its {@link VisionPipeline#process
+ * process} method returns, and the listener is called on the worker thread.
+ *
+ * @param <P> Vision pipeline type.
+ * @see VisionPipeline
+ * @see VisionThread
+ */
+public class PipelinedVisionRunner<P extends VisionPipeline> {
+  // One frame being processed, one waiting to be processed, and one being grabbed
+  private static final int kFrameCount = 3;
+
+  private final CvSink m_cvSink;
+  private final P m_pipeline;
+  private final VisionRunner.Listener<? super P> m_listener;
+  private final BlockingQueue<CvFrame> m_freeFrames = new ArrayBlockingQueue<>(kFrameCount);
+  private final BlockingQueue<CvFrame> m_readyFrames = new ArrayBlockingQueue<>(1);
+  private volatile boolean m_enabled = true;
+
+  /**
+   * Creates a new pipelined vision runner that grabs grayscale frames.
+   *
+   * @param videoSource the video source to use to supply images for the pipeline
+   * @param pipeline the vision pipeline to run
+   * @param listener a function to call after the pipeline has finished running
+   */
+  public PipelinedVisionRunner(
+      VideoSource videoSource, P pipeline, VisionRunner.Listener<? super P> listener) {
+    this(videoSource, PixelFormat.kGray, pipeline, listener);
+  }
+
+  /**
+   * Creates a new pipelined vision runner.
+   *
+   * @param videoSource the video source to use to supply images for the pipeline
+   * @param pixelFormat the pixel format of the images given to the pipeline
+   * @param pipeline the vision pipeline to run
+   * @param listener a function to call after the pipeline has finished running
+   */
+  public PipelinedVisionRunner(
+      VideoSource videoSource,
+      PixelFormat pixelFormat,
+      P pipeline,
+      VisionRunner.Listener<? super P> listener) {
+    m_cvSink = new CvSink("PipelinedVisionRunner CvSink", pixelFormat);
+    m_pipeline = pipeline;
+    m_listener = listener;
+    m_cvSink.setSource(videoSource);
+    for (int i = 0; i < kFrameCount; i++) {
+      m_freeFrames.add(new CvFrame());
+    }
+  }
+
+  /**
+   * Grabs frames from the video source and hands them to the pipeline, which runs on its own worker
+   * thread, until {@link #stop()} is called or this thread is interrupted. This must be run in a
+   * dedicated thread, and cannot be used in the main robot thread because it will freeze the robot
+   * program.
+   *
+   * <p><strong>Do not call this method directly from the main thread.</strong>
+   *
+   * @throws IllegalStateException if this is called from the main robot thread
+   * @see VisionThread
+   */
+  public void runForever() {
+    Long id = CameraServerSharedStore.getCameraServerShared().getRobotMainThreadId();
+
+    if (id != null && Thread.currentThread().getId() == id) {
+      throw new IllegalStateException(
+          "PipelinedVisionRunner.runForever() cannot be called from the main robot thread");
+    }
+
+    var worker = new Thread(this::processForever, "WPILib Vision Pipeline Thread");
+    worker.setDaemon(true);
+    worker.start();
+    try {
+      while (m_enabled && !Thread.interrupted()) {
+        grabOnce();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      worker.interrupt();
+    }
+  }
+
+  /** Stop a runForever() loop. */
+  public void stop() {
+    m_enabled = false;
+  }
+
+  private void grabOnce() throws InterruptedException {
+    // There's always a free frame here, since the worker holds at most one and one can be ready
+    CvFrame frame = m_freeFrames.take();
+    long frameTime = m_cvSink.grabFrameDirect(frame, 0.225);
+    if (frameTime <= 0) {
+      // There was an error, report it
+      m_freeFrames.add(frame);
+      String error = m_cvSink.getError();
+      CameraServerSharedStore.getCameraServerShared().reportDriverStationError(error);
+      return;
+    }
+
+    // Replace a frame the worker hasn't gotten to yet with the newer one
+    CvFrame stale = m_readyFrames.poll();
+    if (stale != null) {
+      m_freeFrames.add(stale);
+    }
+    m_readyFrames.add(frame);
+  }
+
+  private void processForever() {
+    try {
+      while (m_enabled) {
+        CvFrame frame = m_readyFrames.take();
+        try {
+          m_pipeline.process(frame.getMat());
+          m_listener.copyPipelineOutputs(m_pipeline);
+        } finally {
+          m_freeFrames.add(frame);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      // Stop grabbing if the pipeline threw
+      m_enabled = false;
+    }
+  }
+}
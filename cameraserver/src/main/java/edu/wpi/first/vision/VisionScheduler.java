@@ -0,0 +1,361 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.vision;
+
+import edu.wpi.first.cameraserver.CameraServerSharedStore;
+import edu.wpi.first.cscore.VideoSource;
+import edu.wpi.first.networktables.DoublePublisher;
+import edu.wpi.first.networktables.IntegerPublisher;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.util.PixelFormat;
+import edu.wpi.first.util.WPIUtilJNI;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Runs vision pipelines for several cameras on a fixed pool of worker threads.
+ *
+ * <p>Each camera has its own thread that grabs frames directly into a small pool of buffers. A
+ * camera only ever has its newest frame waiting to be processed; when a newer frame arrives before
+ * a worker gets to the waiting one, the waiting one is dropped. Workers take cameras with a waiting
+ * frame in the order the frames arrived, and a camera is only processed by one worker at a time, so
+ * its listener sees frames in order. A slow frame from one camera therefore delays only that
+ * camera, as long as there are other workers free, and no camera falls further behind than one
+ * frame.
+ *
+ * <p>Pipelines are created by a factory, once per worker that uses them, so that state such as an
+ * {@code AprilTagDetector} is never shared between threads. Cameras added with the same factory
+ * object share each worker's instance. When a pipeline uses threads of its own, like a detector
+ * with {@code Config.numThreads} set, the worker count times those threads should be about the
+ * number of cores. Pipelines that are {@link AutoCloseable} are closed when the scheduler is.
+ *
+ * <p>An exception thrown by a pipeline or listener is reported to the driver station, and the
+ * camera's next frame is processed as usual. An {@link Error} also ends the worker that ran it, and
+ * the remaining workers carry on with the camera.
+ *
+ * <p>For each camera, the scheduler publishes these to NetworkTables under {@code
+ * /VisionScheduler/<camera name>}:
+ *
+ * <ul>
+ *   <li>{@code ageMs}: how long the last processed frame waited before a worker started on it
+ *   <li>{@code latencyMs}: the time from the last processed frame being captured until its
+ *       listener returned
+ *   <li>{@code processed}: the number of frames processed
+ *   <li>{@code dropped}: the number of frames replaced by a newer one before being processed
+ * </ul>
+ *
+ * @see VisionPipeline
+ * @see PipelinedVisionRunner
+ */
+public class VisionScheduler implements AutoCloseable {
+  // One frame being processed, one waiting to be processed, and one being grabbed
+  private static final int kFrameCount = 3;
+
+  private final NetworkTable m_table;
+  private final int m_workerCount;
+  private final List<Camera<?>> m_cameras = new ArrayList<>();
+  private final BlockingQueue<Camera<?>> m_readyCameras = new LinkedBlockingQueue<>();
+  private final List<Thread> m_threads = new ArrayList<>();
+  private volatile boolean m_running;
+
+  private static final class Camera<P extends VisionPipeline> {
+    final String m_name;
+    final FrameSource m_source;
+    final Supplier<? extends P> m_pipelineFactory;
+    final VisionRunner.Listener<? super P> m_listener;
+    final BlockingQueue<FrameSource.Frame> m_freeFrames = new ArrayBlockingQueue<>(kFrameCount);
+
+    // Guarded by this
+    FrameSource.Frame m_readyFrame;
+    boolean m_scheduled;
+    long m_dropped;
+
+    // Only used by the worker processing this camera
+    long m_processed;
+
+    final DoublePublisher m_agePublisher;
+    final DoublePublisher m_latencyPublisher;
+    final IntegerPublisher m_processedPublisher;
+    final IntegerPublisher m_droppedPublisher;
+
+    Camera(
+        String name,
+        FrameSource source,
+        Supplier<? extends P> pipelineFactory,
+        VisionRunner.Listener<? super P> listener,
+        NetworkTable table) {
+      m_name = name;
+      m_source = source;
+      m_pipelineFactory = pipelineFactory;
+      m_listener = listener;
+      for (int i = 0; i < kFrameCount; i++) {
+        m_freeFrames.add(source.createFrame());
+      }
+
+      m_agePublisher = table.getDoubleTopic("ageMs").publish();
+      m_latencyPublisher = table.getDoubleTopic("latencyMs").publish();
+      m_processedPublisher = table.getIntegerTopic("processed").publish();
+      m_droppedPublisher = table.getIntegerTopic("dropped").publish();
+    }
+
+    @SuppressWarnings("unchecked")
+    void process(
+        Map<Supplier<?>, VisionPipeline> pipelines, FrameSource.Frame frame, long dropped) {
+      long start = WPIUtilJNI.now();
+      P pipeline = (P) pipelines.computeIfAbsent(m_pipelineFactory, factory -> (P) factory.get());
+      pipeline.process(frame.getMat());
+      m_listener.copyPipelineOutputs(pipeline);
+      long end = WPIUtilJNI.now();
+
+      m_processed++;
+      m_agePublisher.set((start - frame.getTimestamp()) / 1000.0);
+      m_latencyPublisher.set((end - frame.getTimestamp()) / 1000.0);
+      m_processedPublisher.set(m_processed);
+      m_droppedPublisher.set(dropped);
+    }
+
+    void close() {
+      m_source.close();
+      for (var frame : m_freeFrames) {
+        frame.close();
+      }
+      if (m_readyFrame != null) {
+        m_readyFrame.close();
+      }
+      m_agePublisher.close();
+      m_latencyPublisher.close();
+      m_processedPublisher.close();
+      m_droppedPublisher.close();
+    }
+  }
+
+  /**
+   * Creates a vision scheduler that publishes to the default NetworkTables instance.
+   *
+   * @param workerCount the number of threads to run pipelines on
+   */
+  public VisionScheduler(int workerCount) {
+    this(NetworkTableInstance.getDefault().getTable("VisionScheduler"), workerCount);
+  }
+
+  /**
+   * Creates a vision scheduler.
+   *
+   * @param table the table to publish each camera's metrics under
+   * @param workerCount the number of threads to run pipelines on
+   */
+  public VisionScheduler(NetworkTable table, int workerCount) {
+    if (workerCount < 1) {
+      throw new IllegalArgumentException("workerCount must be at least 1, got " + workerCount);
+    }
+    m_table = table;
+    m_workerCount = workerCount;
+  }
+
+  /**
+   * Adds a camera whose frames are grabbed as 8-bit grayscale. Cameras must be added before the
+   * scheduler is started.
+   *
+   * @param name the name of the camera, used for its metrics
+   * @param videoSource the video source to use to supply images for the pipeline
+   * @param pipelineFactory creates the vision pipeline to run, once per worker
+   * @param listener a function to call after the pipeline has finished running. This is called from
+   *     a worker thread.
+   * @param <P> the type of the pipeline
+   */
+  public <P extends VisionPipeline> void addCamera(
+      String name,
+      VideoSource videoSource,
+      Supplier<? extends P> pipelineFactory,
+      VisionRunner.Listener<? super P> listener) {
+    addCamera(name, videoSource, PixelFormat.kGray, pipelineFactory, listener);
+  }
+
+  /**
+   * Adds a camera. Cameras must be added before the scheduler is started.
+   *
+   * @param name the name of the camera, used for its metrics
+   * @param videoSource the video source to use to supply images for the pipeline
+   * @param pixelFormat the pixel format of the images given to the pipeline
+   * @param pipelineFactory creates the vision pipeline to run, once per worker
+   * @param listener a function to call after the pipeline has finished running. This is called from
+   *     a worker thread.
+   * @param <P> the type of the pipeline
+   */
+  public <P extends VisionPipeline> void addCamera(
+      String name,
+      VideoSource videoSource,
+      PixelFormat pixelFormat,
+      Supplier<? extends P> pipelineFactory,
+      VisionRunner.Listener<? super P> listener) {
+    addCamera(
+        name,
+        new CvSinkFrameSource("VisionScheduler " + name, videoSource, pixelFormat),
+        pipelineFactory,
+        listener);
+  }
+
+  /**
+   * Adds a camera that gets its frames from a frame source. The source is closed when the scheduler
+   * is.
+   *
+   * @param name the name of the camera, used for its metrics
+   * @param source the source of the frames
+   * @param pipelineFactory creates the vision pipeline to run, once per worker
+   * @param listener a function to call after the pipeline has finished running
+   * @param <P> the type of the pipeline
+   */
+  synchronized <P extends VisionPipeline> void addCamera(
+      String name,
+      FrameSource source,
+      Supplier<? extends P> pipelineFactory,
+      VisionRunner.Listener<? super P> listener) {
+    if (!m_threads.isEmpty()) {
+      source.close();
+      throw new IllegalStateException("Cameras must be added before the scheduler is started");
+    }
+    m_cameras.add(new Camera<>(name, source, pipelineFactory, listener, m_table.getSubTable(name)));
+  }
+
+  /**
+   * Starts grabbing frames from every camera and processing them. The threads are daemon threads,
+   * so they don't keep the program running.
+   */
+  public synchronized void start() {
+    if (!m_threads.isEmpty()) {
+      return;
+    }
+    m_running = true;
+
+    for (var camera : m_cameras) {
+      m_threads.add(new Thread(() -> grabForever(camera), "WPILib Vision Grab " + camera.m_name));
+    }
+    for (int i = 0; i < m_workerCount; i++) {
+      m_threads.add(new Thread(this::processForever, "WPILib Vision Worker " + i));
+    }
+    for (var thread : m_threads) {
+      thread.setDaemon(true);
+      thread.start();
+    }
+  }
+
+  /** Stops all threads and releases the cameras' sinks and frames. */
+  @Override
+  public synchronized void close() {
+    m_running = false;
+    for (var thread : m_threads) {
+      thread.interrupt();
+    }
+    try {
+      for (var thread : m_threads) {
+        thread.join();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    for (var camera : m_cameras) {
+      camera.close();
+    }
+    m_cameras.clear();
+  }
+
+  private void grabForever(Camera<?> camera) {
+    try {
+      while (m_running) {
+        // There's always a free frame here, since a worker holds at most one and one can be ready
+        FrameSource.Frame frame = camera.m_freeFrames.take();
+        long frameTime;
+        try {
+          frameTime = camera.m_source.grabFrame(frame, 0.225);
+        } catch (InterruptedException e) {
+          camera.m_freeFrames.add(frame);
+          throw e;
+        }
+        if (frameTime <= 0) {
+          camera.m_freeFrames.add(frame);
+          if (m_running) {
+            CameraServerSharedStore.getCameraServerShared()
+                .reportDriverStationError(camera.m_source.getError());
+          }
+          continue;
+        }
+
+        boolean schedule;
+        synchronized (camera) {
+          if (camera.m_readyFrame != null) {
+            camera.m_freeFrames.add(camera.m_readyFrame);
+            camera.m_dropped++;
+          }
+          camera.m_readyFrame = frame;
+          schedule = !camera.m_scheduled;
+          camera.m_scheduled = true;
+        }
+        if (schedule) {
+          m_readyCameras.add(camera);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void processForever() {
+    // This worker's instance of each pipeline, by factory
+    Map<Supplier<?>, VisionPipeline> pipelines = new IdentityHashMap<>();
+    try {
+      while (m_running) {
+        Camera<?> camera = m_readyCameras.take();
+        FrameSource.Frame frame;
+        long dropped;
+        synchronized (camera) {
+          frame = camera.m_readyFrame;
+          camera.m_readyFrame = null;
+          dropped = camera.m_dropped;
+        }
+
+        try {
+          camera.process(pipelines, frame, dropped);
+        } catch (RuntimeException e) {
+          CameraServerSharedStore.getCameraServerShared()
+              .reportDriverStationError(
+                  "Vision pipeline for camera " + camera.m_name + " threw " + e);
+        } finally {
+          // This also runs if the pipeline threw an Error, which ends this worker, so that the
+          // other workers keep processing the camera
+          camera.m_freeFrames.add(frame);
+
+          // Go to the back of the line if another frame arrived while this one was processed
+          synchronized (camera) {
+            if (camera.m_readyFrame == null) {
+              camera.m_scheduled = false;
+            } else {
+              m_readyCameras.add(camera);
+            }
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      for (var pipeline : pipelines.values()) {
+        if (pipeline instanceof AutoCloseable closeable) {
+          try {
+            closeable.close();
+          } catch (Exception e) {
+            CameraServerSharedStore.getCameraServerShared()
+                .reportDriverStationError("Closing vision pipeline threw " + e);
+          }
+        }
+      }
+    }
+  }
+}
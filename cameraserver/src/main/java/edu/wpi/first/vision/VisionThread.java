@@ -27,6 +27,18 @@ public class VisionThread extends Thread {
     setDaemon(true);
   }
 
+  /**
+   * Creates a vision thread that continuously grabs frames for a {@link PipelinedVisionRunner}. The
+   * runner processes the frames on its own worker thread.
+   *
+   * @param visionRunner the pipelined runner for a vision pipeline
+   */
+  @SuppressWarnings("this-escape")
+  public VisionThread(PipelinedVisionRunner<?> visionRunner) {
+    super(visionRunner::runForever, "WPILib Vision Thread");
+    setDaemon(true);
+  }
+
   /**
    * Creates a new vision thread that continuously runs the given vision pipeline. This is
    * equivalent to {@code new VisionThread(new VisionRunner<>(videoSource, pipeline, listener))}.
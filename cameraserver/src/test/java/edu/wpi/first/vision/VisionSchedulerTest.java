@@ -0,0 +1,320 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.vision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import edu.wpi.first.networktables.IntegerSubscriber;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opencv.core.Mat;
+
+class VisionSchedulerTest {
+  private NetworkTableInstance m_inst;
+  private NetworkTable m_table;
+  private final List<TestPipeline> m_pipelines = Collections.synchronizedList(new ArrayList<>());
+
+  // Hands out frames with the timestamps it's given, and records the frames that are processed
+  private static final class FakeSource implements FrameSource {
+    final BlockingQueue<Long> m_timestamps = new LinkedBlockingQueue<>();
+    final List<FakeFrame> m_frames = Collections.synchronizedList(new ArrayList<>());
+    final List<Long> m_processed = Collections.synchronizedList(new ArrayList<>());
+    final AtomicInteger m_grabCalls = new AtomicInteger();
+    final AtomicInteger m_active = new AtomicInteger();
+    final AtomicInteger m_maxActive = new AtomicInteger();
+    volatile Thread m_grabThread;
+    volatile boolean m_closed;
+
+    final class FakeFrame implements Frame {
+      long m_timestamp;
+      boolean m_closed;
+
+      // The scheduler gets the image once per processed frame
+      @Override
+      public Mat getMat() {
+        m_maxActive.accumulateAndGet(m_active.incrementAndGet(), Math::max);
+        m_processed.add(m_timestamp);
+        return null;
+      }
+
+      @Override
+      public long getTimestamp() {
+        return m_timestamp;
+      }
+
+      @Override
+      public void close() {
+        m_closed = true;
+      }
+    }
+
+    @Override
+    public Frame createFrame() {
+      var frame = new FakeFrame();
+      m_frames.add(frame);
+      return frame;
+    }
+
+    @Override
+    public long grabFrame(Frame frame, double timeout) throws InterruptedException {
+      m_grabThread = Thread.currentThread();
+      m_grabCalls.incrementAndGet();
+      Long timestamp = m_timestamps.poll((long) (timeout * 1e6), TimeUnit.MICROSECONDS);
+      if (timestamp == null) {
+        return 0;
+      }
+      ((FakeFrame) frame).m_timestamp = timestamp;
+      return timestamp;
+    }
+
+    @Override
+    public String getError() {
+      return "timed out";
+    }
+
+    @Override
+    public void close() {
+      m_closed = true;
+    }
+
+    void push(long timestamp) {
+      m_timestamps.add(timestamp);
+    }
+
+    // Called from the listener, after the pipeline has run
+    void finish() {
+      m_active.decrementAndGet();
+    }
+
+    int processedCount() {
+      return m_processed.size();
+    }
+
+    long lastProcessed() {
+      synchronized (m_processed) {
+        return m_processed.isEmpty() ? 0 : m_processed.get(m_processed.size() - 1);
+      }
+    }
+  }
+
+  private static final class TestPipeline implements VisionPipeline, AutoCloseable {
+    volatile Thread m_thread;
+    final AtomicInteger m_closeCount = new AtomicInteger();
+
+    @Override
+    public void process(Mat image) {
+      m_thread = Thread.currentThread();
+    }
+
+    @Override
+    public void close() {
+      m_closeCount.incrementAndGet();
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    m_inst = NetworkTableInstance.create();
+    m_table = m_inst.getTable("VisionScheduler");
+  }
+
+  @AfterEach
+  void tearDown() {
+    m_inst.close();
+  }
+
+  private TestPipeline createPipeline() {
+    var pipeline = new TestPipeline();
+    m_pipelines.add(pipeline);
+    return pipeline;
+  }
+
+  private static void waitUntil(BooleanSupplier condition) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!condition.getAsBoolean()) {
+      if (System.nanoTime() > deadline) {
+        fail("Timed out");
+      }
+      try {
+        Thread.sleep(1);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        fail("Interrupted");
+      }
+    }
+  }
+
+  @Test
+  void latestFrameWinsTest() throws InterruptedException {
+    var source = new FakeSource();
+    var entered = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    IntegerSubscriber processed =
+        m_table.getSubTable("camera").getIntegerTopic("processed").subscribe(0);
+    IntegerSubscriber dropped =
+        m_table.getSubTable("camera").getIntegerTopic("dropped").subscribe(0);
+
+    try (var scheduler = new VisionScheduler(m_table, 1)) {
+      scheduler.addCamera(
+          "camera",
+          source,
+          this::createPipeline,
+          pipeline -> {
+            source.finish();
+            entered.countDown();
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+      scheduler.start();
+
+      // Hold the only worker on the first frame while two more arrive
+      source.push(1);
+      assertTrue(entered.await(10, TimeUnit.SECONDS));
+      source.push(2);
+      source.push(3);
+      // The fourth grab starts once the third frame has replaced the second
+      waitUntil(() -> source.m_grabCalls.get() >= 4);
+      release.countDown();
+
+      waitUntil(() -> processed.get() == 2);
+      assertEquals(List.of(1L, 3L), source.m_processed);
+      assertEquals(1, dropped.get());
+    }
+  }
+
+  @Test
+  void oneWorkerPerCameraInOrderTest() {
+    var first = new FakeSource();
+    var second = new FakeSource();
+
+    try (var scheduler = new VisionScheduler(m_table, 3)) {
+      for (var source : List.of(first, second)) {
+        scheduler.addCamera(
+            source == first ? "first" : "second",
+            source,
+            this::createPipeline,
+            pipeline -> {
+              // Give the other workers a chance to pick up the same camera
+              Thread.yield();
+              source.finish();
+            });
+      }
+      scheduler.start();
+
+      for (long timestamp = 1; timestamp <= 500; timestamp++) {
+        first.push(timestamp);
+        second.push(timestamp);
+      }
+
+      // The newest frame is always processed eventually
+      waitUntil(() -> first.lastProcessed() == 500 && second.lastProcessed() == 500);
+    }
+
+    for (var source : List.of(first, second)) {
+      assertEquals(1, source.m_maxActive.get());
+      synchronized (source.m_processed) {
+        for (int i = 1; i < source.m_processed.size(); i++) {
+          assertTrue(source.m_processed.get(i - 1) < source.m_processed.get(i));
+        }
+      }
+    }
+  }
+
+  @Test
+  void throwingListenerTest() {
+    var source = new FakeSource();
+    IntegerSubscriber processed =
+        m_table.getSubTable("camera").getIntegerTopic("processed").subscribe(0);
+
+    try (var scheduler = new VisionScheduler(m_table, 2)) {
+      scheduler.addCamera(
+          "camera",
+          source,
+          this::createPipeline,
+          pipeline -> {
+            source.finish();
+            int count = source.processedCount();
+            if (count == 1) {
+              throw new IllegalStateException("listener failed");
+            }
+            if (count == 2) {
+              // Ends the worker that runs it
+              throw new AssertionError("listener failed badly");
+            }
+          });
+      scheduler.start();
+
+      // More frames than there are buffers, so leaked frames would stop the grabs
+      for (long timestamp = 1; timestamp <= 6; timestamp++) {
+        source.push(timestamp);
+        final long expected = timestamp;
+        waitUntil(() -> source.lastProcessed() == expected);
+      }
+      waitUntil(() -> processed.get() == 4);
+      assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), source.m_processed);
+    }
+
+    for (var frame : source.m_frames) {
+      assertTrue(frame.m_closed);
+    }
+  }
+
+  @Test
+  void closeJoinsThreadsAndClosesPipelinesTest() {
+    var first = new FakeSource();
+    var second = new FakeSource();
+
+    var scheduler = new VisionScheduler(m_table, 2);
+    scheduler.addCamera("first", first, this::createPipeline, pipeline -> first.finish());
+    scheduler.addCamera("second", second, this::createPipeline, pipeline -> second.finish());
+    scheduler.start();
+
+    for (long timestamp = 1; timestamp <= 20; timestamp++) {
+      first.push(timestamp);
+      second.push(timestamp);
+    }
+    waitUntil(() -> first.lastProcessed() == 20 && second.lastProcessed() == 20);
+    scheduler.close();
+
+    assertFalse(first.m_grabThread.isAlive());
+    assertFalse(second.m_grabThread.isAlive());
+    assertTrue(first.m_closed);
+    assertTrue(second.m_closed);
+    for (var frame : first.m_frames) {
+      assertTrue(frame.m_closed);
+    }
+    for (var frame : second.m_frames) {
+      assertTrue(frame.m_closed);
+    }
+
+    // Each pipeline was made by a worker that has ended, and closed once
+    assertFalse(m_pipelines.isEmpty());
+    for (var pipeline : m_pipelines) {
+      assertFalse(pipeline.m_thread.isAlive());
+      assertEquals(1, pipeline.m_closeCount.get());
+    }
+    for (var thread : Thread.getAllStackTraces().keySet()) {
+      assertFalse(thread.getName().startsWith("WPILib Vision"), thread.getName());
+    }
+  }
+}
@@ -0,0 +1,115 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.cscore;
+
+import edu.wpi.first.util.PixelFormat;
+import edu.wpi.first.util.RawFrame;
+import edu.wpi.first.util.TimestampSource;
+import java.nio.ByteBuffer;
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+
+/**
+ * A frame that a {@link CvSink} grabs into directly, which is exposed as an OpenCV Mat without
+ * copying. See {@link CvSink#grabFrameDirect(CvFrame, double)}.
+ *
+ * <p>A CvSink grabs into the same frame every time, so that frame can't be used while the next one
+ * is being grabbed. Grabbing into a few of these in turn lets one frame be processed on another
+ * thread while the next is grabbed.
+ */
+public class CvFrame implements AutoCloseable {
+  private final RawFrame m_frame = new RawFrame();
+  private Mat m_mat;
+  private ByteBuffer m_origByteBuffer;
+  private int m_width;
+  private int m_height;
+  private PixelFormat m_pixelFormat;
+
+  /** Creates an empty frame. */
+  public CvFrame() {
+    OpenCvLoader.forceStaticLoad();
+  }
+
+  @Override
+  public void close() {
+    if (m_mat != null) {
+      m_mat.release();
+    }
+    m_frame.close();
+  }
+
+  /**
+   * Gets the mat backed by this frame's data.
+   *
+   * <p>This mat is invalidated the next time a frame is grabbed into this frame, or when this frame
+   * is closed.
+   *
+   * @return The backing mat, or null if no frame has been grabbed yet.
+   */
+  public Mat getMat() {
+    return m_mat;
+  }
+
+  /**
+   * Get the time the frame was grabbed at. This uses the same time base as wpi::Now().
+   *
+   * @return Time in 1 us increments.
+   */
+  public long getTimestamp() {
+    return m_frame.getTimestamp();
+  }
+
+  /**
+   * Get the time source for the timestamp the frame was grabbed at.
+   *
+   * @return Time source
+   */
+  public TimestampSource getTimestampSource() {
+    return m_frame.getTimestampSource();
+  }
+
+  RawFrame getRawFrame() {
+    return m_frame;
+  }
+
+  private static int getCVFormat(PixelFormat pixelFormat) {
+    return switch (pixelFormat) {
+      case kYUYV, kRGB565, kY16, kUYVY -> CvType.CV_8UC2;
+      case kBGR -> CvType.CV_8UC3;
+      case kBGRA -> CvType.CV_8UC4;
+      case kGray, kMJPEG, kUnknown -> CvType.CV_8UC1;
+    };
+  }
+
+  /** Rewraps the mat around the frame's data after a grab if the data or its shape changed. */
+  @SuppressWarnings("PMD.CompareObjectsWithEquals")
+  void updateMat() {
+    if (m_frame.getData() != m_origByteBuffer
+        || m_width != m_frame.getWidth()
+        || m_height != m_frame.getHeight()
+        || m_pixelFormat != m_frame.getPixelFormat()) {
+      m_origByteBuffer = m_frame.getData();
+      m_height = m_frame.getHeight();
+      m_width = m_frame.getWidth();
+      m_pixelFormat = m_frame.getPixelFormat();
+      if (m_frame.getStride() == 0) {
+        m_mat =
+            new Mat(
+                m_frame.getHeight(),
+                m_frame.getWidth(),
+                getCVFormat(m_pixelFormat),
+                m_origByteBuffer);
+      } else {
+        m_mat =
+            new Mat(
+                m_frame.getHeight(),
+                m_frame.getWidth(),
+                getCVFormat(m_pixelFormat),
+                m_origByteBuffer,
+                m_frame.getStride());
+      }
+    }
+  }
+}
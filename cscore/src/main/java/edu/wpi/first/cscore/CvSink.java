@@ -7,8 +7,6 @@ package edu.wpi.first.cscore;
 import edu.wpi.first.util.PixelFormat;
 import edu.wpi.first.util.RawFrame;
 import edu.wpi.first.util.TimestampSource;
-import java.nio.ByteBuffer;
-import org.opencv.core.CvType;
 import org.opencv.core.Mat;
 
 /**
@@ -16,31 +14,15 @@ import org.opencv.core.Mat;
  * OpenCV builds. For an alternate OpenCV, see the documentation how to build your own with RawSink.
  */
 public class CvSink extends ImageSink {
-  private final RawFrame m_frame = new RawFrame();
-  private Mat m_tmpMat;
-  private ByteBuffer m_origByteBuffer;
-  private int m_width;
-  private int m_height;
+  private final CvFrame m_direct = new CvFrame();
   private PixelFormat m_pixelFormat;
 
   @Override
   public void close() {
-    if (m_tmpMat != null) {
-      m_tmpMat.release();
-    }
-    m_frame.close();
+    m_direct.close();
     super.close();
   }
 
-  private int getCVFormat(PixelFormat pixelFormat) {
-    return switch (pixelFormat) {
-      case kYUYV, kRGB565, kY16, kUYVY -> CvType.CV_8UC2;
-      case kBGR -> CvType.CV_8UC3;
-      case kBGRA -> CvType.CV_8UC4;
-      case kGray, kMJPEG, kUnknown -> CvType.CV_8UC1;
-    };
-  }
-
   /**
    * Create a sink for accepting OpenCV images. grabFrame() must be called on the created sink to
    * get each new image.
@@ -89,7 +71,7 @@ public class CvSink extends ImageSink {
     if (rv <= 0) {
       return rv;
     }
-    m_tmpMat.copyTo(image);
+    m_direct.getMat().copyTo(image);
     return rv;
   }
 
@@ -106,7 +88,7 @@ public class CvSink extends ImageSink {
     if (rv <= 0) {
       return rv;
     }
-    m_tmpMat.copyTo(image);
+    m_direct.getMat().copyTo(image);
     return rv;
   }
 
@@ -119,7 +101,7 @@ public class CvSink extends ImageSink {
    * @return The backing mat.
    */
   public Mat getDirectMat() {
-    return m_tmpMat;
+    return m_direct.getMat();
   }
 
   /**
@@ -142,40 +124,33 @@ public class CvSink extends ImageSink {
    * @return Frame time, or 0 on error (call GetError() to obtain the error message); the frame time
    *     is in 1 us increments.
    */
-  @SuppressWarnings("PMD.CompareObjectsWithEquals")
   public long grabFrameDirect(double timeout) {
-    m_frame.setInfo(0, 0, 0, m_pixelFormat);
+    return grabFrameDirect(m_direct, timeout);
+  }
+
+  /**
+   * Wait for the next frame and store the image in the given frame instead of this sink's own.
+   * Times out (returning 0) after timeout seconds. The image will have the pixelFormat this class
+   * was constructed with. Use {@link CvFrame#getMat()} to get the image.
+   *
+   * <p>Grabbing into a few frames in turn lets one frame be processed while the next is grabbed.
+   *
+   * @param frame Where to store the image.
+   * @param timeout Retrieval timeout in seconds.
+   * @return Frame time, or 0 on error (call GetError() to obtain the error message); the frame time
+   *     is in 1 us increments.
+   */
+  public long grabFrameDirect(CvFrame frame, double timeout) {
+    RawFrame rawFrame = frame.getRawFrame();
+    rawFrame.setInfo(0, 0, 0, m_pixelFormat);
     long rv =
-        CameraServerJNI.grabRawSinkFrameTimeout(m_handle, m_frame, m_frame.getNativeObj(), timeout);
+        CameraServerJNI.grabRawSinkFrameTimeout(
+            m_handle, rawFrame, rawFrame.getNativeObj(), timeout);
     if (rv <= 0) {
       return rv;
     }
-
-    if (m_frame.getData() != m_origByteBuffer
-        || m_width != m_frame.getWidth()
-        || m_height != m_frame.getHeight()
-        || m_pixelFormat != m_frame.getPixelFormat()) {
-      m_origByteBuffer = m_frame.getData();
-      m_height = m_frame.getHeight();
-      m_width = m_frame.getWidth();
-      m_pixelFormat = m_frame.getPixelFormat();
-      if (m_frame.getStride() == 0) {
-        m_tmpMat =
-            new Mat(
-                m_frame.getHeight(),
-                m_frame.getWidth(),
-                getCVFormat(m_pixelFormat),
-                m_origByteBuffer);
-      } else {
-        m_tmpMat =
-            new Mat(
-                m_frame.getHeight(),
-                m_frame.getWidth(),
-                getCVFormat(m_pixelFormat),
-                m_origByteBuffer,
-                m_frame.getStride());
-      }
-    }
+    m_pixelFormat = rawFrame.getPixelFormat();
+    frame.updateMat();
     return rv;
   }
 
@@ -186,39 +161,28 @@ public class CvSink extends ImageSink {
    * @return Frame time, or 0 on error (call GetError() to obtain the error message); the frame time
    *     is in 1 us increments.
    */
-  @SuppressWarnings("PMD.CompareObjectsWithEquals")
   public long grabFrameNoTimeoutDirect() {
-    m_frame.setInfo(0, 0, 0, m_pixelFormat);
-    long rv = CameraServerJNI.grabRawSinkFrame(m_handle, m_frame, m_frame.getNativeObj());
+    return grabFrameNoTimeoutDirect(m_direct);
+  }
+
+  /**
+   * Wait for the next frame and store the image in the given frame instead of this sink's own. May
+   * block forever. The image will have the pixelFormat this class was constructed with. Use {@link
+   * CvFrame#getMat()} to get the image.
+   *
+   * @param frame Where to store the image.
+   * @return Frame time, or 0 on error (call GetError() to obtain the error message); the frame time
+   *     is in 1 us increments.
+   */
+  public long grabFrameNoTimeoutDirect(CvFrame frame) {
+    RawFrame rawFrame = frame.getRawFrame();
+    rawFrame.setInfo(0, 0, 0, m_pixelFormat);
+    long rv = CameraServerJNI.grabRawSinkFrame(m_handle, rawFrame, rawFrame.getNativeObj());
     if (rv <= 0) {
       return rv;
     }
-
-    if (m_frame.getData() != m_origByteBuffer
-        || m_width != m_frame.getWidth()
-        || m_height != m_frame.getHeight()
-        || m_pixelFormat != m_frame.getPixelFormat()) {
-      m_origByteBuffer = m_frame.getData();
-      m_height = m_frame.getHeight();
-      m_width = m_frame.getWidth();
-      m_pixelFormat = m_frame.getPixelFormat();
-      if (m_frame.getStride() == 0) {
-        m_tmpMat =
-            new Mat(
-                m_frame.getHeight(),
-                m_frame.getWidth(),
-                getCVFormat(m_pixelFormat),
-                m_origByteBuffer);
-      } else {
-        m_tmpMat =
-            new Mat(
-                m_frame.getHeight(),
-                m_frame.getWidth(),
-                getCVFormat(m_pixelFormat),
-                m_origByteBuffer,
-                m_frame.getStride());
-      }
-    }
+    m_pixelFormat = rawFrame.getPixelFormat();
+    frame.updateMat();
     return rv;
   }
 
@@ -228,7 +192,7 @@ public class CvSink extends ImageSink {
    * @return Time in 1 us increments.
    */
   public long getLastFrameTime() {
-    return m_frame.getTimestamp();
+    return m_direct.getTimestamp();
   }
 
   /**
@@ -237,6 +201,6 @@ public class CvSink extends ImageSink {
    * @return Time source
    */
   public TimestampSource getLastFrameTimeSource() {
-    return m_frame.getTimestampSource();
+    return m_direct.getTimestampSource();
   }
 }
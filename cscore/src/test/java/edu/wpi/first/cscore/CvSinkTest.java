@@ -0,0 +1,87 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.cscore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.wpi.first.util.PixelFormat;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.opencv.core.Scalar;
+
+class CvSinkTest {
+  private static final int kWidth = 32;
+  private static final int kHeight = 24;
+
+  // Puts frames filled with 1, 2, 3, ... until stopped
+  private static Thread startProducer(CvSource source, AtomicBoolean running) {
+    var thread =
+        new Thread(
+            () -> {
+              int value = 1;
+              while (running.get()) {
+                var image = new Mat(kHeight, kWidth, CvType.CV_8UC1, new Scalar(value));
+                source.putFrame(image);
+                image.release();
+                value = value % 255 + 1;
+                try {
+                  Thread.sleep(2);
+                } catch (InterruptedException e) {
+                  return;
+                }
+              }
+            });
+    thread.setDaemon(true);
+    thread.start();
+    return thread;
+  }
+
+  @Test
+  void grabFrameDirectIntoSeparateFramesTest() throws InterruptedException {
+    var running = new AtomicBoolean(true);
+    try (var source = new CvSource("source", PixelFormat.kGray, kWidth, kHeight, 30);
+        var sink = new CvSink("sink", PixelFormat.kGray);
+        var first = new CvFrame();
+        var second = new CvFrame()) {
+      sink.setSource(source);
+      assertNull(first.getMat());
+      Thread producer = startProducer(source, running);
+
+      try {
+        long firstTime = sink.grabFrameDirect(first, 5);
+        assertTrue(firstTime > 0, sink.getError());
+        long secondTime = sink.grabFrameDirect(second, 5);
+        assertTrue(secondTime > firstTime, sink.getError());
+
+        Mat firstMat = first.getMat();
+        Mat secondMat = second.getMat();
+        assertEquals(kWidth, firstMat.cols());
+        assertEquals(kHeight, firstMat.rows());
+        assertEquals(CvType.CV_8UC1, firstMat.type());
+        assertEquals(firstTime, first.getTimestamp());
+        assertEquals(secondTime, second.getTimestamp());
+
+        // Grabbing into the second frame leaves the first one's image alone
+        double firstValue = firstMat.get(kHeight - 1, kWidth - 1)[0];
+        double secondValue = secondMat.get(kHeight - 1, kWidth - 1)[0];
+        assertNotEquals(firstValue, secondValue);
+        assertEquals(firstValue, firstMat.get(0, 0)[0]);
+
+        // Grabbing into the same frame again reuses its mat
+        assertTrue(sink.grabFrameDirect(first, 5) > secondTime, sink.getError());
+        assertEquals(firstMat.nativeObj, first.getMat().nativeObj);
+        assertEquals(secondValue, second.getMat().get(0, 0)[0]);
+      } finally {
+        running.set(false);
+        producer.join();
+      }
+    }
+  }
+}
@@ -52,7 +52,7 @@ public class ArrayHandler extends ElementHandler {
   }
 
   @Override
-  public String logInvocation(Element element) {
+  public String logInvocation(Element element, String handle) {
     var dataType = dataType(element);
 
     // known to be an array type (assuming isLoggable is checked first); this is a safe cast
@@ -60,16 +60,16 @@ public class ArrayHandler extends ElementHandler {
 
     if (m_structHandler.isLoggableType(componentType)) {
       // Struct arrays need to pass in the struct serializer
-      return "backend.log(\""
-          + loggedName(element)
-          + "\", "
+      return "backend.log("
+          + handle
+          + ", "
           + elementAccess(element)
           + ", "
           + m_structHandler.structAccess(componentType)
           + ")";
     } else {
       // Primitive or string array
-      return "backend.log(\"" + loggedName(element) + "\", " + elementAccess(element) + ")";
+      return "backend.log(" + handle + ", " + elementAccess(element) + ")";
     }
   }
 }
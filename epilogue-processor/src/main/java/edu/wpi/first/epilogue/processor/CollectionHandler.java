@@ -38,20 +38,20 @@ public class CollectionHandler extends ElementHandler {
   }
 
   @Override
-  public String logInvocation(Element element) {
+  public String logInvocation(Element element, String handle) {
     var dataType = dataType(element);
     var componentType = ((DeclaredType) dataType).getTypeArguments().get(0);
 
     if (m_structHandler.isLoggableType(componentType)) {
-      return "backend.log(\""
-          + loggedName(element)
-          + "\", "
+      return "backend.log("
+          + handle
+          + ", "
           + elementAccess(element)
           + ", "
           + m_structHandler.structAccess(componentType)
           + ")";
     } else {
-      return "backend.log(\"" + loggedName(element) + "\", " + elementAccess(element) + ")";
+      return "backend.log(" + handle + ", " + elementAccess(element) + ")";
     }
   }
 }
@@ -27,7 +27,7 @@ public class ConfiguredLoggerHandler extends ElementHandler {
   }
 
   @Override
-  public String logInvocation(Element element) {
+  public String logInvocation(Element element, String handle) {
     var dataType = dataType(element);
     var loggerType =
         m_customLoggers.entrySet().stream()
@@ -41,9 +41,9 @@ public class ConfiguredLoggerHandler extends ElementHandler {
 
     return "Epilogue."
         + StringUtils.lowerCamelCase(loggerType.asElement().getSimpleName())
-        + ".tryUpdate(backend.getNested(\""
-        + loggedName(element)
-        + "\"), "
+        + ".tryUpdate(backend.getNested("
+        + handle
+        + "), "
         + elementAccess(element)
         + ", Epilogue.getConfig().errorHandler)";
   }
@@ -17,9 +17,9 @@ import javax.lang.model.type.TypeMirror;
 
 /**
  * Handles logging of fields or methods. An element that passes the {@link #isLoggable(Element)}
- * check guarantees that {@link #logInvocation(Element)} will generate a code snippet that will log
- * that element. Some subclasses may return {@code null} for the invocation to signal that the
- * element should not be logged, but still be considered loggable for the purposes of error
+ * check guarantees that {@link #logInvocation(Element, String)} will generate a code snippet that
+ * will log that element. Some subclasses may return {@code null} for the invocation to signal that
+ * the element should not be logged, but still be considered loggable for the purposes of error
  * messaging during the compilation phase.
  */
 public abstract class ElementHandler {
@@ -160,10 +160,13 @@ public abstract class ElementHandler {
    * Generates a code snippet to place in a generated logger file to log the value of a field or
    * method. Log invocations are placed in a generated implementation of {@link
    * ClassSpecificLogger#update(EpilogueBackend, Object)}, with access to the backend and logged
-   * object passed to the method call.
+   * object passed to the method call. Data is logged through a {@link
+   * edu.wpi.first.epilogue.logging.LogHandle LogHandle} resolved once per backend for the element's
+   * {@link #loggedName(Element) logged name}, instead of through the name itself.
    *
    * @param element the field or method element to generate the logger call for
+   * @param handle the expression referencing the element's log handle in the generated code
    * @return the generated log invocation
    */
-  public abstract String logInvocation(Element element);
+  public abstract String logInvocation(Element element, String handle);
 }
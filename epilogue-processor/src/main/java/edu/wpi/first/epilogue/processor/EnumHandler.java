@@ -27,7 +27,7 @@ public class EnumHandler extends ElementHandler {
   }
 
   @Override
-  public String logInvocation(Element element) {
-    return "backend.log(\"" + loggedName(element) + "\", " + elementAccess(element) + ")";
+  public String logInvocation(Element element, String handle) {
+    return "backend.log(" + handle + ", " + elementAccess(element) + ")";
   }
 }
@@ -167,12 +167,24 @@ public class EpilogueGenerator {
                 """);
             out.println("  public static void update(" + robotClassName + " robot) {");
             out.println("    long start = System.nanoTime();");
+            out.println("    config.scheduler.startCycle(config.loggingBudget);");
+            // Stats go through the same backend as everything else, since the configured backend
+            // may only be used from a background thread when asynchronous logging is enabled
+            out.println("    var backend = config.getLoggingBackend();");
             out.println(
                 "    "
                     + StringUtils.loggerFieldName(mainRobotClass)
-                    + ".tryUpdate(config.backend.getNested(config.root), robot, config.errorHandler);");
+                    + ".tryUpdate(backend.getNested(config.root), robot, config.errorHandler);");
             out.println(
-                "    config.backend.log(\"Epilogue/Stats/Last Run\", (System.nanoTime() - start) / 1e6);");
+                "    backend.log(\"Epilogue/Stats/Last Run\", (System.nanoTime() - start) / 1e6);");
+            out.println(
+                "    backend.log(\"Epilogue/Stats/Deferred\", config.scheduler.getDeferredCount());");
+            out.println(
+                "    if (backend instanceof edu.wpi.first.epilogue.logging.AsyncBackend async) {");
+            out.println("      backend.log(\"Epilogue/Stats/Dropped\", async.getDroppedCount());");
+            out.println(
+                "      backend.log(\"Epilogue/Stats/High Water Mark\", async.getHighWaterMark());");
+            out.println("    }");
             out.println("  }");
 
             out.println();
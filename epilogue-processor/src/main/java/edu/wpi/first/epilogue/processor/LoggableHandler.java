@@ -39,7 +39,7 @@ public class LoggableHandler extends ElementHandler {
   }
 
   @Override
-  public String logInvocation(Element element) {
+  public String logInvocation(Element element, String handle) {
     TypeMirror dataType = dataType(element);
     var declaredType =
         m_processingEnv
@@ -61,7 +61,7 @@ public class LoggableHandler extends ElementHandler {
 
     // If there are no known loggable subtypes, return just the single logger call
     if (size == 1) {
-      return generateLoggerCall(element, declaredType, elementAccess(element));
+      return generateLoggerCall(handle, declaredType, elementAccess(element));
     }
 
     // Otherwise, generate an if-else chain to compare the element with its known loggable subtypes
@@ -81,16 +81,16 @@ public class LoggableHandler extends ElementHandler {
 
       if (i == 0) {
         // First invocation, generate an "if" statement
-        part = generateIf(type, element, "if", varName);
+        part = generateIf(type, handle, "if", varName);
       } else if (i == size - 1) {
         // Final invocation, generate an "else" statement
-        String loggerCall = generateLoggerCall(element, type, varName);
+        String loggerCall = generateLoggerCall(handle, type, varName);
         part =
             " else {\n  // Base type %s\n  %s;\n}"
                 .formatted(declaredType.getQualifiedName(), loggerCall);
       } else {
         // Somewhere in the middle, generate an "else if" statement
-        part = generateIf(type, element, " else if", varName);
+        part = generateIf(type, handle, " else if", varName);
       }
 
       builder.append(part);
@@ -144,23 +144,23 @@ public class LoggableHandler extends ElementHandler {
    * the logger for the given type, if they're compatible.
    *
    * @param type the type to generate the check for
-   * @param element the element to be logged
+   * @param handle the expression referencing the log handle of the element to be logged
    * @param keyword either "if" or " else if"
    * @param varName the name of the variable in the "instanceof" check
    * @return the if or else-if statement
    */
-  private String generateIf(TypeElement type, Element element, String keyword, String varName) {
+  private String generateIf(TypeElement type, String handle, String keyword, String varName) {
     String ref = type.getQualifiedName().toString().replace('.', '_');
-    String loggerCall = generateLoggerCall(element, type, ref);
+    String loggerCall = generateLoggerCall(handle, type, ref);
 
     return "%s (%s instanceof %s %s) {\n  %s;\n}"
         .formatted(keyword, varName, type.getQualifiedName(), ref, loggerCall);
   }
 
-  private String generateLoggerCall(Element element, TypeElement type, String elementReference) {
-    return ("Epilogue.%s.tryUpdate(backend.getNested(\"%s\"), %s, "
+  private String generateLoggerCall(String handle, TypeElement type, String elementReference) {
+    return ("Epilogue.%s.tryUpdate(backend.getNested(%s), %s, "
             + "Epilogue.getConfig().errorHandler)")
-        .formatted(StringUtils.loggerFieldName(type), loggedName(element), elementReference);
+        .formatted(StringUtils.loggerFieldName(type), handle, elementReference);
   }
 
   /**
@@ -71,6 +71,11 @@ public class LoggerGenerator {
         public Naming defaultNaming() {
           return Naming.USE_CODE_NAME;
         }
+
+        @Override
+        public double period() {
+          return Double.NaN;
+        }
       };
 
   public LoggerGenerator(ProcessingEnvironment processingEnv, List<ElementHandler> handlers) {
@@ -186,6 +191,17 @@ public class LoggerGenerator {
           }
         });
 
+    // Validate logging periods
+    Stream.concat(Stream.of(clazz), Stream.concat(fieldsToLog.stream(), methodsToLog.stream()))
+        .filter(e -> e.getAnnotation(Logged.class) != null)
+        .filter(e -> e.getAnnotation(Logged.class).period() < 0)
+        .forEach(
+            e ->
+                m_processingEnv
+                    .getMessager()
+                    .printMessage(
+                        Diagnostic.Kind.ERROR, "[EPILOGUE] Logging period cannot be negative", e));
+
     writeLoggerFile(clazz, config, fieldsToLog, methodsToLog);
   }
 
@@ -280,17 +296,6 @@ public class LoggerGenerator {
         out.println();
       }
 
-      out.println("  public " + loggerSimpleClassName + "() {");
-      out.println("    super(" + simpleClassName + ".class);");
-      out.println("  }");
-      out.println();
-
-      // @Override
-      // public void update(EpilogueBackend backend, Foo object) {
-      out.println("  @Override");
-      out.println(
-          "  public void update(EpilogueBackend backend, " + simpleClassName + " object) {");
-
       // Build a map of importance levels to the fields logged at those levels
       // e.g. { DEBUG: [fieldA, fieldB], INFO: [fieldC], CRITICAL: [fieldD, fieldE, fieldF] }
       var loggedElementsByImportance =
@@ -311,10 +316,18 @@ public class LoggerGenerator {
                           new EnumMap<>(Logged.Importance.class), // EnumMap for consistent ordering
                       toList()));
 
+      // Generate the body of the update method first, assigning each logged element a slot in the
+      // handle array as it goes. The handles are resolved once per backend by the base class, so
+      // the generated code never builds or looks up entry names while logging.
+      List<String> handleNames = new ArrayList<>();
+      boolean[] hasReducedRate = {false};
+      StringBuilder updateBody = new StringBuilder();
       loggedElementsByImportance.forEach(
           (importance, elements) -> {
-            out.println(
-                "    if (Epilogue.shouldLog(Logged.Importance." + importance.name() + ")) {");
+            updateBody
+                .append("    if (Epilogue.shouldLog(Logged.Importance.")
+                .append(importance.name())
+                .append(")) {\n");
 
             for (var loggableElement : elements) {
               // findFirst for prioritization
@@ -327,21 +340,86 @@ public class LoggerGenerator {
                     // to be logged. For example, the sendable handler consumes all sendable types
                     // but does not log commands or subsystems, to prevent excessive warnings about
                     // unloggable commands.
-                    var logInvocation = h.logInvocation(loggableElement);
-                    if (logInvocation != null) {
-                      out.println(logInvocation.indent(6).stripTrailing() + ";");
+                    int index = handleNames.size();
+                    var handle = "handles[" + index + "]";
+                    var logInvocation = h.logInvocation(loggableElement, handle);
+                    if (logInvocation == null) {
+                      return;
+                    }
+
+                    handleNames.add(ElementHandler.loggedName(loggableElement));
+                    long periodNanos = periodNanos(loggableElement, classConfig);
+                    if (periodNanos > 0) {
+                      // Reduced-rate data is only logged when the scheduler says it's due
+                      hasReducedRate[0] = true;
+                      updateBody
+                          .append("      if (Epilogue.getConfig().scheduler.isDue(nextLogTimes, ")
+                          .append(index)
+                          .append(", ")
+                          .append(periodNanos)
+                          .append("L)) {\n")
+                          .append(logInvocation.indent(8).stripTrailing())
+                          .append(";\n")
+                          .append("      }\n");
+                    } else {
+                      updateBody.append(logInvocation.indent(6).stripTrailing()).append(";\n");
                     }
                   });
             }
 
-            out.println("    }");
+            updateBody.append("    }\n");
           });
 
+      out.println("  public " + loggerSimpleClassName + "() {");
+      if (handleNames.isEmpty()) {
+        out.println("    super(" + simpleClassName + ".class);");
+      } else {
+        out.println(
+            "    super("
+                + simpleClassName
+                + ".class, "
+                + handleNames.stream()
+                    .map(name -> "\"" + name + "\"")
+                    .collect(Collectors.joining(", "))
+                + ");");
+      }
+      out.println("  }");
+      out.println();
+
+      // @Override
+      // public void update(EpilogueBackend backend, Foo object) {
+      out.println("  @Override");
+      out.println(
+          "  public void update(EpilogueBackend backend, " + simpleClassName + " object) {");
+      if (!handleNames.isEmpty()) {
+        out.println("    var handles = getHandles(backend);");
+      }
+      if (hasReducedRate[0]) {
+        out.println("    var nextLogTimes = getNextLogTimes(backend);");
+      }
+      updateBody.toString().lines().forEach(out::println);
+
       out.println("  }");
       out.println("}");
     }
   }
 
+  /**
+   * Gets the period to log an element at, in nanoseconds. Elements without a period of their own use
+   * the period configured on their class, and an explicit period of 0 logs on every update.
+   *
+   * @param element the logged element
+   * @param classConfig the configuration of the class the element is declared in
+   * @return the period to log the element at, or 0 if it should be logged on every update
+   */
+  private static long periodNanos(Element element, Logged classConfig) {
+    var config = element.getAnnotation(Logged.class);
+    // An unset period is NaN, which inherits the class period
+    double period =
+        config != null && !Double.isNaN(config.period()) ? config.period() : classConfig.period();
+    return period > 0 ? Math.max(1, Math.round(period * 1e9)) : 0;
+  }
+
   private boolean isLoggable(Element element) {
     return m_handlers.stream().anyMatch(h -> h.isLoggable(element));
   }
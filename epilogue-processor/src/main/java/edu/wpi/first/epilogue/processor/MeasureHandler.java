@@ -30,8 +30,8 @@ public class MeasureHandler extends ElementHandler {
   }
 
   @Override
-  public String logInvocation(Element element) {
+  public String logInvocation(Element element, String handle) {
     // EpilogueBackend has builtin support for logging measures
-    return "backend.log(\"" + loggedName(element) + "\", " + elementAccess(element) + ")";
+    return "backend.log(" + handle + ", " + elementAccess(element) + ")";
   }
 }
@@ -44,7 +44,7 @@ public class SendableHandler extends ElementHandler {
   }
 
   @Override
-  public String logInvocation(Element element) {
+  public String logInvocation(Element element, String handle) {
     var dataType = dataType(element);
 
     // Do not log commands or subsystems via their sendable implementations
@@ -63,10 +63,6 @@ public class SendableHandler extends ElementHandler {
       return null;
     }
 
-    return "logSendable(backend.getNested(\""
-        + loggedName(element)
-        + "\"), "
-        + elementAccess(element)
-        + ")";
+    return "logSendable(backend.getNested(" + handle + "), " + elementAccess(element) + ")";
   }
 }
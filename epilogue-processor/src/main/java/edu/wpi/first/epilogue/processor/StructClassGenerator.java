@@ -0,0 +1,417 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.epilogue.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates {@code Struct} implementations for records and enums annotated with
+ * {@code @GenerateStruct}. The generated structs use the same schemas as the reflective {@code
+ * StructGenerator}, but pack and unpack with direct field accesses and constructor calls.
+ */
+public class StructClassGenerator {
+  private static final String kStructFqn = "edu.wpi.first.util.struct.Struct";
+
+  private final ProcessingEnvironment m_processingEnv;
+
+  /** A primitive struct field type, and the code used to read and write it. */
+  private record PrimType(String schemaType, int size, String getter, String putter) {}
+
+  /**
+   * A single field of the generated struct.
+   *
+   * @param name the name of the field in the schema
+   * @param access the expression used to read the field from {@code value}
+   * @param prim the primitive type of the field, or null for a nested struct
+   * @param nestedType the canonical name of the nested struct type, or null for a primitive
+   * @param nestedStruct the expression used to get the nested struct, or null for a primitive
+   */
+  private record Field(
+      String name, String access, PrimType prim, String nestedType, String nestedStruct) {
+    String structConstant() {
+      return "k" + StringUtils.capitalize(name) + "Struct";
+    }
+  }
+
+  public StructClassGenerator(ProcessingEnvironment processingEnv) {
+    this.m_processingEnv = processingEnv;
+  }
+
+  /**
+   * Gets the simple name of the struct class generated for a type. Names of nested types are joined
+   * with underscores, e.g. {@code Outer_InnerStruct}.
+   *
+   * @param type the annotated type
+   * @return the simple name of the generated struct class
+   */
+  public static String structClassName(TypeElement type) {
+    StringBuilder name = new StringBuilder(type.getSimpleName());
+    Element enclosing = type.getEnclosingElement();
+    while (enclosing instanceof TypeElement enclosingType) {
+      name.insert(0, enclosingType.getSimpleName() + "_");
+      enclosing = enclosingType.getEnclosingElement();
+    }
+    return name.append("Struct").toString();
+  }
+
+  /**
+   * Writes the struct class for an annotated record.
+   *
+   * @param record the record type
+   */
+  public void writeRecordStruct(TypeElement record) {
+    if (!checkAccessible(record)) {
+      return;
+    }
+
+    List<Field> fields = new ArrayList<>();
+    boolean failed = false;
+    for (var component : record.getRecordComponents()) {
+      String name = component.getSimpleName().toString();
+      Field field = toField(record, name, "value." + name + "()", component.asType(), component);
+      if (field == null) {
+        failed = true;
+      } else {
+        fields.add(field);
+      }
+    }
+    if (failed) {
+      return;
+    }
+
+    String typeName = record.getQualifiedName().toString();
+    String args =
+        fields.stream().map(StructClassGenerator::unpackExpr).collect(Collectors.joining(", "));
+    writeStruct(
+        record, fields, "", List.of(), List.of("return new " + typeName + "(" + args + ");"));
+  }
+
+  /**
+   * Writes the struct class for an annotated enum.
+   *
+   * @param enumType the enum type
+   */
+  public void writeEnumStruct(TypeElement enumType) {
+    if (!checkAccessible(enumType)) {
+      return;
+    }
+
+    List<String> variants = new ArrayList<>();
+    List<Field> fields = new ArrayList<>();
+    boolean failed = false;
+    for (var element : enumType.getEnclosedElements()) {
+      if (element.getKind() == ElementKind.ENUM_CONSTANT) {
+        variants.add(element.getSimpleName() + "=" + variants.size());
+      } else if (element.getKind() == ElementKind.FIELD
+          && !element.getModifiers().contains(Modifier.STATIC)) {
+        String name = element.getSimpleName().toString();
+        if (element.getModifiers().contains(Modifier.PRIVATE)) {
+          m_processingEnv
+              .getMessager()
+              .printMessage(
+                  Diagnostic.Kind.ERROR,
+                  "[STRUCT] Enum fields must not be private to generate a struct",
+                  element);
+          failed = true;
+          continue;
+        }
+        Field field = toField(enumType, name, "value." + name, element.asType(), element);
+        if (field == null) {
+          failed = true;
+        } else {
+          fields.add(field);
+        }
+      }
+    }
+    if (variants.isEmpty()) {
+      m_processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.ERROR,
+              "[STRUCT] Enum has no constants to generate a struct",
+              enumType);
+      return;
+    }
+    if (failed) {
+      return;
+    }
+
+    String typeName = enumType.getQualifiedName().toString();
+    writeStruct(
+        enumType,
+        fields,
+        "enum {" + String.join(",", variants) + "} int8 variant;",
+        List.of("private static final " + typeName + "[] kValues = " + typeName + ".values();"),
+        List.of(
+            "int ordinal = bb.get();",
+            "bb.position(bb.position() + kSize - 1);",
+            "return ordinal >= 0 && ordinal < kValues.length ? kValues[ordinal] : null;"));
+  }
+
+  private boolean checkAccessible(TypeElement type) {
+    for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+      if (e.getModifiers().contains(Modifier.PRIVATE)) {
+        m_processingEnv
+            .getMessager()
+            .printMessage(
+                Diagnostic.Kind.ERROR,
+                "[STRUCT] Types must not be private (or nested in a private type) to generate a"
+                    + " struct",
+                type);
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Field toField(
+      TypeElement owner, String name, String access, TypeMirror type, Element element) {
+    PrimType prim = primType(type);
+    if (prim != null) {
+      return new Field(name, access, prim, null, null);
+    }
+
+    if (type instanceof DeclaredType declared
+        && declared.asElement() instanceof TypeElement typeElement) {
+      String typeName = typeElement.getQualifiedName().toString();
+      if (hasStructField(typeElement)) {
+        return new Field(name, access, null, typeName, typeName + ".struct");
+      }
+      if (typeElement.getAnnotationMirrors().stream()
+          .anyMatch(
+              a -> StructProcessor.kGenerateStructFqn.equals(a.getAnnotationType().toString()))) {
+        String pkg =
+            m_processingEnv
+                .getElementUtils()
+                .getPackageOf(typeElement)
+                .getQualifiedName()
+                .toString();
+        String structName = structClassName(typeElement);
+        return new Field(
+            name,
+            access,
+            null,
+            typeName,
+            "new " + (pkg.isEmpty() ? "" : pkg + ".") + structName + "()");
+      }
+    }
+
+    m_processingEnv
+        .getMessager()
+        .printMessage(
+            Diagnostic.Kind.ERROR,
+            "[STRUCT] Could not structify "
+                + owner.getSimpleName()
+                + "#"
+                + name
+                + ": type "
+                + type
+                + " is not a primitive and has no struct",
+            element);
+    return null;
+  }
+
+  private PrimType primType(TypeMirror type) {
+    TypeKind kind = type.getKind();
+    if (kind == TypeKind.DECLARED) {
+      // boxed primitives are supported as well
+      try {
+        kind = m_processingEnv.getTypeUtils().unboxedType(type).getKind();
+      } catch (IllegalArgumentException e) {
+        return null;
+      }
+    }
+    return switch (kind) {
+      case INT -> new PrimType("int32", 4, "bb.getInt()", "bb.putInt(%s)");
+      case DOUBLE -> new PrimType("float64", 8, "bb.getDouble()", "bb.putDouble(%s)");
+      case FLOAT -> new PrimType("float32", 4, "bb.getFloat()", "bb.putFloat(%s)");
+      case BOOLEAN -> new PrimType("bool", 1, "bb.get() != 0", "bb.put((byte) (%s ? 1 : 0))");
+      case CHAR -> new PrimType("char", 2, "bb.getChar()", "bb.putChar(%s)");
+      case BYTE -> new PrimType("uint8", 1, "bb.get()", "bb.put(%s)");
+      case SHORT -> new PrimType("int16", 2, "bb.getShort()", "bb.putShort(%s)");
+      case LONG -> new PrimType("int64", 8, "bb.getLong()", "bb.putLong(%s)");
+      default -> null;
+    };
+  }
+
+  // true if the type has a public static "struct" field holding a Struct
+  private boolean hasStructField(TypeElement type) {
+    var types = m_processingEnv.getTypeUtils();
+    var structType =
+        types.erasure(m_processingEnv.getElementUtils().getTypeElement(kStructFqn).asType());
+    for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      if (field.getSimpleName().contentEquals("struct")
+          && field.getModifiers().contains(Modifier.PUBLIC)
+          && field.getModifiers().contains(Modifier.STATIC)
+          && types.isAssignable(types.erasure(field.asType()), structType)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String unpackExpr(Field field) {
+    if (field.prim() != null) {
+      return field.prim().getter();
+    }
+    return field.structConstant() + ".unpack(bb)";
+  }
+
+  @SuppressWarnings("checkstyle:LineLength") // Source code templates exceed the line length limit
+  private void writeStruct(
+      TypeElement type,
+      List<Field> fields,
+      String schemaPrefix,
+      List<String> extraConstants,
+      List<String> unpackBody) {
+    String packageName =
+        m_processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    String className = structClassName(type);
+    String typeName = type.getQualifiedName().toString();
+
+    // size and schema are constant expressions, except for the parts that come from nested structs
+    int primSize = schemaPrefix.isEmpty() ? 0 : 1;
+    List<String> sizeTerms = new ArrayList<>();
+    StringBuilder schema = new StringBuilder("\"" + schemaPrefix);
+    for (Field field : fields) {
+      if (field.prim() != null) {
+        primSize += field.prim().size();
+        schema.append(field.prim().schemaType()).append(' ').append(field.name()).append(';');
+      } else {
+        sizeTerms.add(field.structConstant() + ".getSize()");
+        schema
+            .append("\" + ")
+            .append(field.structConstant())
+            .append(".getTypeName() + \" ")
+            .append(field.name())
+            .append(';');
+      }
+    }
+    schema.append('"');
+    sizeTerms.add(0, Integer.toString(primSize));
+    String schemaExpr = schema.toString().replace(" + \"\"", "").replace("\"\" + ", "");
+
+    try {
+      String fqn = packageName.isEmpty() ? className : packageName + "." + className;
+      var file = m_processingEnv.getFiler().createSourceFile(fqn, type);
+
+      try (var out = new PrintWriter(file.openWriter())) {
+        if (!packageName.isEmpty()) {
+          out.println("package " + packageName + ";");
+          out.println();
+        }
+
+        out.println("import edu.wpi.first.util.struct.Struct;");
+        out.println("import java.nio.ByteBuffer;");
+        out.println();
+
+        out.println("public final class " + className + " implements Struct<" + typeName + "> {");
+        for (Field field : fields) {
+          if (field.prim() == null) {
+            out.println(
+                "  private static final Struct<"
+                    + field.nestedType()
+                    + "> "
+                    + field.structConstant()
+                    + " = "
+                    + field.nestedStruct()
+                    + ";");
+          }
+        }
+        for (String constant : extraConstants) {
+          out.println("  " + constant);
+        }
+        out.println("  private static final int kSize = " + String.join(" + ", sizeTerms) + ";");
+        out.println("  private static final String kSchema = " + schemaExpr + ";");
+        out.println();
+
+        out.println("  @Override");
+        out.println("  public Class<" + typeName + "> getTypeClass() {");
+        out.println("    return " + typeName + ".class;");
+        out.println("  }");
+        out.println();
+
+        out.println("  @Override");
+        out.println("  public String getTypeName() {");
+        out.println("    return \"" + type.getSimpleName() + "\";");
+        out.println("  }");
+        out.println();
+
+        out.println("  @Override");
+        out.println("  public String getSchema() {");
+        out.println("    return kSchema;");
+        out.println("  }");
+        out.println();
+
+        out.println("  @Override");
+        out.println("  public int getSize() {");
+        out.println("    return kSize;");
+        out.println("  }");
+        out.println();
+
+        List<String> nested =
+            fields.stream().filter(f -> f.prim() == null).map(Field::structConstant).toList();
+        if (!nested.isEmpty()) {
+          out.println("  @Override");
+          out.println("  public Struct<?>[] getNested() {");
+          out.println("    return new Struct<?>[] {" + String.join(", ", nested) + "};");
+          out.println("  }");
+          out.println();
+        }
+
+        out.println("  @Override");
+        out.println("  public void pack(ByteBuffer bb, " + typeName + " value) {");
+        if (!schemaPrefix.isEmpty()) {
+          out.println("    bb.put((byte) value.ordinal());");
+        }
+        for (Field field : fields) {
+          if (field.prim() != null) {
+            out.println("    " + field.prim().putter().formatted(field.access()) + ";");
+          } else {
+            out.println("    " + field.structConstant() + ".pack(bb, " + field.access() + ");");
+          }
+        }
+        out.println("  }");
+        out.println();
+
+        out.println("  @Override");
+        out.println("  public " + typeName + " unpack(ByteBuffer bb) {");
+        for (String line : unpackBody) {
+          out.println("    " + line);
+        }
+        out.println("  }");
+        out.println();
+
+        out.println("  @Override");
+        out.println("  public boolean isImmutable() {");
+        out.println("    return true;");
+        out.println("  }");
+        out.println("}");
+      }
+    } catch (IOException e) {
+      m_processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.ERROR,
+              "[STRUCT] Could not write struct file: " + e.getMessage(),
+              type);
+    }
+  }
+}
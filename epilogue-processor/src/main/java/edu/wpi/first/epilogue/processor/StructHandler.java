@@ -38,10 +38,10 @@ public class StructHandler extends ElementHandler {
   }
 
   @Override
-  public String logInvocation(Element element) {
-    return "backend.log(\""
-        + loggedName(element)
-        + "\", "
+  public String logInvocation(Element element, String handle) {
+    return "backend.log("
+        + handle
+        + ", "
         + elementAccess(element)
         + ", "
         + structAccess(dataType(element))
@@ -0,0 +1,53 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.epilogue.processor;
+
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates {@code Struct} implementations at compile time for records and enums annotated with
+ * {@code @GenerateStruct}, so robot programs do not need to build them with reflection on startup.
+ */
+@SupportedAnnotationTypes(StructProcessor.kGenerateStructFqn)
+@SupportedSourceVersion(SourceVersion.RELEASE_17)
+public class StructProcessor extends AbstractProcessor {
+  static final String kGenerateStructFqn = "edu.wpi.first.util.struct.GenerateStruct";
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (annotations.isEmpty()) {
+      // Nothing to do, don't claim
+      return false;
+    }
+
+    var generator = new StructClassGenerator(processingEnv);
+    for (TypeElement annotation : annotations) {
+      for (var element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        if (element.getKind() == ElementKind.RECORD) {
+          generator.writeRecordStruct((TypeElement) element);
+        } else if (element.getKind() == ElementKind.ENUM) {
+          generator.writeEnumStruct((TypeElement) element);
+        } else {
+          processingEnv
+              .getMessager()
+              .printMessage(
+                  Diagnostic.Kind.ERROR,
+                  "[STRUCT] @GenerateStruct can only be used on records and enums",
+                  element);
+        }
+      }
+    }
+
+    return false;
+  }
+}
@@ -42,8 +42,8 @@ public class SupplierHandler extends ElementHandler {
   }
 
   @Override
-  public String logInvocation(Element element) {
-    return "backend.log(\"" + loggedName(element) + "\", " + elementAccess(element) + ")";
+  public String logInvocation(Element element, String handle) {
+    return "backend.log(" + handle + ", " + elementAccess(element) + ")";
   }
 
   @Override
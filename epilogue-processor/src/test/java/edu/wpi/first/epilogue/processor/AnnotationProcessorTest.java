@@ -45,13 +45,14 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "x");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("x", object.x);
+            backend.log(handles[0], object.x);
           }
         }
       }
@@ -83,14 +84,15 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "x", "y");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("x", object.x);
-            backend.log("y", object.y);
+            backend.log(handles[0], object.x);
+            backend.log(handles[1], object.y);
           }
         }
       }
@@ -122,14 +124,15 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "getValue", "getName");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("getValue", object.getValue());
-            backend.log("getName", object.getName());
+            backend.log(handles[0], object.getValue());
+            backend.log(handles[1], object.getName());
           }
         }
       }
@@ -185,14 +188,15 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "x", "y");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("x", object.x);
-            backend.log("y", object.y);
+            backend.log(handles[0], object.x);
+            backend.log(handles[1], object.y);
           }
         }
       }
@@ -237,13 +241,14 @@ class AnnotationProcessorTest {
         }
 
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "x");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("x", ((double) $x.get(object)));
+            backend.log(handles[0], ((double) $x.get(object)));
           }
         }
       }
@@ -290,13 +295,14 @@ class AnnotationProcessorTest {
       }
 
       public ExampleLogger() {
-        super(Example.class);
+        super(Example.class, "x");
       }
 
       @Override
       public void update(EpilogueBackend backend, Example object) {
+        var handles = getHandles(backend);
         if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-          backend.log("x", ((java.util.function.DoubleSupplier) $x.get(object)).getAsDouble());
+          backend.log(handles[0], ((java.util.function.DoubleSupplier) $x.get(object)).getAsDouble());
         }
       }
     }
@@ -341,13 +347,14 @@ class AnnotationProcessorTest {
         }
 
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "chooser");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            logSendable(backend.getNested("chooser"), ((edu.wpi.first.wpilibj.smartdashboard.SendableChooser<java.lang.String>) $chooser.get(object)));
+            logSendable(backend.getNested(handles[0]), ((edu.wpi.first.wpilibj.smartdashboard.SendableChooser<java.lang.String>) $chooser.get(object)));
           }
         }
       }
@@ -381,19 +388,20 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "low", "medium", "high");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("low", object.low);
+            backend.log(handles[0], object.low);
           }
           if (Epilogue.shouldLog(Logged.Importance.INFO)) {
-            backend.log("medium", object.medium);
+            backend.log(handles[1], object.medium);
           }
           if (Epilogue.shouldLog(Logged.Importance.CRITICAL)) {
-            backend.log("high", object.high);
+            backend.log(handles[2], object.high);
           }
         }
       }
@@ -429,13 +437,14 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "enumValue");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("enumValue", object.enumValue);
+            backend.log(handles[0], object.enumValue);
           }
         }
       }
@@ -473,16 +482,17 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "x", "arr1", "getX", "getArr1");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("x", object.x);
-            backend.log("arr1", object.arr1);
-            backend.log("getX", object.getX());
-            backend.log("getArr1", object.getArr1());
+            backend.log(handles[0], object.x);
+            backend.log(handles[1], object.arr1);
+            backend.log(handles[2], object.getX());
+            backend.log(handles[3], object.getArr1());
           }
         }
       }
@@ -520,14 +530,15 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "x", "getX");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("x", object.x);
-            backend.log("getX", object.getX());
+            backend.log(handles[0], object.x);
+            backend.log(handles[1], object.getX());
           }
         }
       }
@@ -565,14 +576,15 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "x", "getX");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("x", object.x);
-            backend.log("getX", object.getX());
+            backend.log(handles[0], object.x);
+            backend.log(handles[1], object.getX());
           }
         }
       }
@@ -610,16 +622,17 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "x", "arr1", "getX", "getArr1");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("x", object.x);
-            backend.log("arr1", object.arr1);
-            backend.log("getX", object.getX());
-            backend.log("getArr1", object.getArr1());
+            backend.log(handles[0], object.x);
+            backend.log(handles[1], object.arr1);
+            backend.log(handles[2], object.getX());
+            backend.log(handles[3], object.getArr1());
           }
         }
       }
@@ -657,16 +670,17 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "x", "arr1", "getX", "getArr1");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("x", object.x);
-            backend.log("arr1", object.arr1);
-            backend.log("getX", object.getX());
-            backend.log("getArr1", object.getArr1());
+            backend.log(handles[0], object.x);
+            backend.log(handles[1], object.arr1);
+            backend.log(handles[2], object.getX());
+            backend.log(handles[3], object.getArr1());
           }
         }
       }
@@ -704,16 +718,17 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "x", "arr1", "getX", "getArr1");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("x", object.x);
-            backend.log("arr1", object.arr1);
-            backend.log("getX", object.getX());
-            backend.log("getArr1", object.getArr1());
+            backend.log(handles[0], object.x);
+            backend.log(handles[1], object.arr1);
+            backend.log(handles[2], object.getX());
+            backend.log(handles[3], object.getArr1());
           }
         }
       }
@@ -754,16 +769,17 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "x", "arr1", "getX", "getArr1");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("x", object.x);
-            backend.log("arr1", object.arr1);
-            backend.log("getX", object.getX());
-            backend.log("getArr1", object.getArr1());
+            backend.log(handles[0], object.x);
+            backend.log(handles[1], object.arr1);
+            backend.log(handles[2], object.getX());
+            backend.log(handles[3], object.getArr1());
           }
         }
       }
@@ -803,16 +819,17 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "x", "arr1", "getX", "getArr1");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("x", object.x);
-            backend.log("arr1", object.arr1);
-            backend.log("getX", object.getX());
-            backend.log("getArr1", object.getArr1());
+            backend.log(handles[0], object.x);
+            backend.log(handles[1], object.arr1);
+            backend.log(handles[2], object.getX());
+            backend.log(handles[3], object.getArr1());
           }
         }
       }
@@ -853,17 +870,18 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "x", "arr1", "list", "getX", "getArr1");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("x", object.x);
-            backend.log("arr1", object.arr1);
-            backend.log("list", object.list);
-            backend.log("getX", object.getX());
-            backend.log("getArr1", object.getArr1());
+            backend.log(handles[0], object.x);
+            backend.log(handles[1], object.arr1);
+            backend.log(handles[2], object.list);
+            backend.log(handles[3], object.getX());
+            backend.log(handles[4], object.getArr1());
           }
         }
       }
@@ -912,17 +930,18 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "x", "arr1", "list", "getX", "getArr1");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("x", object.x, edu.wpi.first.epilogue.Example.Structable.struct);
-            backend.log("arr1", object.arr1, edu.wpi.first.epilogue.Example.Structable.struct);
-            backend.log("list", object.list, edu.wpi.first.epilogue.Example.Structable.struct);
-            backend.log("getX", object.getX(), edu.wpi.first.epilogue.Example.Structable.struct);
-            backend.log("getArr1", object.getArr1(), edu.wpi.first.epilogue.Example.Structable.struct);
+            backend.log(handles[0], object.x, edu.wpi.first.epilogue.Example.Structable.struct);
+            backend.log(handles[1], object.arr1, edu.wpi.first.epilogue.Example.Structable.struct);
+            backend.log(handles[2], object.list, edu.wpi.first.epilogue.Example.Structable.struct);
+            backend.log(handles[3], object.getX(), edu.wpi.first.epilogue.Example.Structable.struct);
+            backend.log(handles[4], object.getArr1(), edu.wpi.first.epilogue.Example.Structable.struct);
           }
         }
       }
@@ -963,16 +982,17 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "list", "set", "queue", "stack");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("list", object.list);
-            backend.log("set", object.set);
-            backend.log("queue", object.queue);
-            backend.log("stack", object.stack);
+            backend.log(handles[0], object.list);
+            backend.log(handles[1], object.set);
+            backend.log(handles[2], object.queue);
+            backend.log(handles[3], object.stack);
           }
         }
       }
@@ -1144,14 +1164,15 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "value", "upcast");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            backend.log("value", object.value);
-            backend.log("upcast", object.upcast());
+            backend.log(handles[0], object.value);
+            backend.log(handles[1], object.upcast());
           }
         }
       }
@@ -1196,14 +1217,15 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "child", "io");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            Epilogue.childLogger.tryUpdate(backend.getNested("child"), object.child, Epilogue.getConfig().errorHandler);
-            Epilogue.ioLogger.tryUpdate(backend.getNested("io"), object.io, Epilogue.getConfig().errorHandler);
+            Epilogue.childLogger.tryUpdate(backend.getNested(handles[0]), object.child, Epilogue.getConfig().errorHandler);
+            Epilogue.ioLogger.tryUpdate(backend.getNested(handles[1]), object.io, Epilogue.getConfig().errorHandler);
           }
         }
       }
@@ -1283,35 +1305,36 @@ class AnnotationProcessorTest {
 
         public class ExampleLogger extends ClassSpecificLogger<Example> {
           public ExampleLogger() {
-            super(Example.class);
+            super(Example.class, "asInterface", "firstImpl", "secondImpl", "complex");
           }
 
           @Override
           public void update(EpilogueBackend backend, Example object) {
+            var handles = getHandles(backend);
             if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
               var $$asInterface = object.asInterface;
               if ($$asInterface instanceof edu.wpi.first.epilogue.Impl1 edu_wpi_first_epilogue_Impl1) {
-                Epilogue.impl1Logger.tryUpdate(backend.getNested("asInterface"), edu_wpi_first_epilogue_Impl1, Epilogue.getConfig().errorHandler);
+                Epilogue.impl1Logger.tryUpdate(backend.getNested(handles[0]), edu_wpi_first_epilogue_Impl1, Epilogue.getConfig().errorHandler);
               } else if ($$asInterface instanceof edu.wpi.first.epilogue.Impl2 edu_wpi_first_epilogue_Impl2) {
-                Epilogue.impl2Logger.tryUpdate(backend.getNested("asInterface"), edu_wpi_first_epilogue_Impl2, Epilogue.getConfig().errorHandler);
+                Epilogue.impl2Logger.tryUpdate(backend.getNested(handles[0]), edu_wpi_first_epilogue_Impl2, Epilogue.getConfig().errorHandler);
               } else {
                 // Base type edu.wpi.first.epilogue.IFace
-                Epilogue.iFaceLogger.tryUpdate(backend.getNested("asInterface"), $$asInterface, Epilogue.getConfig().errorHandler);
+                Epilogue.iFaceLogger.tryUpdate(backend.getNested(handles[0]), $$asInterface, Epilogue.getConfig().errorHandler);
               };
-              Epilogue.impl1Logger.tryUpdate(backend.getNested("firstImpl"), object.firstImpl, Epilogue.getConfig().errorHandler);
-              Epilogue.impl2Logger.tryUpdate(backend.getNested("secondImpl"), object.secondImpl, Epilogue.getConfig().errorHandler);
+              Epilogue.impl1Logger.tryUpdate(backend.getNested(handles[1]), object.firstImpl, Epilogue.getConfig().errorHandler);
+              Epilogue.impl2Logger.tryUpdate(backend.getNested(handles[2]), object.secondImpl, Epilogue.getConfig().errorHandler);
               var $$complex = object.complex;
               if ($$complex instanceof edu.wpi.first.epilogue.ConcreteLogged edu_wpi_first_epilogue_ConcreteLogged) {
-                Epilogue.concreteLoggedLogger.tryUpdate(backend.getNested("complex"), edu_wpi_first_epilogue_ConcreteLogged, Epilogue.getConfig().errorHandler);
+                Epilogue.concreteLoggedLogger.tryUpdate(backend.getNested(handles[3]), edu_wpi_first_epilogue_ConcreteLogged, Epilogue.getConfig().errorHandler);
               } else if ($$complex instanceof edu.wpi.first.epilogue.I4 edu_wpi_first_epilogue_I4) {
-                Epilogue.i4Logger.tryUpdate(backend.getNested("complex"), edu_wpi_first_epilogue_I4, Epilogue.getConfig().errorHandler);
+                Epilogue.i4Logger.tryUpdate(backend.getNested(handles[3]), edu_wpi_first_epilogue_I4, Epilogue.getConfig().errorHandler);
               } else if ($$complex instanceof edu.wpi.first.epilogue.I2 edu_wpi_first_epilogue_I2) {
-                Epilogue.i2Logger.tryUpdate(backend.getNested("complex"), edu_wpi_first_epilogue_I2, Epilogue.getConfig().errorHandler);
+                Epilogue.i2Logger.tryUpdate(backend.getNested(handles[3]), edu_wpi_first_epilogue_I2, Epilogue.getConfig().errorHandler);
               } else if ($$complex instanceof edu.wpi.first.epilogue.I3 edu_wpi_first_epilogue_I3) {
-                Epilogue.i3Logger.tryUpdate(backend.getNested("complex"), edu_wpi_first_epilogue_I3, Epilogue.getConfig().errorHandler);
+                Epilogue.i3Logger.tryUpdate(backend.getNested(handles[3]), edu_wpi_first_epilogue_I3, Epilogue.getConfig().errorHandler);
               } else {
                 // Base type edu.wpi.first.epilogue.I
-                Epilogue.iLogger.tryUpdate(backend.getNested("complex"), $$complex, Epilogue.getConfig().errorHandler);
+                Epilogue.iLogger.tryUpdate(backend.getNested(handles[3]), $$complex, Epilogue.getConfig().errorHandler);
               };
             }
           }
@@ -1346,13 +1369,14 @@ class AnnotationProcessorTest {
 
         public class Outer$ExampleLogger extends ClassSpecificLogger<Outer.Example> {
           public Outer$ExampleLogger() {
-            super(Outer.Example.class);
+            super(Outer.Example.class, "x");
           }
 
           @Override
           public void update(EpilogueBackend backend, Outer.Example object) {
+            var handles = getHandles(backend);
             if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-              backend.log("x", object.x);
+              backend.log(handles[0], object.x);
             }
           }
         }
@@ -1392,13 +1416,14 @@ class AnnotationProcessorTest {
 
         public class A$B$C$D$ExampleLogger extends ClassSpecificLogger<A.B.C.D.Example> {
           public A$B$C$D$ExampleLogger() {
-            super(A.B.C.D.Example.class);
+            super(A.B.C.D.Example.class, "x");
           }
 
           @Override
           public void update(EpilogueBackend backend, A.B.C.D.Example object) {
+            var handles = getHandles(backend);
             if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-              backend.log("x", object.x);
+              backend.log(handles[0], object.x);
             }
           }
         }
@@ -1432,13 +1457,14 @@ class AnnotationProcessorTest {
 
         public class CustomExampleLogger extends ClassSpecificLogger<Outer.Example> {
           public CustomExampleLogger() {
-            super(Outer.Example.class);
+            super(Outer.Example.class, "x");
           }
 
           @Override
           public void update(EpilogueBackend backend, Outer.Example object) {
+            var handles = getHandles(backend);
             if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-              backend.log("x", object.x);
+              backend.log(handles[0], object.x);
             }
           }
         }
@@ -1485,20 +1511,21 @@ class AnnotationProcessorTest {
 
         public class ExampleLogger extends ClassSpecificLogger<Example> {
           public ExampleLogger() {
-            super(Example.class);
+            super(Example.class, "theField");
           }
 
           @Override
           public void update(EpilogueBackend backend, Example object) {
+            var handles = getHandles(backend);
             if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
               var $$theField = object.theField;
               if ($$theField instanceof edu.wpi.first.epilogue.Base edu_wpi_first_epilogue_Base) {
-                Epilogue.baseLogger.tryUpdate(backend.getNested("theField"), edu_wpi_first_epilogue_Base, Epilogue.getConfig().errorHandler);
+                Epilogue.baseLogger.tryUpdate(backend.getNested(handles[0]), edu_wpi_first_epilogue_Base, Epilogue.getConfig().errorHandler);
               } else if ($$theField instanceof edu.wpi.first.epilogue.ExtendingInterface edu_wpi_first_epilogue_ExtendingInterface) {
-                Epilogue.extendingInterfaceLogger.tryUpdate(backend.getNested("theField"), edu_wpi_first_epilogue_ExtendingInterface, Epilogue.getConfig().errorHandler);
+                Epilogue.extendingInterfaceLogger.tryUpdate(backend.getNested(handles[0]), edu_wpi_first_epilogue_ExtendingInterface, Epilogue.getConfig().errorHandler);
               } else {
                 // Base type edu.wpi.first.epilogue.I
-                Epilogue.iLogger.tryUpdate(backend.getNested("theField"), $$theField, Epilogue.getConfig().errorHandler);
+                Epilogue.iLogger.tryUpdate(backend.getNested(handles[0]), $$theField, Epilogue.getConfig().errorHandler);
               };
             }
           }
@@ -1550,18 +1577,19 @@ class AnnotationProcessorTest {
           }
 
           public ExampleLogger() {
-            super(Example.class);
+            super(Example.class, "theField");
           }
 
           @Override
           public void update(EpilogueBackend backend, Example object) {
+            var handles = getHandles(backend);
             if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
               var $$theField = ((edu.wpi.first.epilogue.I) $theField.get(object));
               if ($$theField instanceof edu.wpi.first.epilogue.Base edu_wpi_first_epilogue_Base) {
-                Epilogue.baseLogger.tryUpdate(backend.getNested("theField"), edu_wpi_first_epilogue_Base, Epilogue.getConfig().errorHandler);
+                Epilogue.baseLogger.tryUpdate(backend.getNested(handles[0]), edu_wpi_first_epilogue_Base, Epilogue.getConfig().errorHandler);
               } else {
                 // Base type edu.wpi.first.epilogue.I
-                Epilogue.iLogger.tryUpdate(backend.getNested("theField"), $$theField, Epilogue.getConfig().errorHandler);
+                Epilogue.iLogger.tryUpdate(backend.getNested(handles[0]), $$theField, Epilogue.getConfig().errorHandler);
               };
             }
           }
@@ -1597,13 +1625,14 @@ class AnnotationProcessorTest {
 
         public class ExampleLogger extends ClassSpecificLogger<Example> {
           public ExampleLogger() {
-            super(Example.class);
+            super(Example.class, "i");
           }
 
           @Override
           public void update(EpilogueBackend backend, Example object) {
+            var handles = getHandles(backend);
             if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-              Epilogue.implicitLogger.tryUpdate(backend.getNested("i"), object.i, Epilogue.getConfig().errorHandler);
+              Epilogue.implicitLogger.tryUpdate(backend.getNested(handles[0]), object.i, Epilogue.getConfig().errorHandler);
             }
           }
         }
@@ -1651,13 +1680,14 @@ class AnnotationProcessorTest {
 
       public class ExampleLogger extends ClassSpecificLogger<Example> {
         public ExampleLogger() {
-          super(Example.class);
+          super(Example.class, "point");
         }
 
         @Override
         public void update(EpilogueBackend backend, Example object) {
+          var handles = getHandles(backend);
           if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-            Epilogue.customPointLogger.tryUpdate(backend.getNested("point"), object.point, Epilogue.getConfig().errorHandler);
+            Epilogue.customPointLogger.tryUpdate(backend.getNested(handles[0]), object.point, Epilogue.getConfig().errorHandler);
           }
         }
       }
@@ -1706,13 +1736,14 @@ class AnnotationProcessorTest {
 
         public class ExampleLogger extends ClassSpecificLogger<Example> {
           public ExampleLogger() {
-            super(Example.class);
+            super(Example.class, "vec");
           }
 
           @Override
           public void update(EpilogueBackend backend, Example object) {
+            var handles = getHandles(backend);
             if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-              Epilogue.vectorLogger.tryUpdate(backend.getNested("vec"), object.vec, Epilogue.getConfig().errorHandler);
+              Epilogue.vectorLogger.tryUpdate(backend.getNested(handles[0]), object.vec, Epilogue.getConfig().errorHandler);
             }
           }
         }
@@ -1814,14 +1845,15 @@ class AnnotationProcessorTest {
 
         public class ExampleLogger extends ClassSpecificLogger<Example> {
           public ExampleLogger() {
-            super(Example.class);
+            super(Example.class, "x", "y");
           }
 
           @Override
           public void update(EpilogueBackend backend, Example object) {
+            var handles = getHandles(backend);
             if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-              backend.log("x", object.x());
-              backend.log("y", object.y());
+              backend.log(handles[0], object.x());
+              backend.log(handles[1], object.y());
             }
           }
         }
@@ -1902,15 +1934,209 @@ class AnnotationProcessorTest {
 
         public class ExampleLogger extends ClassSpecificLogger<Example> {
           public ExampleLogger() {
-            super(Example.class);
+            super(Example.class, "x", "withANoOpTransform", "withTemp");
+          }
+
+          @Override
+          public void update(EpilogueBackend backend, Example object) {
+            var handles = getHandles(backend);
+            if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
+              backend.log(handles[0], object.x);
+              backend.log(handles[1], object.withANoOpTransform());
+              backend.log(handles[2], object.withTemp());
+            }
+          }
+        }
+        """;
+
+    assertLoggerGenerates(source, expectedRootLogger);
+  }
+
+  @Test
+  void reducedRateLogging() {
+    String source =
+        """
+        package edu.wpi.first.epilogue;
+
+        @Logged(period = 0.1)
+        class Example {
+          double x;
+          @Logged(period = 0.5) double y;
+          @Logged(importance = Logged.Importance.CRITICAL) double z;
+        }
+        """;
+
+    String expectedRootLogger =
+        """
+        package edu.wpi.first.epilogue;
+
+        import edu.wpi.first.epilogue.Logged;
+        import edu.wpi.first.epilogue.Epilogue;
+        import edu.wpi.first.epilogue.logging.ClassSpecificLogger;
+        import edu.wpi.first.epilogue.logging.EpilogueBackend;
+
+        public class ExampleLogger extends ClassSpecificLogger<Example> {
+          public ExampleLogger() {
+            super(Example.class, "x", "y", "z");
+          }
+
+          @Override
+          public void update(EpilogueBackend backend, Example object) {
+            var handles = getHandles(backend);
+            var nextLogTimes = getNextLogTimes(backend);
+            if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
+              if (Epilogue.getConfig().scheduler.isDue(nextLogTimes, 0, 100000000L)) {
+                backend.log(handles[0], object.x);
+              }
+              if (Epilogue.getConfig().scheduler.isDue(nextLogTimes, 1, 500000000L)) {
+                backend.log(handles[1], object.y);
+              }
+            }
+            if (Epilogue.shouldLog(Logged.Importance.CRITICAL)) {
+              if (Epilogue.getConfig().scheduler.isDue(nextLogTimes, 2, 100000000L)) {
+                backend.log(handles[2], object.z);
+              }
+            }
+          }
+        }
+        """;
+
+    assertLoggerGenerates(source, expectedRootLogger);
+  }
+
+  @Test
+  void reducedRateMixedWithEveryCycle() {
+    String source =
+        """
+        package edu.wpi.first.epilogue;
+
+        class Implicit {
+          @Logged double x;
+        }
+
+        @Logged
+        class Example {
+          double a;
+          @Logged(period = 0.02) Implicit i;
+          double b;
+
+          @Logged(period = 0.25)
+          public double getC() {
+            return 0;
+          }
+        }
+        """;
+
+    String expectedRootLogger =
+        """
+        package edu.wpi.first.epilogue;
+
+        import edu.wpi.first.epilogue.Logged;
+        import edu.wpi.first.epilogue.Epilogue;
+        import edu.wpi.first.epilogue.logging.ClassSpecificLogger;
+        import edu.wpi.first.epilogue.logging.EpilogueBackend;
+
+        public class ExampleLogger extends ClassSpecificLogger<Example> {
+          public ExampleLogger() {
+            super(Example.class, "a", "i", "b", "getC");
+          }
+
+          @Override
+          public void update(EpilogueBackend backend, Example object) {
+            var handles = getHandles(backend);
+            var nextLogTimes = getNextLogTimes(backend);
+            if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
+              backend.log(handles[0], object.a);
+              if (Epilogue.getConfig().scheduler.isDue(nextLogTimes, 1, 20000000L)) {
+                Epilogue.implicitLogger.tryUpdate(backend.getNested(handles[1]), object.i, Epilogue.getConfig().errorHandler);
+              }
+              backend.log(handles[2], object.b);
+              if (Epilogue.getConfig().scheduler.isDue(nextLogTimes, 3, 250000000L)) {
+                backend.log(handles[3], object.getC());
+              }
+            }
+          }
+        }
+        """;
+
+    assertLoggerGenerates(source, expectedRootLogger);
+  }
+
+  @Test
+  void everyCycleLoggingHasNoSchedulerGuard() {
+    String source =
+        """
+        package edu.wpi.first.epilogue;
+
+        @Logged(period = 0)
+        class Example {
+          double x;
+        }
+        """;
+
+    String expectedRootLogger =
+        """
+        package edu.wpi.first.epilogue;
+
+        import edu.wpi.first.epilogue.Logged;
+        import edu.wpi.first.epilogue.Epilogue;
+        import edu.wpi.first.epilogue.logging.ClassSpecificLogger;
+        import edu.wpi.first.epilogue.logging.EpilogueBackend;
+
+        public class ExampleLogger extends ClassSpecificLogger<Example> {
+          public ExampleLogger() {
+            super(Example.class, "x");
+          }
+
+          @Override
+          public void update(EpilogueBackend backend, Example object) {
+            var handles = getHandles(backend);
+            if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
+              backend.log(handles[0], object.x);
+            }
+          }
+        }
+        """;
+
+    assertLoggerGenerates(source, expectedRootLogger);
+  }
+
+  @Test
+  void explicitZeroPeriodOverridesClassPeriod() {
+    String source =
+        """
+        package edu.wpi.first.epilogue;
+
+        @Logged(period = 0.1)
+        class Example {
+          double x;
+          @Logged(period = 0) double y;
+        }
+        """;
+
+    String expectedRootLogger =
+        """
+        package edu.wpi.first.epilogue;
+
+        import edu.wpi.first.epilogue.Logged;
+        import edu.wpi.first.epilogue.Epilogue;
+        import edu.wpi.first.epilogue.logging.ClassSpecificLogger;
+        import edu.wpi.first.epilogue.logging.EpilogueBackend;
+
+        public class ExampleLogger extends ClassSpecificLogger<Example> {
+          public ExampleLogger() {
+            super(Example.class, "x", "y");
           }
 
           @Override
           public void update(EpilogueBackend backend, Example object) {
+            var handles = getHandles(backend);
+            var nextLogTimes = getNextLogTimes(backend);
             if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-              backend.log("x", object.x);
-              backend.log("withANoOpTransform", object.withANoOpTransform());
-              backend.log("withTemp", object.withTemp());
+              if (Epilogue.getConfig().scheduler.isDue(nextLogTimes, 0, 100000000L)) {
+                backend.log(handles[0], object.x);
+              }
+              backend.log(handles[1], object.y);
             }
           }
         }
@@ -1919,6 +2145,29 @@ class AnnotationProcessorTest {
     assertLoggerGenerates(source, expectedRootLogger);
   }
 
+  @Test
+  void errorsOnNegativePeriod() {
+    String source =
+        """
+        package edu.wpi.first.epilogue;
+
+        @Logged
+        class Example {
+          @Logged(period = -1) double x;
+        }
+        """;
+
+    Compilation compilation =
+        javac()
+            .withProcessors(new AnnotationProcessor())
+            .compile(JavaFileObjects.forSourceString("edu.wpi.first.epilogue.Example", source));
+
+    assertThat(compilation).failed();
+    assertThat(compilation).hadErrorCount(1);
+    assertCompilationError(
+        "[EPILOGUE] Logging period cannot be negative", 5, 31, compilation.errors().get(0));
+  }
+
   @Test
   void configuredDefaultNaming() {
     String source =
@@ -1954,18 +2203,19 @@ class AnnotationProcessorTest {
 
         public class ExampleLogger extends ClassSpecificLogger<Example> {
           public ExampleLogger() {
-            super(Example.class);
+            super(Example.class, "Member Prefix", "Constant Prefix", "Other Constant Prefix", "Other Prefix", "The Getter Method", "optedOut");
           }
 
           @Override
           public void update(EpilogueBackend backend, Example object) {
+            var handles = getHandles(backend);
             if (Epilogue.shouldLog(Logged.Importance.DEBUG)) {
-              backend.log("Member Prefix", object.m_memberPrefix);
-              backend.log("Constant Prefix", object.kConstantPrefix);
-              backend.log("Other Constant Prefix", object.k_otherConstantPrefix);
-              backend.log("Other Prefix", object.s_otherPrefix);
-              backend.log("The Getter Method", object.getTheGetterMethod());
-              backend.log("optedOut", object.optedOut());
+              backend.log(handles[0], object.m_memberPrefix);
+              backend.log(handles[1], object.kConstantPrefix);
+              backend.log(handles[2], object.k_otherConstantPrefix);
+              backend.log(handles[3], object.s_otherPrefix);
+              backend.log(handles[4], object.getTheGetterMethod());
+              backend.log(handles[5], object.optedOut());
             }
           }
         }
@@ -185,8 +185,15 @@ class EpilogueGeneratorTest {
            */
           public static void update(edu.wpi.first.epilogue.Example robot) {
             long start = System.nanoTime();
-            exampleLogger.tryUpdate(config.backend.getNested(config.root), robot, config.errorHandler);
-            config.backend.log(\"Epilogue/Stats/Last Run\", (System.nanoTime() - start) / 1e6);
+            config.scheduler.startCycle(config.loggingBudget);
+            var backend = config.getLoggingBackend();
+            exampleLogger.tryUpdate(backend.getNested(config.root), robot, config.errorHandler);
+            backend.log(\"Epilogue/Stats/Last Run\", (System.nanoTime() - start) / 1e6);
+            backend.log(\"Epilogue/Stats/Deferred\", config.scheduler.getDeferredCount());
+            if (backend instanceof edu.wpi.first.epilogue.logging.AsyncBackend async) {
+              backend.log(\"Epilogue/Stats/Dropped\", async.getDroppedCount());
+              backend.log(\"Epilogue/Stats/High Water Mark\", async.getHighWaterMark());
+            }
           }
 
           /**
@@ -275,8 +282,15 @@ class EpilogueGeneratorTest {
            */
           public static void update(edu.wpi.first.epilogue.AlphaBot robot) {
             long start = System.nanoTime();
-            alphaBotLogger.tryUpdate(config.backend.getNested(config.root), robot, config.errorHandler);
-            config.backend.log(\"Epilogue/Stats/Last Run\", (System.nanoTime() - start) / 1e6);
+            config.scheduler.startCycle(config.loggingBudget);
+            var backend = config.getLoggingBackend();
+            alphaBotLogger.tryUpdate(backend.getNested(config.root), robot, config.errorHandler);
+            backend.log(\"Epilogue/Stats/Last Run\", (System.nanoTime() - start) / 1e6);
+            backend.log(\"Epilogue/Stats/Deferred\", config.scheduler.getDeferredCount());
+            if (backend instanceof edu.wpi.first.epilogue.logging.AsyncBackend async) {
+              backend.log(\"Epilogue/Stats/Dropped\", async.getDroppedCount());
+              backend.log(\"Epilogue/Stats/High Water Mark\", async.getHighWaterMark());
+            }
           }
 
           /**
@@ -307,8 +321,15 @@ class EpilogueGeneratorTest {
            */
           public static void update(edu.wpi.first.epilogue.BetaBot robot) {
             long start = System.nanoTime();
-            betaBotLogger.tryUpdate(config.backend.getNested(config.root), robot, config.errorHandler);
-            config.backend.log(\"Epilogue/Stats/Last Run\", (System.nanoTime() - start) / 1e6);
+            config.scheduler.startCycle(config.loggingBudget);
+            var backend = config.getLoggingBackend();
+            betaBotLogger.tryUpdate(backend.getNested(config.root), robot, config.errorHandler);
+            backend.log(\"Epilogue/Stats/Last Run\", (System.nanoTime() - start) / 1e6);
+            backend.log(\"Epilogue/Stats/Deferred\", config.scheduler.getDeferredCount());
+            if (backend instanceof edu.wpi.first.epilogue.logging.AsyncBackend async) {
+              backend.log(\"Epilogue/Stats/Dropped\", async.getDroppedCount());
+              backend.log(\"Epilogue/Stats/High Water Mark\", async.getHighWaterMark());
+            }
           }
 
           /**
@@ -0,0 +1,296 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.epilogue.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static edu.wpi.first.epilogue.processor.CompileTestOptions.kJavaVersionOptions;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("checkstyle:LineLength") // Source code templates exceed the line length limit
+class StructProcessorTest {
+  @Test
+  void record() {
+    String source =
+        """
+      package edu.wpi.first.epilogue;
+
+      import edu.wpi.first.util.struct.GenerateStruct;
+
+      @GenerateStruct
+      record Example(double x, int y, boolean flag) {}
+    """;
+
+    String expectedGeneratedSource =
+        """
+      package edu.wpi.first.epilogue;
+
+      import edu.wpi.first.util.struct.Struct;
+      import java.nio.ByteBuffer;
+
+      public final class ExampleStruct implements Struct<edu.wpi.first.epilogue.Example> {
+        private static final int kSize = 13;
+        private static final String kSchema = "float64 x;int32 y;bool flag;";
+
+        @Override
+        public Class<edu.wpi.first.epilogue.Example> getTypeClass() {
+          return edu.wpi.first.epilogue.Example.class;
+        }
+
+        @Override
+        public String getTypeName() {
+          return "Example";
+        }
+
+        @Override
+        public String getSchema() {
+          return kSchema;
+        }
+
+        @Override
+        public int getSize() {
+          return kSize;
+        }
+
+        @Override
+        public void pack(ByteBuffer bb, edu.wpi.first.epilogue.Example value) {
+          bb.putDouble(value.x());
+          bb.putInt(value.y());
+          bb.put((byte) (value.flag() ? 1 : 0));
+        }
+
+        @Override
+        public edu.wpi.first.epilogue.Example unpack(ByteBuffer bb) {
+          return new edu.wpi.first.epilogue.Example(bb.getDouble(), bb.getInt(), bb.get() != 0);
+        }
+
+        @Override
+        public boolean isImmutable() {
+          return true;
+        }
+      }
+      """;
+
+    assertStructGenerates(source, "ExampleStruct", expectedGeneratedSource);
+  }
+
+  @Test
+  void nestedStructs() {
+    String source =
+        """
+      package edu.wpi.first.epilogue;
+
+      import edu.wpi.first.util.struct.GenerateStruct;
+
+      @GenerateStruct
+      record Example(Inner inner, long count) {
+        @GenerateStruct
+        record Inner(float a, Short b) {}
+      }
+    """;
+
+    String expectedGeneratedSource =
+        """
+      package edu.wpi.first.epilogue;
+
+      import edu.wpi.first.util.struct.Struct;
+      import java.nio.ByteBuffer;
+
+      public final class ExampleStruct implements Struct<edu.wpi.first.epilogue.Example> {
+        private static final Struct<edu.wpi.first.epilogue.Example.Inner> kInnerStruct = new edu.wpi.first.epilogue.Example_InnerStruct();
+        private static final int kSize = 8 + kInnerStruct.getSize();
+        private static final String kSchema = kInnerStruct.getTypeName() + " inner;int64 count;";
+
+        @Override
+        public Class<edu.wpi.first.epilogue.Example> getTypeClass() {
+          return edu.wpi.first.epilogue.Example.class;
+        }
+
+        @Override
+        public String getTypeName() {
+          return "Example";
+        }
+
+        @Override
+        public String getSchema() {
+          return kSchema;
+        }
+
+        @Override
+        public int getSize() {
+          return kSize;
+        }
+
+        @Override
+        public Struct<?>[] getNested() {
+          return new Struct<?>[] {kInnerStruct};
+        }
+
+        @Override
+        public void pack(ByteBuffer bb, edu.wpi.first.epilogue.Example value) {
+          kInnerStruct.pack(bb, value.inner());
+          bb.putLong(value.count());
+        }
+
+        @Override
+        public edu.wpi.first.epilogue.Example unpack(ByteBuffer bb) {
+          return new edu.wpi.first.epilogue.Example(kInnerStruct.unpack(bb), bb.getLong());
+        }
+
+        @Override
+        public boolean isImmutable() {
+          return true;
+        }
+      }
+      """;
+
+    assertStructGenerates(source, "ExampleStruct", expectedGeneratedSource);
+  }
+
+  @Test
+  void enumWithFields() {
+    String source =
+        """
+      package edu.wpi.first.epilogue;
+
+      import edu.wpi.first.util.struct.GenerateStruct;
+
+      @GenerateStruct
+      enum Example {
+        A(1),
+        B(2);
+
+        final int value;
+
+        Example(int value) {
+          this.value = value;
+        }
+      }
+    """;
+
+    String expectedGeneratedSource =
+        """
+      package edu.wpi.first.epilogue;
+
+      import edu.wpi.first.util.struct.Struct;
+      import java.nio.ByteBuffer;
+
+      public final class ExampleStruct implements Struct<edu.wpi.first.epilogue.Example> {
+        private static final edu.wpi.first.epilogue.Example[] kValues = edu.wpi.first.epilogue.Example.values();
+        private static final int kSize = 5;
+        private static final String kSchema = "enum {A=0,B=1} int8 variant;int32 value;";
+
+        @Override
+        public Class<edu.wpi.first.epilogue.Example> getTypeClass() {
+          return edu.wpi.first.epilogue.Example.class;
+        }
+
+        @Override
+        public String getTypeName() {
+          return "Example";
+        }
+
+        @Override
+        public String getSchema() {
+          return kSchema;
+        }
+
+        @Override
+        public int getSize() {
+          return kSize;
+        }
+
+        @Override
+        public void pack(ByteBuffer bb, edu.wpi.first.epilogue.Example value) {
+          bb.put((byte) value.ordinal());
+          bb.putInt(value.value);
+        }
+
+        @Override
+        public edu.wpi.first.epilogue.Example unpack(ByteBuffer bb) {
+          int ordinal = bb.get();
+          bb.position(bb.position() + kSize - 1);
+          return ordinal >= 0 && ordinal < kValues.length ? kValues[ordinal] : null;
+        }
+
+        @Override
+        public boolean isImmutable() {
+          return true;
+        }
+      }
+      """;
+
+    assertStructGenerates(source, "ExampleStruct", expectedGeneratedSource);
+  }
+
+  @Test
+  void unsupportedFieldType() {
+    String source =
+        """
+      package edu.wpi.first.epilogue;
+
+      import edu.wpi.first.util.struct.GenerateStruct;
+
+      @GenerateStruct
+      record Example(double x, String name) {}
+    """;
+
+    Compilation compilation = compile(source);
+    assertThat(compilation).failed();
+    assertThat(compilation)
+        .hadErrorContaining(
+            "[STRUCT] Could not structify Example#name: type java.lang.String is not a primitive"
+                + " and has no struct");
+  }
+
+  @Test
+  void notRecordOrEnum() {
+    String source =
+        """
+      package edu.wpi.first.epilogue;
+
+      import edu.wpi.first.util.struct.GenerateStruct;
+
+      @GenerateStruct
+      class Example {
+        double x;
+      }
+    """;
+
+    Compilation compilation = compile(source);
+    assertThat(compilation).failed();
+    assertThat(compilation)
+        .hadErrorContaining("[STRUCT] @GenerateStruct can only be used on records and enums");
+  }
+
+  private Compilation compile(String source) {
+    return javac()
+        .withOptions(kJavaVersionOptions)
+        .withProcessors(new StructProcessor())
+        .compile(JavaFileObjects.forSourceString("edu.wpi.first.epilogue.Example", source));
+  }
+
+  private void assertStructGenerates(String source, String structName, String structContent) {
+    Compilation compilation = compile(source);
+
+    assertThat(compilation).succeeded();
+    var generatedFile =
+        compilation.generatedSourceFiles().stream()
+            .filter(jfo -> jfo.getName().endsWith("/" + structName + ".java"))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("Struct file was not generated!"));
+    try {
+      var content = generatedFile.getCharContent(false);
+      assertEquals(structContent.replace("\r\n", "\n"), content.toString().replace("\r\n", "\n"));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
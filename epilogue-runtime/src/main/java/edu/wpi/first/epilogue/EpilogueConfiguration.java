@@ -4,7 +4,10 @@
 
 package edu.wpi.first.epilogue;
 
+import edu.wpi.first.epilogue.logging.AsyncBackend;
 import edu.wpi.first.epilogue.logging.EpilogueBackend;
+import edu.wpi.first.epilogue.logging.LazyBackend;
+import edu.wpi.first.epilogue.logging.LogScheduler;
 import edu.wpi.first.epilogue.logging.NTEpilogueBackend;
 import edu.wpi.first.epilogue.logging.errors.ErrorHandler;
 import edu.wpi.first.epilogue.logging.errors.ErrorPrinter;
@@ -54,6 +57,100 @@ public class EpilogueConfiguration {
    */
   public String root = "Robot";
 
+  /**
+   * Whether to only log data when it changes. Defaults to false. When enabled, the backend is
+   * wrapped in a {@link LazyBackend} that remembers the last value logged to each entry and skips
+   * logging values that are unchanged, which keeps bandwidth and log file sizes down for data that
+   * rarely changes.
+   */
+  public boolean logOnlyOnChange = false;
+
+  /**
+   * When {@link #logOnlyOnChange} is enabled, the number of consecutive times an unchanged value is
+   * skipped before it is logged again anyway. Defaults to 0, which never logs unchanged values
+   * again. Setting this periodically refreshes every entry, so that tools which only look at recent
+   * data (or connect partway through a match) still see a value.
+   */
+  public int keyframeInterval = 0;
+
+  /**
+   * The maximum amount of time each update may spend logging before data logged at a reduced rate
+   * with {@link Logged#period() @Logged(period = ...)} is deferred to the next update. Defaults to
+   * null, which does not limit the time spent logging. Data logged every update is never deferred.
+   */
+  public Time loggingBudget;
+
+  /**
+   * The scheduler that decides when data logged at a reduced rate should be logged. This tracks
+   * statistics about the data it has deferred, and should generally not need to be changed.
+   */
+  public LogScheduler scheduler = new LogScheduler();
+
+  /**
+   * Whether to log data on a background thread. Defaults to false. When enabled, the backend is
+   * wrapped in an {@link AsyncBackend}, so logging only copies values into a buffer on the robot's
+   * main thread and the backend does the actual work on a separate thread. The backend should not
+   * be used directly while this is enabled.
+   */
+  public boolean asyncLogging = false;
+
+  /**
+   * When {@link #asyncLogging} is enabled, the number of values that can be waiting to be logged on
+   * the background thread at once. Defaults to 8192. Values logged while the buffer is full are
+   * dropped; the number of dropped values is logged under {@code Epilogue/Stats/Dropped}.
+   */
+  public int asyncCapacity = 8192;
+
+  private EpilogueBackend m_loggingBackend;
+  private EpilogueBackend m_loggingBackendSource;
+  private boolean m_loggingBackendLazy;
+  private int m_loggingBackendKeyframeInterval;
+  private boolean m_loggingBackendAsync;
+  private int m_loggingBackendCapacity;
+
   /** Default constructor. */
   public EpilogueConfiguration() {}
+
+  /**
+   * Gets the backend that loggers should log data to. This is {@link #backend}, wrapped in a {@link
+   * LazyBackend} if {@link #logOnlyOnChange} is enabled and in an {@link AsyncBackend} if {@link
+   * #asyncLogging} is enabled. The same wrapped backend is returned each time as long as none of
+   * those settings are changed, so that it keeps track of the values it has already logged. If they
+   * are changed, any asynchronous backend created for the old settings is closed.
+   *
+   * @return the backend to log to
+   */
+  public EpilogueBackend getLoggingBackend() {
+    boolean lazy = logOnlyOnChange && !(backend instanceof LazyBackend);
+    boolean async = asyncLogging && !(backend instanceof AsyncBackend);
+
+    if (m_loggingBackend != null
+        && m_loggingBackendSource == backend
+        && m_loggingBackendLazy == lazy
+        && m_loggingBackendKeyframeInterval == keyframeInterval
+        && m_loggingBackendAsync == async
+        && m_loggingBackendCapacity == asyncCapacity) {
+      return m_loggingBackend;
+    }
+
+    if (m_loggingBackendAsync && m_loggingBackend instanceof AsyncBackend oldAsyncBackend) {
+      oldAsyncBackend.close();
+    }
+
+    EpilogueBackend loggingBackend = backend;
+    if (lazy) {
+      loggingBackend = new LazyBackend(loggingBackend, keyframeInterval);
+    }
+    if (async) {
+      loggingBackend = new AsyncBackend(loggingBackend, asyncCapacity);
+    }
+
+    m_loggingBackend = loggingBackend;
+    m_loggingBackendSource = backend;
+    m_loggingBackendLazy = lazy;
+    m_loggingBackendKeyframeInterval = keyframeInterval;
+    m_loggingBackendAsync = async;
+    m_loggingBackendCapacity = asyncCapacity;
+    return loggingBackend;
+  }
 }
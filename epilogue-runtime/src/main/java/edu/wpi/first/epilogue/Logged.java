@@ -124,4 +124,22 @@ public @interface Logged {
    *     for all logged fields and methods in an annotated class
    */
   Naming defaultNaming() default Naming.USE_CODE_NAME;
+
+  /**
+   * The period, in seconds, to log the annotated data at. A period of 0 logs the data every time
+   * Epilogue updates. If placed on a class or interface, this will be the default period of all data
+   * within that class; this can be overridden on a per-element basis by annotating fields and
+   * methods with their own {@code @Logged(period = ...)} annotation, including with a period of 0 to
+   * log an element every update. When unset, elements use the period of their class, and classes
+   * log every update. Placing a period on a field or method whose type is itself logged by Epilogue
+   * will log the entire object at that rate.
+   *
+   * <p>Data logged at a reduced rate is subject to the per-cycle {@link
+   * EpilogueConfiguration#loggingBudget logging budget}, which spreads expensive data across
+   * multiple updates instead of logging all of it at once.
+   *
+   * @return the period to log the annotated data at, or the default period for all data in an
+   *     annotated class
+   */
+  double period() default Double.NaN;
 }
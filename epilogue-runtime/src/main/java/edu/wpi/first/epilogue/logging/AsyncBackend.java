@@ -0,0 +1,613 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.epilogue.logging;
+
+import edu.wpi.first.util.struct.Struct;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A backend implementation that moves logging off of the calling thread. Each log call only copies
+ * the logged value into a preallocated ring buffer: primitives are stored as raw bits, arrays are
+ * copied into reusable arrays, and structs are packed into reusable byte buffers. A background
+ * thread then takes values out of the ring and logs them to the wrapped backend, so any encoding,
+ * NetworkTables publishing, and data log appends happen on that thread instead.
+ *
+ * <p>If the ring fills up because the background thread can't keep up, new values are dropped
+ * until space frees up. {@link #getDroppedCount()} and {@link #getHighWaterMark()} can be used to
+ * check if the ring is large enough.
+ *
+ * <p>This backend must only be logged to from one thread at a time, and the wrapped backend must
+ * not be used by anything else while this backend is open. Null references are not logged.
+ */
+public class AsyncBackend implements EpilogueBackend, AutoCloseable {
+  private static final int kInt = 0;
+  private static final int kLong = 1;
+  private static final int kFloat = 2;
+  private static final int kDouble = 3;
+  private static final int kBoolean = 4;
+  private static final int kByteArray = 5;
+  private static final int kIntArray = 6;
+  private static final int kLongArray = 7;
+  private static final int kFloatArray = 8;
+  private static final int kDoubleArray = 9;
+  private static final int kBooleanArray = 10;
+  private static final int kString = 11;
+  private static final int kStringArray = 12;
+  private static final int kStruct = 13;
+  private static final int kStructArray = 14;
+
+  // How long the background thread sleeps for if it isn't woken up by new data
+  private static final long kMaxWaitNanos = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final EpilogueBackend m_backend;
+  private final Slot[] m_ring;
+  private final int m_mask;
+
+  // Only accessed by the logging thread
+  private final Map<String, AsyncHandle> m_handles = new HashMap<>();
+  private final Map<String, NestedBackend> m_nestedBackends = new HashMap<>();
+  private long m_nextWrite;
+
+  // The number of values written into the ring, and the number taken out by the background thread
+  private final AtomicLong m_written = new AtomicLong();
+  private final AtomicLong m_read = new AtomicLong();
+
+  private final AtomicLong m_droppedCount = new AtomicLong();
+  private final AtomicLong m_errorCount = new AtomicLong();
+  private volatile long m_highWaterMark;
+
+  private final Thread m_thread;
+  private volatile boolean m_running = true;
+  private volatile boolean m_waiting;
+
+  /**
+   * A handle that defers resolving the wrapped backend's handle to the background thread, so the
+   * wrapped backend is only ever used from that thread.
+   */
+  private static final class AsyncHandle extends LogHandle {
+    // Only accessed by the background thread
+    private LogHandle m_impl;
+
+    AsyncHandle(AsyncBackend backend, String identifier) {
+      super(backend, identifier);
+    }
+  }
+
+  /** A preallocated slot in the ring. Arrays and buffers are reused when they are large enough. */
+  private static final class Slot {
+    private AsyncHandle m_handle;
+    private int m_type;
+    private long m_bits;
+    private String m_string;
+    private Struct<?> m_struct;
+    private int m_count;
+
+    private byte[] m_bytes = new byte[0];
+    private int[] m_ints = new int[0];
+    private long[] m_longs = new long[0];
+    private float[] m_floats = new float[0];
+    private double[] m_doubles = new double[0];
+    private boolean[] m_booleans = new boolean[0];
+    private String[] m_strings = new String[0];
+    private ByteBuffer m_buffer = ByteBuffer.allocate(0).order(ByteOrder.LITTLE_ENDIAN);
+
+    ByteBuffer buffer(int size) {
+      if (m_buffer.capacity() < size) {
+        m_buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+      }
+      m_buffer.clear();
+      return m_buffer;
+    }
+  }
+
+  /**
+   * Creates a new asynchronous backend and starts its background thread.
+   *
+   * @param backend the backend to log to from the background thread
+   * @param capacity the number of values that can be waiting to be logged at once. Rounded up to
+   *     the next power of two.
+   */
+  public AsyncBackend(EpilogueBackend backend, int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive, but was " + capacity);
+    }
+
+    this.m_backend = backend;
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    m_ring = new Slot[size];
+    for (int i = 0; i < size; i++) {
+      m_ring[i] = new Slot();
+    }
+    m_mask = size - 1;
+
+    m_thread = new Thread(this::threadMain, "Epilogue Async Logger");
+    m_thread.setDaemon(true);
+    m_thread.start();
+  }
+
+  /**
+   * Gets the backend that values are logged to from the background thread.
+   *
+   * @return the wrapped backend
+   */
+  public EpilogueBackend getBackend() {
+    return m_backend;
+  }
+
+  /**
+   * Gets the number of values that can be waiting to be logged at once.
+   *
+   * @return the capacity of the ring
+   */
+  public int getCapacity() {
+    return m_ring.length;
+  }
+
+  /**
+   * Gets the number of values that have been dropped because the ring was full.
+   *
+   * @return the number of dropped values
+   */
+  public long getDroppedCount() {
+    return m_droppedCount.get();
+  }
+
+  /**
+   * Gets the largest number of values that have been waiting to be logged at once. A high water
+   * mark close to the {@link #getCapacity() capacity} means that values are likely to be dropped.
+   *
+   * @return the high water mark
+   */
+  public long getHighWaterMark() {
+    return m_highWaterMark;
+  }
+
+  /**
+   * Gets the number of values that are currently waiting to be logged.
+   *
+   * @return the number of pending values
+   */
+  public long getPendingCount() {
+    return m_written.get() - m_read.get();
+  }
+
+  /**
+   * Gets the number of times the wrapped backend threw an exception while logging a value.
+   *
+   * @return the number of errors
+   */
+  public long getErrorCount() {
+    return m_errorCount.get();
+  }
+
+  /**
+   * Stops the background thread after it has logged every value that is waiting to be logged.
+   * Values logged after the backend is closed are dropped.
+   */
+  @Override
+  public void close() {
+    m_running = false;
+    LockSupport.unpark(m_thread);
+    try {
+      m_thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void threadMain() {
+    while (m_running) {
+      if (drain()) {
+        continue;
+      }
+
+      // Nothing to log. Flag that we're waiting before checking again, so a value written after the
+      // check unparks us instead of waiting for the timeout.
+      m_waiting = true;
+      if (m_running && m_written.get() == m_read.get()) {
+        LockSupport.parkNanos(this, kMaxWaitNanos);
+      }
+      m_waiting = false;
+    }
+
+    drain();
+  }
+
+  /**
+   * Logs every value waiting in the ring to the wrapped backend.
+   *
+   * @return true if any values were logged
+   */
+  private boolean drain() {
+    long read = m_read.get();
+    long written = m_written.get();
+    if (read == written) {
+      return false;
+    }
+
+    for (; read != written; read++) {
+      var slot = m_ring[(int) read & m_mask];
+      try {
+        logSlot(slot);
+      } catch (RuntimeException e) {
+        m_errorCount.incrementAndGet();
+        System.err.println(
+            "[EPILOGUE] An error occurred while asynchronously logging "
+                + slot.m_handle.getIdentifier()
+                + ": "
+                + e.getMessage());
+      }
+      // Don't hold onto references after the value is logged
+      slot.m_string = null;
+      slot.m_struct = null;
+      m_read.set(read + 1);
+    }
+    return true;
+  }
+
+  private void logSlot(Slot slot) {
+    var handle = slot.m_handle;
+    if (handle.m_impl == null) {
+      handle.m_impl = m_backend.getHandle(handle.getIdentifier());
+    }
+    var impl = handle.m_impl;
+
+    switch (slot.m_type) {
+      case kInt -> m_backend.log(impl, (int) slot.m_bits);
+      case kLong -> m_backend.log(impl, slot.m_bits);
+      case kFloat -> m_backend.log(impl, Float.intBitsToFloat((int) slot.m_bits));
+      case kDouble -> m_backend.log(impl, Double.longBitsToDouble(slot.m_bits));
+      case kBoolean -> m_backend.log(impl, slot.m_bits != 0);
+      case kByteArray -> m_backend.log(impl, slot.m_bytes);
+      case kIntArray -> m_backend.log(impl, slot.m_ints);
+      case kLongArray -> m_backend.log(impl, slot.m_longs);
+      case kFloatArray -> m_backend.log(impl, slot.m_floats);
+      case kDoubleArray -> m_backend.log(impl, slot.m_doubles);
+      case kBooleanArray -> m_backend.log(impl, slot.m_booleans);
+      case kString -> m_backend.log(impl, slot.m_string);
+      case kStringArray -> m_backend.log(impl, slot.m_strings);
+      case kStruct -> logStruct(impl, slot.m_struct, slot.m_buffer);
+      case kStructArray -> logStructArray(impl, slot.m_struct, slot.m_buffer, slot.m_count);
+      default -> throw new IllegalStateException("Unknown value type " + slot.m_type);
+    }
+  }
+
+  private <S> void logStruct(LogHandle impl, Struct<S> struct, ByteBuffer buffer) {
+    m_backend.log(impl, struct.unpack(buffer), struct);
+  }
+
+  private <S> void logStructArray(LogHandle impl, Struct<S> struct, ByteBuffer buffer, int count) {
+    m_backend.log(impl, Struct.unpackArray(buffer, count, struct), struct);
+  }
+
+  /**
+   * Claims the next free slot in the ring for a value.
+   *
+   * @param handle the handle the value is logged to
+   * @param type the type of the value
+   * @return the slot, or null if the ring is full and the value should be dropped
+   */
+  private Slot claim(LogHandle handle, int type) {
+    long pending = m_nextWrite - m_read.get();
+    if (pending >= m_ring.length || !m_running) {
+      m_droppedCount.incrementAndGet();
+      return null;
+    }
+    if (pending + 1 > m_highWaterMark) {
+      m_highWaterMark = pending + 1;
+    }
+
+    var slot = m_ring[(int) m_nextWrite & m_mask];
+    slot.m_handle = resolve(handle);
+    slot.m_type = type;
+    return slot;
+  }
+
+  /** Makes the most recently claimed slot visible to the background thread. */
+  private void publish() {
+    m_nextWrite++;
+    m_written.set(m_nextWrite);
+    if (m_waiting) {
+      LockSupport.unpark(m_thread);
+    }
+  }
+
+  private AsyncHandle resolve(LogHandle handle) {
+    if (handle instanceof AsyncHandle asyncHandle && handle.getBackend() == this) {
+      return asyncHandle;
+    }
+    return (AsyncHandle) getHandle(handle.getIdentifier());
+  }
+
+  @Override
+  public EpilogueBackend getNested(String path) {
+    return m_nestedBackends.computeIfAbsent(path, k -> new NestedBackend(k, this));
+  }
+
+  @Override
+  public LogHandle getHandle(String identifier) {
+    return m_handles.computeIfAbsent(identifier, k -> new AsyncHandle(this, k));
+  }
+
+  @Override
+  public void log(String identifier, int value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, long value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, float value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, double value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, boolean value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, byte[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, int[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, long[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, float[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, double[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, boolean[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, String value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, String[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public <S> void log(String identifier, S value, Struct<S> struct) {
+    log(getHandle(identifier), value, struct);
+  }
+
+  @Override
+  public <S> void log(String identifier, S[] value, Struct<S> struct) {
+    log(getHandle(identifier), value, struct);
+  }
+
+  @Override
+  public void log(LogHandle handle, int value) {
+    logBits(handle, kInt, value);
+  }
+
+  @Override
+  public void log(LogHandle handle, long value) {
+    logBits(handle, kLong, value);
+  }
+
+  @Override
+  public void log(LogHandle handle, float value) {
+    logBits(handle, kFloat, Float.floatToRawIntBits(value));
+  }
+
+  @Override
+  public void log(LogHandle handle, double value) {
+    logBits(handle, kDouble, Double.doubleToRawLongBits(value));
+  }
+
+  @Override
+  public void log(LogHandle handle, boolean value) {
+    logBits(handle, kBoolean, value ? 1 : 0);
+  }
+
+  private void logBits(LogHandle handle, int type, long bits) {
+    var slot = claim(handle, type);
+    if (slot == null) {
+      return;
+    }
+    slot.m_bits = bits;
+    publish();
+  }
+
+  @Override
+  public void log(LogHandle handle, byte[] value) {
+    if (value == null) {
+      return;
+    }
+    var slot = claim(handle, kByteArray);
+    if (slot == null) {
+      return;
+    }
+    if (slot.m_bytes.length != value.length) {
+      slot.m_bytes = new byte[value.length];
+    }
+    System.arraycopy(value, 0, slot.m_bytes, 0, value.length);
+    publish();
+  }
+
+  @Override
+  public void log(LogHandle handle, int[] value) {
+    if (value == null) {
+      return;
+    }
+    var slot = claim(handle, kIntArray);
+    if (slot == null) {
+      return;
+    }
+    if (slot.m_ints.length != value.length) {
+      slot.m_ints = new int[value.length];
+    }
+    System.arraycopy(value, 0, slot.m_ints, 0, value.length);
+    publish();
+  }
+
+  @Override
+  public void log(LogHandle handle, long[] value) {
+    if (value == null) {
+      return;
+    }
+    var slot = claim(handle, kLongArray);
+    if (slot == null) {
+      return;
+    }
+    if (slot.m_longs.length != value.length) {
+      slot.m_longs = new long[value.length];
+    }
+    System.arraycopy(value, 0, slot.m_longs, 0, value.length);
+    publish();
+  }
+
+  @Override
+  public void log(LogHandle handle, float[] value) {
+    if (value == null) {
+      return;
+    }
+    var slot = claim(handle, kFloatArray);
+    if (slot == null) {
+      return;
+    }
+    if (slot.m_floats.length != value.length) {
+      slot.m_floats = new float[value.length];
+    }
+    System.arraycopy(value, 0, slot.m_floats, 0, value.length);
+    publish();
+  }
+
+  @Override
+  public void log(LogHandle handle, double[] value) {
+    if (value == null) {
+      return;
+    }
+    var slot = claim(handle, kDoubleArray);
+    if (slot == null) {
+      return;
+    }
+    if (slot.m_doubles.length != value.length) {
+      slot.m_doubles = new double[value.length];
+    }
+    System.arraycopy(value, 0, slot.m_doubles, 0, value.length);
+    publish();
+  }
+
+  @Override
+  public void log(LogHandle handle, boolean[] value) {
+    if (value == null) {
+      return;
+    }
+    var slot = claim(handle, kBooleanArray);
+    if (slot == null) {
+      return;
+    }
+    if (slot.m_booleans.length != value.length) {
+      slot.m_booleans = new boolean[value.length];
+    }
+    System.arraycopy(value, 0, slot.m_booleans, 0, value.length);
+    publish();
+  }
+
+  @Override
+  public void log(LogHandle handle, String value) {
+    if (value == null) {
+      return;
+    }
+    var slot = claim(handle, kString);
+    if (slot == null) {
+      return;
+    }
+    // Strings are immutable, so they don't need to be copied
+    slot.m_string = value;
+    publish();
+  }
+
+  @Override
+  public void log(LogHandle handle, String[] value) {
+    if (value == null) {
+      return;
+    }
+    var slot = claim(handle, kStringArray);
+    if (slot == null) {
+      return;
+    }
+    if (slot.m_strings.length != value.length) {
+      slot.m_strings = new String[value.length];
+    }
+    System.arraycopy(value, 0, slot.m_strings, 0, value.length);
+    publish();
+  }
+
+  @Override
+  public <S> void log(LogHandle handle, S value, Struct<S> struct) {
+    if (value == null) {
+      return;
+    }
+    var slot = claim(handle, kStruct);
+    if (slot == null) {
+      return;
+    }
+    // Structs may be mutable, so pack the value now and unpack it on the background thread
+    var buffer = slot.buffer(struct.getSize());
+    struct.pack(buffer, value);
+    buffer.flip();
+    slot.m_struct = struct;
+    publish();
+  }
+
+  @Override
+  public <S> void log(LogHandle handle, S[] value, Struct<S> struct) {
+    if (value == null) {
+      return;
+    }
+    var slot = claim(handle, kStructArray);
+    if (slot == null) {
+      return;
+    }
+    var buffer = slot.buffer(struct.getSize() * value.length);
+    for (S element : value) {
+      struct.pack(buffer, element);
+    }
+    buffer.flip();
+    slot.m_struct = struct;
+    slot.m_count = value.length;
+    publish();
+  }
+}
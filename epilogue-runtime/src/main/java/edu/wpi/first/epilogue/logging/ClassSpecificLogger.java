@@ -8,6 +8,7 @@ import edu.wpi.first.epilogue.CustomLoggerFor;
 import edu.wpi.first.epilogue.logging.errors.ErrorHandler;
 import edu.wpi.first.util.sendable.Sendable;
 import edu.wpi.first.util.sendable.SendableBuilder;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -30,13 +31,40 @@ public abstract class ClassSpecificLogger<T> {
   @SuppressWarnings("PMD.RedundantFieldInitializer")
   private boolean m_disabled = false;
 
+  // Identifiers of the entries logged through handles, and the handles resolved for each backend
+  // the logger has been used with. Most loggers are only ever used with a single backend, so the
+  // most recently used handles are checked before the map.
+  private final String[] m_handleIdentifiers;
+  private final Map<EpilogueBackend, LogHandle[]> m_handles = new IdentityHashMap<>();
+  private EpilogueBackend m_lastBackend;
+  private LogHandle[] m_lastHandles;
+
+  // The times each entry is next due to be logged at in each backend, for entries logged at a
+  // reduced rate. Every logged object has its own nested backend, so each one is scheduled
+  // independently.
+  private final Map<EpilogueBackend, long[]> m_nextLogTimes = new IdentityHashMap<>();
+  private EpilogueBackend m_lastScheduledBackend;
+  private long[] m_lastNextLogTimes;
+
   /**
    * Instantiates the logger.
    *
    * @param clazz the Java class of objects that can be logged
    */
   protected ClassSpecificLogger(Class<T> clazz) {
+    this(clazz, new String[0]);
+  }
+
+  /**
+   * Instantiates a logger that logs through pre-resolved handles. See {@link
+   * #getHandles(EpilogueBackend)}.
+   *
+   * @param clazz the Java class of objects that can be logged
+   * @param handleIdentifiers the identifiers of the entries to create handles for
+   */
+  protected ClassSpecificLogger(Class<T> clazz, String... handleIdentifiers) {
     this.m_clazz = clazz;
+    this.m_handleIdentifiers = handleIdentifiers.clone();
   }
 
   /**
@@ -95,6 +123,54 @@ public abstract class ClassSpecificLogger<T> {
     return m_clazz;
   }
 
+  /**
+   * Gets the handles for this logger's entries in a backend, in the same order as the identifiers
+   * passed to the constructor. Handles are created the first time the logger is used with a backend
+   * and reused afterward, so logging through them does no identifier lookups.
+   *
+   * @param backend the backend to get handles for
+   * @return the handles
+   */
+  protected final LogHandle[] getHandles(EpilogueBackend backend) {
+    if (backend == m_lastBackend) {
+      return m_lastHandles;
+    }
+
+    var handles = m_handles.get(backend);
+    if (handles == null) {
+      handles = new LogHandle[m_handleIdentifiers.length];
+      for (int i = 0; i < handles.length; i++) {
+        handles[i] = backend.getHandle(m_handleIdentifiers[i]);
+      }
+      m_handles.put(backend, handles);
+    }
+
+    m_lastBackend = backend;
+    m_lastHandles = handles;
+    return handles;
+  }
+
+  /**
+   * Gets the times that this logger's entries are next due to be logged at in a backend, in the
+   * same order as the handles returned by {@link #getHandles(EpilogueBackend)}. Generated loggers
+   * pass these to {@link LogScheduler#isDue(long[], int, long)} to log entries at a reduced rate.
+   *
+   * @param backend the backend to get the next log times for
+   * @return the next log times
+   */
+  protected final long[] getNextLogTimes(EpilogueBackend backend) {
+    if (backend == m_lastScheduledBackend) {
+      return m_lastNextLogTimes;
+    }
+
+    var nextLogTimes =
+        m_nextLogTimes.computeIfAbsent(backend, b -> new long[m_handleIdentifiers.length]);
+
+    m_lastScheduledBackend = backend;
+    m_lastNextLogTimes = nextLogTimes;
+    return nextLogTimes;
+  }
+
   /**
    * Logs a sendable type.
    *
@@ -44,6 +44,32 @@ public interface EpilogueBackend {
    */
   EpilogueBackend getNested(String path);
 
+  /**
+   * Gets a handle to a logged entry. Generated loggers resolve a handle for each of their fields
+   * once and log through it afterward, so implementations should do any identifier lookups here
+   * rather than on every log call. The default implementation returns a handle whose log calls are
+   * forwarded to the identifier-based methods.
+   *
+   * @param identifier the identifier of the data point
+   * @return the handle
+   */
+  default LogHandle getHandle(String identifier) {
+    return new LogHandle(this, identifier);
+  }
+
+  /**
+   * Gets a backend that can be used to log nested data underneath a handle's identifier.
+   *
+   * @param handle the handle to log nested data under
+   * @return the nested backend
+   */
+  default EpilogueBackend getNested(LogHandle handle) {
+    if (handle.getBackend() == this) {
+      return handle.getNested();
+    }
+    return getNested(handle.getIdentifier());
+  }
+
   /**
    * Logs a 32-bit integer data point.
    *
@@ -225,5 +251,216 @@ public interface EpilogueBackend {
     log(identifier, value.name());
   }
 
+  /**
+   * Logs a 32-bit integer data point through a handle.
+   *
+   * @param handle the handle of the data point
+   * @param value the value of the data point
+   */
+  default void log(LogHandle handle, int value) {
+    log(handle.getIdentifier(), value);
+  }
+
+  /**
+   * Logs a 64-bit integer data point through a handle.
+   *
+   * @param handle the handle of the data point
+   * @param value the value of the data point
+   */
+  default void log(LogHandle handle, long value) {
+    log(handle.getIdentifier(), value);
+  }
+
+  /**
+   * Logs a 32-bit floating point data point through a handle.
+   *
+   * @param handle the handle of the data point
+   * @param value the value of the data point
+   */
+  default void log(LogHandle handle, float value) {
+    log(handle.getIdentifier(), value);
+  }
+
+  /**
+   * Logs a 64-bit floating point data point through a handle.
+   *
+   * @param handle the handle of the data point
+   * @param value the value of the data point
+   */
+  default void log(LogHandle handle, double value) {
+    log(handle.getIdentifier(), value);
+  }
+
+  /**
+   * Logs a boolean data point through a handle.
+   *
+   * @param handle the handle of the data point
+   * @param value the value of the data point
+   */
+  default void log(LogHandle handle, boolean value) {
+    log(handle.getIdentifier(), value);
+  }
+
+  /**
+   * Logs a raw byte array data point through a handle.
+   *
+   * @param handle the handle of the data point
+   * @param value the value of the data point
+   */
+  default void log(LogHandle handle, byte[] value) {
+    log(handle.getIdentifier(), value);
+  }
+
+  /**
+   * Logs a 32-bit integer array data point through a handle.
+   *
+   * @param handle the handle of the data point
+   * @param value the value of the data point
+   */
+  default void log(LogHandle handle, int[] value) {
+    log(handle.getIdentifier(), value);
+  }
+
+  /**
+   * Logs a 64-bit integer array data point through a handle.
+   *
+   * @param handle the handle of the data point
+   * @param value the value of the data point
+   */
+  default void log(LogHandle handle, long[] value) {
+    log(handle.getIdentifier(), value);
+  }
+
+  /**
+   * Logs a 32-bit floating point array data point through a handle.
+   *
+   * @param handle the handle of the data point
+   * @param value the value of the data point
+   */
+  default void log(LogHandle handle, float[] value) {
+    log(handle.getIdentifier(), value);
+  }
+
+  /**
+   * Logs a 64-bit floating point array data point through a handle.
+   *
+   * @param handle the handle of the data point
+   * @param value the value of the data point
+   */
+  default void log(LogHandle handle, double[] value) {
+    log(handle.getIdentifier(), value);
+  }
+
+  /**
+   * Logs a boolean array data point through a handle.
+   *
+   * @param handle the handle of the data point
+   * @param value the value of the data point
+   */
+  default void log(LogHandle handle, boolean[] value) {
+    log(handle.getIdentifier(), value);
+  }
+
+  /**
+   * Logs a text data point through a handle.
+   *
+   * @param handle the handle of the data point
+   * @param value the value of the data point
+   */
+  default void log(LogHandle handle, String value) {
+    log(handle.getIdentifier(), value);
+  }
+
+  /**
+   * Logs a string array data point through a handle.
+   *
+   * @param handle the handle of the data point
+   * @param value the value of the data point
+   */
+  default void log(LogHandle handle, String[] value) {
+    log(handle.getIdentifier(), value);
+  }
+
+  /**
+   * Logs a collection of strings data point through a handle.
+   *
+   * @param handle the handle of the data point
+   * @param value the value of the data point
+   */
+  default void log(LogHandle handle, Collection<String> value) {
+    log(handle, value.toArray(String[]::new));
+  }
+
+  /**
+   * Logs a struct-serializable object through a handle.
+   *
+   * @param handle the handle of the data point
+   * @param value the value of the data point
+   * @param struct the struct to use to serialize the data
+   * @param <S> the serializable type
+   */
+  default <S> void log(LogHandle handle, S value, Struct<S> struct) {
+    log(handle.getIdentifier(), value, struct);
+  }
+
+  /**
+   * Logs an array of struct-serializable objects through a handle.
+   *
+   * @param handle the handle of the data point
+   * @param value the value of the data point
+   * @param struct the struct to use to serialize the objects
+   * @param <S> the serializable type
+   */
+  default <S> void log(LogHandle handle, S[] value, Struct<S> struct) {
+    log(handle.getIdentifier(), value, struct);
+  }
+
+  /**
+   * Logs a collection of struct-serializable objects through a handle.
+   *
+   * @param handle the handle of the data
+   * @param value the collection of objects to log
+   * @param struct the struct to use to serialize the objects
+   * @param <S> the serializable type
+   */
+  default <S> void log(LogHandle handle, Collection<S> value, Struct<S> struct) {
+    @SuppressWarnings("unchecked")
+    S[] array = (S[]) value.toArray(Object[]::new);
+    log(handle, array, struct);
+  }
+
+  /**
+   * Logs a measurement's value in terms of its base unit through a handle.
+   *
+   * @param handle the handle of the data field
+   * @param value the new value of the data field
+   */
+  default void log(LogHandle handle, Measure<?> value) {
+    log(handle, value.baseUnitMagnitude());
+  }
+
+  /**
+   * Logs a measurement's value in terms of another unit through a handle.
+   *
+   * @param handle the handle of the data field
+   * @param value the new value of the data field
+   * @param unit the unit to log the measurement in
+   * @param <U> the dimension of the unit
+   */
+  default <U extends Unit> void log(LogHandle handle, Measure<U> value, U unit) {
+    log(handle, value.in(unit));
+  }
+
+  /**
+   * Logs an enum value through a handle. The value will appear as a string entry using the name of
+   * the enum.
+   *
+   * @param handle the handle of the data field
+   * @param value the new value of the data field
+   */
+  default void log(LogHandle handle, Enum<?> value) {
+    log(handle, value.name());
+  }
+
   // TODO: Add default methods to support common no-struct no-sendable types like joysticks?
 }
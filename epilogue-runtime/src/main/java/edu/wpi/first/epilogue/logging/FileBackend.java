@@ -29,9 +29,18 @@ import java.util.function.BiFunction;
 /** A backend implementation that saves information to a WPILib {@link DataLog} file on disk. */
 public class FileBackend implements EpilogueBackend {
   private final DataLog m_dataLog;
-  private final Map<String, DataLogEntry> m_entries = new HashMap<>();
+  private final Map<String, EntryHandle> m_handles = new HashMap<>();
   private final Map<String, NestedBackend> m_subLoggers = new HashMap<>();
 
+  /** A handle that holds the data log entry for an identifier once it has been started. */
+  private static final class EntryHandle extends LogHandle {
+    private DataLogEntry m_entry;
+
+    EntryHandle(FileBackend backend, String identifier) {
+      super(backend, identifier);
+    }
+  }
+
   /**
    * Creates a new file-based backend.
    *
@@ -46,99 +55,192 @@ public class FileBackend implements EpilogueBackend {
     return m_subLoggers.computeIfAbsent(path, k -> new NestedBackend(k, this));
   }
 
+  @Override
+  public LogHandle getHandle(String identifier) {
+    return m_handles.computeIfAbsent(identifier, k -> new EntryHandle(this, k));
+  }
+
+  private EntryHandle resolve(LogHandle handle) {
+    if (handle instanceof EntryHandle entryHandle && handle.getBackend() == this) {
+      return entryHandle;
+    }
+    return (EntryHandle) getHandle(handle.getIdentifier());
+  }
+
   @SuppressWarnings("unchecked")
   private <E extends DataLogEntry> E getEntry(
-      String identifier, BiFunction<DataLog, String, ? extends E> ctor) {
-    if (m_entries.get(identifier) != null) {
-      return (E) m_entries.get(identifier);
+      LogHandle handle, BiFunction<DataLog, String, ? extends E> ctor) {
+    var entryHandle = resolve(handle);
+    if (entryHandle.m_entry == null) {
+      entryHandle.m_entry = ctor.apply(m_dataLog, entryHandle.getIdentifier());
     }
-
-    var entry = ctor.apply(m_dataLog, identifier);
-    m_entries.put(identifier, entry);
-    return entry;
+    return (E) entryHandle.m_entry;
   }
 
   @Override
   public void log(String identifier, int value) {
-    getEntry(identifier, IntegerLogEntry::new).append(value);
+    log(getHandle(identifier), value);
   }
 
   @Override
   public void log(String identifier, long value) {
-    getEntry(identifier, IntegerLogEntry::new).append(value);
+    log(getHandle(identifier), value);
   }
 
   @Override
   public void log(String identifier, float value) {
-    getEntry(identifier, FloatLogEntry::new).append(value);
+    log(getHandle(identifier), value);
   }
 
   @Override
   public void log(String identifier, double value) {
-    getEntry(identifier, DoubleLogEntry::new).append(value);
+    log(getHandle(identifier), value);
   }
 
   @Override
   public void log(String identifier, boolean value) {
-    getEntry(identifier, BooleanLogEntry::new).append(value);
+    log(getHandle(identifier), value);
   }
 
   @Override
   public void log(String identifier, byte[] value) {
-    getEntry(identifier, RawLogEntry::new).append(value);
+    log(getHandle(identifier), value);
   }
 
   @Override
-  @SuppressWarnings("PMD.UnnecessaryCastRule")
   public void log(String identifier, int[] value) {
-    long[] widened = new long[value.length];
-    for (int i = 0; i < value.length; i++) {
-      widened[i] = (long) value[i];
-    }
-    getEntry(identifier, IntegerArrayLogEntry::new).append(widened);
+    log(getHandle(identifier), value);
   }
 
   @Override
   public void log(String identifier, long[] value) {
-    getEntry(identifier, IntegerArrayLogEntry::new).append(value);
+    log(getHandle(identifier), value);
   }
 
   @Override
   public void log(String identifier, float[] value) {
-    getEntry(identifier, FloatArrayLogEntry::new).append(value);
+    log(getHandle(identifier), value);
   }
 
   @Override
   public void log(String identifier, double[] value) {
-    getEntry(identifier, DoubleArrayLogEntry::new).append(value);
+    log(getHandle(identifier), value);
   }
 
   @Override
   public void log(String identifier, boolean[] value) {
-    getEntry(identifier, BooleanArrayLogEntry::new).append(value);
+    log(getHandle(identifier), value);
   }
 
   @Override
   public void log(String identifier, String value) {
-    getEntry(identifier, StringLogEntry::new).append(value);
+    log(getHandle(identifier), value);
   }
 
   @Override
   public void log(String identifier, String[] value) {
-    getEntry(identifier, StringArrayLogEntry::new).append(value);
+    log(getHandle(identifier), value);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public <S> void log(String identifier, S value, Struct<S> struct) {
-    m_dataLog.addSchema(struct);
-    getEntry(identifier, (log, k) -> StructLogEntry.create(log, k, struct)).append(value);
+    log(getHandle(identifier), value, struct);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public <S> void log(String identifier, S[] value, Struct<S> struct) {
-    m_dataLog.addSchema(struct);
-    getEntry(identifier, (log, k) -> StructArrayLogEntry.create(log, k, struct)).append(value);
+    log(getHandle(identifier), value, struct);
+  }
+
+  @Override
+  public void log(LogHandle handle, int value) {
+    getEntry(handle, IntegerLogEntry::new).append(value);
+  }
+
+  @Override
+  public void log(LogHandle handle, long value) {
+    getEntry(handle, IntegerLogEntry::new).append(value);
+  }
+
+  @Override
+  public void log(LogHandle handle, float value) {
+    getEntry(handle, FloatLogEntry::new).append(value);
+  }
+
+  @Override
+  public void log(LogHandle handle, double value) {
+    getEntry(handle, DoubleLogEntry::new).append(value);
+  }
+
+  @Override
+  public void log(LogHandle handle, boolean value) {
+    getEntry(handle, BooleanLogEntry::new).append(value);
+  }
+
+  @Override
+  public void log(LogHandle handle, byte[] value) {
+    getEntry(handle, RawLogEntry::new).append(value);
+  }
+
+  @Override
+  @SuppressWarnings("PMD.UnnecessaryCastRule")
+  public void log(LogHandle handle, int[] value) {
+    long[] widened = new long[value.length];
+    for (int i = 0; i < value.length; i++) {
+      widened[i] = (long) value[i];
+    }
+    getEntry(handle, IntegerArrayLogEntry::new).append(widened);
+  }
+
+  @Override
+  public void log(LogHandle handle, long[] value) {
+    getEntry(handle, IntegerArrayLogEntry::new).append(value);
+  }
+
+  @Override
+  public void log(LogHandle handle, float[] value) {
+    getEntry(handle, FloatArrayLogEntry::new).append(value);
+  }
+
+  @Override
+  public void log(LogHandle handle, double[] value) {
+    getEntry(handle, DoubleArrayLogEntry::new).append(value);
+  }
+
+  @Override
+  public void log(LogHandle handle, boolean[] value) {
+    getEntry(handle, BooleanArrayLogEntry::new).append(value);
+  }
+
+  @Override
+  public void log(LogHandle handle, String value) {
+    getEntry(handle, StringLogEntry::new).append(value);
+  }
+
+  @Override
+  public void log(LogHandle handle, String[] value) {
+    getEntry(handle, StringArrayLogEntry::new).append(value);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <S> void log(LogHandle handle, S value, Struct<S> struct) {
+    // Creating the entry registers the struct schema with the data log
+    var entryHandle = resolve(handle);
+    if (entryHandle.m_entry == null) {
+      entryHandle.m_entry = StructLogEntry.create(m_dataLog, entryHandle.getIdentifier(), struct);
+    }
+    ((StructLogEntry<S>) entryHandle.m_entry).append(value);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <S> void log(LogHandle handle, S[] value, Struct<S> struct) {
+    var entryHandle = resolve(handle);
+    if (entryHandle.m_entry == null) {
+      entryHandle.m_entry =
+          StructArrayLogEntry.create(m_dataLog, entryHandle.getIdentifier(), struct);
+    }
+    ((StructArrayLogEntry<S>) entryHandle.m_entry).append(value);
   }
 }
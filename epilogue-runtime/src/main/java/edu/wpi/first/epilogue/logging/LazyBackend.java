@@ -14,22 +14,77 @@ import java.util.Objects;
  * A backend implementation that only logs data when it changes. Useful for keeping bandwidth and
  * file sizes down. However, because it still needs to check that data has changed, it cannot avoid
  * expensive sensor reads.
+ *
+ * <p>A keyframe interval can be set so that unchanged data is still logged periodically, which
+ * keeps values visible to tools that only look at a recent window of a log or that connect to
+ * NetworkTables partway through a match. The backend also counts how much data it has written and
+ * how much it has suppressed, to show how much logging it is saving.
  */
 public class LazyBackend implements EpilogueBackend {
   private final EpilogueBackend m_backend;
+  private final int m_keyframeInterval;
 
-  // Keep a record of the most recent value written to each entry
-  // Note that this may duplicate a lot of data, and will box primitives.
-  private final Map<String, Object> m_previousValues = new HashMap<>();
+  // Keep a record of the most recent value written to each entry in its handle
+  // Note that this may duplicate a lot of data
+  private final Map<String, LazyHandle> m_handles = new HashMap<>();
   private final Map<String, NestedBackend> m_subLoggers = new HashMap<>();
 
+  private long m_writtenBytes;
+  private long m_suppressedBytes;
+
+  /**
+   * A handle that holds the most recent value written to an entry, along with the delegate
+   * backend's handle for the entry.
+   */
+  private static final class LazyHandle extends LogHandle {
+    private final LogHandle m_impl;
+
+    // The most recent value, or for primitive values, the primitive class of the value. Primitives
+    // are stored as raw bits in m_bits so they don't need to be boxed.
+    private Object m_previous;
+    private long m_bits;
+
+    // The number of consecutive times an unchanged value has been suppressed
+    private int m_unchangedCount;
+
+    LazyHandle(LazyBackend backend, String identifier, LogHandle impl) {
+      super(backend, identifier);
+      this.m_impl = impl;
+    }
+
+    boolean hasBits(Class<?> type, long bits) {
+      return m_previous == type && m_bits == bits;
+    }
+
+    void setBits(Class<?> type, long bits) {
+      m_previous = type;
+      m_bits = bits;
+    }
+  }
+
   /**
    * Creates a new lazy backend wrapper around another backend.
    *
    * @param backend the backend to delegate to
    */
   public LazyBackend(EpilogueBackend backend) {
+    this(backend, 0);
+  }
+
+  /**
+   * Creates a new lazy backend wrapper around another backend that logs unchanged data again after
+   * it has been suppressed a number of times in a row.
+   *
+   * @param backend the backend to delegate to
+   * @param keyframeInterval the number of consecutive times an unchanged value is suppressed before
+   *     it is logged again. Zero disables keyframes, so unchanged values are never logged again.
+   */
+  public LazyBackend(EpilogueBackend backend, int keyframeInterval) {
+    if (keyframeInterval < 0) {
+      throw new IllegalArgumentException("Keyframe interval must not be negative");
+    }
     this.m_backend = backend;
+    this.m_keyframeInterval = keyframeInterval;
   }
 
   @Override
@@ -38,203 +93,408 @@ public class LazyBackend implements EpilogueBackend {
     return this;
   }
 
+  /**
+   * Gets the approximate number of bytes of data passed on to the underlying backend.
+   *
+   * @return the number of bytes written
+   */
+  public long getWrittenBytes() {
+    return m_writtenBytes;
+  }
+
+  /**
+   * Gets the approximate number of bytes of data that were not passed on to the underlying backend
+   * because they had not changed.
+   *
+   * @return the number of bytes suppressed
+   */
+  public long getSuppressedBytes() {
+    return m_suppressedBytes;
+  }
+
   @Override
   public EpilogueBackend getNested(String path) {
     return m_subLoggers.computeIfAbsent(path, k -> new NestedBackend(k, this));
   }
 
   @Override
-  public void log(String identifier, int value) {
-    var previous = m_previousValues.get(identifier);
+  public LogHandle getHandle(String identifier) {
+    return m_handles.computeIfAbsent(
+        identifier, k -> new LazyHandle(this, k, m_backend.getHandle(k)));
+  }
 
-    if (previous instanceof Integer oldValue && oldValue == value) {
-      // no change
-      return;
+  private LazyHandle resolve(LogHandle handle) {
+    if (handle instanceof LazyHandle lazyHandle && handle.getBackend() == this) {
+      return lazyHandle;
     }
+    return (LazyHandle) getHandle(handle.getIdentifier());
+  }
 
-    m_previousValues.put(identifier, value);
-    m_backend.log(identifier, value);
+  /**
+   * Checks if a value should be suppressed, and updates the counters.
+   *
+   * @param handle the handle the value is logged to
+   * @param unchanged true if the value is the same as the most recently logged value
+   * @param size the approximate encoded size of the value in bytes
+   * @return true if the value should not be logged
+   */
+  private boolean suppress(LazyHandle handle, boolean unchanged, long size) {
+    if (unchanged && (m_keyframeInterval == 0 || handle.m_unchangedCount < m_keyframeInterval)) {
+      handle.m_unchangedCount++;
+      m_suppressedBytes += size;
+      return true;
+    }
+
+    handle.m_unchangedCount = 0;
+    m_writtenBytes += size;
+    return false;
+  }
+
+  @Override
+  public void log(String identifier, int value) {
+    log(getHandle(identifier), value);
   }
 
   @Override
   public void log(String identifier, long value) {
-    var previous = m_previousValues.get(identifier);
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, float value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, double value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, boolean value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, byte[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, int[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, long[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, float[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, double[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, boolean[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, String value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, String[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public <S> void log(String identifier, S value, Struct<S> struct) {
+    log(getHandle(identifier), value, struct);
+  }
 
-    if (previous instanceof Long oldValue && oldValue == value) {
+  @Override
+  public <S> void log(String identifier, S[] value, Struct<S> struct) {
+    log(getHandle(identifier), value, struct);
+  }
+
+  @Override
+  public void log(LogHandle handle, int value) {
+    var lazyHandle = resolve(handle);
+
+    if (suppress(lazyHandle, lazyHandle.hasBits(int.class, value), Long.BYTES)) {
       // no change
       return;
     }
 
-    m_previousValues.put(identifier, value);
-    m_backend.log(identifier, value);
+    lazyHandle.setBits(int.class, value);
+    m_backend.log(lazyHandle.m_impl, value);
   }
 
   @Override
-  public void log(String identifier, float value) {
-    var previous = m_previousValues.get(identifier);
+  public void log(LogHandle handle, long value) {
+    var lazyHandle = resolve(handle);
 
-    if (previous instanceof Float oldValue && oldValue == value) {
+    if (suppress(lazyHandle, lazyHandle.hasBits(long.class, value), Long.BYTES)) {
       // no change
       return;
     }
 
-    m_previousValues.put(identifier, value);
-    m_backend.log(identifier, value);
+    lazyHandle.setBits(long.class, value);
+    m_backend.log(lazyHandle.m_impl, value);
   }
 
   @Override
-  public void log(String identifier, double value) {
-    var previous = m_previousValues.get(identifier);
+  public void log(LogHandle handle, float value) {
+    var lazyHandle = resolve(handle);
+    long bits = Float.floatToIntBits(value);
 
-    if (previous instanceof Double oldValue && oldValue == value) {
+    if (suppress(lazyHandle, lazyHandle.hasBits(float.class, bits), Float.BYTES)) {
       // no change
       return;
     }
 
-    m_previousValues.put(identifier, value);
-    m_backend.log(identifier, value);
+    lazyHandle.setBits(float.class, bits);
+    m_backend.log(lazyHandle.m_impl, value);
   }
 
   @Override
-  public void log(String identifier, boolean value) {
-    var previous = m_previousValues.get(identifier);
+  public void log(LogHandle handle, double value) {
+    var lazyHandle = resolve(handle);
+    long bits = Double.doubleToLongBits(value);
 
-    if (previous instanceof Boolean oldValue && oldValue == value) {
+    if (suppress(lazyHandle, lazyHandle.hasBits(double.class, bits), Double.BYTES)) {
       // no change
       return;
     }
 
-    m_previousValues.put(identifier, value);
-    m_backend.log(identifier, value);
+    lazyHandle.setBits(double.class, bits);
+    m_backend.log(lazyHandle.m_impl, value);
   }
 
   @Override
-  public void log(String identifier, byte[] value) {
-    var previous = m_previousValues.get(identifier);
+  public void log(LogHandle handle, boolean value) {
+    var lazyHandle = resolve(handle);
+    long bits = value ? 1 : 0;
 
-    if (previous instanceof byte[] oldValue && Arrays.equals(oldValue, value)) {
+    if (suppress(lazyHandle, lazyHandle.hasBits(boolean.class, bits), 1)) {
       // no change
       return;
     }
 
-    m_previousValues.put(identifier, value.clone());
-    m_backend.log(identifier, value);
+    lazyHandle.setBits(boolean.class, bits);
+    m_backend.log(lazyHandle.m_impl, value);
   }
 
   @Override
-  public void log(String identifier, int[] value) {
-    var previous = m_previousValues.get(identifier);
-
-    if (previous instanceof int[] oldValue && Arrays.equals(oldValue, value)) {
+  public void log(LogHandle handle, byte[] value) {
+    var lazyHandle = resolve(handle);
+    var previous = lazyHandle.m_previous;
+
+    if (suppress(
+        lazyHandle,
+        previous instanceof byte[] oldValue && Arrays.equals(oldValue, value),
+        value.length)) {
       // no change
       return;
     }
 
-    m_previousValues.put(identifier, value.clone());
-    m_backend.log(identifier, value);
+    // Copy into the previous array when possible, so logging a changing array doesn't allocate
+    if (previous instanceof byte[] oldValue && oldValue.length == value.length) {
+      System.arraycopy(value, 0, oldValue, 0, value.length);
+    } else {
+      lazyHandle.m_previous = value.clone();
+    }
+    m_backend.log(lazyHandle.m_impl, value);
   }
 
   @Override
-  public void log(String identifier, long[] value) {
-    var previous = m_previousValues.get(identifier);
-
-    if (previous instanceof long[] oldValue && Arrays.equals(oldValue, value)) {
+  public void log(LogHandle handle, int[] value) {
+    var lazyHandle = resolve(handle);
+    var previous = lazyHandle.m_previous;
+
+    if (suppress(
+        lazyHandle,
+        previous instanceof int[] oldValue && Arrays.equals(oldValue, value),
+        (long) value.length * Long.BYTES)) {
       // no change
       return;
     }
 
-    m_previousValues.put(identifier, value.clone());
-    m_backend.log(identifier, value);
+    if (previous instanceof int[] oldValue && oldValue.length == value.length) {
+      System.arraycopy(value, 0, oldValue, 0, value.length);
+    } else {
+      lazyHandle.m_previous = value.clone();
+    }
+    m_backend.log(lazyHandle.m_impl, value);
   }
 
   @Override
-  public void log(String identifier, float[] value) {
-    var previous = m_previousValues.get(identifier);
-
-    if (previous instanceof float[] oldValue && Arrays.equals(oldValue, value)) {
+  public void log(LogHandle handle, long[] value) {
+    var lazyHandle = resolve(handle);
+    var previous = lazyHandle.m_previous;
+
+    if (suppress(
+        lazyHandle,
+        previous instanceof long[] oldValue && Arrays.equals(oldValue, value),
+        (long) value.length * Long.BYTES)) {
       // no change
       return;
     }
 
-    m_previousValues.put(identifier, value.clone());
-    m_backend.log(identifier, value);
+    if (previous instanceof long[] oldValue && oldValue.length == value.length) {
+      System.arraycopy(value, 0, oldValue, 0, value.length);
+    } else {
+      lazyHandle.m_previous = value.clone();
+    }
+    m_backend.log(lazyHandle.m_impl, value);
   }
 
   @Override
-  public void log(String identifier, double[] value) {
-    var previous = m_previousValues.get(identifier);
-
-    if (previous instanceof double[] oldValue && Arrays.equals(oldValue, value)) {
+  public void log(LogHandle handle, float[] value) {
+    var lazyHandle = resolve(handle);
+    var previous = lazyHandle.m_previous;
+
+    if (suppress(
+        lazyHandle,
+        previous instanceof float[] oldValue && Arrays.equals(oldValue, value),
+        (long) value.length * Float.BYTES)) {
       // no change
       return;
     }
 
-    m_previousValues.put(identifier, value.clone());
-    m_backend.log(identifier, value);
+    if (previous instanceof float[] oldValue && oldValue.length == value.length) {
+      System.arraycopy(value, 0, oldValue, 0, value.length);
+    } else {
+      lazyHandle.m_previous = value.clone();
+    }
+    m_backend.log(lazyHandle.m_impl, value);
   }
 
   @Override
-  public void log(String identifier, boolean[] value) {
-    var previous = m_previousValues.get(identifier);
-
-    if (previous instanceof boolean[] oldValue && Arrays.equals(oldValue, value)) {
+  public void log(LogHandle handle, double[] value) {
+    var lazyHandle = resolve(handle);
+    var previous = lazyHandle.m_previous;
+
+    if (suppress(
+        lazyHandle,
+        previous instanceof double[] oldValue && Arrays.equals(oldValue, value),
+        (long) value.length * Double.BYTES)) {
       // no change
       return;
     }
 
-    m_previousValues.put(identifier, value.clone());
-    m_backend.log(identifier, value);
+    if (previous instanceof double[] oldValue && oldValue.length == value.length) {
+      System.arraycopy(value, 0, oldValue, 0, value.length);
+    } else {
+      lazyHandle.m_previous = value.clone();
+    }
+    m_backend.log(lazyHandle.m_impl, value);
   }
 
   @Override
-  public void log(String identifier, String value) {
-    var previous = m_previousValues.get(identifier);
+  public void log(LogHandle handle, boolean[] value) {
+    var lazyHandle = resolve(handle);
+    var previous = lazyHandle.m_previous;
+
+    if (suppress(
+        lazyHandle,
+        previous instanceof boolean[] oldValue && Arrays.equals(oldValue, value),
+        value.length)) {
+      // no change
+      return;
+    }
 
-    if (previous instanceof String oldValue && oldValue.equals(value)) {
+    if (previous instanceof boolean[] oldValue && oldValue.length == value.length) {
+      System.arraycopy(value, 0, oldValue, 0, value.length);
+    } else {
+      lazyHandle.m_previous = value.clone();
+    }
+    m_backend.log(lazyHandle.m_impl, value);
+  }
+
+  @Override
+  public void log(LogHandle handle, String value) {
+    var lazyHandle = resolve(handle);
+    var previous = lazyHandle.m_previous;
+
+    if (suppress(
+        lazyHandle,
+        previous instanceof String oldValue && oldValue.equals(value),
+        value.length())) {
       // no change
       return;
     }
 
-    m_previousValues.put(identifier, value);
-    m_backend.log(identifier, value);
+    lazyHandle.m_previous = value;
+    m_backend.log(lazyHandle.m_impl, value);
   }
 
   @Override
-  public void log(String identifier, String[] value) {
-    var previous = m_previousValues.get(identifier);
+  public void log(LogHandle handle, String[] value) {
+    var lazyHandle = resolve(handle);
+    var previous = lazyHandle.m_previous;
+
+    long size = Integer.BYTES;
+    for (String string : value) {
+      size += Integer.BYTES + string.length();
+    }
 
-    if (previous instanceof String[] oldValue && Arrays.equals(oldValue, value)) {
+    if (suppress(
+        lazyHandle,
+        previous instanceof String[] oldValue && Arrays.equals(oldValue, value),
+        size)) {
       // no change
       return;
     }
 
-    m_previousValues.put(identifier, value.clone());
-    m_backend.log(identifier, value);
+    if (previous instanceof String[] oldValue && oldValue.length == value.length) {
+      System.arraycopy(value, 0, oldValue, 0, value.length);
+    } else {
+      lazyHandle.m_previous = value.clone();
+    }
+    m_backend.log(lazyHandle.m_impl, value);
   }
 
   @Override
-  public <S> void log(String identifier, S value, Struct<S> struct) {
-    var previous = m_previousValues.get(identifier);
+  public <S> void log(LogHandle handle, S value, Struct<S> struct) {
+    var lazyHandle = resolve(handle);
+    var previous = lazyHandle.m_previous;
 
-    if (Objects.equals(previous, value)) {
+    if (suppress(lazyHandle, Objects.equals(previous, value), struct.getSize())) {
       // no change
       return;
     }
 
-    m_previousValues.put(identifier, value);
-    m_backend.log(identifier, value, struct);
+    lazyHandle.m_previous = value;
+    m_backend.log(lazyHandle.m_impl, value, struct);
   }
 
   @Override
-  public <S> void log(String identifier, S[] value, Struct<S> struct) {
-    var previous = m_previousValues.get(identifier);
-
-    if (previous instanceof Object[] oldValue && Arrays.equals(oldValue, value)) {
+  public <S> void log(LogHandle handle, S[] value, Struct<S> struct) {
+    var lazyHandle = resolve(handle);
+    var previous = lazyHandle.m_previous;
+
+    if (suppress(
+        lazyHandle,
+        previous instanceof Object[] oldValue && Arrays.equals(oldValue, value),
+        (long) value.length * struct.getSize())) {
       // no change
       return;
     }
 
-    m_previousValues.put(identifier, value.clone());
-    m_backend.log(identifier, value, struct);
+    if (previous instanceof Object[] oldValue && oldValue.length == value.length) {
+      System.arraycopy(value, 0, oldValue, 0, value.length);
+    } else {
+      lazyHandle.m_previous = value.clone();
+    }
+    m_backend.log(lazyHandle.m_impl, value, struct);
   }
 }
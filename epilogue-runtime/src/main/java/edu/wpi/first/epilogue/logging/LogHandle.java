@@ -0,0 +1,62 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.epilogue.logging;
+
+/**
+ * A pre-resolved reference to a single logged entry in a backend. Handles are created once with
+ * {@link EpilogueBackend#getHandle(String)} and then passed to the {@code log} methods in place of
+ * a string identifier, which lets a backend skip identifier lookups (and nested backends skip
+ * building prefixed identifiers) every time data is logged. Backends may subclass this to store
+ * whatever state they resolve for the entry, such as a data log entry or a publisher.
+ *
+ * <p>A handle should only be used with the backend that created it.
+ */
+public class LogHandle {
+  private final EpilogueBackend m_backend;
+  private final String m_identifier;
+  private EpilogueBackend m_nested;
+
+  /**
+   * Creates a new handle.
+   *
+   * @param backend the backend that the handle logs to
+   * @param identifier the identifier of the logged entry, relative to the backend
+   */
+  public LogHandle(EpilogueBackend backend, String identifier) {
+    this.m_backend = backend;
+    this.m_identifier = identifier;
+  }
+
+  /**
+   * Gets the backend that the handle logs to.
+   *
+   * @return the backend
+   */
+  public final EpilogueBackend getBackend() {
+    return m_backend;
+  }
+
+  /**
+   * Gets the identifier of the logged entry, relative to the backend that created the handle.
+   *
+   * @return the identifier
+   */
+  public final String getIdentifier() {
+    return m_identifier;
+  }
+
+  /**
+   * Gets a backend that can be used to log nested data underneath the handle's identifier. The
+   * nested backend is looked up on first use and reused afterward.
+   *
+   * @return the nested backend
+   */
+  public final EpilogueBackend getNested() {
+    if (m_nested == null) {
+      m_nested = m_backend.getNested(m_identifier);
+    }
+    return m_nested;
+  }
+}
@@ -0,0 +1,120 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.epilogue.logging;
+
+import static edu.wpi.first.units.Units.Seconds;
+
+import edu.wpi.first.units.measure.Time;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides when data logged at a reduced rate with {@code @Logged(period = ...)} should be logged.
+ *
+ * <p>Each logged element is scheduled at a fixed rate, so it is logged on the first update at or
+ * after its due time and is then due again one period later. The elements of a logged object start
+ * out spread evenly across their period instead of all being due on the first update, so that they
+ * don't all fall due in the same cycle.
+ *
+ * <p>An optional per-cycle time budget limits how much reduced-rate data a single cycle logs. Once
+ * the budget for a cycle has been used up, any reduced-rate data that is due is deferred and is
+ * logged in a later cycle instead. A deferred element's schedule restarts from the cycle it is
+ * finally logged in, so elements that were due together drift apart and take turns rather than
+ * colliding again one period later. Data logged at the full rate is never deferred.
+ */
+public class LogScheduler {
+  private final LongSupplier m_clock;
+
+  // Clock value when the current cycle runs out of its time budget
+  private long m_deadline;
+  private boolean m_hasDeadline;
+
+  private long m_deferredCount;
+
+  /** Default constructor. */
+  public LogScheduler() {
+    this(System::nanoTime);
+  }
+
+  /**
+   * Creates a scheduler that reads the time from the given clock.
+   *
+   * @param clock the clock, in nanoseconds
+   */
+  LogScheduler(LongSupplier clock) {
+    m_clock = clock;
+  }
+
+  /**
+   * Starts a new logging cycle. This is called by the generated {@code Epilogue.update()} method
+   * before any data is logged.
+   *
+   * @param budget the maximum amount of time the cycle may spend logging before reduced-rate data
+   *     is deferred to the next cycle. May be null for no limit.
+   */
+  public void startCycle(Time budget) {
+    if (budget == null) {
+      m_hasDeadline = false;
+    } else {
+      m_hasDeadline = true;
+      m_deadline = m_clock.getAsLong() + (long) (budget.in(Seconds) * 1e9);
+    }
+  }
+
+  /**
+   * Gets the number of times that due data has been deferred to a later cycle because a cycle's
+   * time budget was used up.
+   *
+   * @return the number of deferrals
+   */
+  public long getDeferredCount() {
+    return m_deferredCount;
+  }
+
+  /**
+   * Checks if a reduced-rate element should be logged, and if it should, schedules its next update.
+   *
+   * @param nextLogTimes the times that each element is next due to be logged, indexed by element.
+   *     Zero means the element has not been scheduled yet.
+   * @param index the index of the element to check
+   * @param periodNanos the period to log the element at, in nanoseconds
+   * @return true if the element should be logged now
+   */
+  public boolean isDue(long[] nextLogTimes, int index, long periodNanos) {
+    long now = m_clock.getAsLong();
+    long next = nextLogTimes[index];
+
+    if (next == 0) {
+      // Spread the object's elements evenly across the period, starting with the first one now
+      next = now + periodNanos / nextLogTimes.length * index;
+      nextLogTimes[index] = next == 0 ? 1 : next;
+    }
+
+    if (now - next < 0) {
+      // Not due yet
+      return false;
+    }
+
+    if (m_hasDeadline && now - m_deadline >= 0) {
+      // Out of time for this cycle; try again next cycle. Mark the element as a full period behind
+      // so that its schedule restarts when it's logged, instead of keeping its old phase and
+      // colliding with the same elements again
+      m_deferredCount++;
+      nextLogTimes[index] = now - periodNanos == 0 ? 1 : now - periodNanos;
+      return false;
+    }
+
+    // Keep a fixed rate if the element is on schedule, but don't try to catch up on missed updates
+    // if it fell a period or more behind
+    if (now - next < periodNanos) {
+      next += periodNanos;
+    } else {
+      next = now + periodNanos;
+    }
+
+    // Zero is reserved for elements that have not been logged yet
+    nextLogTimes[index] = next == 0 ? 1 : next;
+    return true;
+  }
+}
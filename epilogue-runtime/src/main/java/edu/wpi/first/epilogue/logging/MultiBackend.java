@@ -17,6 +17,16 @@ public class MultiBackend implements EpilogueBackend {
   private final List<EpilogueBackend> m_backends;
   private final Map<String, NestedBackend> m_nestedBackends = new HashMap<>();
 
+  /** A handle that holds a handle for each of the composed backends. */
+  private static final class MultiHandle extends LogHandle {
+    private final LogHandle[] m_handles;
+
+    MultiHandle(MultiBackend backend, String identifier, LogHandle[] handles) {
+      super(backend, identifier);
+      this.m_handles = handles;
+    }
+  }
+
   // Use EpilogueBackend.multi(...) instead of instantiation directly
   MultiBackend(EpilogueBackend... backends) {
     this.m_backends = List.of(backends);
@@ -27,6 +37,22 @@ public class MultiBackend implements EpilogueBackend {
     return m_nestedBackends.computeIfAbsent(path, k -> new NestedBackend(k, this));
   }
 
+  @Override
+  public LogHandle getHandle(String identifier) {
+    var handles = new LogHandle[m_backends.size()];
+    for (int i = 0; i < handles.length; i++) {
+      handles[i] = m_backends.get(i).getHandle(identifier);
+    }
+    return new MultiHandle(this, identifier, handles);
+  }
+
+  private LogHandle[] handles(LogHandle handle) {
+    if (handle instanceof MultiHandle multiHandle && handle.getBackend() == this) {
+      return multiHandle.m_handles;
+    }
+    return ((MultiHandle) getHandle(handle.getIdentifier())).m_handles;
+  }
+
   @Override
   public void log(String identifier, int value) {
     for (EpilogueBackend backend : m_backends) {
@@ -131,4 +157,124 @@ public class MultiBackend implements EpilogueBackend {
       backend.log(identifier, value, struct);
     }
   }
+
+  @Override
+  public void log(LogHandle handle, int value) {
+    var handles = handles(handle);
+    for (int i = 0; i < handles.length; i++) {
+      m_backends.get(i).log(handles[i], value);
+    }
+  }
+
+  @Override
+  public void log(LogHandle handle, long value) {
+    var handles = handles(handle);
+    for (int i = 0; i < handles.length; i++) {
+      m_backends.get(i).log(handles[i], value);
+    }
+  }
+
+  @Override
+  public void log(LogHandle handle, float value) {
+    var handles = handles(handle);
+    for (int i = 0; i < handles.length; i++) {
+      m_backends.get(i).log(handles[i], value);
+    }
+  }
+
+  @Override
+  public void log(LogHandle handle, double value) {
+    var handles = handles(handle);
+    for (int i = 0; i < handles.length; i++) {
+      m_backends.get(i).log(handles[i], value);
+    }
+  }
+
+  @Override
+  public void log(LogHandle handle, boolean value) {
+    var handles = handles(handle);
+    for (int i = 0; i < handles.length; i++) {
+      m_backends.get(i).log(handles[i], value);
+    }
+  }
+
+  @Override
+  public void log(LogHandle handle, byte[] value) {
+    var handles = handles(handle);
+    for (int i = 0; i < handles.length; i++) {
+      m_backends.get(i).log(handles[i], value);
+    }
+  }
+
+  @Override
+  public void log(LogHandle handle, int[] value) {
+    var handles = handles(handle);
+    for (int i = 0; i < handles.length; i++) {
+      m_backends.get(i).log(handles[i], value);
+    }
+  }
+
+  @Override
+  public void log(LogHandle handle, long[] value) {
+    var handles = handles(handle);
+    for (int i = 0; i < handles.length; i++) {
+      m_backends.get(i).log(handles[i], value);
+    }
+  }
+
+  @Override
+  public void log(LogHandle handle, float[] value) {
+    var handles = handles(handle);
+    for (int i = 0; i < handles.length; i++) {
+      m_backends.get(i).log(handles[i], value);
+    }
+  }
+
+  @Override
+  public void log(LogHandle handle, double[] value) {
+    var handles = handles(handle);
+    for (int i = 0; i < handles.length; i++) {
+      m_backends.get(i).log(handles[i], value);
+    }
+  }
+
+  @Override
+  public void log(LogHandle handle, boolean[] value) {
+    var handles = handles(handle);
+    for (int i = 0; i < handles.length; i++) {
+      m_backends.get(i).log(handles[i], value);
+    }
+  }
+
+  @Override
+  public void log(LogHandle handle, String value) {
+    var handles = handles(handle);
+    for (int i = 0; i < handles.length; i++) {
+      m_backends.get(i).log(handles[i], value);
+    }
+  }
+
+  @Override
+  public void log(LogHandle handle, String[] value) {
+    var handles = handles(handle);
+    for (int i = 0; i < handles.length; i++) {
+      m_backends.get(i).log(handles[i], value);
+    }
+  }
+
+  @Override
+  public <S> void log(LogHandle handle, S value, Struct<S> struct) {
+    var handles = handles(handle);
+    for (int i = 0; i < handles.length; i++) {
+      m_backends.get(i).log(handles[i], value, struct);
+    }
+  }
+
+  @Override
+  public <S> void log(LogHandle handle, S[] value, Struct<S> struct) {
+    var handles = handles(handle);
+    for (int i = 0; i < handles.length; i++) {
+      m_backends.get(i).log(handles[i], value, struct);
+    }
+  }
 }
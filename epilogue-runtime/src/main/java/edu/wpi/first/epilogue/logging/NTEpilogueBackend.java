@@ -22,6 +22,7 @@ import edu.wpi.first.networktables.StructPublisher;
 import edu.wpi.first.util.struct.Struct;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.BiFunction;
 
 /**
  * A backend implementation that sends data over network tables. Be careful when using this, since
@@ -30,9 +31,18 @@ import java.util.Map;
 public class NTEpilogueBackend implements EpilogueBackend {
   private final NetworkTableInstance m_nt;
 
-  private final Map<String, Publisher> m_publishers = new HashMap<>();
+  private final Map<String, PublisherHandle> m_handles = new HashMap<>();
   private final Map<String, NestedBackend> m_nestedBackends = new HashMap<>();
 
+  /** A handle that holds the publisher for an identifier once it has been created. */
+  private static final class PublisherHandle extends LogHandle {
+    private Publisher m_publisher;
+
+    PublisherHandle(NTEpilogueBackend backend, String identifier) {
+      super(backend, identifier);
+    }
+  }
+
   /**
    * Creates a logging backend that sends information to NetworkTables.
    *
@@ -47,51 +57,140 @@ public class NTEpilogueBackend implements EpilogueBackend {
     return m_nestedBackends.computeIfAbsent(path, k -> new NestedBackend(k, this));
   }
 
+  @Override
+  public LogHandle getHandle(String identifier) {
+    return m_handles.computeIfAbsent(identifier, k -> new PublisherHandle(this, k));
+  }
+
+  private PublisherHandle resolve(LogHandle handle) {
+    if (handle instanceof PublisherHandle publisherHandle && handle.getBackend() == this) {
+      return publisherHandle;
+    }
+    return (PublisherHandle) getHandle(handle.getIdentifier());
+  }
+
+  @SuppressWarnings("unchecked")
+  private <P extends Publisher> P getPublisher(
+      LogHandle handle, BiFunction<NetworkTableInstance, String, ? extends P> ctor) {
+    var publisherHandle = resolve(handle);
+    if (publisherHandle.m_publisher == null) {
+      publisherHandle.m_publisher = ctor.apply(m_nt, publisherHandle.getIdentifier());
+    }
+    return (P) publisherHandle.m_publisher;
+  }
+
   @Override
   public void log(String identifier, int value) {
-    ((IntegerPublisher)
-            m_publishers.computeIfAbsent(identifier, k -> m_nt.getIntegerTopic(k).publish()))
-        .set(value);
+    log(getHandle(identifier), value);
   }
 
   @Override
   public void log(String identifier, long value) {
-    ((IntegerPublisher)
-            m_publishers.computeIfAbsent(identifier, k -> m_nt.getIntegerTopic(k).publish()))
-        .set(value);
+    log(getHandle(identifier), value);
   }
 
   @Override
   public void log(String identifier, float value) {
-    ((FloatPublisher)
-            m_publishers.computeIfAbsent(identifier, k -> m_nt.getFloatTopic(k).publish()))
-        .set(value);
+    log(getHandle(identifier), value);
   }
 
   @Override
   public void log(String identifier, double value) {
-    ((DoublePublisher)
-            m_publishers.computeIfAbsent(identifier, k -> m_nt.getDoubleTopic(k).publish()))
-        .set(value);
+    log(getHandle(identifier), value);
   }
 
   @Override
   public void log(String identifier, boolean value) {
-    ((BooleanPublisher)
-            m_publishers.computeIfAbsent(identifier, k -> m_nt.getBooleanTopic(k).publish()))
-        .set(value);
+    log(getHandle(identifier), value);
   }
 
   @Override
   public void log(String identifier, byte[] value) {
-    ((RawPublisher)
-            m_publishers.computeIfAbsent(identifier, k -> m_nt.getRawTopic(k).publish("raw")))
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, int[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, long[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, float[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, double[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, boolean[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, String value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public void log(String identifier, String[] value) {
+    log(getHandle(identifier), value);
+  }
+
+  @Override
+  public <S> void log(String identifier, S value, Struct<S> struct) {
+    log(getHandle(identifier), value, struct);
+  }
+
+  @Override
+  public <S> void log(String identifier, S[] value, Struct<S> struct) {
+    log(getHandle(identifier), value, struct);
+  }
+
+  @Override
+  public void log(LogHandle handle, int value) {
+    this.<IntegerPublisher>getPublisher(handle, (nt, k) -> nt.getIntegerTopic(k).publish())
+        .set(value);
+  }
+
+  @Override
+  public void log(LogHandle handle, long value) {
+    this.<IntegerPublisher>getPublisher(handle, (nt, k) -> nt.getIntegerTopic(k).publish())
+        .set(value);
+  }
+
+  @Override
+  public void log(LogHandle handle, float value) {
+    this.<FloatPublisher>getPublisher(handle, (nt, k) -> nt.getFloatTopic(k).publish()).set(value);
+  }
+
+  @Override
+  public void log(LogHandle handle, double value) {
+    this.<DoublePublisher>getPublisher(handle, (nt, k) -> nt.getDoubleTopic(k).publish())
+        .set(value);
+  }
+
+  @Override
+  public void log(LogHandle handle, boolean value) {
+    this.<BooleanPublisher>getPublisher(handle, (nt, k) -> nt.getBooleanTopic(k).publish())
         .set(value);
   }
 
+  @Override
+  public void log(LogHandle handle, byte[] value) {
+    this.<RawPublisher>getPublisher(handle, (nt, k) -> nt.getRawTopic(k).publish("raw")).set(value);
+  }
+
   @Override
   @SuppressWarnings("PMD.UnnecessaryCastRule")
-  public void log(String identifier, int[] value) {
+  public void log(LogHandle handle, int[] value) {
     // NT backend only supports int64[], so we have to manually widen to 64 bits before sending
     long[] widened = new long[value.length];
 
@@ -99,69 +198,69 @@ public class NTEpilogueBackend implements EpilogueBackend {
       widened[i] = (long) value[i];
     }
 
-    ((IntegerArrayPublisher)
-            m_publishers.computeIfAbsent(identifier, k -> m_nt.getIntegerArrayTopic(k).publish()))
+    this.<IntegerArrayPublisher>getPublisher(
+            handle, (nt, k) -> nt.getIntegerArrayTopic(k).publish())
         .set(widened);
   }
 
   @Override
-  public void log(String identifier, long[] value) {
-    ((IntegerArrayPublisher)
-            m_publishers.computeIfAbsent(identifier, k -> m_nt.getIntegerArrayTopic(k).publish()))
+  public void log(LogHandle handle, long[] value) {
+    this.<IntegerArrayPublisher>getPublisher(
+            handle, (nt, k) -> nt.getIntegerArrayTopic(k).publish())
         .set(value);
   }
 
   @Override
-  public void log(String identifier, float[] value) {
-    ((FloatArrayPublisher)
-            m_publishers.computeIfAbsent(identifier, k -> m_nt.getFloatArrayTopic(k).publish()))
+  public void log(LogHandle handle, float[] value) {
+    this.<FloatArrayPublisher>getPublisher(handle, (nt, k) -> nt.getFloatArrayTopic(k).publish())
         .set(value);
   }
 
   @Override
-  public void log(String identifier, double[] value) {
-    ((DoubleArrayPublisher)
-            m_publishers.computeIfAbsent(identifier, k -> m_nt.getDoubleArrayTopic(k).publish()))
+  public void log(LogHandle handle, double[] value) {
+    this.<DoubleArrayPublisher>getPublisher(handle, (nt, k) -> nt.getDoubleArrayTopic(k).publish())
         .set(value);
   }
 
   @Override
-  public void log(String identifier, boolean[] value) {
-    ((BooleanArrayPublisher)
-            m_publishers.computeIfAbsent(identifier, k -> m_nt.getBooleanArrayTopic(k).publish()))
+  public void log(LogHandle handle, boolean[] value) {
+    this.<BooleanArrayPublisher>getPublisher(
+            handle, (nt, k) -> nt.getBooleanArrayTopic(k).publish())
         .set(value);
   }
 
   @Override
-  public void log(String identifier, String value) {
-    ((StringPublisher)
-            m_publishers.computeIfAbsent(identifier, k -> m_nt.getStringTopic(k).publish()))
+  public void log(LogHandle handle, String value) {
+    this.<StringPublisher>getPublisher(handle, (nt, k) -> nt.getStringTopic(k).publish())
         .set(value);
   }
 
   @Override
-  public void log(String identifier, String[] value) {
-    ((StringArrayPublisher)
-            m_publishers.computeIfAbsent(identifier, k -> m_nt.getStringArrayTopic(k).publish()))
+  public void log(LogHandle handle, String[] value) {
+    this.<StringArrayPublisher>getPublisher(handle, (nt, k) -> nt.getStringArrayTopic(k).publish())
         .set(value);
   }
 
   @Override
   @SuppressWarnings("unchecked")
-  public <S> void log(String identifier, S value, Struct<S> struct) {
-    m_nt.addSchema(struct);
-    ((StructPublisher<S>)
-            m_publishers.computeIfAbsent(identifier, k -> m_nt.getStructTopic(k, struct).publish()))
-        .set(value);
+  public <S> void log(LogHandle handle, S value, Struct<S> struct) {
+    // Publishing the topic registers the struct schema with NetworkTables
+    var publisherHandle = resolve(handle);
+    if (publisherHandle.m_publisher == null) {
+      publisherHandle.m_publisher =
+          m_nt.getStructTopic(publisherHandle.getIdentifier(), struct).publish();
+    }
+    ((StructPublisher<S>) publisherHandle.m_publisher).set(value);
   }
 
   @Override
   @SuppressWarnings("unchecked")
-  public <S> void log(String identifier, S[] value, Struct<S> struct) {
-    m_nt.addSchema(struct);
-    ((StructArrayPublisher<S>)
-            m_publishers.computeIfAbsent(
-                identifier, k -> m_nt.getStructArrayTopic(k, struct).publish()))
-        .set(value);
+  public <S> void log(LogHandle handle, S[] value, Struct<S> struct) {
+    var publisherHandle = resolve(handle);
+    if (publisherHandle.m_publisher == null) {
+      publisherHandle.m_publisher =
+          m_nt.getStructArrayTopic(publisherHandle.getIdentifier(), struct).publish();
+    }
+    ((StructArrayPublisher<S>) publisherHandle.m_publisher).set(value);
   }
 }
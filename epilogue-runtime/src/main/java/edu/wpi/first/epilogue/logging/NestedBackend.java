@@ -17,6 +17,16 @@ public class NestedBackend implements EpilogueBackend {
   private final EpilogueBackend m_impl;
   private final Map<String, NestedBackend> m_nestedBackends = new HashMap<>();
 
+  /** A handle that holds the underlying backend's handle for the prefixed identifier. */
+  private static final class PrefixedHandle extends LogHandle {
+    private final LogHandle m_impl;
+
+    PrefixedHandle(NestedBackend backend, String identifier, LogHandle impl) {
+      super(backend, identifier);
+      this.m_impl = impl;
+    }
+  }
+
   /**
    * Creates a new nested backed underneath another backend.
    *
@@ -38,6 +48,19 @@ public class NestedBackend implements EpilogueBackend {
     return m_nestedBackends.computeIfAbsent(path, k -> new NestedBackend(k, this));
   }
 
+  @Override
+  public LogHandle getHandle(String identifier) {
+    // The prefixed identifier is only built once, when the handle is created
+    return new PrefixedHandle(this, identifier, m_impl.getHandle(m_prefix + identifier));
+  }
+
+  private LogHandle implHandle(LogHandle handle) {
+    if (handle instanceof PrefixedHandle prefixedHandle && handle.getBackend() == this) {
+      return prefixedHandle.m_impl;
+    }
+    return m_impl.getHandle(m_prefix + handle.getIdentifier());
+  }
+
   @Override
   public void log(String identifier, int value) {
     m_impl.log(m_prefix + identifier, value);
@@ -112,4 +135,79 @@ public class NestedBackend implements EpilogueBackend {
   public <S> void log(String identifier, S[] value, Struct<S> struct) {
     m_impl.log(m_prefix + identifier, value, struct);
   }
+
+  @Override
+  public void log(LogHandle handle, int value) {
+    m_impl.log(implHandle(handle), value);
+  }
+
+  @Override
+  public void log(LogHandle handle, long value) {
+    m_impl.log(implHandle(handle), value);
+  }
+
+  @Override
+  public void log(LogHandle handle, float value) {
+    m_impl.log(implHandle(handle), value);
+  }
+
+  @Override
+  public void log(LogHandle handle, double value) {
+    m_impl.log(implHandle(handle), value);
+  }
+
+  @Override
+  public void log(LogHandle handle, boolean value) {
+    m_impl.log(implHandle(handle), value);
+  }
+
+  @Override
+  public void log(LogHandle handle, byte[] value) {
+    m_impl.log(implHandle(handle), value);
+  }
+
+  @Override
+  public void log(LogHandle handle, int[] value) {
+    m_impl.log(implHandle(handle), value);
+  }
+
+  @Override
+  public void log(LogHandle handle, long[] value) {
+    m_impl.log(implHandle(handle), value);
+  }
+
+  @Override
+  public void log(LogHandle handle, float[] value) {
+    m_impl.log(implHandle(handle), value);
+  }
+
+  @Override
+  public void log(LogHandle handle, double[] value) {
+    m_impl.log(implHandle(handle), value);
+  }
+
+  @Override
+  public void log(LogHandle handle, boolean[] value) {
+    m_impl.log(implHandle(handle), value);
+  }
+
+  @Override
+  public void log(LogHandle handle, String value) {
+    m_impl.log(implHandle(handle), value);
+  }
+
+  @Override
+  public void log(LogHandle handle, String[] value) {
+    m_impl.log(implHandle(handle), value);
+  }
+
+  @Override
+  public <S> void log(LogHandle handle, S value, Struct<S> struct) {
+    m_impl.log(implHandle(handle), value, struct);
+  }
+
+  @Override
+  public <S> void log(LogHandle handle, S[] value, Struct<S> struct) {
+    m_impl.log(implHandle(handle), value, struct);
+  }
 }
@@ -0,0 +1,46 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.epilogue.replay;
+
+import static edu.wpi.first.util.ErrorMessages.requireNonNullParam;
+
+import edu.wpi.first.epilogue.logging.EpilogueBackend;
+import edu.wpi.first.util.datalog.DataLogRecord;
+
+/**
+ * A replay target that logs replayed data to an Epilogue backend, using the entry name as the
+ * identifier. Types without a matching backend method (e.g. structs and protobufs) are logged as
+ * raw bytes.
+ */
+public class BackendReplayTarget implements ReplayTarget {
+  private final EpilogueBackend m_backend;
+
+  /**
+   * Creates a replay target that logs to an Epilogue backend.
+   *
+   * @param backend the backend to log replayed data to
+   */
+  public BackendReplayTarget(EpilogueBackend backend) {
+    m_backend = requireNonNullParam(backend, "backend", "BackendReplayTarget");
+  }
+
+  @Override
+  public void publish(DataLogRecord.StartRecordData entry, DataLogRecord record) {
+    String name = entry.name;
+    switch (entry.type) {
+      case "boolean" -> m_backend.log(name, record.getBoolean());
+      case "int64" -> m_backend.log(name, record.getInteger());
+      case "float" -> m_backend.log(name, record.getFloat());
+      case "double" -> m_backend.log(name, record.getDouble());
+      case "string", "json" -> m_backend.log(name, record.getString());
+      case "boolean[]" -> m_backend.log(name, record.getBooleanArray());
+      case "int64[]" -> m_backend.log(name, record.getIntegerArray());
+      case "float[]" -> m_backend.log(name, record.getFloatArray());
+      case "double[]" -> m_backend.log(name, record.getDoubleArray());
+      case "string[]" -> m_backend.log(name, record.getStringArray());
+      default -> m_backend.log(name, record.getRaw());
+    }
+  }
+}
@@ -0,0 +1,179 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.epilogue.replay;
+
+import static edu.wpi.first.util.ErrorMessages.requireNonNullParam;
+
+import edu.wpi.first.util.datalog.DataLogIterator;
+import edu.wpi.first.util.datalog.DataLogReader;
+import edu.wpi.first.util.datalog.DataLogRecord;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays the data records of a data log to a {@link ReplayTarget}, such as {@link NTReplayTarget}
+ * to drive dashboards from a recorded match or {@link BackendReplayTarget} to feed an Epilogue
+ * backend.
+ *
+ * <p>Records are published in batches of consecutive records with the same timestamp. Replay can be
+ * paced in real time, at a multiple of real time, or as fast as possible (see {@link
+ * #setSpeed(double)}).
+ */
+public class LogReplayer {
+  /** Speed value that replays as fast as possible. */
+  public static final double kAsFastAsPossible = Double.POSITIVE_INFINITY;
+
+  private final DataLogIterator m_iterator;
+  private final ReplayTarget m_target;
+  private final Map<Integer, DataLogRecord.StartRecordData> m_entries = new HashMap<>();
+  private DataLogRecord m_next;
+  private double m_speed = 1.0;
+  private long m_currentTimestamp;
+  private volatile boolean m_stopped;
+
+  /**
+   * Creates a log replayer.
+   *
+   * @param reader data log reader
+   * @param target the target to publish replayed records to
+   */
+  public LogReplayer(DataLogReader reader, ReplayTarget target) {
+    requireNonNullParam(reader, "reader", "LogReplayer");
+    m_target = requireNonNullParam(target, "target", "LogReplayer");
+    m_iterator = reader.iterator();
+    m_next = readNext();
+  }
+
+  /**
+   * Sets the replay speed, as a multiple of real time. 1.0 replays in real time, 2.0 twice as fast,
+   * and {@link #kAsFastAsPossible} without any waiting. Speed only affects {@link #run()}.
+   *
+   * @param speed replay speed; must be positive
+   */
+  public void setSpeed(double speed) {
+    if (!(speed > 0)) {
+      throw new IllegalArgumentException("speed must be positive");
+    }
+    m_speed = speed;
+  }
+
+  /**
+   * Gets the replay speed, as a multiple of real time.
+   *
+   * @return replay speed
+   */
+  public double getSpeed() {
+    return m_speed;
+  }
+
+  /**
+   * Gets the recorded timestamp of the most recently published batch.
+   *
+   * @return timestamp, in integer microseconds
+   */
+  public long getCurrentTimestamp() {
+    return m_currentTimestamp;
+  }
+
+  /**
+   * Returns true if all records have been replayed.
+   *
+   * @return True if finished
+   */
+  public boolean isFinished() {
+    return m_next == null;
+  }
+
+  /**
+   * Immediately publishes the next batch of records with the same timestamp, without waiting.
+   *
+   * @return False if there were no records left to replay
+   */
+  public boolean step() {
+    if (m_next == null) {
+      return false;
+    }
+    long timestamp = m_next.getTimestamp();
+    boolean published = false;
+    while (m_next != null && m_next.getTimestamp() == timestamp) {
+      published |= handle(m_next);
+      m_next = readNext();
+    }
+    m_currentTimestamp = timestamp;
+    if (published) {
+      m_target.endBatch(timestamp);
+    }
+    return true;
+  }
+
+  /**
+   * Replays the remaining records at the configured speed. Blocks until all records are replayed or
+   * {@link #stop()} is called.
+   *
+   * @throws InterruptedException if the thread is interrupted while waiting for the next batch
+   */
+  public void run() throws InterruptedException {
+    m_stopped = false;
+    double speed = m_speed;
+    long startNanos = System.nanoTime();
+    long startTimestamp = m_next != null ? m_next.getTimestamp() : 0;
+    while (!m_stopped && m_next != null) {
+      if (m_speed != speed) {
+        // re-anchor so a speed change does not cause a jump
+        speed = m_speed;
+        startNanos = System.nanoTime();
+        startTimestamp = m_next.getTimestamp();
+      }
+      if (speed != kAsFastAsPossible) {
+        long target = startNanos + (long) ((m_next.getTimestamp() - startTimestamp) * 1000 / speed);
+        long delay = target - System.nanoTime();
+        if (delay > 0) {
+          TimeUnit.NANOSECONDS.sleep(delay);
+        }
+      }
+      step();
+    }
+  }
+
+  /** Stops a replay in progress in {@link #run()}. Can be called from any thread. */
+  public void stop() {
+    m_stopped = true;
+  }
+
+  // returns true if a data record was published
+  private boolean handle(DataLogRecord record) {
+    if (record.isStart()) {
+      DataLogRecord.StartRecordData entry = record.getStartData();
+      DataLogRecord.StartRecordData old = m_entries.put(entry.entry, entry);
+      if (old != null) {
+        m_target.finish(old);
+      }
+      m_target.start(entry);
+    } else if (record.isFinish()) {
+      DataLogRecord.StartRecordData entry = m_entries.remove(record.getFinishEntry());
+      if (entry != null) {
+        m_target.finish(entry);
+      }
+    } else if (!record.isControl()) {
+      DataLogRecord.StartRecordData entry = m_entries.get(record.getEntry());
+      if (entry != null) {
+        m_target.publish(entry, record);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private DataLogRecord readNext() {
+    try {
+      return m_iterator.hasNext() ? m_iterator.next() : null;
+    } catch (NoSuchElementException ex) {
+      // truncated log
+      return null;
+    }
+  }
+}
@@ -0,0 +1,98 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.epilogue.replay;
+
+import static edu.wpi.first.util.ErrorMessages.requireNonNullParam;
+
+import edu.wpi.first.networktables.GenericPublisher;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.networktables.NetworkTablesJNI;
+import edu.wpi.first.util.datalog.DataLogRecord;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A replay target that republishes replayed data to NetworkTables, keeping the recorded type string
+ * of every entry (so struct and protobuf topics can still be decoded by dashboards). The "NT:"
+ * prefix that DataLogManager adds to logged NetworkTables entries is removed from topic names.
+ *
+ * <p>All values in a batch are published with the same NetworkTables timestamp, and local listeners
+ * are flushed at the end of each batch, so consumers see consistent snapshots.
+ */
+public class NTReplayTarget implements ReplayTarget, AutoCloseable {
+  private static final String kNTPrefix = "NT:";
+
+  private final NetworkTableInstance m_nt;
+  private final Map<Integer, GenericPublisher> m_publishers = new HashMap<>();
+  private long m_batchTime;
+
+  /**
+   * Creates a replay target that publishes to a NetworkTables instance. The instance is typically
+   * started as a local server.
+   *
+   * @param nt the NetworkTables instance to publish replayed data to
+   */
+  public NTReplayTarget(NetworkTableInstance nt) {
+    m_nt = requireNonNullParam(nt, "nt", "NTReplayTarget");
+  }
+
+  @Override
+  public void start(DataLogRecord.StartRecordData entry) {
+    String name =
+        entry.name.startsWith(kNTPrefix) ? entry.name.substring(kNTPrefix.length()) : entry.name;
+    GenericPublisher old =
+        m_publishers.put(entry.entry, m_nt.getTopic(name).genericPublish(entry.type));
+    if (old != null) {
+      old.close();
+    }
+  }
+
+  @Override
+  public void finish(DataLogRecord.StartRecordData entry) {
+    GenericPublisher publisher = m_publishers.remove(entry.entry);
+    if (publisher != null) {
+      publisher.close();
+    }
+  }
+
+  @Override
+  public void publish(DataLogRecord.StartRecordData entry, DataLogRecord record) {
+    GenericPublisher publisher = m_publishers.get(entry.entry);
+    if (publisher == null) {
+      return;
+    }
+    if (m_batchTime == 0) {
+      m_batchTime = NetworkTablesJNI.now();
+    }
+    long time = m_batchTime;
+    switch (entry.type) {
+      case "boolean" -> publisher.setBoolean(record.getBoolean(), time);
+      case "int64" -> publisher.setInteger(record.getInteger(), time);
+      case "float" -> publisher.setFloat(record.getFloat(), time);
+      case "double" -> publisher.setDouble(record.getDouble(), time);
+      case "string", "json" -> publisher.setString(record.getString(), time);
+      case "boolean[]" -> publisher.setBooleanArray(record.getBooleanArray(), time);
+      case "int64[]" -> publisher.setIntegerArray(record.getIntegerArray(), time);
+      case "float[]" -> publisher.setFloatArray(record.getFloatArray(), time);
+      case "double[]" -> publisher.setDoubleArray(record.getDoubleArray(), time);
+      case "string[]" -> publisher.setStringArray(record.getStringArray(), time);
+      default -> publisher.setRaw(record.getRawBuffer(), time);
+    }
+  }
+
+  @Override
+  public void endBatch(long timestamp) {
+    if (m_batchTime != 0) {
+      m_nt.flushLocal();
+      m_batchTime = 0;
+    }
+  }
+
+  @Override
+  public void close() {
+    m_publishers.values().forEach(GenericPublisher::close);
+    m_publishers.clear();
+  }
+}
@@ -0,0 +1,41 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.epilogue.replay;
+
+import edu.wpi.first.util.datalog.DataLogRecord;
+
+/** A destination for data records replayed from a data log by a {@link LogReplayer}. */
+public interface ReplayTarget {
+  /**
+   * Called when an entry is started in the log. Any previous entry with the same ID has been
+   * finished.
+   *
+   * @param entry start record data of the entry
+   */
+  default void start(DataLogRecord.StartRecordData entry) {}
+
+  /**
+   * Called when an entry is finished in the log.
+   *
+   * @param entry start record data of the entry
+   */
+  default void finish(DataLogRecord.StartRecordData entry) {}
+
+  /**
+   * Publishes a single data record. All records with the same timestamp are published in one batch,
+   * followed by a call to {@link #endBatch(long)}.
+   *
+   * @param entry start record data of the entry the record belongs to
+   * @param record data record
+   */
+  void publish(DataLogRecord.StartRecordData entry, DataLogRecord record);
+
+  /**
+   * Called after all records with the same timestamp have been published.
+   *
+   * @param timestamp recorded timestamp of the batch, in integer microseconds
+   */
+  default void endBatch(long timestamp) {}
+}
@@ -0,0 +1,122 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.epilogue.logging;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+class AsyncBackendTest {
+  @Test
+  void logsOnClose() {
+    var backend = new TestBackend();
+    var async = new AsyncBackend(backend, 16);
+
+    async.log("int", 1);
+    async.log("double", 2.5);
+    async.getNested("Nested").log("bool", true);
+    async.log("string", "str");
+    async.close();
+
+    assertEquals(
+        List.of(
+            new TestBackend.LogEntry<>("int", 1),
+            new TestBackend.LogEntry<>("double", 2.5),
+            new TestBackend.LogEntry<>("Nested/bool", true),
+            new TestBackend.LogEntry<>("string", "str")),
+        backend.getEntries());
+  }
+
+  @Test
+  void copiesArrays() {
+    var backend = new TestBackend();
+    var async = new AsyncBackend(backend, 16);
+
+    double[] arr = {1, 2};
+    async.log("arr", arr);
+    arr[0] = 3;
+    async.log("arr", arr);
+    async.close();
+
+    assertEquals(2, backend.getEntries().size());
+    assertArrayEquals(new double[] {1, 2}, (double[]) backend.getEntries().get(0).value());
+    assertArrayEquals(new double[] {3, 2}, (double[]) backend.getEntries().get(1).value());
+  }
+
+  @Test
+  void packsStructs() {
+    var backend = new TestBackend();
+    var async = new AsyncBackend(backend, 16);
+
+    var array = new CustomStruct[] {new CustomStruct(2), new CustomStruct(3)};
+    async.log("struct", new CustomStruct(1), CustomStruct.struct);
+    async.log("array", array, CustomStruct.struct);
+    async.close();
+
+    // The values are unpacked on the background thread, so they reach the backend the same as if
+    // they'd been logged to it directly
+    var direct = new TestBackend();
+    direct.log("struct", new CustomStruct(1), CustomStruct.struct);
+    direct.log("array", array, CustomStruct.struct);
+
+    assertEquals(2, backend.getEntries().size());
+    assertArrayEquals(new byte[] {1, 0, 0, 0}, (byte[]) backend.getEntries().get(0).value());
+    assertArrayEquals(
+        (byte[]) direct.getEntries().get(1).value(), (byte[]) backend.getEntries().get(1).value());
+  }
+
+  @Test
+  void dropsWhenFull() throws InterruptedException {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var backend =
+        new TestBackend() {
+          @Override
+          public void log(String identifier, int value) {
+            started.countDown();
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            super.log(identifier, value);
+          }
+        };
+    var async = new AsyncBackend(backend, 2);
+
+    // Block the background thread on the first value, then fill up the ring
+    async.log("int", 0);
+    started.await();
+    async.log("int", 1);
+    async.log("int", 2);
+    async.log("int", 3);
+
+    assertEquals(2, async.getDroppedCount());
+    assertEquals(2, async.getHighWaterMark());
+
+    release.countDown();
+    async.close();
+
+    assertEquals(
+        List.of(new TestBackend.LogEntry<>("int", 0), new TestBackend.LogEntry<>("int", 1)),
+        backend.getEntries());
+  }
+
+  @Test
+  void roundsCapacityUp() {
+    var async = new AsyncBackend(new TestBackend(), 100);
+    assertEquals(128, async.getCapacity());
+    async.close();
+  }
+
+  @Test
+  void rejectsEmptyCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new AsyncBackend(new TestBackend(), 0));
+  }
+}
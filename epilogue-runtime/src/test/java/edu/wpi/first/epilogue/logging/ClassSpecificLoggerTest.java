@@ -5,6 +5,8 @@
 package edu.wpi.first.epilogue.logging;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import edu.wpi.first.epilogue.Logged;
 import java.util.List;
@@ -25,6 +27,20 @@ class ClassSpecificLoggerTest {
         backend.log("dim", object.dim);
       }
     }
+
+    static class HandleLogger extends ClassSpecificLogger<Point2d> {
+      HandleLogger() {
+        super(Point2d.class, "x", "y", "dim");
+      }
+
+      @Override
+      protected void update(EpilogueBackend backend, Point2d object) {
+        var handles = getHandles(backend);
+        backend.log(handles[0], object.x);
+        backend.log(handles[1], object.y);
+        backend.log(handles[2], object.dim);
+      }
+    }
   }
 
   @Test
@@ -41,4 +57,55 @@ class ClassSpecificLoggerTest {
             new TestBackend.LogEntry<>("Point/dim", 2)),
         dataLog.getEntries());
   }
+
+  @Test
+  void testLogThroughHandles() {
+    var logger = new Point2d.HandleLogger();
+    var dataLog = new TestBackend();
+    logger.update(dataLog.getNested("A"), new Point2d(1, 4, 2));
+    logger.update(dataLog.getNested("B"), new Point2d(3, 5, 2));
+
+    assertEquals(
+        List.of(
+            new TestBackend.LogEntry<>("A/x", 1.0),
+            new TestBackend.LogEntry<>("A/y", 4.0),
+            new TestBackend.LogEntry<>("A/dim", 2),
+            new TestBackend.LogEntry<>("B/x", 3.0),
+            new TestBackend.LogEntry<>("B/y", 5.0),
+            new TestBackend.LogEntry<>("B/dim", 2)),
+        dataLog.getEntries());
+  }
+
+  @Test
+  void testHandlesAreResolvedOncePerBackend() {
+    var logger = new Point2d.HandleLogger();
+    var dataLog = new TestBackend();
+    var a = dataLog.getNested("A");
+    var b = dataLog.getNested("B");
+
+    var handlesA = logger.getHandles(a);
+    var handlesB = logger.getHandles(b);
+
+    assertNotSame(handlesA, handlesB);
+    assertSame(handlesA, logger.getHandles(a));
+    assertSame(handlesB, logger.getHandles(b));
+    assertEquals("x", handlesA[0].getIdentifier());
+    assertSame(a, handlesA[0].getBackend());
+  }
+
+  @Test
+  void testNextLogTimesArePerBackend() {
+    var logger = new Point2d.HandleLogger();
+    var dataLog = new TestBackend();
+    var a = dataLog.getNested("A");
+    var b = dataLog.getNested("B");
+
+    var timesA = logger.getNextLogTimes(a);
+    var timesB = logger.getNextLogTimes(b);
+
+    assertEquals(3, timesA.length);
+    assertNotSame(timesA, timesB);
+    assertSame(timesA, logger.getNextLogTimes(a));
+    assertSame(timesB, logger.getNextLogTimes(b));
+  }
 }
@@ -185,4 +185,125 @@ class LazyBackendTest {
     assertArrayEquals(
         new byte[] {0x01, 0x00, 0x00, 0x00}, (byte[]) backend.getEntries().get(1).value());
   }
+
+  @Test
+  void handleSharesPreviousValueWithIdentifier() {
+    var backend = new TestBackend();
+    var lazy = new LazyBackend(backend);
+    var handle = lazy.getHandle("double");
+
+    lazy.log("double", 1.0);
+    lazy.log(handle, 1.0);
+    lazy.log(handle, 2.0);
+    lazy.log("double", 2.0);
+
+    assertEquals(
+        List.of(
+            new TestBackend.LogEntry<>("double", 1.0), new TestBackend.LogEntry<>("double", 2.0)),
+        backend.getEntries());
+  }
+
+  @Test
+  void nestedHandle() {
+    var backend = new TestBackend();
+    var lazy = new LazyBackend(backend);
+    var nested = lazy.getNested("Nested");
+    var handle = nested.getHandle("int");
+
+    nested.log(handle, 1);
+    nested.log(handle, 1);
+    nested.log("int", 1);
+    nested.log(handle, 2);
+
+    assertEquals(
+        List.of(
+            new TestBackend.LogEntry<>("Nested/int", 1),
+            new TestBackend.LogEntry<>("Nested/int", 2)),
+        backend.getEntries());
+  }
+
+  @Test
+  void keyframeInterval() {
+    var backend = new TestBackend();
+    var lazy = new LazyBackend(backend, 2);
+
+    for (int i = 0; i < 7; i++) {
+      lazy.log("double", 1.5);
+    }
+
+    // Logged the first time, then again after every two skipped updates
+    assertEquals(
+        List.of(
+            new TestBackend.LogEntry<>("double", 1.5),
+            new TestBackend.LogEntry<>("double", 1.5),
+            new TestBackend.LogEntry<>("double", 1.5)),
+        backend.getEntries());
+  }
+
+  @Test
+  void keyframeIntervalResetsOnChange() {
+    var backend = new TestBackend();
+    var lazy = new LazyBackend(backend, 2);
+
+    lazy.log("int", 0);
+    lazy.log("int", 0);
+    lazy.log("int", 1);
+    lazy.log("int", 1);
+    lazy.log("int", 1);
+    lazy.log("int", 1);
+
+    assertEquals(
+        List.of(
+            new TestBackend.LogEntry<>("int", 0),
+            new TestBackend.LogEntry<>("int", 1),
+            new TestBackend.LogEntry<>("int", 1)),
+        backend.getEntries());
+  }
+
+  @Test
+  void countsWrittenAndSuppressedBytes() {
+    var lazy = new LazyBackend(new NullBackend());
+
+    lazy.log("double", 1.0);
+    lazy.log("double", 1.0);
+    lazy.log("double", 1.0);
+    lazy.log("string", "abc");
+    lazy.log("string", "abc");
+    lazy.log("array", new float[] {1, 2});
+    lazy.log("array", new float[] {1, 3});
+
+    assertEquals(Double.BYTES + 3 + 2 * Float.BYTES * 2, lazy.getWrittenBytes());
+    assertEquals(2 * Double.BYTES + 3, lazy.getSuppressedBytes());
+  }
+
+  @Test
+  void sameBitsDifferentType() {
+    var backend = new TestBackend();
+    var lazy = new LazyBackend(backend);
+
+    lazy.log("value", 1);
+    lazy.log("value", 1L);
+
+    assertEquals(
+        List.of(new TestBackend.LogEntry<>("value", 1), new TestBackend.LogEntry<>("value", 1L)),
+        backend.getEntries());
+  }
+
+  @Test
+  void negativeZeroIsAChange() {
+    var backend = new TestBackend();
+    var lazy = new LazyBackend(backend);
+
+    lazy.log("double", 0.0);
+    lazy.log("double", -0.0);
+    lazy.log("double", Double.NaN);
+    lazy.log("double", Double.NaN);
+
+    assertEquals(
+        List.of(
+            new TestBackend.LogEntry<>("double", 0.0),
+            new TestBackend.LogEntry<>("double", -0.0),
+            new TestBackend.LogEntry<>("double", Double.NaN)),
+        backend.getEntries());
+  }
 }
@@ -0,0 +1,164 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.epilogue.logging;
+
+import static edu.wpi.first.units.Units.Seconds;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LogSchedulerTest {
+  private static final long kHour = 3_600_000_000_000L;
+
+  @Test
+  void logsOnFirstUpdate() {
+    var scheduler = new LogScheduler();
+    var first = new long[1];
+    var second = new long[1];
+    scheduler.startCycle(null);
+
+    assertTrue(scheduler.isDue(first, 0, kHour));
+    assertTrue(scheduler.isDue(second, 0, kHour));
+  }
+
+  @Test
+  void staggersFirstUpdates() {
+    var clock = new long[] {1000};
+    var scheduler = new LogScheduler(() -> clock[0]);
+    var nextLogTimes = new long[4];
+    scheduler.startCycle(null);
+
+    assertTrue(scheduler.isDue(nextLogTimes, 0, 400));
+    for (int i = 1; i < 4; i++) {
+      assertFalse(scheduler.isDue(nextLogTimes, i, 400));
+      assertEquals(1000 + 100 * i, nextLogTimes[i]);
+    }
+
+    // Each element falls due at its own time
+    for (int i = 1; i < 4; i++) {
+      clock[0] = 1000 + 100 * i;
+      scheduler.startCycle(null);
+      for (int j = 1; j < 4; j++) {
+        assertEquals(i == j, scheduler.isDue(nextLogTimes, j, 400));
+      }
+    }
+  }
+
+  @Test
+  void waitsForPeriod() {
+    var scheduler = new LogScheduler();
+    var nextLogTimes = new long[1];
+    scheduler.startCycle(null);
+    assertTrue(scheduler.isDue(nextLogTimes, 0, kHour));
+
+    scheduler.startCycle(null);
+    assertFalse(scheduler.isDue(nextLogTimes, 0, kHour));
+    assertEquals(0, scheduler.getDeferredCount());
+  }
+
+  @Test
+  void logsAgainAfterPeriod() {
+    var scheduler = new LogScheduler();
+    var nextLogTimes = new long[1];
+    scheduler.startCycle(null);
+    assertTrue(scheduler.isDue(nextLogTimes, 0, 1));
+
+    // Every update is at least a nanosecond apart
+    for (int i = 0; i < 5; i++) {
+      long start = System.nanoTime();
+      while (System.nanoTime() == start) {
+        Thread.onSpinWait();
+      }
+
+      scheduler.startCycle(null);
+      assertTrue(scheduler.isDue(nextLogTimes, 0, 1));
+    }
+  }
+
+  @Test
+  void defersWhenOverBudget() {
+    var scheduler = new LogScheduler();
+    var first = new long[1];
+    var second = new long[1];
+
+    // No time at all to log reduced-rate data
+    scheduler.startCycle(Seconds.of(0));
+    assertFalse(scheduler.isDue(first, 0, kHour));
+    assertFalse(scheduler.isDue(second, 0, kHour));
+    assertEquals(2, scheduler.getDeferredCount());
+
+    // Deferred data is logged on the next cycle with time available
+    scheduler.startCycle(Seconds.of(60));
+    assertTrue(scheduler.isDue(first, 0, kHour));
+    assertTrue(scheduler.isDue(second, 0, kHour));
+    assertEquals(2, scheduler.getDeferredCount());
+  }
+
+  @Test
+  void deferredDataRestartsItsSchedule() {
+    var clock = new long[] {1000};
+    var scheduler = new LogScheduler(() -> clock[0]);
+    var nextLogTimes = new long[1];
+    scheduler.startCycle(null);
+    assertTrue(scheduler.isDue(nextLogTimes, 0, 100));
+
+    // Due at 1100, but deferred
+    clock[0] = 1100;
+    scheduler.startCycle(Seconds.of(0));
+    assertFalse(scheduler.isDue(nextLogTimes, 0, 100));
+
+    // Logged at 1130, so it's next due at 1230 rather than back in step at 1200
+    clock[0] = 1130;
+    scheduler.startCycle(null);
+    assertTrue(scheduler.isDue(nextLogTimes, 0, 100));
+    assertEquals(1230, nextLogTimes[0]);
+  }
+
+  @Test
+  void spreadsSamePeriodDataAcrossCycles() {
+    final int count = 12;
+    final long period = 40_000_000L;
+    final long cycle = 5_000_000L;
+    final long cost = 1_000_000L;
+
+    // Each logged element takes 1 ms and a cycle may spend 2.5 ms, so at most 3 fit in a cycle
+    var clock = new long[] {1};
+    var scheduler = new LogScheduler(() -> clock[0]);
+    var loggers = new long[count][1];
+    var logCounts = new int[count];
+    int maxPerCycle = 0;
+    long deferredAtHalfway = 0;
+
+    for (int i = 0; i < 200; i++) {
+      clock[0] = 1 + i * cycle;
+      scheduler.startCycle(Seconds.of(0.0025));
+      int logged = 0;
+      for (int j = 0; j < count; j++) {
+        if (scheduler.isDue(loggers[j], 0, period)) {
+          clock[0] += cost;
+          logCounts[j]++;
+          logged++;
+        }
+      }
+      if (i == 100) {
+        deferredAtHalfway = scheduler.getDeferredCount();
+      }
+      if (i > 100) {
+        maxPerCycle = Math.max(maxPerCycle, logged);
+      }
+    }
+
+    // Every element takes its turn, about once per period over the 1 s run
+    for (int j = 0; j < count; j++) {
+      assertTrue(logCounts[j] >= 20, "element " + j + " logged " + logCounts[j] + " times");
+    }
+    // Once the elements have drifted apart, they fall due a few at a time and nothing has to be
+    // deferred any more
+    assertTrue(maxPerCycle <= 3, "logged " + maxPerCycle + " in one cycle");
+    assertEquals(deferredAtHalfway, scheduler.getDeferredCount());
+  }
+}
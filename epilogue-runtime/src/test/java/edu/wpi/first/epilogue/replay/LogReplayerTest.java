@@ -0,0 +1,128 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.epilogue.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.wpi.first.epilogue.logging.TestBackend;
+import edu.wpi.first.util.datalog.DataLogReader;
+import edu.wpi.first.util.datalog.DataLogRecord;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LogReplayerTest {
+  private final ByteArrayOutputStream m_log = new ByteArrayOutputStream();
+
+  private void header() {
+    m_log.writeBytes("WPILOG".getBytes(StandardCharsets.UTF_8));
+    m_log.writeBytes(new byte[] {0x00, 0x01, 0, 0, 0, 0});
+  }
+
+  private void record(int entry, long timestamp, byte[] data) {
+    ByteBuffer buf = ByteBuffer.allocate(17 + data.length).order(ByteOrder.LITTLE_ENDIAN);
+    // 4-byte entry and size, 8-byte timestamp
+    buf.put((byte) 0x7f).putInt(entry).putInt(data.length).putLong(timestamp).put(data);
+    m_log.writeBytes(buf.array());
+  }
+
+  private void start(int entry, String name, String type) {
+    byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+    byte[] typeBytes = type.getBytes(StandardCharsets.UTF_8);
+    ByteBuffer buf =
+        ByteBuffer.allocate(17 + nameBytes.length + typeBytes.length)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    buf.put((byte) 0).putInt(entry).putInt(nameBytes.length).put(nameBytes);
+    buf.putInt(typeBytes.length).put(typeBytes).putInt(0);
+    record(0, 0, buf.array());
+  }
+
+  private void appendDouble(int entry, long timestamp, double value) {
+    record(
+        entry,
+        timestamp,
+        ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putDouble(value).array());
+  }
+
+  private DataLogReader makeLog() {
+    header();
+    start(1, "/a", "double");
+    start(2, "/b", "string");
+    appendDouble(1, 1000, 1.0);
+    record(2, 1000, "x".getBytes(StandardCharsets.UTF_8));
+    appendDouble(1, 2000, 2.0);
+    appendDouble(1, 3000, 3.0);
+    return new DataLogReader(ByteBuffer.wrap(m_log.toByteArray()));
+  }
+
+  @Test
+  void testStep() {
+    List<Long> batches = new ArrayList<>();
+    List<String> published = new ArrayList<>();
+    var replayer =
+        new LogReplayer(
+            makeLog(),
+            new ReplayTarget() {
+              @Override
+              public void publish(DataLogRecord.StartRecordData entry, DataLogRecord record) {
+                published.add(entry.name);
+              }
+
+              @Override
+              public void endBatch(long timestamp) {
+                batches.add(timestamp);
+              }
+            });
+
+    // control records at timestamp 0 do not produce a batch
+    assertTrue(replayer.step());
+    assertEquals(List.of(), batches);
+
+    assertTrue(replayer.step());
+    assertEquals(List.of(1000L), batches);
+    assertEquals(List.of("/a", "/b"), published);
+    assertEquals(1000, replayer.getCurrentTimestamp());
+
+    assertTrue(replayer.step());
+    assertTrue(replayer.step());
+    assertTrue(replayer.isFinished());
+    assertFalse(replayer.step());
+    assertEquals(List.of(1000L, 2000L, 3000L), batches);
+  }
+
+  @Test
+  void testRunBackend() throws InterruptedException {
+    var backend = new TestBackend();
+    var replayer = new LogReplayer(makeLog(), new BackendReplayTarget(backend));
+    replayer.setSpeed(LogReplayer.kAsFastAsPossible);
+    replayer.run();
+
+    assertEquals(
+        List.of(
+            new TestBackend.LogEntry<>("/a", 1.0),
+            new TestBackend.LogEntry<>("/b", "x"),
+            new TestBackend.LogEntry<>("/a", 2.0),
+            new TestBackend.LogEntry<>("/a", 3.0)),
+        backend.getEntries());
+  }
+
+  @Test
+  void testRunPaced() throws InterruptedException {
+    var backend = new TestBackend();
+    var replayer = new LogReplayer(makeLog(), new BackendReplayTarget(backend));
+    // 3 ms of log at 0.5x speed takes at least 4 ms after the first batch
+    replayer.setSpeed(0.5);
+    long start = System.nanoTime();
+    replayer.run();
+    assertTrue(System.nanoTime() - start >= 4_000_000);
+    assertEquals(4, backend.getEntries().size());
+  }
+}
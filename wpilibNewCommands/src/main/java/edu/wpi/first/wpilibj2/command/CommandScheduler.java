@@ -9,6 +9,8 @@ import static edu.wpi.first.util.ErrorMessages.requireNonNullParam;
 import edu.wpi.first.hal.FRCNetComm.tInstances;
 import edu.wpi.first.hal.FRCNetComm.tResourceType;
 import edu.wpi.first.hal.HAL;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
 import edu.wpi.first.util.sendable.Sendable;
 import edu.wpi.first.util.sendable.SendableBuilder;
 import edu.wpi.first.util.sendable.SendableRegistry;
@@ -25,10 +27,8 @@ import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -64,18 +64,100 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
 
   private static final Optional<Command> kNoInterruptor = Optional.empty();
 
+  // Profiles are published about once a second at the default loop period
+  private static final int kProfilePublishInterval = 50;
+  private static final int kSlowestReportCount = 5;
+
   private final Map<Command, Exception> m_composedCommands = new WeakHashMap<>();
 
-  // A set of the currently-running commands.
-  private final Set<Command> m_scheduledCommands = new LinkedHashSet<>();
+  // The scheduler's bookkeeping for a subsystem. Every subsystem that is registered or required by
+  // a scheduled command is given a dense id so that requirements can be stored and compared as
+  // bitsets. Once a subsystem is neither, its state is released and its id may be reused.
+  private static final class SubsystemState {
+    final Subsystem m_subsystem;
+    final int m_id;
+    boolean m_registered;
+    Command m_defaultCommand;
+    Command m_requiring;
+    SchedulerProfiler.Stats m_profile;
+
+    // The watchdog epoch name, rebuilt only when the subsystem's name changes
+    private String m_name;
+    private String m_periodicEpoch;
+
+    SubsystemState(Subsystem subsystem, int id) {
+      m_subsystem = subsystem;
+      m_id = id;
+    }
+
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    String getPeriodicEpoch() {
+      String name = m_subsystem.getName();
+      if (name != m_name) {
+        m_name = name;
+        m_periodicEpoch = name + ".periodic()";
+      }
+      return m_periodicEpoch;
+    }
+  }
+
+  // The scheduler's bookkeeping for a currently-running command.
+  private static final class ScheduledCommand {
+    final Command m_command;
+    // The ids of the subsystems the command required when it was scheduled
+    final long[] m_requirements;
+    boolean m_ending;
+    SchedulerProfiler.Stats m_profile;
+
+    // The watchdog epoch names, rebuilt only when the command's name changes
+    private String m_name;
+    private String m_executeEpoch;
+    private String m_endEpoch;
+
+    ScheduledCommand(Command command, long[] requirements) {
+      m_command = command;
+      m_requirements = requirements;
+    }
+
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private void updateEpochNames() {
+      String name = m_command.getName();
+      if (name != m_name) {
+        m_name = name;
+        m_executeEpoch = name + ".execute()";
+        m_endEpoch = name + ".end(false)";
+      }
+    }
+
+    String getExecuteEpoch() {
+      updateEpochNames();
+      return m_executeEpoch;
+    }
+
+    String getEndEpoch() {
+      updateEpochNames();
+      return m_endEpoch;
+    }
+  }
+
+  private final Map<Subsystem, SubsystemState> m_subsystemStates = new HashMap<>();
+  private final List<SubsystemState> m_subsystemsById = new ArrayList<>();
+  // The released ids, which are handed out again before new ones
+  private int[] m_freeIds = new int[8];
+  private int m_freeIdCount;
 
-  // A map from required subsystems to their requiring commands. Also used as a set of the
-  // currently-required subsystems.
-  private final Map<Subsystem, Command> m_requirements = new LinkedHashMap<>();
+  // The currently-registered subsystems, in the order they were registered.
+  private final List<Subsystem> m_subsystems = new ArrayList<>();
+  private final List<SubsystemState> m_registeredStates = new ArrayList<>();
 
-  // A map from subsystems registered with the scheduler to their default commands.  Also used
-  // as a list of currently-registered subsystems.
-  private final Map<Subsystem, Command> m_subsystems = new LinkedHashMap<>();
+  // A bitset of the ids of the currently-required subsystems.
+  private long[] m_requiredMask = new long[1];
+
+  // The currently-running commands, in the order they were scheduled, and a map from each of them
+  // to its entry.
+  private ScheduledCommand[] m_scheduledCommands = new ScheduledCommand[16];
+  private int m_scheduledCount;
+  private final Map<Command, ScheduledCommand> m_scheduledLookup = new HashMap<>();
 
   private final EventLoop m_defaultButtonLoop = new EventLoop();
   // The set of currently-registered buttons that will be polled every iteration.
@@ -92,12 +174,18 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
   // Flag and queues for avoiding ConcurrentModificationException if commands are
   // scheduled/canceled during run
   private boolean m_inRunLoop;
-  private final Set<Command> m_toSchedule = new LinkedHashSet<>();
+  private final List<Command> m_toSchedule = new ArrayList<>();
   private final List<Command> m_toCancelCommands = new ArrayList<>();
   private final List<Optional<Command>> m_toCancelInterruptors = new ArrayList<>();
-  private final Set<Command> m_endingCommands = new LinkedHashSet<>();
 
   private final Watchdog m_watchdog = new Watchdog(TimedRobot.kDefaultPeriod, () -> {});
+  private boolean m_timingPublishEnabled;
+  private NetworkTable m_timingTable;
+
+  private final SchedulerProfiler m_profiler =
+      new SchedulerProfiler(SchedulerProfiler.kDefaultCapacity);
+  private boolean m_profilingEnabled;
+  private int m_profilePublishCount;
 
   CommandScheduler() {
     HAL.report(tResourceType.kResourceType_Command, tInstances.kCommand2_Scheduler);
@@ -120,6 +208,41 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
     m_watchdog.setTimeout(period);
   }
 
+  /**
+   * Enables or disables publishing scheduler timing statistics to NetworkTables every time the
+   * scheduler runs. By default, this is disabled. The 50th percentile, 99th percentile, and maximum
+   * times of each subsystem's periodic method and each command's methods are published under {@code
+   * /Timing/CommandScheduler}.
+   *
+   * @param enabled True to enable, false to disable
+   */
+  public void setTimingPublishEnabled(boolean enabled) {
+    m_timingPublishEnabled = enabled;
+  }
+
+  /**
+   * Enables or disables the scheduler's profiler. By default, this is disabled. While enabled, the
+   * time spent in each command's initialize, execute, and end methods and each subsystem's periodic
+   * methods is recorded. The profiles are published as a struct array under {@code
+   * /Timing/CommandScheduler/Profile} about once a second if timing publishing is enabled, and the
+   * slowest commands and subsystems are printed whenever the loop overruns.
+   *
+   * @param enabled True to enable, false to disable
+   */
+  public void setProfilingEnabled(boolean enabled) {
+    m_profilingEnabled = enabled;
+  }
+
+  /**
+   * Gets the scheduler's profiler.
+   *
+   * @return the profiler
+   * @see #setProfilingEnabled(boolean)
+   */
+  public SchedulerProfiler getProfiler() {
+    return m_profiler;
+  }
+
   @Override
   public void close() {
     SendableRegistry.remove(this);
@@ -155,18 +278,114 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
         requireNonNullParam(loop, "loop", "CommandScheduler" + ".replaceButtonEventLoop");
   }
 
+  /**
+   * Gets the scheduler's bookkeeping for a subsystem, assigning the subsystem an id if it does not
+   * have one. The state must be released with {@link #releaseIfUnused(SubsystemState)} if the
+   * subsystem ends up neither registered nor required.
+   *
+   * @param subsystem The subsystem
+   * @return The subsystem's state
+   */
+  private SubsystemState getState(Subsystem subsystem) {
+    SubsystemState state = m_subsystemStates.get(subsystem);
+    if (state == null) {
+      if (m_freeIdCount > 0) {
+        state = new SubsystemState(subsystem, m_freeIds[--m_freeIdCount]);
+        m_subsystemsById.set(state.m_id, state);
+      } else {
+        state = new SubsystemState(subsystem, m_subsystemsById.size());
+        m_subsystemsById.add(state);
+      }
+      m_subsystemStates.put(subsystem, state);
+    }
+    return state;
+  }
+
+  /**
+   * Releases the scheduler's bookkeeping for a subsystem, and frees its id, if the subsystem is
+   * neither registered nor required by a scheduled command.
+   *
+   * @param state The subsystem's state
+   */
+  private void releaseIfUnused(SubsystemState state) {
+    if (state.m_registered
+        || state.m_requiring != null
+        || m_subsystemStates.get(state.m_subsystem) != state) {
+      return;
+    }
+    m_subsystemStates.remove(state.m_subsystem);
+    m_subsystemsById.set(state.m_id, null);
+    if (m_freeIdCount == m_freeIds.length) {
+      m_freeIds = Arrays.copyOf(m_freeIds, m_freeIdCount * 2);
+    }
+    m_freeIds[m_freeIdCount++] = state.m_id;
+  }
+
+  /**
+   * Releases the bookkeeping of every subsystem in a bitset that is neither registered nor
+   * required.
+   *
+   * @param mask The bitset of subsystem ids
+   */
+  private void releaseIfUnused(long[] mask) {
+    for (int word = 0; word < mask.length; word++) {
+      for (long bits = mask[word]; bits != 0; bits &= bits - 1) {
+        SubsystemState state = m_subsystemsById.get((word << 6) + Long.numberOfTrailingZeros(bits));
+        if (state != null) {
+          releaseIfUnused(state);
+        }
+      }
+    }
+  }
+
+  /**
+   * Builds a bitset of the ids of a set of subsystems.
+   *
+   * @param requirements The subsystems
+   * @return The bitset
+   */
+  private long[] requirementMask(Set<Subsystem> requirements) {
+    long[] mask = new long[m_requiredMask.length];
+    for (Subsystem requirement : requirements) {
+      int id = getState(requirement).m_id;
+      if (id >>> 6 >= mask.length) {
+        mask = Arrays.copyOf(mask, (id >>> 6) + 1);
+      }
+      mask[id >>> 6] |= 1L << id;
+    }
+    return mask;
+  }
+
   /**
    * Initializes a given command, adds its requirements to the list, and performs the init actions.
    *
    * @param command The command to initialize
-   * @param requirements The command requirements
+   * @param requirements The bitset of the command's requirements
    */
-  private void initCommand(Command command, Set<Subsystem> requirements) {
-    m_scheduledCommands.add(command);
-    for (Subsystem requirement : requirements) {
-      m_requirements.put(requirement, command);
+  private void initCommand(Command command, long[] requirements) {
+    if (m_scheduledCount == m_scheduledCommands.length) {
+      m_scheduledCommands = Arrays.copyOf(m_scheduledCommands, m_scheduledCount * 2);
+    }
+    var scheduled = new ScheduledCommand(command, requirements);
+    m_scheduledCommands[m_scheduledCount++] = scheduled;
+    m_scheduledLookup.put(command, scheduled);
+
+    if (requirements.length > m_requiredMask.length) {
+      m_requiredMask = Arrays.copyOf(m_requiredMask, requirements.length);
     }
+    for (int word = 0; word < requirements.length; word++) {
+      m_requiredMask[word] |= requirements[word];
+      for (long bits = requirements[word]; bits != 0; bits &= bits - 1) {
+        int id = (word << 6) + Long.numberOfTrailingZeros(bits);
+        m_subsystemsById.get(id).m_requiring = command;
+      }
+    }
+
+    long start = m_profilingEnabled ? System.nanoTime() : 0;
     command.initialize();
+    if (m_profilingEnabled) {
+      getProfile(scheduled).recordInitialize(System.nanoTime() - start);
+    }
     for (Consumer<Command> action : m_initActions) {
       action.accept(command);
     }
@@ -191,7 +410,9 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
       return;
     }
     if (m_inRunLoop) {
-      m_toSchedule.add(command);
+      if (!m_toSchedule.contains(command)) {
+        m_toSchedule.add(command);
+      }
       return;
     }
 
@@ -206,10 +427,11 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
     }
 
     Set<Subsystem> requirements = command.getRequirements();
+    long[] mask = requirementMask(requirements);
 
     // Schedule the command if the requirements are not currently in-use.
-    if (Collections.disjoint(m_requirements.keySet(), requirements)) {
-      initCommand(command, requirements);
+    if (!intersectsRequired(mask)) {
+      initCommand(command, mask);
     } else {
       // Else check if the requirements that are in use have all have interruptible commands,
       // and if so, interrupt those commands and schedule the new command.
@@ -217,6 +439,7 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
         Command requiring = requiring(requirement);
         if (requiring != null
             && requiring.getInterruptionBehavior() == InterruptionBehavior.kCancelIncoming) {
+          releaseIfUnused(mask);
           return;
         }
       }
@@ -226,7 +449,56 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
           cancel(requiring, Optional.of(command));
         }
       }
-      initCommand(command, requirements);
+      // Canceling may have released some of the requirements' ids, so they are looked up again
+      initCommand(command, requirementMask(requirements));
+    }
+  }
+
+  /**
+   * Checks whether any of the subsystems in a bitset are currently required.
+   *
+   * @param mask The bitset of subsystem ids
+   * @return Whether any of the subsystems are required
+   */
+  private boolean intersectsRequired(long[] mask) {
+    int words = Math.min(mask.length, m_requiredMask.length);
+    for (int word = 0; word < words; word++) {
+      if ((mask[word] & m_requiredMask[word]) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private SchedulerProfiler.Stats getProfile(ScheduledCommand scheduled) {
+    if (scheduled.m_profile == null || scheduled.m_profile.m_evicted) {
+      scheduled.m_profile = m_profiler.getStats(scheduled.m_command);
+    }
+    return scheduled.m_profile;
+  }
+
+  private SchedulerProfiler.Stats getProfile(SubsystemState state, Subsystem subsystem) {
+    if (state.m_profile == null || state.m_profile.m_evicted) {
+      state.m_profile = m_profiler.getStats(subsystem);
+    }
+    return state.m_profile;
+  }
+
+  /**
+   * Frees the subsystems a command required when it was scheduled.
+   *
+   * @param scheduled The command's entry
+   */
+  private void removeRequirements(ScheduledCommand scheduled) {
+    long[] requirements = scheduled.m_requirements;
+    for (int word = 0; word < requirements.length; word++) {
+      m_requiredMask[word] &= ~requirements[word];
+      for (long bits = requirements[word]; bits != 0; bits &= bits - 1) {
+        int id = (word << 6) + Long.numberOfTrailingZeros(bits);
+        SubsystemState state = m_subsystemsById.get(id);
+        state.m_requiring = null;
+        releaseIfUnused(state);
+      }
     }
   }
 
@@ -263,14 +535,24 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
       return;
     }
     m_watchdog.reset();
+    boolean profiling = m_profilingEnabled;
+    if (profiling) {
+      m_profiler.startLoop();
+    }
 
     // Run the periodic method of all registered subsystems.
-    for (Subsystem subsystem : m_subsystems.keySet()) {
+    for (int i = 0; i < m_subsystems.size(); i++) {
+      Subsystem subsystem = m_subsystems.get(i);
+      SubsystemState state = m_registeredStates.get(i);
+      long start = profiling ? System.nanoTime() : 0;
       subsystem.periodic();
       if (RobotBase.isSimulation()) {
         subsystem.simulationPeriodic();
       }
-      m_watchdog.addEpoch(subsystem.getName() + ".periodic()");
+      if (profiling) {
+        getProfile(state, subsystem).recordRun(System.nanoTime() - start);
+      }
+      m_watchdog.addEpoch(state.getPeriodicEpoch());
     }
 
     // Cache the active instance to avoid concurrency problems if setActiveLoop() is called from
@@ -282,42 +564,66 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
 
     m_inRunLoop = true;
     boolean isDisabled = RobotState.isDisabled();
-    // Run scheduled commands, remove finished commands.
-    for (Iterator<Command> iterator = m_scheduledCommands.iterator(); iterator.hasNext(); ) {
-      Command command = iterator.next();
-
-      if (isDisabled && !command.runsWhenDisabled()) {
-        cancel(command, kNoInterruptor);
-        continue;
-      }
+    // Run scheduled commands, remove finished commands. Nothing else can add or remove commands
+    // while this loop runs, so finished commands are removed by compacting the array in place.
+    int kept = 0;
+    int i = 0;
+    try {
+      for (; i < m_scheduledCount; i++) {
+        ScheduledCommand scheduled = m_scheduledCommands[i];
+        Command command = scheduled.m_command;
+
+        if (isDisabled && !command.runsWhenDisabled()) {
+          cancel(command, kNoInterruptor);
+          m_scheduledCommands[kept++] = scheduled;
+          continue;
+        }
 
-      command.execute();
-      for (Consumer<Command> action : m_executeActions) {
-        action.accept(command);
-      }
-      m_watchdog.addEpoch(command.getName() + ".execute()");
-      if (command.isFinished()) {
-        m_endingCommands.add(command);
-        command.end(false);
-        for (Consumer<Command> action : m_finishActions) {
-          action.accept(command);
+        long start = profiling ? System.nanoTime() : 0;
+        command.execute();
+        if (profiling) {
+          getProfile(scheduled).recordRun(System.nanoTime() - start);
+        }
+        for (int j = 0; j < m_executeActions.size(); j++) {
+          m_executeActions.get(j).accept(command);
         }
-        m_endingCommands.remove(command);
-        iterator.remove();
+        m_watchdog.addEpoch(scheduled.getExecuteEpoch());
+        if (command.isFinished()) {
+          scheduled.m_ending = true;
+          start = profiling ? System.nanoTime() : 0;
+          command.end(false);
+          if (profiling) {
+            getProfile(scheduled).recordEnd(System.nanoTime() - start);
+          }
+          for (int j = 0; j < m_finishActions.size(); j++) {
+            m_finishActions.get(j).accept(command);
+          }
+          scheduled.m_ending = false;
+          m_scheduledLookup.remove(command);
 
-        m_requirements.keySet().removeAll(command.getRequirements());
-        m_watchdog.addEpoch(command.getName() + ".end(false)");
+          removeRequirements(scheduled);
+          m_watchdog.addEpoch(scheduled.getEndEpoch());
+        } else {
+          m_scheduledCommands[kept++] = scheduled;
+        }
       }
+    } finally {
+      // If a command threw, it and every command after it stay scheduled
+      for (; i < m_scheduledCount; i++) {
+        m_scheduledCommands[kept++] = m_scheduledCommands[i];
+      }
+      Arrays.fill(m_scheduledCommands, kept, m_scheduledCount, null);
+      m_scheduledCount = kept;
     }
     m_inRunLoop = false;
 
     // Schedule/cancel commands from queues populated during loop
-    for (Command command : m_toSchedule) {
-      schedule(command);
+    for (int j = 0; j < m_toSchedule.size(); j++) {
+      schedule(m_toSchedule.get(j));
     }
 
-    for (int i = 0; i < m_toCancelCommands.size(); i++) {
-      cancel(m_toCancelCommands.get(i), m_toCancelInterruptors.get(i));
+    for (int j = 0; j < m_toCancelCommands.size(); j++) {
+      cancel(m_toCancelCommands.get(j), m_toCancelInterruptors.get(j));
     }
 
     m_toSchedule.clear();
@@ -325,17 +631,30 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
     m_toCancelInterruptors.clear();
 
     // Add default commands for un-required registered subsystems.
-    for (Map.Entry<Subsystem, Command> subsystemCommand : m_subsystems.entrySet()) {
-      if (!m_requirements.containsKey(subsystemCommand.getKey())
-          && subsystemCommand.getValue() != null) {
-        schedule(subsystemCommand.getValue());
+    for (int j = 0; j < m_registeredStates.size(); j++) {
+      SubsystemState state = m_registeredStates.get(j);
+      if (state.m_requiring == null && state.m_defaultCommand != null) {
+        schedule(state.m_defaultCommand);
       }
     }
 
     m_watchdog.disable();
+    if (m_timingPublishEnabled) {
+      if (m_timingTable == null) {
+        m_timingTable = NetworkTableInstance.getDefault().getTable("Timing/CommandScheduler");
+      }
+      m_watchdog.publishEpochs(m_timingTable);
+    }
+    if (profiling && ++m_profilePublishCount >= kProfilePublishInterval) {
+      m_profilePublishCount = 0;
+      m_profiler.publish(m_timingPublishEnabled ? m_timingTable : null);
+    }
     if (m_watchdog.isExpired()) {
       System.out.println("CommandScheduler loop overrun");
       m_watchdog.printEpochs();
+      if (profiling) {
+        m_profiler.printSlowest(kSlowestReportCount);
+      }
     }
   }
 
@@ -352,14 +671,21 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
         DriverStation.reportWarning("Tried to register a null subsystem", true);
         continue;
       }
-      if (m_subsystems.containsKey(subsystem)) {
+      SubsystemState state = getState(subsystem);
+      if (state.m_registered) {
         DriverStation.reportWarning("Tried to register an already-registered subsystem", true);
         continue;
       }
-      m_subsystems.put(subsystem, null);
+      register(subsystem, state);
     }
   }
 
+  private void register(Subsystem subsystem, SubsystemState state) {
+    state.m_registered = true;
+    m_subsystems.add(subsystem);
+    m_registeredStates.add(state);
+  }
+
   /**
    * Un-registers subsystems with the scheduler. The subsystem will no longer have its periodic
    * block called, and will not have its default command scheduled.
@@ -367,7 +693,18 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
    * @param subsystems the subsystem to un-register
    */
   public void unregisterSubsystem(Subsystem... subsystems) {
-    m_subsystems.keySet().removeAll(Set.of(subsystems));
+    for (Subsystem subsystem : Set.of(subsystems)) {
+      SubsystemState state = m_subsystemStates.get(subsystem);
+      if (state == null || !state.m_registered) {
+        continue;
+      }
+      state.m_registered = false;
+      state.m_defaultCommand = null;
+      int index = m_registeredStates.indexOf(state);
+      m_subsystems.remove(index);
+      m_registeredStates.remove(index);
+      releaseIfUnused(state);
+    }
   }
 
   /**
@@ -376,7 +713,14 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
    * scheduled.
    */
   public void unregisterAllSubsystems() {
+    for (int i = 0; i < m_registeredStates.size(); i++) {
+      SubsystemState state = m_registeredStates.get(i);
+      state.m_registered = false;
+      state.m_defaultCommand = null;
+      releaseIfUnused(state);
+    }
     m_subsystems.clear();
+    m_registeredStates.clear();
   }
 
   /**
@@ -413,7 +757,15 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
       // Warn, but allow -- there might be a use case for this.
     }
 
-    m_subsystems.put(subsystem, defaultCommand);
+    setDefaultCommandInternal(subsystem, defaultCommand);
+  }
+
+  private void setDefaultCommandInternal(Subsystem subsystem, Command defaultCommand) {
+    SubsystemState state = getState(subsystem);
+    if (!state.m_registered) {
+      register(subsystem, state);
+    }
+    state.m_defaultCommand = defaultCommand;
   }
 
   /**
@@ -429,7 +781,7 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
       return;
     }
 
-    m_subsystems.put(subsystem, null);
+    setDefaultCommandInternal(subsystem, null);
   }
 
   /**
@@ -440,7 +792,8 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
    * @return the default command associated with the subsystem
    */
   public Command getDefaultCommand(Subsystem subsystem) {
-    return m_subsystems.get(subsystem);
+    SubsystemState state = m_subsystemStates.get(subsystem);
+    return state != null ? state.m_defaultCommand : null;
   }
 
   /**
@@ -473,7 +826,8 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
       DriverStation.reportWarning("Tried to cancel a null command", true);
       return;
     }
-    if (m_endingCommands.contains(command)) {
+    ScheduledCommand scheduled = m_scheduledLookup.get(command);
+    if (scheduled != null && scheduled.m_ending) {
       return;
     }
     if (m_inRunLoop) {
@@ -481,25 +835,50 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
       m_toCancelInterruptors.add(interruptor);
       return;
     }
-    if (!isScheduled(command)) {
+    if (scheduled == null) {
       return;
     }
 
-    m_endingCommands.add(command);
+    scheduled.m_ending = true;
+    long start = m_profilingEnabled ? System.nanoTime() : 0;
     command.end(true);
+    if (m_profilingEnabled) {
+      getProfile(scheduled).recordEnd(System.nanoTime() - start);
+    }
     for (BiConsumer<Command, Optional<Command>> action : m_interruptActions) {
       action.accept(command, interruptor);
     }
-    m_endingCommands.remove(command);
-    m_scheduledCommands.remove(command);
-    m_requirements.keySet().removeAll(command.getRequirements());
+    scheduled.m_ending = false;
+    m_scheduledLookup.remove(command);
+    for (int i = 0; i < m_scheduledCount; i++) {
+      if (m_scheduledCommands[i] == scheduled) {
+        System.arraycopy(
+            m_scheduledCommands, i + 1, m_scheduledCommands, i, m_scheduledCount - i - 1);
+        m_scheduledCommands[--m_scheduledCount] = null;
+        break;
+      }
+    }
+    removeRequirements(scheduled);
     m_watchdog.addEpoch(command.getName() + ".end(true)");
   }
 
   /** Cancels all commands that are currently scheduled. */
   public void cancelAll() {
     // Copy to array to avoid concurrent modification.
-    cancel(m_scheduledCommands.toArray(new Command[0]));
+    cancel(getScheduledCommands());
+  }
+
+  /**
+   * Copies the currently-running commands into an array, in the order they were scheduled.
+   *
+   * @return The scheduled commands
+   */
+  private Command[] getScheduledCommands() {
+    Command[] commands = new Command[m_scheduledCount];
+    for (int i = 0; i < m_scheduledCount; i++) {
+      commands[i] = m_scheduledCommands[i].m_command;
+    }
+    return commands;
   }
 
   /**
@@ -528,7 +907,7 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
    * @return whether all of the commands are currently scheduled
    */
   public boolean isScheduled(Command command) {
-    return m_scheduledCommands.contains(command);
+    return m_scheduledLookup.containsKey(command);
   }
 
   /**
@@ -540,7 +919,18 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
    *     scheduled
    */
   public Command requiring(Subsystem subsystem) {
-    return m_requirements.get(subsystem);
+    SubsystemState state = m_subsystemStates.get(subsystem);
+    return state != null ? state.m_requiring : null;
+  }
+
+  /**
+   * Gets the number of subsystems the scheduler is keeping track of, either because they are
+   * registered or because a scheduled command requires them.
+   *
+   * @return the number of tracked subsystems
+   */
+  int getTrackedSubsystemCount() {
+    return m_subsystemStates.size();
   }
 
   /** Disables the command scheduler. */
@@ -755,11 +1145,9 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
     builder.addStringArrayProperty(
         "Names",
         () -> {
-          String[] names = new String[m_scheduledCommands.size()];
-          int i = 0;
-          for (Command command : m_scheduledCommands) {
-            names[i] = command.getName();
-            i++;
+          String[] names = new String[m_scheduledCount];
+          for (int i = 0; i < m_scheduledCount; i++) {
+            names[i] = m_scheduledCommands[i].m_command.getName();
           }
           return names;
         },
@@ -767,11 +1155,9 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
     builder.addIntegerArrayProperty(
         "Ids",
         () -> {
-          long[] ids = new long[m_scheduledCommands.size()];
-          int i = 0;
-          for (Command command : m_scheduledCommands) {
-            ids[i] = command.hashCode();
-            i++;
+          long[] ids = new long[m_scheduledCount];
+          for (int i = 0; i < m_scheduledCount; i++) {
+            ids[i] = m_scheduledCommands[i].m_command.hashCode();
           }
           return ids;
         },
@@ -781,7 +1167,7 @@ public final class CommandScheduler implements Sendable, AutoCloseable {
         () -> new long[] {},
         toCancel -> {
           Map<Long, Command> ids = new LinkedHashMap<>();
-          for (Command command : m_scheduledCommands) {
+          for (Command command : getScheduledCommands()) {
             long id = command.hashCode();
             ids.put(id, command);
           }
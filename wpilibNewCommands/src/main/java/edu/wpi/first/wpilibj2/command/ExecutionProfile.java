@@ -0,0 +1,177 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.wpilibj2.command;
+
+import edu.wpi.first.util.struct.StructSerializable;
+import edu.wpi.first.wpilibj2.command.struct.ExecutionProfileStruct;
+
+/**
+ * A snapshot of the time the {@link CommandScheduler} has spent running a single command or
+ * subsystem, as recorded by its {@link SchedulerProfiler}.
+ *
+ * <p>For a command, the run time is the time spent in {@link Command#execute()}. For a subsystem,
+ * it is the time spent in {@link Subsystem#periodic()} and {@link Subsystem#simulationPeriodic()}.
+ * All times are in seconds.
+ */
+public final class ExecutionProfile implements StructSerializable {
+  private final String m_name;
+  private final int m_id;
+  private final boolean m_subsystem;
+  private final long m_count;
+  private final double m_totalTime;
+  private final double m_maxTime;
+  private final double m_lastTime;
+  private final long m_initializeCount;
+  private final double m_initializeTime;
+  private final double m_endTime;
+
+  /**
+   * Constructs an ExecutionProfile.
+   *
+   * @param name The name of the command or subsystem.
+   * @param id The hash code of the command or subsystem.
+   * @param subsystem Whether this profile is for a subsystem rather than a command.
+   * @param count The number of times the command or subsystem has run.
+   * @param totalTime The total run time in seconds.
+   * @param maxTime The longest single run time in seconds.
+   * @param lastTime The most recent run time in seconds.
+   * @param initializeCount The number of times the command has been initialized.
+   * @param initializeTime The total time spent initializing the command in seconds.
+   * @param endTime The total time spent ending the command in seconds.
+   */
+  public ExecutionProfile(
+      String name,
+      int id,
+      boolean subsystem,
+      long count,
+      double totalTime,
+      double maxTime,
+      double lastTime,
+      long initializeCount,
+      double initializeTime,
+      double endTime) {
+    m_name = name;
+    m_id = id;
+    m_subsystem = subsystem;
+    m_count = count;
+    m_totalTime = totalTime;
+    m_maxTime = maxTime;
+    m_lastTime = lastTime;
+    m_initializeCount = initializeCount;
+    m_initializeTime = initializeTime;
+    m_endTime = endTime;
+  }
+
+  /**
+   * Returns the name of the command or subsystem.
+   *
+   * @return The name.
+   */
+  public String getName() {
+    return m_name;
+  }
+
+  /**
+   * Returns the hash code of the command or subsystem. For commands, this matches the ids the
+   * scheduler publishes for its scheduled commands.
+   *
+   * @return The id.
+   */
+  public int getId() {
+    return m_id;
+  }
+
+  /**
+   * Returns whether this profile is for a subsystem rather than a command.
+   *
+   * @return Whether this profile is for a subsystem.
+   */
+  public boolean isSubsystem() {
+    return m_subsystem;
+  }
+
+  /**
+   * Returns the number of times the command has executed or the subsystem's periodic method has
+   * run.
+   *
+   * @return The run count.
+   */
+  public long getCount() {
+    return m_count;
+  }
+
+  /**
+   * Returns the total run time.
+   *
+   * @return The total run time in seconds.
+   */
+  public double getTotalTime() {
+    return m_totalTime;
+  }
+
+  /**
+   * Returns the average run time.
+   *
+   * @return The average run time in seconds, or 0 if it has never run.
+   */
+  public double getMeanTime() {
+    return m_count > 0 ? m_totalTime / m_count : 0;
+  }
+
+  /**
+   * Returns the longest single run time.
+   *
+   * @return The longest run time in seconds.
+   */
+  public double getMaxTime() {
+    return m_maxTime;
+  }
+
+  /**
+   * Returns the most recent run time.
+   *
+   * @return The most recent run time in seconds.
+   */
+  public double getLastTime() {
+    return m_lastTime;
+  }
+
+  /**
+   * Returns the number of times the command has been initialized. Always 0 for subsystems.
+   *
+   * @return The initialization count.
+   */
+  public long getInitializeCount() {
+    return m_initializeCount;
+  }
+
+  /**
+   * Returns the total time spent in {@link Command#initialize()}. Always 0 for subsystems.
+   *
+   * @return The total initialization time in seconds.
+   */
+  public double getInitializeTime() {
+    return m_initializeTime;
+  }
+
+  /**
+   * Returns the total time spent in {@link Command#end(boolean)}. Always 0 for subsystems.
+   *
+   * @return The total end time in seconds.
+   */
+  public double getEndTime() {
+    return m_endTime;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "ExecutionProfile(%s, count: %d, mean: %.6fs, max: %.6fs, last: %.6fs)",
+        m_name, m_count, getMeanTime(), m_maxTime, m_lastTime);
+  }
+
+  /** ExecutionProfile struct for serialization. */
+  public static final ExecutionProfileStruct struct = new ExecutionProfileStruct();
+}
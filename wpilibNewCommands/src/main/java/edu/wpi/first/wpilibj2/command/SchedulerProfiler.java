@@ -0,0 +1,340 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.wpilibj2.command;
+
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.StructArrayPublisher;
+import edu.wpi.first.util.datalog.DataLog;
+import edu.wpi.first.util.datalog.StructArrayLogEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Records how long the {@link CommandScheduler} spends in each command and subsystem.
+ *
+ * <p>Every command instance gets its own statistics for {@link Command#initialize()}, {@link
+ * Command#execute()}, and {@link Command#end(boolean)}, and every subsystem gets statistics for its
+ * periodic methods. Statistics are kept in plain counters that are updated in place, so recording a
+ * sample does not allocate. At most a fixed number of commands and subsystems are tracked; when
+ * that limit is reached, the entry that has gone the longest without running is replaced.
+ *
+ * <p>Profiling is enabled with {@link CommandScheduler#setProfilingEnabled(boolean)}.
+ */
+public final class SchedulerProfiler {
+  /** The default maximum number of commands and subsystems that are tracked. */
+  public static final int kDefaultCapacity = 256;
+
+  // The statistics for a single command or subsystem. Times are in nanoseconds.
+  final class Stats {
+    final String m_name;
+    final int m_id;
+    final boolean m_subsystem;
+    long m_count;
+    long m_totalNanos;
+    long m_maxNanos;
+    long m_lastNanos;
+    long m_initializeCount;
+    long m_initializeNanos;
+    long m_endNanos;
+    long m_lastUsed;
+    // Set once the entry has been replaced, so holders of the entry know to look it up again
+    boolean m_evicted;
+
+    Stats(String name, int id, boolean subsystem) {
+      m_name = name;
+      m_id = id;
+      m_subsystem = subsystem;
+    }
+
+    void recordRun(long nanos) {
+      m_lastUsed = m_loopCount;
+      m_count++;
+      m_totalNanos += nanos;
+      m_lastNanos = nanos;
+      if (nanos > m_maxNanos) {
+        m_maxNanos = nanos;
+      }
+    }
+
+    void recordInitialize(long nanos) {
+      m_lastUsed = m_loopCount;
+      m_initializeCount++;
+      m_initializeNanos += nanos;
+    }
+
+    void recordEnd(long nanos) {
+      m_lastUsed = m_loopCount;
+      m_endNanos += nanos;
+    }
+
+    void reset() {
+      m_count = 0;
+      m_totalNanos = 0;
+      m_maxNanos = 0;
+      m_lastNanos = 0;
+      m_initializeCount = 0;
+      m_initializeNanos = 0;
+      m_endNanos = 0;
+    }
+
+    ExecutionProfile toProfile() {
+      return new ExecutionProfile(
+          m_name,
+          m_id,
+          m_subsystem,
+          m_count,
+          m_totalNanos / 1e9,
+          m_maxNanos / 1e9,
+          m_lastNanos / 1e9,
+          m_initializeCount,
+          m_initializeNanos / 1e9,
+          m_endNanos / 1e9);
+    }
+  }
+
+  private static final Comparator<ExecutionProfile> kSlowestFirst =
+      Comparator.comparingDouble(ExecutionProfile::getMaxTime)
+          .thenComparingDouble(ExecutionProfile::getMeanTime)
+          .reversed();
+
+  private final int m_capacity;
+  private final Map<Object, Stats> m_stats = new HashMap<>();
+  private long m_loopCount;
+
+  // Reused by printSlowest()
+  private final StringBuilder m_printBuilder = new StringBuilder();
+  private Stats[] m_slowest = new Stats[0];
+
+  private StructArrayPublisher<ExecutionProfile> m_publisher;
+  private StructArrayLogEntry<ExecutionProfile> m_logEntry;
+
+  SchedulerProfiler(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive, but was " + capacity);
+    }
+    m_capacity = capacity;
+  }
+
+  /** Marks the start of a scheduler loop. Used to decide which entries are least recently used. */
+  void startLoop() {
+    m_loopCount++;
+  }
+
+  /**
+   * Gets the statistics for a command, creating them if the command has not been seen before.
+   *
+   * @param command The command.
+   * @return The command's statistics.
+   */
+  Stats getStats(Command command) {
+    return getStats(command, command.getName(), false);
+  }
+
+  /**
+   * Gets the statistics for a subsystem, creating them if the subsystem has not been seen before.
+   *
+   * @param subsystem The subsystem.
+   * @return The subsystem's statistics.
+   */
+  Stats getStats(Subsystem subsystem) {
+    return getStats(subsystem, subsystem.getName(), true);
+  }
+
+  private Stats getStats(Object key, String name, boolean subsystem) {
+    Stats stats = m_stats.get(key);
+    if (stats == null) {
+      if (m_stats.size() >= m_capacity) {
+        evictLeastRecentlyUsed();
+      }
+      stats = new Stats(name, key.hashCode(), subsystem);
+      m_stats.put(key, stats);
+    }
+    stats.m_lastUsed = m_loopCount;
+    return stats;
+  }
+
+  private void evictLeastRecentlyUsed() {
+    Object oldest = null;
+    long oldestUse = Long.MAX_VALUE;
+    for (var entry : m_stats.entrySet()) {
+      if (entry.getValue().m_lastUsed < oldestUse) {
+        oldest = entry.getKey();
+        oldestUse = entry.getValue().m_lastUsed;
+      }
+    }
+    m_stats.remove(oldest).m_evicted = true;
+  }
+
+  /**
+   * Gets the maximum number of commands and subsystems that are tracked.
+   *
+   * @return The capacity.
+   */
+  public int getCapacity() {
+    return m_capacity;
+  }
+
+  /**
+   * Gets a snapshot of the statistics for every tracked command and subsystem.
+   *
+   * @return The profiles, in no particular order.
+   */
+  public ExecutionProfile[] getProfiles() {
+    ExecutionProfile[] profiles = new ExecutionProfile[m_stats.size()];
+    int i = 0;
+    for (Stats stats : m_stats.values()) {
+      profiles[i++] = stats.toProfile();
+    }
+    return profiles;
+  }
+
+  /**
+   * Gets the commands and subsystems with the longest worst-case run times. Ties are broken by the
+   * average run time.
+   *
+   * @param count The maximum number of profiles to return.
+   * @return The slowest profiles, slowest first.
+   */
+  public List<ExecutionProfile> getSlowest(int count) {
+    ExecutionProfile[] profiles = getProfiles();
+    Arrays.sort(profiles, kSlowestFirst);
+    return new ArrayList<>(Arrays.asList(profiles).subList(0, Math.min(count, profiles.length)));
+  }
+
+  /**
+   * Prints the commands and subsystems with the longest worst-case run times to standard output.
+   *
+   * @param count The maximum number of commands and subsystems to print.
+   */
+  public void printSlowest(int count) {
+    printSlowest(count, System.out::print);
+  }
+
+  /**
+   * Prints the commands and subsystems with the longest worst-case run times to the entered String
+   * consumer. The report is built in a buffer that is reused between calls.
+   *
+   * @param count The maximum number of commands and subsystems to print.
+   * @param output the stream that the output is sent to
+   */
+  public void printSlowest(int count, Consumer<String> output) {
+    int found = selectSlowest(count);
+    StringBuilder sb = m_printBuilder;
+    sb.setLength(0);
+    sb.append("Slowest commands and subsystems:\n");
+    for (int i = 0; i < found; i++) {
+      Stats stats = m_slowest[i];
+      sb.append('\t').append(stats.m_subsystem ? "Subsystem " : "Command ").append(stats.m_name);
+      sb.append(": max ");
+      appendSeconds(sb, stats.m_maxNanos);
+      sb.append("s, mean ");
+      appendSeconds(sb, stats.m_count == 0 ? 0 : stats.m_totalNanos / stats.m_count);
+      sb.append("s, last ");
+      appendSeconds(sb, stats.m_lastNanos);
+      sb.append("s over ").append(stats.m_count).append(" runs\n");
+    }
+    output.accept(sb.toString());
+  }
+
+  /**
+   * Fills the start of m_slowest with the slowest entries, slowest first, in the same order as
+   * {@link #getSlowest(int)}.
+   *
+   * @param count The maximum number of entries to select.
+   * @return The number of entries selected.
+   */
+  private int selectSlowest(int count) {
+    if (m_slowest.length < count) {
+      m_slowest = new Stats[count];
+    }
+    int found = 0;
+    for (Stats stats : m_stats.values()) {
+      // Insertion into the sorted prefix, dropping whatever falls off the end
+      int i = Math.min(found, count);
+      while (i > 0 && isSlower(stats, m_slowest[i - 1])) {
+        if (i < count) {
+          m_slowest[i] = m_slowest[i - 1];
+        }
+        i--;
+      }
+      if (i < count) {
+        m_slowest[i] = stats;
+        found = Math.min(found + 1, count);
+      }
+    }
+    return found;
+  }
+
+  private static boolean isSlower(Stats a, Stats b) {
+    if (a.m_maxNanos != b.m_maxNanos) {
+      return a.m_maxNanos > b.m_maxNanos;
+    }
+    double meanA = a.m_count == 0 ? 0 : (double) a.m_totalNanos / a.m_count;
+    double meanB = b.m_count == 0 ? 0 : (double) b.m_totalNanos / b.m_count;
+    return meanA > meanB;
+  }
+
+  /**
+   * Appends a time in nanoseconds to a string builder in seconds, with six decimal places.
+   *
+   * @param sb The string builder.
+   * @param nanos The time in nanoseconds.
+   */
+  private static void appendSeconds(StringBuilder sb, long nanos) {
+    long micros = (nanos + 500) / 1000;
+    sb.append(micros / 1000000).append('.');
+    long fraction = micros % 1000000;
+    for (long digit = 100000; digit > fraction && digit > 1; digit /= 10) {
+      sb.append('0');
+    }
+    sb.append(fraction);
+  }
+
+  /** Clears the statistics of every tracked command and subsystem. */
+  public void reset() {
+    for (Stats stats : m_stats.values()) {
+      stats.reset();
+    }
+  }
+
+  /**
+   * Starts logging the profiles to a data log every time they are published.
+   *
+   * @param log The data log.
+   */
+  public void startDataLog(DataLog log) {
+    if (m_logEntry == null) {
+      m_logEntry =
+          StructArrayLogEntry.create(log, "CommandScheduler/Profile", ExecutionProfile.struct);
+    }
+  }
+
+  /**
+   * Publishes the profiles to a struct array topic named "Profile" in the given table, and to the
+   * data log if one has been started.
+   *
+   * @param table The table to publish to, or null to only log.
+   */
+  void publish(NetworkTable table) {
+    if (table == null && m_logEntry == null) {
+      return;
+    }
+    ExecutionProfile[] profiles = getProfiles();
+    if (table != null) {
+      if (m_publisher == null) {
+        m_publisher = table.getStructArrayTopic("Profile", ExecutionProfile.struct).publish();
+      }
+      m_publisher.set(profiles);
+    }
+    if (m_logEntry != null) {
+      m_logEntry.append(profiles);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.wpilibj2.command.struct;
+
+import edu.wpi.first.util.struct.Struct;
+import edu.wpi.first.wpilibj2.command.ExecutionProfile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class ExecutionProfileStruct implements Struct<ExecutionProfile> {
+  /** The maximum length of a name in bytes. Longer names are truncated. */
+  public static final int kNameLength = 32;
+
+  @Override
+  public Class<ExecutionProfile> getTypeClass() {
+    return ExecutionProfile.class;
+  }
+
+  @Override
+  public String getTypeName() {
+    return "ExecutionProfile";
+  }
+
+  @Override
+  public int getSize() {
+    return kNameLength + kSizeInt32 + kSizeBool + kSizeInt64 * 2 + kSizeDouble * 5;
+  }
+
+  @Override
+  public String getSchema() {
+    return "char name[32];int32 id;bool subsystem;int64 count;double total;double max;"
+        + "double last;int64 initializations;double initialize;double end";
+  }
+
+  @Override
+  public ExecutionProfile unpack(ByteBuffer bb) {
+    byte[] nameBytes = new byte[kNameLength];
+    bb.get(nameBytes);
+    int nameLength = 0;
+    while (nameLength < kNameLength && nameBytes[nameLength] != 0) {
+      nameLength++;
+    }
+    String name = new String(nameBytes, 0, nameLength, StandardCharsets.UTF_8);
+    int id = bb.getInt();
+    boolean subsystem = bb.get() != 0;
+    long count = bb.getLong();
+    double total = bb.getDouble();
+    double max = bb.getDouble();
+    double last = bb.getDouble();
+    long initializeCount = bb.getLong();
+    double initialize = bb.getDouble();
+    double end = bb.getDouble();
+    return new ExecutionProfile(
+        name, id, subsystem, count, total, max, last, initializeCount, initialize, end);
+  }
+
+  @Override
+  public void pack(ByteBuffer bb, ExecutionProfile value) {
+    byte[] nameBytes = value.getName().getBytes(StandardCharsets.UTF_8);
+    int nameLength = Math.min(nameBytes.length, kNameLength);
+    // Don't cut a multi-byte character in half
+    while (nameLength < nameBytes.length
+        && nameLength > 0
+        && (nameBytes[nameLength] & 0xC0) == 0x80) {
+      nameLength--;
+    }
+    bb.put(nameBytes, 0, nameLength);
+    for (int i = nameLength; i < kNameLength; i++) {
+      bb.put((byte) 0);
+    }
+    bb.putInt(value.getId());
+    bb.put((byte) (value.isSubsystem() ? 1 : 0));
+    bb.putLong(value.getCount());
+    bb.putDouble(value.getTotalTime());
+    bb.putDouble(value.getMaxTime());
+    bb.putDouble(value.getLastTime());
+    bb.putLong(value.getInitializeCount());
+    bb.putDouble(value.getInitializeTime());
+    bb.putDouble(value.getEndTime());
+  }
+
+  @Override
+  public boolean isImmutable() {
+    return true;
+  }
+}
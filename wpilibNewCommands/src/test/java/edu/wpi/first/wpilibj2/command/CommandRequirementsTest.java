@@ -4,11 +4,15 @@
 
 package edu.wpi.first.wpilibj2.command;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 
+import edu.wpi.first.wpilibj2.command.Command.InterruptionBehavior;
 import org.junit.jupiter.api.Test;
 
 class CommandRequirementsTest extends CommandTestBase {
@@ -70,4 +74,88 @@ class CommandRequirementsTest extends CommandTestBase {
           () -> scheduler.setDefaultCommand(system, missingRequirement));
     }
   }
+
+  @Test
+  void manyRequirementsTest() {
+    try (CommandScheduler scheduler = new CommandScheduler()) {
+      // More subsystems than fit in a single word of the requirement bitset
+      Subsystem[] subsystems = new Subsystem[100];
+      for (int i = 0; i < subsystems.length; i++) {
+        subsystems[i] = new SubsystemBase() {};
+      }
+
+      Command low = Commands.idle(subsystems[3]);
+      Command high = Commands.idle(subsystems[90]);
+      Command both = Commands.idle(subsystems[3], subsystems[90]);
+
+      scheduler.schedule(low, high);
+      scheduler.run();
+      assertSame(low, scheduler.requiring(subsystems[3]));
+      assertSame(high, scheduler.requiring(subsystems[90]));
+
+      scheduler.schedule(both);
+      assertFalse(scheduler.isScheduled(low));
+      assertFalse(scheduler.isScheduled(high));
+      assertSame(both, scheduler.requiring(subsystems[3]));
+      assertSame(both, scheduler.requiring(subsystems[90]));
+
+      scheduler.cancel(both);
+      assertNull(scheduler.requiring(subsystems[3]));
+      assertNull(scheduler.requiring(subsystems[90]));
+
+      scheduler.schedule(high);
+      assertTrue(scheduler.isScheduled(high));
+    }
+  }
+
+  @Test
+  void transientRequirementsReleasedTest() {
+    try (CommandScheduler scheduler = new CommandScheduler()) {
+      Subsystem registered = new SubsystemBase() {};
+      scheduler.registerSubsystem(registered);
+
+      // Subsystems only ever required by short-lived commands are not kept once the commands end
+      for (int i = 0; i < 200; i++) {
+        Subsystem transientSubsystem = new SubsystemBase() {};
+        Command command = Commands.idle(registered, transientSubsystem);
+        scheduler.schedule(command);
+        assertSame(command, scheduler.requiring(transientSubsystem));
+        assertEquals(2, scheduler.getTrackedSubsystemCount());
+        scheduler.cancel(command);
+        assertNull(scheduler.requiring(transientSubsystem));
+        assertEquals(1, scheduler.getTrackedSubsystemCount());
+      }
+
+      // A command that can't be scheduled doesn't leave its requirements behind
+      Subsystem other = new SubsystemBase() {};
+      Command blocker =
+          Commands.idle(registered).withInterruptBehavior(InterruptionBehavior.kCancelIncoming);
+      scheduler.schedule(blocker);
+      scheduler.schedule(Commands.idle(registered, other));
+      assertTrue(scheduler.isScheduled(blocker));
+      assertEquals(1, scheduler.getTrackedSubsystemCount());
+
+      // Unregistering a subsystem that is still required keeps it until the command ends
+      scheduler.unregisterSubsystem(registered);
+      assertSame(blocker, scheduler.requiring(registered));
+      assertEquals(1, scheduler.getTrackedSubsystemCount());
+      scheduler.cancel(blocker);
+      assertEquals(0, scheduler.getTrackedSubsystemCount());
+
+      // Released ids are reused without mixing up requirements
+      Subsystem first = new SubsystemBase() {};
+      Subsystem second = new SubsystemBase() {};
+      Command firstCommand = Commands.idle(first);
+      Command secondCommand = Commands.idle(second);
+      scheduler.schedule(firstCommand, secondCommand);
+      assertTrue(scheduler.isScheduled(firstCommand));
+      assertTrue(scheduler.isScheduled(secondCommand));
+      Command bothCommand = Commands.idle(first, second);
+      scheduler.schedule(bothCommand);
+      assertFalse(scheduler.isScheduled(firstCommand));
+      assertFalse(scheduler.isScheduled(secondCommand));
+      assertSame(bothCommand, scheduler.requiring(first));
+      assertSame(bothCommand, scheduler.requiring(second));
+    }
+  }
 }
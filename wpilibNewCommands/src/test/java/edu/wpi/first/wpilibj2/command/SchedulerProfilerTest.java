@@ -0,0 +1,159 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.wpilibj2.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class SchedulerProfilerTest extends CommandTestBase {
+  private static void busyWait(long nanos) {
+    long start = System.nanoTime();
+    while (System.nanoTime() - start < nanos) {
+      Thread.onSpinWait();
+    }
+  }
+
+  private static ExecutionProfile find(SchedulerProfiler profiler, String name) {
+    return Arrays.stream(profiler.getProfiles())
+        .filter(profile -> profile.getName().equals(name))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  @Test
+  void recordsCommandPhasesTest() {
+    try (CommandScheduler scheduler = new CommandScheduler()) {
+      scheduler.setProfilingEnabled(true);
+      Command command = Commands.idle().withName("Profiled");
+
+      scheduler.schedule(command);
+      scheduler.run();
+      scheduler.run();
+      scheduler.cancel(command);
+
+      ExecutionProfile profile = find(scheduler.getProfiler(), "Profiled");
+      assertFalse(profile.isSubsystem());
+      assertEquals(command.hashCode(), profile.getId());
+      assertEquals(2, profile.getCount());
+      assertEquals(1, profile.getInitializeCount());
+      assertTrue(profile.getMaxTime() <= profile.getTotalTime());
+    }
+  }
+
+  @Test
+  void recordsSubsystemPeriodicTest() {
+    try (CommandScheduler scheduler = new CommandScheduler()) {
+      scheduler.setProfilingEnabled(true);
+      Subsystem subsystem =
+          new Subsystem() {
+            @Override
+            public String getName() {
+              return "ProfiledSubsystem";
+            }
+          };
+      scheduler.registerSubsystem(subsystem);
+
+      scheduler.run();
+
+      ExecutionProfile profile = find(scheduler.getProfiler(), "ProfiledSubsystem");
+      assertTrue(profile.isSubsystem());
+      assertEquals(1, profile.getCount());
+    }
+  }
+
+  @Test
+  void disabledByDefaultTest() {
+    try (CommandScheduler scheduler = new CommandScheduler()) {
+      scheduler.schedule(Commands.idle());
+      scheduler.run();
+
+      assertEquals(0, scheduler.getProfiler().getProfiles().length);
+    }
+  }
+
+  @Test
+  void slowestFirstTest() {
+    try (CommandScheduler scheduler = new CommandScheduler()) {
+      scheduler.setProfilingEnabled(true);
+      scheduler.schedule(
+          Commands.run(() -> busyWait(100_000)).withName("Fast"),
+          Commands.run(() -> busyWait(5_000_000)).withName("Slow"),
+          Commands.idle().withName("Idle"));
+      scheduler.run();
+
+      var slowest = scheduler.getProfiler().getSlowest(2);
+      assertEquals(2, slowest.size());
+      assertEquals("Slow", slowest.get(0).getName());
+      assertEquals("Fast", slowest.get(1).getName());
+      assertTrue(slowest.get(0).getMaxTime() >= 0.005);
+    }
+  }
+
+  @Test
+  void printSlowestTest() {
+    var profiler = new SchedulerProfiler(8);
+    profiler.startLoop();
+    var fast = profiler.getStats(Commands.none().withName("Fast"));
+    fast.recordRun(1_000);
+    fast.recordRun(3_000);
+    var slow =
+        profiler.getStats(
+            new Subsystem() {
+              @Override
+              public String getName() {
+                return "Slow";
+              }
+            });
+    slow.recordRun(1_250_000_000);
+    var tied = profiler.getStats(Commands.none().withName("Tied"));
+    tied.recordRun(3_000);
+    tied.recordRun(3_000);
+    profiler.getStats(Commands.none().withName("Unused"));
+
+    var output = new StringBuilder();
+    profiler.printSlowest(3, output::append);
+    assertEquals(
+        "Slowest commands and subsystems:\n"
+            + "\tSubsystem Slow: max 1.250000s, mean 1.250000s, last 1.250000s over 1 runs\n"
+            + "\tCommand Tied: max 0.000003s, mean 0.000003s, last 0.000003s over 2 runs\n"
+            + "\tCommand Fast: max 0.000003s, mean 0.000002s, last 0.000003s over 2 runs\n",
+        output.toString());
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedTest() {
+    var profiler = new SchedulerProfiler(2);
+    Command first = Commands.none().withName("First");
+    Command second = Commands.none().withName("Second");
+    Command third = Commands.none().withName("Third");
+
+    profiler.startLoop();
+    var firstStats = profiler.getStats(first);
+    profiler.startLoop();
+    profiler.getStats(second);
+    profiler.startLoop();
+    profiler.getStats(third);
+
+    assertTrue(firstStats.m_evicted);
+    assertEquals(2, profiler.getProfiles().length);
+    assertTrue(Arrays.stream(profiler.getProfiles()).noneMatch(p -> p.getName().equals("First")));
+  }
+
+  @Test
+  void resetClearsStatsTest() {
+    try (CommandScheduler scheduler = new CommandScheduler()) {
+      scheduler.setProfilingEnabled(true);
+      scheduler.schedule(Commands.idle().withName("Reset"));
+      scheduler.run();
+      scheduler.getProfiler().reset();
+
+      assertEquals(0, find(scheduler.getProfiler(), "Reset").getCount());
+    }
+  }
+}
@@ -0,0 +1,49 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.wpilibj2.command.struct;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import edu.wpi.first.wpilibj2.command.ExecutionProfile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.jupiter.api.Test;
+
+class ExecutionProfileStructTest {
+  private static final ExecutionProfile DATA =
+      new ExecutionProfile("DriveCommand", 1234, false, 50, 0.01, 0.002, 0.0001, 2, 0.003, 0.004);
+
+  @Test
+  void testRoundtrip() {
+    ByteBuffer buffer = ByteBuffer.allocate(ExecutionProfile.struct.getSize());
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    ExecutionProfile.struct.pack(buffer, DATA);
+    buffer.rewind();
+
+    ExecutionProfile data = ExecutionProfile.struct.unpack(buffer);
+    assertEquals(DATA.getName(), data.getName());
+    assertEquals(DATA.getId(), data.getId());
+    assertEquals(DATA.isSubsystem(), data.isSubsystem());
+    assertEquals(DATA.getCount(), data.getCount());
+    assertEquals(DATA.getTotalTime(), data.getTotalTime());
+    assertEquals(DATA.getMaxTime(), data.getMaxTime());
+    assertEquals(DATA.getLastTime(), data.getLastTime());
+    assertEquals(DATA.getInitializeCount(), data.getInitializeCount());
+    assertEquals(DATA.getInitializeTime(), data.getInitializeTime());
+    assertEquals(DATA.getEndTime(), data.getEndTime());
+  }
+
+  @Test
+  void testTruncatesLongNames() {
+    var profile = new ExecutionProfile("A".repeat(40), 0, true, 0, 0, 0, 0, 0, 0, 0);
+    ByteBuffer buffer = ByteBuffer.allocate(ExecutionProfile.struct.getSize());
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    ExecutionProfile.struct.pack(buffer, profile);
+    assertEquals(ExecutionProfile.struct.getSize(), buffer.position());
+    buffer.rewind();
+
+    assertEquals("A".repeat(32), ExecutionProfile.struct.unpack(buffer).getName());
+  }
+}
@@ -65,6 +65,8 @@ public class AddressableLED implements AutoCloseable {
 
   private final int m_pwmHandle;
   private final int m_handle;
+  // The buffer that was last written, used to skip rewriting it if it hasn't changed
+  private AddressableLEDBuffer m_lastData;
 
   /**
    * Constructs a new driver for a specific port.
@@ -96,6 +98,7 @@ public class AddressableLED implements AutoCloseable {
    */
   public void setColorOrder(ColorOrder order) {
     AddressableLEDJNI.setColorOrder(m_handle, order.value);
+    m_lastData = null;
   }
 
   /**
@@ -109,6 +112,7 @@ public class AddressableLED implements AutoCloseable {
    */
   public void setLength(int length) {
     AddressableLEDJNI.setLength(m_handle, length);
+    m_lastData = null;
   }
 
   /**
@@ -121,6 +125,25 @@ public class AddressableLED implements AutoCloseable {
    */
   public void setData(AddressableLEDBuffer buffer) {
     AddressableLEDJNI.setData(m_handle, buffer.m_buffer);
+    buffer.markClean();
+    m_lastData = buffer;
+  }
+
+  /**
+   * Sets the LED output data if it has changed. The data is written only if the buffer is different
+   * from the one last written, or if any LED in it has {@link AddressableLEDBuffer#isDirty()
+   * changed color} since then. Calling this every loop avoids the cost of writing LED data that is
+   * already being displayed.
+   *
+   * @param buffer the buffer to write
+   * @return true if the data was written
+   */
+  public boolean updateData(AddressableLEDBuffer buffer) {
+    if (buffer == m_lastData && !buffer.isDirty()) {
+      return false;
+    }
+    setData(buffer);
+    return true;
   }
 
   /**
@@ -4,10 +4,22 @@
 
 package edu.wpi.first.wpilibj;
 
-/** Buffer storage for Addressable LEDs. */
+/**
+ * Buffer storage for Addressable LEDs.
+ *
+ * <p>The buffer tracks the range of LEDs that have changed color since it was last written to an
+ * {@link AddressableLED}. Setting an LED to the color it already has does not mark it as changed,
+ * so {@link AddressableLED#updateData(AddressableLEDBuffer)} can skip writing a buffer whose
+ * contents are the same as last time.
+ */
 public class AddressableLEDBuffer implements LEDReader, LEDWriter {
   byte[] m_buffer;
 
+  // The LEDs that have changed since the buffer was last written, from m_dirtyStart (inclusive) to
+  // m_dirtyEnd (exclusive). The range is empty when m_dirtyStart >= m_dirtyEnd.
+  private int m_dirtyStart;
+  private int m_dirtyEnd;
+
   /**
    * Constructs a new LED buffer with the specified length.
    *
@@ -15,6 +27,9 @@ public class AddressableLEDBuffer implements LEDReader, LEDWriter {
    */
   public AddressableLEDBuffer(int length) {
     m_buffer = new byte[length * 4];
+    // Nothing has been written yet, so the entire buffer is out of date
+    m_dirtyStart = 0;
+    m_dirtyEnd = length;
   }
 
   /**
@@ -27,10 +42,23 @@ public class AddressableLEDBuffer implements LEDReader, LEDWriter {
    */
   @Override
   public void setRGB(int index, int r, int g, int b) {
-    m_buffer[index * 4] = (byte) b;
-    m_buffer[(index * 4) + 1] = (byte) g;
-    m_buffer[(index * 4) + 2] = (byte) r;
-    m_buffer[(index * 4) + 3] = 0;
+    int offset = index * 4;
+    if (m_buffer[offset] == (byte) b
+        && m_buffer[offset + 1] == (byte) g
+        && m_buffer[offset + 2] == (byte) r) {
+      return;
+    }
+    m_buffer[offset] = (byte) b;
+    m_buffer[offset + 1] = (byte) g;
+    m_buffer[offset + 2] = (byte) r;
+    m_buffer[offset + 3] = 0;
+
+    if (index < m_dirtyStart) {
+      m_dirtyStart = index;
+    }
+    if (index >= m_dirtyEnd) {
+      m_dirtyEnd = index + 1;
+    }
   }
 
   /**
@@ -76,6 +104,47 @@ public class AddressableLEDBuffer implements LEDReader, LEDWriter {
     return m_buffer[index * 4] & 0xFF;
   }
 
+  /**
+   * Checks if any LED has changed color since the buffer was last written to an {@link
+   * AddressableLED} or marked clean.
+   *
+   * @return true if any LED has changed
+   */
+  public boolean isDirty() {
+    return m_dirtyStart < m_dirtyEnd;
+  }
+
+  /**
+   * Gets the index of the first LED that has changed color since the buffer was last written to an
+   * {@link AddressableLED} or marked clean. Only meaningful if the buffer {@link #isDirty() is
+   * dirty}.
+   *
+   * @return the first changed index (inclusive)
+   */
+  public int getDirtyStart() {
+    return m_dirtyStart;
+  }
+
+  /**
+   * Gets the index after the last LED that has changed color since the buffer was last written to
+   * an {@link AddressableLED} or marked clean. Only meaningful if the buffer {@link #isDirty() is
+   * dirty}.
+   *
+   * @return the last changed index (exclusive)
+   */
+  public int getDirtyEnd() {
+    return m_dirtyEnd;
+  }
+
+  /**
+   * Marks every LED in the buffer as unchanged. This is done automatically when the buffer is
+   * written to an {@link AddressableLED}.
+   */
+  public void markClean() {
+    m_dirtyStart = getLength();
+    m_dirtyEnd = 0;
+  }
+
   /**
    * Creates a view of a subsection of this data buffer, starting from (and including) {@code
    * startingIndex} and ending on (and including) {@code endingIndex}. Views cannot be written
@@ -0,0 +1,69 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.wpilibj;
+
+import edu.wpi.first.wpilibj.util.Color;
+
+/**
+ * An {@link LEDPattern} that has been compiled for faster playback. Created with {@link
+ * LEDPattern#compile()}.
+ *
+ * <p>A pattern built from the factories and modifiers on {@link LEDPattern} is a tree of lambdas
+ * that each read and write one LED at a time through {@link LEDReader} and {@link LEDWriter}
+ * wrappers. Compiling it replaces that tree with kernels that each process the whole strip at once
+ * as an array of packed RGB integers, reads the clock once per update rather than once per LED, and
+ * only computes patterns that don't animate (such as {@link LEDPattern#gradient} and {@link
+ * LEDPattern#rainbow}) once. The output is then copied to the LEDs in a single pass. When that
+ * target is an {@link AddressableLEDBuffer}, LEDs that didn't change color are not marked as dirty,
+ * and {@link AddressableLED#updateData(AddressableLEDBuffer)} skips writing a strip that hasn't
+ * changed at all.
+ *
+ * <p>Custom patterns can be part of a compiled pattern, and are run as they are against the array.
+ *
+ * <p>Unlike other patterns, a compiled pattern keeps working arrays sized for the strip it was last
+ * applied to, so each strip or view should use its own compiled pattern.
+ */
+public final class CompiledLEDPattern implements LEDPattern {
+  private final LEDPattern m_source;
+  private final LEDKernels.Kernel m_kernel;
+  private final boolean m_readsInput;
+  private int[] m_pixels = new int[0];
+
+  CompiledLEDPattern(LEDPattern source) {
+    m_source = source instanceof CompiledLEDPattern compiled ? compiled.m_source : source;
+    m_kernel = LEDKernels.compile(m_source);
+    m_readsInput = m_kernel.readsInput();
+  }
+
+  /**
+   * Gets the pattern this was compiled from.
+   *
+   * @return the source pattern
+   */
+  public LEDPattern getSource() {
+    return m_source;
+  }
+
+  @Override
+  public void applyTo(LEDReader reader, LEDWriter writer) {
+    int length = reader.getLength();
+    if (m_pixels.length != length) {
+      m_pixels = new int[length];
+    }
+
+    if (m_readsInput) {
+      for (int i = 0; i < length; i++) {
+        m_pixels[i] = Color.packRGB(reader.getRed(i), reader.getGreen(i), reader.getBlue(i));
+      }
+    }
+
+    m_kernel.apply(m_pixels, length, RobotController.getTime());
+
+    for (int i = 0; i < length; i++) {
+      int rgb = m_pixels[i];
+      writer.setRGB(i, rgb >> 16 & 0xFF, rgb >> 8 & 0xFF, rgb & 0xFF);
+    }
+  }
+}
@@ -8,6 +8,7 @@ import edu.wpi.first.hal.DriverStationJNI;
 import edu.wpi.first.hal.FRCNetComm.tInstances;
 import edu.wpi.first.hal.FRCNetComm.tResourceType;
 import edu.wpi.first.hal.HAL;
+import edu.wpi.first.networktables.NetworkTable;
 import edu.wpi.first.networktables.NetworkTableInstance;
 import edu.wpi.first.wpilibj.livewindow.LiveWindow;
 import edu.wpi.first.wpilibj.shuffleboard.Shuffleboard;
@@ -72,6 +73,8 @@ public abstract class IterativeRobotBase extends RobotBase {
   private final double m_period;
   private final Watchdog m_watchdog;
   private boolean m_ntFlushEnabled = true;
+  private boolean m_timingPublishEnabled;
+  private NetworkTable m_timingTable;
   private boolean m_lwEnabledInTest;
   private boolean m_calledDsConnected;
 
@@ -260,6 +263,27 @@ public abstract class IterativeRobotBase extends RobotBase {
     m_ntFlushEnabled = enabled;
   }
 
+  /**
+   * Enables or disables publishing loop timing statistics to NetworkTables every loop iteration. By
+   * default, this is disabled. The 50th percentile, 99th percentile, and maximum times of each part
+   * of the loop are published under {@code /Timing/Robot}. {@link TimedRobot} also publishes the
+   * times of each of its periodic callbacks under {@code /Timing/TimedRobot}.
+   *
+   * @param enabled True to enable, false to disable
+   */
+  public void setTimingPublishEnabled(boolean enabled) {
+    m_timingPublishEnabled = enabled;
+  }
+
+  /**
+   * Returns true if loop timing statistics are published to NetworkTables.
+   *
+   * @return True if publishing is enabled
+   */
+  boolean isTimingPublishEnabled() {
+    return m_timingPublishEnabled;
+  }
+
   private boolean m_reportedLw;
 
   /**
@@ -416,6 +440,13 @@ public abstract class IterativeRobotBase extends RobotBase {
 
     m_watchdog.disable();
 
+    if (m_timingPublishEnabled) {
+      if (m_timingTable == null) {
+        m_timingTable = NetworkTableInstance.getDefault().getTable("Timing/Robot");
+      }
+      m_watchdog.publishEpochs(m_timingTable);
+    }
+
     // Flush NetworkTables
     if (m_ntFlushEnabled) {
       NetworkTableInstance.getDefault().flushLocal();
@@ -0,0 +1,462 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.wpilibj;
+
+import edu.wpi.first.math.MathUtil;
+import edu.wpi.first.wpilibj.util.Color;
+import java.util.Arrays;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+
+/**
+ * The kernels that {@link CompiledLEDPattern} runs in place of the built-in {@link LEDPattern}
+ * lambdas. A kernel works on a whole strip at a time, stored as packed RGB integers (see {@link
+ * Color#packRGB(int, int, int)}). The array holds the current colors of the LEDs when the kernel
+ * runs, and the kernel overwrites it with its output, which is the same as applying a pattern with
+ * one object as both the reader and the writer.
+ */
+final class LEDKernels {
+  private static final int kWhite = 0xFFFFFF;
+
+  private LEDKernels() {
+    throw new UnsupportedOperationException("This is a utility class!");
+  }
+
+  /** A compiled pattern. */
+  abstract static class Kernel {
+    /**
+     * Applies the kernel.
+     *
+     * @param pixels the current colors of the LEDs, overwritten with the output
+     * @param length the number of LEDs
+     * @param now the current time in microseconds
+     */
+    abstract void apply(int[] pixels, int length, long now);
+
+    /**
+     * Checks if the kernel uses the colors the LEDs had before it was applied. This is true for any
+     * kernel that might leave some LEDs alone.
+     *
+     * @return true if the input colors are needed
+     */
+    boolean readsInput() {
+      return false;
+    }
+  }
+
+  /** A built-in pattern, which remembers how to build its kernel. */
+  static final class Node implements LEDPattern {
+    private final LEDPattern m_pattern;
+    private final Supplier<Kernel> m_compiler;
+
+    Node(LEDPattern pattern, Supplier<Kernel> compiler) {
+      m_pattern = pattern;
+      m_compiler = compiler;
+    }
+
+    @Override
+    public void applyTo(LEDReader reader, LEDWriter writer) {
+      m_pattern.applyTo(reader, writer);
+    }
+  }
+
+  /**
+   * Wraps a built-in pattern so it can be compiled.
+   *
+   * @param pattern the pattern, used when it is applied directly
+   * @param compiler builds the kernel for the pattern, or returns null if it can't be compiled
+   * @return the compilable pattern
+   */
+  static LEDPattern node(LEDPattern pattern, Supplier<Kernel> compiler) {
+    return new Node(pattern, compiler);
+  }
+
+  /**
+   * Compiles a pattern. Patterns that are not built in are run as they are.
+   *
+   * @param pattern the pattern to compile
+   * @return the kernel
+   */
+  static Kernel compile(LEDPattern pattern) {
+    if (pattern instanceof CompiledLEDPattern compiled) {
+      return compile(compiled.getSource());
+    }
+    if (pattern instanceof Node node) {
+      Kernel kernel = node.m_compiler.get();
+      if (kernel != null) {
+        return kernel;
+      }
+      return new Interpreted(node.m_pattern);
+    }
+    return new Interpreted(pattern);
+  }
+
+  /**
+   * Compiles a pattern whose output is transformed LED by LED. This only works if the pattern sets
+   * every LED, since otherwise the transform would also change the LEDs it left alone. A pattern
+   * built from other patterns might leave LEDs alone if any of them does, so this checks the whole
+   * kernel tree with {@link Kernel#readsInput()}.
+   *
+   * @param pattern the pattern to compile
+   * @param transform creates the transforming kernel from the pattern's kernel
+   * @return the kernel, or null if the pattern might leave some LEDs alone
+   */
+  static Kernel transform(LEDPattern pattern, Function<Kernel, Kernel> transform) {
+    Kernel kernel = compile(pattern);
+    if (kernel.readsInput()) {
+      return null;
+    }
+    return transform.apply(kernel);
+  }
+
+  private static int[] resize(int[] array, int length) {
+    if (array != null && array.length == length) {
+      return array;
+    }
+    return new int[length];
+  }
+
+  /** Runs a pattern that can't be compiled against the array of colors. */
+  static final class Interpreted extends Kernel implements LEDReader, LEDWriter {
+    private final LEDPattern m_pattern;
+    private int[] m_pixels;
+    private int m_length;
+
+    Interpreted(LEDPattern pattern) {
+      m_pattern = pattern;
+    }
+
+    @Override
+    void apply(int[] pixels, int length, long now) {
+      m_pixels = pixels;
+      m_length = length;
+      try {
+        m_pattern.applyTo(this, this);
+      } finally {
+        m_pixels = null;
+      }
+    }
+
+    @Override
+    boolean readsInput() {
+      return true;
+    }
+
+    @Override
+    public int getLength() {
+      return m_length;
+    }
+
+    @Override
+    public int getRed(int index) {
+      return Color.unpackRGB(m_pixels[index], Color.RGBChannel.kRed);
+    }
+
+    @Override
+    public int getGreen(int index) {
+      return Color.unpackRGB(m_pixels[index], Color.RGBChannel.kGreen);
+    }
+
+    @Override
+    public int getBlue(int index) {
+      return Color.unpackRGB(m_pixels[index], Color.RGBChannel.kBlue);
+    }
+
+    @Override
+    public void setRGB(int index, int r, int g, int b) {
+      m_pixels[index] = Color.packRGB(r, g, b);
+    }
+  }
+
+  /** Sets every LED to the same color. */
+  static final class Solid extends Kernel {
+    private final int m_rgb;
+
+    Solid(Color color) {
+      m_rgb =
+          Color.packRGB(
+              (int) (color.red * 255), (int) (color.green * 255), (int) (color.blue * 255));
+    }
+
+    @Override
+    void apply(int[] pixels, int length, long now) {
+      Arrays.fill(pixels, 0, length, m_rgb);
+    }
+  }
+
+  /**
+   * Runs a pattern that doesn't change over time once per strip length, and copies the saved
+   * output after that.
+   */
+  static final class Static extends Kernel {
+    private final Interpreted m_pattern;
+    private int[] m_output;
+
+    Static(LEDPattern pattern) {
+      m_pattern = new Interpreted(pattern);
+    }
+
+    @Override
+    void apply(int[] pixels, int length, long now) {
+      if (m_output == null || m_output.length != length) {
+        m_output = new int[length];
+        m_pattern.apply(m_output, length, now);
+      }
+      System.arraycopy(m_output, 0, pixels, 0, length);
+    }
+  }
+
+  /** Lights up the start of the strip in proportion to some progress. */
+  static final class ProgressMask extends Kernel {
+    private final DoubleSupplier m_progress;
+
+    ProgressMask(DoubleSupplier progress) {
+      m_progress = progress;
+    }
+
+    @Override
+    void apply(int[] pixels, int length, long now) {
+      double progress = MathUtil.clamp(m_progress.getAsDouble(), 0, 1);
+      int max = (int) (length * progress);
+      Arrays.fill(pixels, 0, max, kWhite);
+      Arrays.fill(pixels, max, length, 0);
+    }
+  }
+
+  /** Remaps the LED indices of a pattern. */
+  static final class MapIndex extends Kernel {
+    private final Kernel m_pattern;
+    private final LEDPattern.IndexMapper m_mapper;
+    private int[] m_mapped;
+
+    MapIndex(Kernel pattern, LEDPattern.IndexMapper mapper) {
+      m_pattern = pattern;
+      m_mapper = mapper;
+    }
+
+    @Override
+    void apply(int[] pixels, int length, long now) {
+      m_mapped = resize(m_mapped, length);
+      for (int i = 0; i < length; i++) {
+        m_mapped[i] = pixels[m_mapper.apply(length, i)];
+      }
+      m_pattern.apply(m_mapped, length, now);
+      for (int i = 0; i < length; i++) {
+        pixels[m_mapper.apply(length, i)] = m_mapped[i];
+      }
+    }
+
+    @Override
+    boolean readsInput() {
+      return m_pattern.readsInput();
+    }
+  }
+
+  /** Computes how far to rotate a strip. */
+  @FunctionalInterface
+  interface Offset {
+    /**
+     * Computes the offset.
+     *
+     * @param length the number of LEDs
+     * @param now the current time in microseconds
+     * @return the offset, which may be negative or larger than the strip
+     */
+    int get(int length, long now);
+  }
+
+  /**
+   * Rotates a pattern along the strip, wrapping around the end. Equivalent to mapping each index to
+   * {@code floorMod(index + offset, length)}, but done with block copies.
+   */
+  static final class Rotate extends Kernel {
+    private final Kernel m_pattern;
+    private final Offset m_offset;
+    private int[] m_rotated;
+
+    Rotate(Kernel pattern, Offset offset) {
+      m_pattern = pattern;
+      m_offset = offset;
+    }
+
+    @Override
+    void apply(int[] pixels, int length, long now) {
+      if (length == 0) {
+        return;
+      }
+      m_rotated = resize(m_rotated, length);
+      int offset = Math.floorMod(m_offset.get(length, now), length);
+
+      // rotated[i] = pixels[(i + offset) % length]
+      System.arraycopy(pixels, offset, m_rotated, 0, length - offset);
+      System.arraycopy(pixels, 0, m_rotated, length - offset, offset);
+      m_pattern.apply(m_rotated, length, now);
+      System.arraycopy(m_rotated, 0, pixels, offset, length - offset);
+      System.arraycopy(m_rotated, length - offset, pixels, 0, offset);
+    }
+
+    @Override
+    boolean readsInput() {
+      return m_pattern.readsInput();
+    }
+  }
+
+  /** Plays a pattern while a condition holds, and turns the strip off otherwise. */
+  static final class Blink extends Kernel {
+    private final Kernel m_pattern;
+    private final LongPredicate m_on;
+
+    Blink(Kernel pattern, LongPredicate on) {
+      m_pattern = pattern;
+      m_on = on;
+    }
+
+    @Override
+    void apply(int[] pixels, int length, long now) {
+      if (m_on.test(now)) {
+        m_pattern.apply(pixels, length, now);
+      } else {
+        Arrays.fill(pixels, 0, length, 0);
+      }
+    }
+
+    @Override
+    boolean readsInput() {
+      return m_pattern.readsInput();
+    }
+  }
+
+  /** Dims a pattern along a cosine wave. */
+  static final class Breathe extends Kernel {
+    private final Kernel m_pattern;
+    private final long m_periodMicros;
+
+    Breathe(Kernel pattern, long periodMicros) {
+      m_pattern = pattern;
+      m_periodMicros = periodMicros;
+    }
+
+    @Override
+    void apply(int[] pixels, int length, long now) {
+      m_pattern.apply(pixels, length, now);
+
+      double t = (now % m_periodMicros) / (double) m_periodMicros;
+      double dim = (Math.cos(t * 2 * Math.PI) + 1) / 2.0;
+      for (int i = 0; i < length; i++) {
+        int rgb = pixels[i];
+        pixels[i] = Color.lerpRGB(0, 0, 0, rgb >> 16 & 0xFF, rgb >> 8 & 0xFF, rgb & 0xFF, dim);
+      }
+    }
+
+    @Override
+    boolean readsInput() {
+      return m_pattern.readsInput();
+    }
+  }
+
+  /** Scales the color channels of a pattern. */
+  static final class Brightness extends Kernel {
+    private final Kernel m_pattern;
+    private final double m_multiplier;
+
+    Brightness(Kernel pattern, double multiplier) {
+      m_pattern = pattern;
+      m_multiplier = multiplier;
+    }
+
+    @Override
+    void apply(int[] pixels, int length, long now) {
+      m_pattern.apply(pixels, length, now);
+
+      for (int i = 0; i < length; i++) {
+        int rgb = pixels[i];
+        pixels[i] =
+            Color.packRGB(
+                (int) MathUtil.clamp((rgb >> 16 & 0xFF) * m_multiplier, 0, 255),
+                (int) MathUtil.clamp((rgb >> 8 & 0xFF) * m_multiplier, 0, 255),
+                (int) MathUtil.clamp((rgb & 0xFF) * m_multiplier, 0, 255));
+      }
+    }
+
+    @Override
+    boolean readsInput() {
+      return m_pattern.readsInput();
+    }
+  }
+
+  /** How a {@link Combine} kernel merges the output of its second pattern into the first. */
+  enum Combination {
+    /** The second pattern is shown wherever it isn't black. */
+    kOverlay,
+    /** The average of both patterns. */
+    kBlend,
+    /** The bitwise AND of both patterns. */
+    kMask
+  }
+
+  /**
+   * Applies one pattern, then merges a second pattern into it. The second pattern is applied to a
+   * copy of the first one's output, so LEDs it leaves alone are merged with themselves and don't
+   * change.
+   */
+  static final class Combine extends Kernel {
+    private final Kernel m_first;
+    private final Kernel m_second;
+    private final Combination m_combination;
+    private int[] m_secondPixels;
+
+    Combine(Kernel first, Kernel second, Combination combination) {
+      m_first = first;
+      m_second = second;
+      m_combination = combination;
+    }
+
+    @Override
+    void apply(int[] pixels, int length, long now) {
+      m_first.apply(pixels, length, now);
+
+      m_secondPixels = resize(m_secondPixels, length);
+      System.arraycopy(pixels, 0, m_secondPixels, 0, length);
+      m_second.apply(m_secondPixels, length, now);
+
+      switch (m_combination) {
+        case kOverlay -> {
+          for (int i = 0; i < length; i++) {
+            if (m_secondPixels[i] != 0) {
+              pixels[i] = m_secondPixels[i];
+            }
+          }
+        }
+        case kBlend -> {
+          for (int i = 0; i < length; i++) {
+            int a = pixels[i];
+            int b = m_secondPixels[i];
+            pixels[i] =
+                Color.lerpRGB(
+                    a >> 16 & 0xFF,
+                    a >> 8 & 0xFF,
+                    a & 0xFF,
+                    b >> 16 & 0xFF,
+                    b >> 8 & 0xFF,
+                    b & 0xFF,
+                    0.5);
+          }
+        }
+        case kMask -> {
+          for (int i = 0; i < length; i++) {
+            pixels[i] &= m_secondPixels[i];
+          }
+        }
+      }
+    }
+
+    @Override
+    boolean readsInput() {
+      return m_first.readsInput() || m_second.readsInput();
+    }
+  }
+}
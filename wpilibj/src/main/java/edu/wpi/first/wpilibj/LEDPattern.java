@@ -142,6 +142,28 @@ public interface LEDPattern {
     applyTo(readWriter, readWriter);
   }
 
+  /**
+   * Compiles this pattern for faster playback. Patterns built from the factories and modifiers in
+   * this interface are combined into kernels that update the whole strip at once; see {@link
+   * CompiledLEDPattern} for details. Compiled patterns should be created once, rather than every
+   * time they're applied, and each strip or view should use its own compiled pattern.
+   *
+   * <pre><code>
+   *   CompiledLEDPattern compiled =
+   *     LEDPattern.rainbow(255, 128).scrollAtRelativeSpeed(Percent.per(Second).of(25)).compile();
+   *
+   *   void periodic() {
+   *     compiled.applyTo(m_ledData);
+   *     m_led.updateData(m_ledData);
+   *   }
+   * </code></pre>
+   *
+   * @return the compiled pattern
+   */
+  default CompiledLEDPattern compile() {
+    return new CompiledLEDPattern(this);
+  }
+
   /**
    * Creates a pattern with remapped indices.
    *
@@ -149,32 +171,36 @@ public interface LEDPattern {
    * @return the mapped pattern
    */
   default LEDPattern mapIndex(IndexMapper indexMapper) {
-    return (reader, writer) -> {
-      int bufLen = reader.getLength();
-      applyTo(
-          new LEDReader() {
-            @Override
-            public int getLength() {
-              return reader.getLength();
-            }
-
-            @Override
-            public int getRed(int index) {
-              return reader.getRed(indexMapper.apply(bufLen, index));
-            }
-
-            @Override
-            public int getGreen(int index) {
-              return reader.getGreen(indexMapper.apply(bufLen, index));
-            }
-
-            @Override
-            public int getBlue(int index) {
-              return reader.getBlue(indexMapper.apply(bufLen, index));
-            }
-          },
-          (i, r, g, b) -> writer.setRGB(indexMapper.apply(bufLen, i), r, g, b));
-    };
+    LEDPattern pattern =
+        (reader, writer) -> {
+          int bufLen = reader.getLength();
+          applyTo(
+              new LEDReader() {
+                @Override
+                public int getLength() {
+                  return reader.getLength();
+                }
+
+                @Override
+                public int getRed(int index) {
+                  return reader.getRed(indexMapper.apply(bufLen, index));
+                }
+
+                @Override
+                public int getGreen(int index) {
+                  return reader.getGreen(indexMapper.apply(bufLen, index));
+                }
+
+                @Override
+                public int getBlue(int index) {
+                  return reader.getBlue(indexMapper.apply(bufLen, index));
+                }
+              },
+              (i, r, g, b) -> writer.setRGB(indexMapper.apply(bufLen, i), r, g, b));
+        };
+
+    return LEDKernels.node(
+        pattern, () -> new LEDKernels.MapIndex(LEDKernels.compile(this), indexMapper));
   }
 
   /**
@@ -202,7 +228,9 @@ public interface LEDPattern {
    * @return the offset pattern
    */
   default LEDPattern offsetBy(int offset) {
-    return mapIndex((length, index) -> Math.floorMod(index + offset, length));
+    return LEDKernels.node(
+        mapIndex((length, index) -> Math.floorMod(index + offset, length)),
+        () -> new LEDKernels.Rotate(LEDKernels.compile(this), (length, now) -> offset));
   }
 
   /**
@@ -226,16 +254,21 @@ public interface LEDPattern {
   default LEDPattern scrollAtRelativeSpeed(Frequency velocity) {
     final double periodMicros = velocity.asPeriod().in(Microseconds);
 
-    return mapIndex(
-        (bufLen, index) -> {
-          long now = RobotController.getTime();
-
-          // index should move by (buf.length) / (period)
-          double t = (now % (long) periodMicros) / periodMicros;
-          int offset = (int) (t * bufLen);
-
-          return Math.floorMod(index + offset, bufLen);
-        });
+    return LEDKernels.node(
+        mapIndex(
+            (bufLen, index) -> {
+              long now = RobotController.getTime();
+
+              // index should move by (buf.length) / (period)
+              double t = (now % (long) periodMicros) / periodMicros;
+              int offset = (int) (t * bufLen);
+
+              return Math.floorMod(index + offset, bufLen);
+            }),
+        () ->
+            new LEDKernels.Rotate(
+                LEDKernels.compile(this),
+                (bufLen, now) -> (int) ((now % (long) periodMicros) / periodMicros * bufLen)));
   }
 
   /**
@@ -270,16 +303,20 @@ public interface LEDPattern {
     var metersPerMicro = velocity.in(Meters.per(Microsecond));
     var microsPerLED = (int) (ledSpacing.in(Meters) / metersPerMicro);
 
-    return mapIndex(
-        (bufLen, index) -> {
-          long now = RobotController.getTime();
+    return LEDKernels.node(
+        mapIndex(
+            (bufLen, index) -> {
+              long now = RobotController.getTime();
 
-          // every step in time that's a multiple of microsPerLED will increment the offset by 1
-          var offset = (int) (now / microsPerLED);
+              // every step in time that's a multiple of microsPerLED will increment the offset by 1
+              var offset = (int) (now / microsPerLED);
 
-          // floorMod so if the offset is negative, we still get positive outputs
-          return Math.floorMod(index + offset, bufLen);
-        });
+              // floorMod so if the offset is negative, we still get positive outputs
+              return Math.floorMod(index + offset, bufLen);
+            }),
+        () ->
+            new LEDKernels.Rotate(
+                LEDKernels.compile(this), (bufLen, now) -> (int) (now / microsPerLED)));
   }
 
   /**
@@ -294,13 +331,20 @@ public interface LEDPattern {
     final long totalTimeMicros = (long) (onTime.in(Microseconds) + offTime.in(Microseconds));
     final long onTimeMicros = (long) onTime.in(Microseconds);
 
-    return (reader, writer) -> {
-      if (RobotController.getTime() % totalTimeMicros < onTimeMicros) {
-        applyTo(reader, writer);
-      } else {
-        kOff.applyTo(reader, writer);
-      }
-    };
+    LEDPattern pattern =
+        (reader, writer) -> {
+          if (RobotController.getTime() % totalTimeMicros < onTimeMicros) {
+            applyTo(reader, writer);
+          } else {
+            kOff.applyTo(reader, writer);
+          }
+        };
+
+    return LEDKernels.node(
+        pattern,
+        () ->
+            new LEDKernels.Blink(
+                LEDKernels.compile(this), now -> now % totalTimeMicros < onTimeMicros));
   }
 
   /**
@@ -323,13 +367,18 @@ public interface LEDPattern {
    * @return the blinking pattern
    */
   default LEDPattern synchronizedBlink(BooleanSupplier signal) {
-    return (reader, writer) -> {
-      if (signal.getAsBoolean()) {
-        applyTo(reader, writer);
-      } else {
-        kOff.applyTo(reader, writer);
-      }
-    };
+    LEDPattern pattern =
+        (reader, writer) -> {
+          if (signal.getAsBoolean()) {
+            applyTo(reader, writer);
+          } else {
+            kOff.applyTo(reader, writer);
+          }
+        };
+
+    return LEDKernels.node(
+        pattern,
+        () -> new LEDKernels.Blink(LEDKernels.compile(this), now -> signal.getAsBoolean()));
   }
 
   /**
@@ -342,27 +391,33 @@ public interface LEDPattern {
   default LEDPattern breathe(Time period) {
     final long periodMicros = (long) period.in(Microseconds);
 
-    return (reader, writer) -> {
-      applyTo(
-          reader,
-          (i, r, g, b) -> {
-            // How far we are in the cycle, in the range [0, 1)
-            double t = (RobotController.getTime() % periodMicros) / (double) periodMicros;
-            double phase = t * 2 * Math.PI;
-
-            // Apply the cosine function and shift its output from [-1, 1] to [0, 1]
-            // Use cosine so the period starts at 100% brightness
-            double dim = (Math.cos(phase) + 1) / 2.0;
-
-            int output = Color.lerpRGB(0, 0, 0, r, g, b, dim);
-
-            writer.setRGB(
-                i,
-                Color.unpackRGB(output, Color.RGBChannel.kRed),
-                Color.unpackRGB(output, Color.RGBChannel.kGreen),
-                Color.unpackRGB(output, Color.RGBChannel.kBlue));
-          });
-    };
+    LEDPattern pattern =
+        (reader, writer) -> {
+          applyTo(
+              reader,
+              (i, r, g, b) -> {
+                // How far we are in the cycle, in the range [0, 1)
+                double t = (RobotController.getTime() % periodMicros) / (double) periodMicros;
+                double phase = t * 2 * Math.PI;
+
+                // Apply the cosine function and shift its output from [-1, 1] to [0, 1]
+                // Use cosine so the period starts at 100% brightness
+                double dim = (Math.cos(phase) + 1) / 2.0;
+
+                int output = Color.lerpRGB(0, 0, 0, r, g, b, dim);
+
+                writer.setRGB(
+                    i,
+                    Color.unpackRGB(output, Color.RGBChannel.kRed),
+                    Color.unpackRGB(output, Color.RGBChannel.kGreen),
+                    Color.unpackRGB(output, Color.RGBChannel.kBlue));
+              });
+        };
+
+    return LEDKernels.node(
+        pattern,
+        () ->
+            LEDKernels.transform(this, kernel -> new LEDKernels.Breathe(kernel, periodMicros)));
   }
 
   /**
@@ -373,19 +428,28 @@ public interface LEDPattern {
    * @return the combined overlay pattern
    */
   default LEDPattern overlayOn(LEDPattern base) {
-    return (reader, writer) -> {
-      // write the base pattern down first...
-      base.applyTo(reader, writer);
-
-      // ... then, overwrite with the illuminated LEDs from the overlay
-      applyTo(
-          reader,
-          (i, r, g, b) -> {
-            if (r != 0 || g != 0 || b != 0) {
-              writer.setRGB(i, r, g, b);
-            }
-          });
-    };
+    LEDPattern pattern =
+        (reader, writer) -> {
+          // write the base pattern down first...
+          base.applyTo(reader, writer);
+
+          // ... then, overwrite with the illuminated LEDs from the overlay
+          applyTo(
+              reader,
+              (i, r, g, b) -> {
+                if (r != 0 || g != 0 || b != 0) {
+                  writer.setRGB(i, r, g, b);
+                }
+              });
+        };
+
+    return LEDKernels.node(
+        pattern,
+        () ->
+            new LEDKernels.Combine(
+                LEDKernels.compile(base),
+                LEDKernels.compile(this),
+                LEDKernels.Combination.kOverlay));
   }
 
   /**
@@ -400,23 +464,32 @@ public interface LEDPattern {
    * @return the blended pattern
    */
   default LEDPattern blend(LEDPattern other) {
-    return (reader, writer) -> {
-      applyTo(reader, writer);
-
-      other.applyTo(
-          reader,
-          (i, r, g, b) -> {
-            int blendedRGB =
-                Color.lerpRGB(
-                    reader.getRed(i), reader.getGreen(i), reader.getBlue(i), r, g, b, 0.5);
-
-            writer.setRGB(
-                i,
-                Color.unpackRGB(blendedRGB, Color.RGBChannel.kRed),
-                Color.unpackRGB(blendedRGB, Color.RGBChannel.kGreen),
-                Color.unpackRGB(blendedRGB, Color.RGBChannel.kBlue));
-          });
-    };
+    LEDPattern pattern =
+        (reader, writer) -> {
+          applyTo(reader, writer);
+
+          other.applyTo(
+              reader,
+              (i, r, g, b) -> {
+                int blendedRGB =
+                    Color.lerpRGB(
+                        reader.getRed(i), reader.getGreen(i), reader.getBlue(i), r, g, b, 0.5);
+
+                writer.setRGB(
+                    i,
+                    Color.unpackRGB(blendedRGB, Color.RGBChannel.kRed),
+                    Color.unpackRGB(blendedRGB, Color.RGBChannel.kGreen),
+                    Color.unpackRGB(blendedRGB, Color.RGBChannel.kBlue));
+              });
+        };
+
+    return LEDKernels.node(
+        pattern,
+        () ->
+            new LEDKernels.Combine(
+                LEDKernels.compile(this),
+                LEDKernels.compile(other),
+                LEDKernels.Combination.kBlend));
   }
 
   /**
@@ -431,17 +504,25 @@ public interface LEDPattern {
    * @return the masked pattern
    */
   default LEDPattern mask(LEDPattern mask) {
-    return (reader, writer) -> {
-      // Apply the current pattern down as normal...
-      applyTo(reader, writer);
-
-      mask.applyTo(
-          reader,
-          (i, r, g, b) -> {
-            // ... then perform a bitwise AND operation on each channel to apply the mask
-            writer.setRGB(i, r & reader.getRed(i), g & reader.getGreen(i), b & reader.getBlue(i));
-          });
-    };
+    LEDPattern pattern =
+        (reader, writer) -> {
+          // Apply the current pattern down as normal...
+          applyTo(reader, writer);
+
+          mask.applyTo(
+              reader,
+              (i, r, g, b) -> {
+                // ... then perform a bitwise AND operation on each channel to apply the mask
+                writer.setRGB(
+                    i, r & reader.getRed(i), g & reader.getGreen(i), b & reader.getBlue(i));
+              });
+        };
+
+    return LEDKernels.node(
+        pattern,
+        () ->
+            new LEDKernels.Combine(
+                LEDKernels.compile(this), LEDKernels.compile(mask), LEDKernels.Combination.kMask));
   }
 
   /**
@@ -470,20 +551,25 @@ public interface LEDPattern {
   default LEDPattern atBrightness(Dimensionless relativeBrightness) {
     double multiplier = relativeBrightness.in(Value);
 
-    return (reader, writer) -> {
-      applyTo(
-          reader,
-          (i, r, g, b) -> {
-            // Clamp RGB values to keep them in the range [0, 255].
-            // Otherwise, the casts to byte would result in values like 256 wrapping to 0
-
-            writer.setRGB(
-                i,
-                (int) MathUtil.clamp(r * multiplier, 0, 255),
-                (int) MathUtil.clamp(g * multiplier, 0, 255),
-                (int) MathUtil.clamp(b * multiplier, 0, 255));
-          });
-    };
+    LEDPattern pattern =
+        (reader, writer) -> {
+          applyTo(
+              reader,
+              (i, r, g, b) -> {
+                // Clamp RGB values to keep them in the range [0, 255].
+                // Otherwise, the casts to byte would result in values like 256 wrapping to 0
+
+                writer.setRGB(
+                    i,
+                    (int) MathUtil.clamp(r * multiplier, 0, 255),
+                    (int) MathUtil.clamp(g * multiplier, 0, 255),
+                    (int) MathUtil.clamp(b * multiplier, 0, 255));
+              });
+        };
+
+    return LEDKernels.node(
+        pattern,
+        () -> LEDKernels.transform(this, kernel -> new LEDKernels.Brightness(kernel, multiplier)));
   }
 
   /** A pattern that turns off all LEDs. */
@@ -496,12 +582,15 @@ public interface LEDPattern {
    * @return the pattern
    */
   static LEDPattern solid(Color color) {
-    return (reader, writer) -> {
-      int bufLen = reader.getLength();
-      for (int led = 0; led < bufLen; led++) {
-        writer.setLED(led, color);
-      }
-    };
+    LEDPattern pattern =
+        (reader, writer) -> {
+          int bufLen = reader.getLength();
+          for (int led = 0; led < bufLen; led++) {
+            writer.setLED(led, color);
+          }
+        };
+
+    return LEDKernels.node(pattern, () -> new LEDKernels.Solid(color));
   }
 
   /**
@@ -525,20 +614,23 @@ public interface LEDPattern {
    * @return the mask pattern
    */
   static LEDPattern progressMaskLayer(DoubleSupplier progressSupplier) {
-    return (reader, writer) -> {
-      double progress = MathUtil.clamp(progressSupplier.getAsDouble(), 0, 1);
+    LEDPattern pattern =
+        (reader, writer) -> {
+          double progress = MathUtil.clamp(progressSupplier.getAsDouble(), 0, 1);
 
-      int bufLen = reader.getLength();
-      int max = (int) (bufLen * progress);
+          int bufLen = reader.getLength();
+          int max = (int) (bufLen * progress);
 
-      for (int led = 0; led < max; led++) {
-        writer.setLED(led, Color.kWhite);
-      }
+          for (int led = 0; led < max; led++) {
+            writer.setLED(led, Color.kWhite);
+          }
 
-      for (int led = max; led < bufLen; led++) {
-        writer.setLED(led, Color.kBlack);
-      }
-    };
+          for (int led = max; led < bufLen; led++) {
+            writer.setLED(led, Color.kBlack);
+          }
+        };
+
+    return LEDKernels.node(pattern, () -> new LEDKernels.ProgressMask(progressSupplier));
   }
 
   /**
@@ -573,24 +665,28 @@ public interface LEDPattern {
       return solid(steps.values().iterator().next());
     }
 
-    return (reader, writer) -> {
-      int bufLen = reader.getLength();
+    LEDPattern pattern =
+        (reader, writer) -> {
+          int bufLen = reader.getLength();
+
+          // precompute relevant positions for this buffer so we don't need to do a check
+          // on every single LED index
+          var stopPositions = new LongToObjectHashMap<Color>();
+          steps.forEach(
+              (progress, color) -> {
+                stopPositions.put((int) Math.floor(progress.doubleValue() * bufLen), color);
+              });
 
-      // precompute relevant positions for this buffer so we don't need to do a check
-      // on every single LED index
-      var stopPositions = new LongToObjectHashMap<Color>();
-      steps.forEach(
-          (progress, color) -> {
-            stopPositions.put((int) Math.floor(progress.doubleValue() * bufLen), color);
-          });
+          Color currentColor = Color.kBlack;
+          for (int led = 0; led < bufLen; led++) {
+            currentColor = Objects.requireNonNullElse(stopPositions.get(led), currentColor);
 
-      Color currentColor = Color.kBlack;
-      for (int led = 0; led < bufLen; led++) {
-        currentColor = Objects.requireNonNullElse(stopPositions.get(led), currentColor);
+            writer.setLED(led, currentColor);
+          }
+        };
 
-        writer.setLED(led, currentColor);
-      }
-    };
+    // The steps don't change over time, so they only need to be computed once per strip
+    return LEDKernels.node(pattern, () -> new LEDKernels.Static(pattern));
   }
 
   /** Types of gradients. */
@@ -636,38 +732,42 @@ public interface LEDPattern {
 
     final int numSegments = colors.length;
 
-    return (reader, writer) -> {
-      int bufLen = reader.getLength();
-      int ledsPerSegment =
-          switch (type) {
-            case kContinuous -> bufLen / numSegments;
-            case kDiscontinuous -> (bufLen - 1) / (numSegments - 1);
-          };
-
-      for (int led = 0; led < bufLen; led++) {
-        int colorIndex = (led / ledsPerSegment) % numSegments;
-        int nextColorIndex = (colorIndex + 1) % numSegments;
-        double t = (led / (double) ledsPerSegment) % 1;
-
-        Color color = colors[colorIndex];
-        Color nextColor = colors[nextColorIndex];
-        int gradientColor =
-            Color.lerpRGB(
-                color.red,
-                color.green,
-                color.blue,
-                nextColor.red,
-                nextColor.green,
-                nextColor.blue,
-                t);
-
-        writer.setRGB(
-            led,
-            Color.unpackRGB(gradientColor, Color.RGBChannel.kRed),
-            Color.unpackRGB(gradientColor, Color.RGBChannel.kGreen),
-            Color.unpackRGB(gradientColor, Color.RGBChannel.kBlue));
-      }
-    };
+    LEDPattern pattern =
+        (reader, writer) -> {
+          int bufLen = reader.getLength();
+          int ledsPerSegment =
+              switch (type) {
+                case kContinuous -> bufLen / numSegments;
+                case kDiscontinuous -> (bufLen - 1) / (numSegments - 1);
+              };
+
+          for (int led = 0; led < bufLen; led++) {
+            int colorIndex = (led / ledsPerSegment) % numSegments;
+            int nextColorIndex = (colorIndex + 1) % numSegments;
+            double t = (led / (double) ledsPerSegment) % 1;
+
+            Color color = colors[colorIndex];
+            Color nextColor = colors[nextColorIndex];
+            int gradientColor =
+                Color.lerpRGB(
+                    color.red,
+                    color.green,
+                    color.blue,
+                    nextColor.red,
+                    nextColor.green,
+                    nextColor.blue,
+                    t);
+
+            writer.setRGB(
+                led,
+                Color.unpackRGB(gradientColor, Color.RGBChannel.kRed),
+                Color.unpackRGB(gradientColor, Color.RGBChannel.kGreen),
+                Color.unpackRGB(gradientColor, Color.RGBChannel.kBlue));
+          }
+        };
+
+    // The gradient doesn't change over time, so it only needs to be computed once per strip
+    return LEDKernels.node(pattern, () -> new LEDKernels.Static(pattern));
   }
 
   /**
@@ -679,12 +779,16 @@ public interface LEDPattern {
    * @return the rainbow pattern
    */
   static LEDPattern rainbow(int saturation, int value) {
-    return (reader, writer) -> {
-      int bufLen = reader.getLength();
-      for (int i = 0; i < bufLen; i++) {
-        int hue = ((i * 180) / bufLen) % 180;
-        writer.setHSV(i, hue, saturation, value);
-      }
-    };
+    LEDPattern pattern =
+        (reader, writer) -> {
+          int bufLen = reader.getLength();
+          for (int i = 0; i < bufLen; i++) {
+            int hue = ((i * 180) / bufLen) % 180;
+            writer.setHSV(i, hue, saturation, value);
+          }
+        };
+
+    // The rainbow doesn't change over time, so it only needs to be computed once per strip
+    return LEDKernels.node(pattern, () -> new LEDKernels.Static(pattern));
   }
 }
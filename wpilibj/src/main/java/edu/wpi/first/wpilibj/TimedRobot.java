@@ -11,8 +11,12 @@ import edu.wpi.first.hal.FRCNetComm.tInstances;
 import edu.wpi.first.hal.FRCNetComm.tResourceType;
 import edu.wpi.first.hal.HAL;
 import edu.wpi.first.hal.NotifierJNI;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
 import edu.wpi.first.units.measure.Time;
+import java.util.HashSet;
 import java.util.PriorityQueue;
+import java.util.Set;
 
 /**
  * TimedRobot implements the IterativeRobotBase robot program framework.
@@ -25,6 +29,7 @@ public class TimedRobot extends IterativeRobotBase {
   @SuppressWarnings("MemberName")
   static class Callback implements Comparable<Callback> {
     public Runnable func;
+    public String name;
     public long period;
     public long expirationTime;
 
@@ -32,12 +37,14 @@ public class TimedRobot extends IterativeRobotBase {
      * Construct a callback container.
      *
      * @param func The callback to run.
+     * @param name The name to record the callback's execution times under.
      * @param startTimeUs The common starting point for all callback scheduling in microseconds.
      * @param periodUs The period at which to run the callback in microseconds.
      * @param offsetUs The offset from the common starting time in microseconds.
      */
-    Callback(Runnable func, long startTimeUs, long periodUs, long offsetUs) {
+    Callback(Runnable func, String name, long startTimeUs, long periodUs, long offsetUs) {
       this.func = func;
+      this.name = name;
       this.period = periodUs;
       this.expirationTime =
           startTimeUs
@@ -75,6 +82,11 @@ public class TimedRobot extends IterativeRobotBase {
   private long m_loopStartTimeUs;
 
   private final PriorityQueue<Callback> m_callbacks = new PriorityQueue<>();
+  private final Set<String> m_callbackNames = new HashSet<>();
+
+  // Times every callback, including the main loop function
+  private final Tracer m_callbackTracer = new Tracer();
+  private NetworkTable m_callbackTimingTable;
 
   /** Constructor for TimedRobot. */
   protected TimedRobot() {
@@ -89,7 +101,7 @@ public class TimedRobot extends IterativeRobotBase {
   protected TimedRobot(double period) {
     super(period);
     m_startTimeUs = RobotController.getFPGATime();
-    addPeriodic(this::loopFunc, period);
+    addPeriodic("loopFunc()", this::loopFunc, period);
     NotifierJNI.setNotifierName(m_notifier, "TimedRobot");
 
     HAL.report(tResourceType.kResourceType_Framework, tInstances.kFramework_Timed);
@@ -130,7 +142,9 @@ public class TimedRobot extends IterativeRobotBase {
 
       m_loopStartTimeUs = RobotController.getFPGATime();
 
+      m_callbackTracer.resetTimer();
       callback.func.run();
+      m_callbackTracer.addEpoch(callback.name);
 
       // Increment the expiration time by the number of full periods it's behind
       // plus one to avoid rapid repeat fires from a large loop overrun. We
@@ -145,13 +159,22 @@ public class TimedRobot extends IterativeRobotBase {
       while (m_callbacks.peek().expirationTime <= currentTime) {
         callback = m_callbacks.poll();
 
+        m_callbackTracer.resetTimer();
         callback.func.run();
+        m_callbackTracer.addEpoch(callback.name);
 
         callback.expirationTime +=
             callback.period
                 + (currentTime - callback.expirationTime) / callback.period * callback.period;
         m_callbacks.add(callback);
       }
+
+      if (isTimingPublishEnabled()) {
+        if (m_callbackTimingTable == null) {
+          m_callbackTimingTable = NetworkTableInstance.getDefault().getTable("Timing/TimedRobot");
+        }
+        m_callbackTracer.publishEpochs(m_callbackTimingTable);
+      }
     }
   }
 
@@ -178,11 +201,14 @@ public class TimedRobot extends IterativeRobotBase {
    * <p>This is scheduled on TimedRobot's Notifier, so TimedRobot and the callback run
    * synchronously. Interactions between them are thread-safe.
    *
+   * <p>The callback's execution times are published under a name derived from its period. Use
+   * {@link #addPeriodic(String, Runnable, double)} to give it a more descriptive name.
+   *
    * @param callback The callback to run.
    * @param periodSeconds The period at which to run the callback in seconds.
    */
   public final void addPeriodic(Runnable callback, double periodSeconds) {
-    m_callbacks.add(new Callback(callback, m_startTimeUs, (long) (periodSeconds * 1e6), 0));
+    addPeriodic(defaultCallbackName(periodSeconds, 0), callback, periodSeconds, 0);
   }
 
   /**
@@ -191,15 +217,18 @@ public class TimedRobot extends IterativeRobotBase {
    * <p>This is scheduled on TimedRobot's Notifier, so TimedRobot and the callback run
    * synchronously. Interactions between them are thread-safe.
    *
+   * <p>The callback's execution times are published under a name derived from its period and
+   * offset. Use {@link #addPeriodic(String, Runnable, double, double)} to give it a more
+   * descriptive name.
+   *
    * @param callback The callback to run.
    * @param periodSeconds The period at which to run the callback in seconds.
    * @param offsetSeconds The offset from the common starting time in seconds. This is useful for
    *     scheduling a callback in a different timeslot relative to TimedRobot.
    */
   public final void addPeriodic(Runnable callback, double periodSeconds, double offsetSeconds) {
-    m_callbacks.add(
-        new Callback(
-            callback, m_startTimeUs, (long) (periodSeconds * 1e6), (long) (offsetSeconds * 1e6)));
+    addPeriodic(
+        defaultCallbackName(periodSeconds, offsetSeconds), callback, periodSeconds, offsetSeconds);
   }
 
   /**
@@ -229,4 +258,114 @@ public class TimedRobot extends IterativeRobotBase {
   public final void addPeriodic(Runnable callback, Time period, Time offset) {
     addPeriodic(callback, period.in(Seconds), offset.in(Seconds));
   }
+
+  /**
+   * Add a named callback to run at a specific period.
+   *
+   * <p>This is scheduled on TimedRobot's Notifier, so TimedRobot and the callback run
+   * synchronously. Interactions between them are thread-safe.
+   *
+   * @param name The name to publish the callback's execution times under. If another callback
+   *     already has this name, a number is appended to it.
+   * @param callback The callback to run.
+   * @param periodSeconds The period at which to run the callback in seconds.
+   */
+  public final void addPeriodic(String name, Runnable callback, double periodSeconds) {
+    addPeriodic(name, callback, periodSeconds, 0);
+  }
+
+  /**
+   * Add a named callback to run at a specific period with a starting time offset.
+   *
+   * <p>This is scheduled on TimedRobot's Notifier, so TimedRobot and the callback run
+   * synchronously. Interactions between them are thread-safe.
+   *
+   * @param name The name to publish the callback's execution times under. If another callback
+   *     already has this name, a number is appended to it.
+   * @param callback The callback to run.
+   * @param periodSeconds The period at which to run the callback in seconds.
+   * @param offsetSeconds The offset from the common starting time in seconds. This is useful for
+   *     scheduling a callback in a different timeslot relative to TimedRobot.
+   */
+  public final void addPeriodic(
+      String name, Runnable callback, double periodSeconds, double offsetSeconds) {
+    m_callbacks.add(
+        new Callback(
+            callback,
+            uniqueCallbackName(name),
+            m_startTimeUs,
+            (long) (periodSeconds * 1e6),
+            (long) (offsetSeconds * 1e6)));
+  }
+
+  /**
+   * Add a named callback to run at a specific period.
+   *
+   * <p>This is scheduled on TimedRobot's Notifier, so TimedRobot and the callback run
+   * synchronously. Interactions between them are thread-safe.
+   *
+   * @param name The name to publish the callback's execution times under. If another callback
+   *     already has this name, a number is appended to it.
+   * @param callback The callback to run.
+   * @param period The period at which to run the callback.
+   */
+  public final void addPeriodic(String name, Runnable callback, Time period) {
+    addPeriodic(name, callback, period.in(Seconds));
+  }
+
+  /**
+   * Add a named callback to run at a specific period with a starting time offset.
+   *
+   * <p>This is scheduled on TimedRobot's Notifier, so TimedRobot and the callback run
+   * synchronously. Interactions between them are thread-safe.
+   *
+   * @param name The name to publish the callback's execution times under. If another callback
+   *     already has this name, a number is appended to it.
+   * @param callback The callback to run.
+   * @param period The period at which to run the callback.
+   * @param offset The offset from the common starting time. This is useful for scheduling a
+   *     callback in a different timeslot relative to TimedRobot.
+   */
+  public final void addPeriodic(String name, Runnable callback, Time period, Time offset) {
+    addPeriodic(name, callback, period.in(Seconds), offset.in(Seconds));
+  }
+
+  /**
+   * Gets the histogram of a callback's most recent execution times, in microseconds. The main loop
+   * function is named {@code loopFunc()}.
+   *
+   * @param name The name of the callback.
+   * @return The callback's histogram, or null if the callback hasn't run yet.
+   */
+  TimingHistogram getCallbackHistogram(String name) {
+    return m_callbackTracer.getEpochHistogram(name);
+  }
+
+  /**
+   * Gets the name to record the execution times of an unnamed callback under.
+   *
+   * @param periodSeconds The callback's period in seconds.
+   * @param offsetSeconds The callback's offset in seconds.
+   * @return The callback name.
+   */
+  private static String defaultCallbackName(double periodSeconds, double offsetSeconds) {
+    if (offsetSeconds == 0) {
+      return "periodic(" + periodSeconds + "s)";
+    }
+    return "periodic(" + periodSeconds + "s, " + offsetSeconds + "s)";
+  }
+
+  /**
+   * Gets a name no other callback has, by appending a number to the given name if it's taken.
+   *
+   * @param name The requested name.
+   * @return The callback name.
+   */
+  private String uniqueCallbackName(String name) {
+    String unique = name;
+    for (int i = 2; !m_callbackNames.add(unique); i++) {
+      unique = name + " #" + i;
+    }
+    return unique;
+  }
 }
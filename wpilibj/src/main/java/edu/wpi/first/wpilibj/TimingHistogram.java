@@ -0,0 +1,170 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.wpilibj;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of the most recent durations recorded for some piece of code, used to find its
+ * percentile and worst-case execution times.
+ *
+ * <p>Durations are sorted into buckets with a bounded relative error, similar to an HDR histogram:
+ * durations under 32 get a bucket each, and every power of two above that is split into 16 buckets,
+ * so a reported percentile is never more than 1/16 above the actual duration. Only the most recent
+ * durations, up to the window size, are counted, so the percentiles track recent behavior instead
+ * of being dominated by old data. Recording a duration and querying percentiles do not allocate.
+ *
+ * <p>Durations are unitless integers; {@link Tracer} records them in microseconds. Durations above
+ * 2<sup>32</sup> - 1 are clamped to that value, and negative durations are recorded as zero.
+ */
+public class TimingHistogram {
+  // Durations below kSubBucketCount get a bucket each. Each power of two above that is split into
+  // kSubBucketHalfCount buckets.
+  private static final int kSubBucketBits = 5;
+  private static final int kSubBucketCount = 1 << kSubBucketBits;
+  private static final int kSubBucketHalfCount = kSubBucketCount / 2;
+
+  private static final long kMaxValue = (1L << 32) - 1;
+  private static final int kBucketCount = bucketIndex(kMaxValue) + 1;
+
+  private final int[] m_counts = new int[kBucketCount];
+
+  // The durations in the window, oldest first starting at m_next once the window is full
+  private final long[] m_window;
+  private int m_next;
+  private int m_size;
+
+  private long m_max;
+  private boolean m_maxDirty;
+
+  /**
+   * Creates a new histogram.
+   *
+   * @param windowSize the number of most recent durations to count
+   */
+  public TimingHistogram(int windowSize) {
+    if (windowSize < 1) {
+      throw new IllegalArgumentException("Window size must be positive, but was " + windowSize);
+    }
+    m_window = new long[windowSize];
+  }
+
+  /**
+   * Records a duration. If the window is full, the oldest duration is removed.
+   *
+   * @param duration the duration
+   */
+  public void record(long duration) {
+    long value = Math.max(0, Math.min(duration, kMaxValue));
+
+    if (m_size == m_window.length) {
+      long evicted = m_window[m_next];
+      m_counts[bucketIndex(evicted)]--;
+      if (evicted == m_max) {
+        // The max may have left the window; find it again the next time it's needed
+        m_maxDirty = true;
+      }
+    } else {
+      m_size++;
+    }
+
+    m_window[m_next] = value;
+    m_next = (m_next + 1) % m_window.length;
+    m_counts[bucketIndex(value)]++;
+    if (!m_maxDirty && value > m_max) {
+      m_max = value;
+    }
+  }
+
+  /** Removes all recorded durations. */
+  public void reset() {
+    Arrays.fill(m_counts, 0);
+    m_next = 0;
+    m_size = 0;
+    m_max = 0;
+    m_maxDirty = false;
+  }
+
+  /**
+   * Gets the number of durations currently in the window.
+   *
+   * @return the number of durations
+   */
+  public int getCount() {
+    return m_size;
+  }
+
+  /**
+   * Gets the maximum number of durations that are counted.
+   *
+   * @return the window size
+   */
+  public int getWindowSize() {
+    return m_window.length;
+  }
+
+  /**
+   * Gets the longest duration in the window. This is exact, rather than rounded to a bucket.
+   *
+   * @return the longest duration, or 0 if no durations have been recorded
+   */
+  public long getMax() {
+    if (m_maxDirty) {
+      long max = 0;
+      for (int i = 0; i < m_size; i++) {
+        max = Math.max(max, m_window[i]);
+      }
+      m_max = max;
+      m_maxDirty = false;
+    }
+    return m_max;
+  }
+
+  /**
+   * Gets a percentile of the durations in the window. The result is the largest duration in the
+   * bucket containing the percentile, so it may be slightly higher than the actual duration, but it
+   * is never higher than {@link #getMax()}.
+   *
+   * @param percentile the percentile to get, from 0 to 1. For example, 0.99 gets the 99th
+   *     percentile.
+   * @return the duration at the percentile, or 0 if no durations have been recorded
+   */
+  public long getPercentile(double percentile) {
+    if (m_size == 0) {
+      return 0;
+    }
+
+    long rank = Math.max(1, (long) Math.ceil(Math.max(0, Math.min(percentile, 1)) * m_size));
+    long seen = 0;
+    for (int i = 0; i < kBucketCount; i++) {
+      seen += m_counts[i];
+      if (seen >= rank) {
+        return Math.min(highestEquivalentValue(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  private static int bucketIndex(long value) {
+    if (value < kSubBucketCount) {
+      return (int) value;
+    }
+
+    // Shift the value so it lands in [kSubBucketHalfCount, kSubBucketCount)
+    int shift = 63 - Long.numberOfLeadingZeros(value) - (kSubBucketBits - 1);
+    int subBucket = (int) (value >>> shift);
+    return kSubBucketCount + (shift - 1) * kSubBucketHalfCount + subBucket - kSubBucketHalfCount;
+  }
+
+  private static long highestEquivalentValue(int index) {
+    if (index < kSubBucketCount) {
+      return index;
+    }
+
+    int shift = (index - kSubBucketCount) / kSubBucketHalfCount + 1;
+    long subBucket = (index - kSubBucketCount) % kSubBucketHalfCount + kSubBucketHalfCount;
+    return ((subBucket + 1) << shift) - 1;
+  }
+}
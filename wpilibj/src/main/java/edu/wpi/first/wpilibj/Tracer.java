@@ -4,7 +4,11 @@
 
 package edu.wpi.first.wpilibj;
 
+import edu.wpi.first.networktables.DoublePublisher;
+import edu.wpi.first.networktables.NetworkTable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -15,33 +19,121 @@ import java.util.function.Consumer;
  *
  * <p>Epochs are a way to partition the time elapsed so that when overruns occur, one can determine
  * which parts of an operation consumed the most time.
+ *
+ * <p>Every epoch's times are also recorded in a {@link TimingHistogram} covering its most recent
+ * times, which keeps track of tail latency even when there are no overruns. The histograms can be
+ * published to NetworkTables with {@link #publishEpochs(NetworkTable)}. Once an epoch has been
+ * added, adding it again and publishing it do not allocate. An epoch that hasn't been added in a
+ * while, such as one named after a command that no longer runs, is released along with its
+ * publishers.
  */
 public class Tracer {
   private static final long kMinPrintPeriod = 1000000; // microseconds
 
+  // The number of most recent times each epoch's histogram covers
+  private static final int kHistogramWindowSize = 500;
+
+  // Epochs not added in this many calls to clearEpochs() are released. Stale epochs are looked for
+  // once every kEpochSweepPeriod calls.
+  private static final long kEpochExpiry = 3000;
+  private static final long kEpochSweepPeriod = 500;
+
   private long m_lastEpochsPrintTime; // microseconds
   private long m_startTime; // microseconds
 
-  private final Map<String, Long> m_epochs = new HashMap<>(); // microseconds
+  // Epochs are kept across clearEpochs() so their histograms cover more than one run. The list
+  // holds them in the order they were first added, and allows iterating without allocating.
+  private final Map<String, Epoch> m_epochs = new HashMap<>();
+  private final List<Epoch> m_epochList = new ArrayList<>();
+
+  // Incremented by clearEpochs(); epochs added since then have the same generation
+  private long m_generation;
+
+  private final StringBuilder m_printBuilder = new StringBuilder();
+
+  private static final class Epoch {
+    final String m_name;
+    final TimingHistogram m_histogram = new TimingHistogram(kHistogramWindowSize);
+    long m_time; // microseconds
+    long m_generation;
+
+    NetworkTable m_table;
+    DoublePublisher m_p50;
+    DoublePublisher m_p99;
+    DoublePublisher m_max;
+
+    Epoch(String name) {
+      m_name = name;
+    }
+
+    void publish(NetworkTable table) {
+      if (m_table != table) {
+        if (m_table != null) {
+          m_p50.close();
+          m_p99.close();
+          m_max.close();
+        }
+        m_table = table;
+        m_p50 = table.getDoubleTopic(m_name + "/p50").publish();
+        m_p99 = table.getDoubleTopic(m_name + "/p99").publish();
+        m_max = table.getDoubleTopic(m_name + "/max").publish();
+      }
+
+      m_p50.set(m_histogram.getPercentile(0.5) / 1.0e6);
+      m_p99.set(m_histogram.getPercentile(0.99) / 1.0e6);
+      m_max.set(m_histogram.getMax() / 1.0e6);
+    }
+
+    void close() {
+      if (m_table != null) {
+        m_p50.close();
+        m_p99.close();
+        m_max.close();
+        m_table = null;
+      }
+    }
+  }
 
   /** Tracer constructor. */
   public Tracer() {
     resetTimer();
   }
 
-  /** Clears all epochs. */
+  /**
+   * Clears all epochs from the list printed by printEpochs(). The epochs' histograms are kept,
+   * except for those of epochs that haven't been added in a long time, which are released.
+   */
   public void clearEpochs() {
-    m_epochs.clear();
+    m_generation++;
+    if (m_generation % kEpochSweepPeriod == 0) {
+      releaseStaleEpochs();
+    }
     resetTimer();
   }
 
+  /** Releases the epochs that haven't been added in the last kEpochExpiry generations. */
+  private void releaseStaleEpochs() {
+    int kept = 0;
+    for (int i = 0; i < m_epochList.size(); i++) {
+      var epoch = m_epochList.get(i);
+      if (m_generation - epoch.m_generation > kEpochExpiry) {
+        m_epochs.remove(epoch.m_name);
+        epoch.close();
+      } else {
+        m_epochList.set(kept++, epoch);
+      }
+    }
+    m_epochList.subList(kept, m_epochList.size()).clear();
+  }
+
   /** Restarts the epoch timer. */
   public final void resetTimer() {
     m_startTime = RobotController.getFPGATime();
   }
 
   /**
-   * Adds time since last epoch to the list printed by printEpochs().
+   * Adds time since last epoch to the list printed by printEpochs(), and records it in the epoch's
+   * histogram.
    *
    * <p>Epochs are a way to partition the time elapsed so that when overruns occur, one can
    * determine which parts of an operation consumed the most time.
@@ -53,10 +145,42 @@ public class Tracer {
    */
   public void addEpoch(String epochName) {
     long currentTime = RobotController.getFPGATime();
-    m_epochs.put(epochName, currentTime - m_startTime);
+    var epoch = m_epochs.get(epochName);
+    if (epoch == null) {
+      epoch = new Epoch(epochName);
+      m_epochs.put(epochName, epoch);
+      m_epochList.add(epoch);
+    }
+    epoch.m_time = currentTime - m_startTime;
+    epoch.m_generation = m_generation;
+    epoch.m_histogram.record(epoch.m_time);
     m_startTime = currentTime;
   }
 
+  /**
+   * Gets the histogram of an epoch's most recent times, in microseconds.
+   *
+   * @param epochName The name of the epoch.
+   * @return The epoch's histogram, or null if the epoch has never been added.
+   */
+  public TimingHistogram getEpochHistogram(String epochName) {
+    var epoch = m_epochs.get(epochName);
+    return epoch == null ? null : epoch.m_histogram;
+  }
+
+  /**
+   * Publishes the 50th percentile, 99th percentile, and maximum times of every epoch that has been
+   * added, in seconds, to NetworkTables. Each epoch is published under a subtable of the given
+   * table named after the epoch, with {@code p50}, {@code p99}, and {@code max} entries.
+   *
+   * @param table The table to publish to.
+   */
+  public void publishEpochs(NetworkTable table) {
+    for (int i = 0; i < m_epochList.size(); i++) {
+      m_epochList.get(i).publish(table);
+    }
+  }
+
   /** Prints list of epochs added so far and their times to the DriverStation. */
   public void printEpochs() {
     printEpochs(out -> DriverStation.reportWarning(out, false));
@@ -72,13 +196,39 @@ public class Tracer {
   public void printEpochs(Consumer<String> output) {
     long now = RobotController.getFPGATime();
     if (now - m_lastEpochsPrintTime > kMinPrintPeriod) {
-      StringBuilder sb = new StringBuilder();
+      StringBuilder sb = m_printBuilder;
+      sb.setLength(0);
       m_lastEpochsPrintTime = now;
-      m_epochs.forEach(
-          (key, value) -> sb.append(String.format("\t%s: %.6fs\n", key, value / 1.0e6)));
+      for (int i = 0; i < m_epochList.size(); i++) {
+        var epoch = m_epochList.get(i);
+        if (epoch.m_generation == m_generation) {
+          sb.append('\t').append(epoch.m_name).append(": ");
+          appendSeconds(sb, epoch.m_time);
+          sb.append("s\n");
+        }
+      }
       if (sb.length() > 0) {
         output.accept(sb.toString());
       }
     }
   }
+
+  /**
+   * Appends a time in microseconds to a string builder in seconds, with six decimal places.
+   *
+   * @param sb The string builder.
+   * @param micros The time in microseconds.
+   */
+  private static void appendSeconds(StringBuilder sb, long micros) {
+    if (micros < 0) {
+      sb.append('-');
+      micros = -micros;
+    }
+    sb.append(micros / 1000000).append('.');
+    long fraction = micros % 1000000;
+    for (long digit = 100000; digit > fraction && digit > 1; digit /= 10) {
+      sb.append('0');
+    }
+    sb.append(fraction);
+  }
 }
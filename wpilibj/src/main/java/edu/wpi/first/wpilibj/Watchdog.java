@@ -5,6 +5,7 @@
 package edu.wpi.first.wpilibj;
 
 import edu.wpi.first.hal.NotifierJNI;
+import edu.wpi.first.networktables.NetworkTable;
 import java.io.Closeable;
 import java.util.PriorityQueue;
 import java.util.concurrent.locks.ReentrantLock;
@@ -157,6 +158,27 @@ public class Watchdog implements Closeable, Comparable<Watchdog> {
     m_tracer.printEpochs();
   }
 
+  /**
+   * Gets the histogram of an epoch's most recent times, in microseconds.
+   *
+   * @see Tracer#getEpochHistogram(String)
+   * @param epochName The name of the epoch.
+   * @return The epoch's histogram, or null if the epoch has never been added.
+   */
+  public TimingHistogram getEpochHistogram(String epochName) {
+    return m_tracer.getEpochHistogram(epochName);
+  }
+
+  /**
+   * Publishes the percentile and maximum times of every epoch to NetworkTables.
+   *
+   * @see Tracer#publishEpochs(NetworkTable)
+   * @param table The table to publish to.
+   */
+  public void publishEpochs(NetworkTable table) {
+    m_tracer.publishEpochs(table);
+  }
+
   /**
    * Resets the watchdog timer.
    *
@@ -4,15 +4,17 @@
 
 package edu.wpi.first.wpilibj.event;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.ConcurrentModificationException;
-import java.util.LinkedHashSet;
+import java.util.List;
 
 /**
  * A declarative way to bind a set of actions to a loop and execute them when the loop is polled.
  */
 public final class EventLoop {
-  private final Collection<Runnable> m_bindings = new LinkedHashSet<>();
+  // Bindings are polled in the order they were bound. A list is polled by index, without
+  // allocating an iterator.
+  private final List<Runnable> m_bindings = new ArrayList<>();
   private boolean m_running;
 
   /** Default constructor. */
@@ -27,7 +29,9 @@ public final class EventLoop {
     if (m_running) {
       throw new ConcurrentModificationException("Cannot bind EventLoop while it is running");
     }
-    m_bindings.add(action);
+    if (!m_bindings.contains(action)) {
+      m_bindings.add(action);
+    }
   }
 
   /** Poll all bindings. */
@@ -35,7 +39,9 @@ public final class EventLoop {
   public void poll() {
     try {
       m_running = true;
-      m_bindings.forEach(Runnable::run);
+      for (int i = 0; i < m_bindings.size(); i++) {
+        m_bindings.get(i).run();
+      }
     } finally {
       m_running = false;
     }
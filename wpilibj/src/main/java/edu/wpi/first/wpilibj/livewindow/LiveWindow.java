@@ -239,7 +239,8 @@ public final class LiveWindow {
           if (startLiveWindow) {
             ((SendableBuilderImpl) cbdata.builder).startLiveWindowMode();
           }
-          cbdata.builder.update();
+          // Goes through the registry so the component's update period is honored
+          SendableRegistry.update(cbdata.sendable);
         });
 
     startLiveWindow = false;
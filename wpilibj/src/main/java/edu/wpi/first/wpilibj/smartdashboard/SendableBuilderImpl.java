@@ -30,6 +30,8 @@ import edu.wpi.first.networktables.IntegerSubscriber;
 import edu.wpi.first.networktables.IntegerTopic;
 import edu.wpi.first.networktables.NTSendableBuilder;
 import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableEvent;
+import edu.wpi.first.networktables.NetworkTableListener;
 import edu.wpi.first.networktables.PubSubOption;
 import edu.wpi.first.networktables.Publisher;
 import edu.wpi.first.networktables.RawPublisher;
@@ -48,7 +50,10 @@ import edu.wpi.first.util.function.FloatConsumer;
 import edu.wpi.first.util.function.FloatSupplier;
 import edu.wpi.first.wpilibj.RobotController;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.DoubleConsumer;
@@ -82,11 +87,11 @@ public class SendableBuilderImpl implements NTSendableBuilder {
       }
     }
 
-    void update(boolean controllable, long time) {
+    void update(boolean controllable, boolean skipUnsubscribed, long time) {
       if (controllable && m_sub != null && m_updateLocal != null) {
         m_updateLocal.accept(m_sub);
       }
-      if (m_pub != null && m_updateNetwork != null) {
+      if (m_pub != null && m_updateNetwork != null && (m_subscribed || !skipUnsubscribed)) {
         m_updateNetwork.accept(m_pub, time);
       }
     }
@@ -95,9 +100,16 @@ public class SendableBuilderImpl implements NTSendableBuilder {
     S m_sub;
     TimedConsumer<P> m_updateNetwork;
     Consumer<S> m_updateLocal;
+    // Updated from the NT listener thread; assumed subscribed until the server says otherwise
+    volatile boolean m_subscribed = true;
   }
 
+  private static volatile boolean skipUnsubscribedProperties;
+
   private final List<Property<?, ?>> m_properties = new ArrayList<>();
+  // Properties with a getter, by the name of their topic's subscriber meta topic
+  private final Map<String, Property<?, ?>> m_propertiesBySubMeta = new ConcurrentHashMap<>();
+  private NetworkTableListener m_subMetaListener;
   private Runnable m_safeState;
   private final List<Runnable> m_updateTables = new ArrayList<>();
   private NetworkTable m_table;
@@ -113,9 +125,38 @@ public class SendableBuilderImpl implements NTSendableBuilder {
   /** Default constructor. */
   public SendableBuilderImpl() {}
 
+  /**
+   * Sets whether {@link #update()} should skip calling the getters of properties that nothing is
+   * subscribed to. This saves loop time when many sendables are published but few are being
+   * watched on a dashboard. It is off by default, because values that are skipped are not
+   * published, so robot code that reads them back from NetworkTables would see stale values.
+   *
+   * <p>Subscribers are tracked through the NetworkTables server's subscriber meta topics, so this
+   * only has an effect when the robot is the server. Properties with a setter always count as
+   * subscribed, since the builder subscribes to them itself.
+   *
+   * @param skip true to skip unsubscribed properties
+   */
+  public static void setSkipUnsubscribedProperties(boolean skip) {
+    skipUnsubscribedProperties = skip;
+  }
+
+  /**
+   * Gets whether {@link #update()} skips properties that nothing is subscribed to.
+   *
+   * @return true if unsubscribed properties are skipped
+   */
+  public static boolean getSkipUnsubscribedProperties() {
+    return skipUnsubscribedProperties;
+  }
+
   @Override
   @SuppressWarnings("PMD.AvoidCatchingGenericException")
   public void close() {
+    if (m_subMetaListener != null) {
+      m_subMetaListener.close();
+      m_subMetaListener = null;
+    }
     if (m_controllablePub != null) {
       m_controllablePub.close();
     }
@@ -143,6 +184,10 @@ public class SendableBuilderImpl implements NTSendableBuilder {
    * @param table Network table
    */
   public void setTable(NetworkTable table) {
+    if (m_subMetaListener != null) {
+      m_subMetaListener.close();
+      m_subMetaListener = null;
+    }
     m_table = table;
     m_controllablePub = table.getBooleanTopic(".controllable").publish();
     m_controllablePub.setDefault(false);
@@ -181,8 +226,12 @@ public class SendableBuilderImpl implements NTSendableBuilder {
   @Override
   public void update() {
     long time = RobotController.getTime();
+    boolean skipUnsubscribed = skipUnsubscribedProperties;
+    if (skipUnsubscribed && m_subMetaListener == null && m_table != null) {
+      listenForSubscribers();
+    }
     for (Property<?, ?> property : m_properties) {
-      property.update(m_controllable, time);
+      property.update(m_controllable, skipUnsubscribed, time);
     }
     for (Runnable updateTable : m_updateTables) {
       updateTable.run();
@@ -235,6 +284,53 @@ public class SendableBuilderImpl implements NTSendableBuilder {
       property.close();
     }
     m_properties.clear();
+    m_propertiesBySubMeta.clear();
+  }
+
+  private void addProperty(Property<?, ?> property) {
+    m_properties.add(property);
+    if (property.m_pub != null && property.m_updateNetwork != null) {
+      m_propertiesBySubMeta.put("$sub$" + property.m_pub.getTopic().getName(), property);
+    }
+  }
+
+  // Listens to the subscriber meta topics of this table's topics. Values that are already known
+  // are delivered immediately, so properties whose topics are unsubscribed are skipped right away.
+  private void listenForSubscribers() {
+    m_subMetaListener =
+        NetworkTableListener.createListener(
+            m_table.getInstance(),
+            new String[] {"$sub$" + m_table.getPath() + NetworkTable.PATH_SEPARATOR},
+            EnumSet.of(NetworkTableEvent.Kind.kValueAll, NetworkTableEvent.Kind.kImmediate),
+            event -> {
+              Property<?, ?> property =
+                  m_propertiesBySubMeta.get(event.valueData.getTopic().getName());
+              if (property != null) {
+                property.m_subscribed = getSubscriberCount(event.valueData.value.getRaw()) > 0;
+              }
+            });
+  }
+
+  // Subscriber meta topic values are a MessagePack array with one entry per subscriber; only the
+  // array header needs to be decoded to count them
+  static int getSubscriberCount(byte[] meta) {
+    if (meta.length == 0) {
+      return 0;
+    }
+    int header = meta[0] & 0xFF;
+    if ((header & 0xF0) == 0x90) {
+      return header & 0x0F;
+    } else if (header == 0xDC && meta.length >= 3) {
+      return (meta[1] & 0xFF) << 8 | meta[2] & 0xFF;
+    } else if (header == 0xDD && meta.length >= 5) {
+      return (meta[1] & 0xFF) << 24
+          | (meta[2] & 0xFF) << 16
+          | (meta[3] & 0xFF) << 8
+          | meta[4] & 0xFF;
+    } else {
+      // Not an array; assume it's subscribed rather than silently dropping updates
+      return 1;
+    }
   }
 
   @Override
@@ -333,7 +429,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
             }
           };
     }
-    m_properties.add(property);
+    addProperty(property);
   }
 
   @Override
@@ -342,7 +438,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
     BooleanTopic topic = m_table.getBooleanTopic(key);
     property.m_pub = topic.publish();
     property.m_pub.set(value);
-    m_properties.add(property);
+    addProperty(property);
   }
 
   /**
@@ -369,7 +465,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
             }
           };
     }
-    m_properties.add(property);
+    addProperty(property);
   }
 
   @Override
@@ -378,7 +474,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
     IntegerTopic topic = m_table.getIntegerTopic(key);
     property.m_pub = topic.publish();
     property.m_pub.set(value);
-    m_properties.add(property);
+    addProperty(property);
   }
 
   /**
@@ -405,7 +501,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
             }
           };
     }
-    m_properties.add(property);
+    addProperty(property);
   }
 
   @Override
@@ -414,7 +510,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
     FloatTopic topic = m_table.getFloatTopic(key);
     property.m_pub = topic.publish();
     property.m_pub.set(value);
-    m_properties.add(property);
+    addProperty(property);
   }
 
   /**
@@ -441,7 +537,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
             }
           };
     }
-    m_properties.add(property);
+    addProperty(property);
   }
 
   @Override
@@ -450,7 +546,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
     DoubleTopic topic = m_table.getDoubleTopic(key);
     property.m_pub = topic.publish();
     property.m_pub.set(value);
-    m_properties.add(property);
+    addProperty(property);
   }
 
   /**
@@ -477,7 +573,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
             }
           };
     }
-    m_properties.add(property);
+    addProperty(property);
   }
 
   @Override
@@ -486,7 +582,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
     StringTopic topic = m_table.getStringTopic(key);
     property.m_pub = topic.publish();
     property.m_pub.set(value);
-    m_properties.add(property);
+    addProperty(property);
   }
 
   /**
@@ -515,7 +611,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
             }
           };
     }
-    m_properties.add(property);
+    addProperty(property);
   }
 
   @Override
@@ -524,7 +620,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
     BooleanArrayTopic topic = m_table.getBooleanArrayTopic(key);
     property.m_pub = topic.publish();
     property.m_pub.set(value);
-    m_properties.add(property);
+    addProperty(property);
   }
 
   /**
@@ -553,7 +649,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
             }
           };
     }
-    m_properties.add(property);
+    addProperty(property);
   }
 
   @Override
@@ -562,7 +658,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
     IntegerArrayTopic topic = m_table.getIntegerArrayTopic(key);
     property.m_pub = topic.publish();
     property.m_pub.set(value);
-    m_properties.add(property);
+    addProperty(property);
   }
 
   /**
@@ -591,7 +687,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
             }
           };
     }
-    m_properties.add(property);
+    addProperty(property);
   }
 
   @Override
@@ -600,7 +696,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
     FloatArrayTopic topic = m_table.getFloatArrayTopic(key);
     property.m_pub = topic.publish();
     property.m_pub.set(value);
-    m_properties.add(property);
+    addProperty(property);
   }
 
   /**
@@ -629,7 +725,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
             }
           };
     }
-    m_properties.add(property);
+    addProperty(property);
   }
 
   @Override
@@ -638,7 +734,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
     DoubleArrayTopic topic = m_table.getDoubleArrayTopic(key);
     property.m_pub = topic.publish();
     property.m_pub.set(value);
-    m_properties.add(property);
+    addProperty(property);
   }
 
   /**
@@ -667,7 +763,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
             }
           };
     }
-    m_properties.add(property);
+    addProperty(property);
   }
 
   @Override
@@ -676,7 +772,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
     StringArrayTopic topic = m_table.getStringArrayTopic(key);
     property.m_pub = topic.publish();
     property.m_pub.set(value);
-    m_properties.add(property);
+    addProperty(property);
   }
 
   /**
@@ -706,7 +802,7 @@ public class SendableBuilderImpl implements NTSendableBuilder {
             }
           };
     }
-    m_properties.add(property);
+    addProperty(property);
   }
 
   @Override
@@ -715,6 +811,6 @@ public class SendableBuilderImpl implements NTSendableBuilder {
     RawTopic topic = m_table.getRawTopic(key);
     property.m_pub = topic.publish(typestring);
     property.m_pub.set(value);
-    m_properties.add(property);
+    addProperty(property);
   }
 }
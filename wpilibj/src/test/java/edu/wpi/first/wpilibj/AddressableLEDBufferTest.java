@@ -6,6 +6,8 @@ package edu.wpi.first.wpilibj;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
@@ -126,4 +128,54 @@ class AddressableLEDBufferTest {
 
     buffer.forEach((i, r, g, b) -> fail("Iterator should not be called on an empty buffer"));
   }
+
+  @Test
+  void newBufferIsDirty() {
+    var buffer = new AddressableLEDBuffer(5);
+
+    assertTrue(buffer.isDirty());
+    assertEquals(0, buffer.getDirtyStart());
+    assertEquals(5, buffer.getDirtyEnd());
+  }
+
+  @Test
+  void dirtyRangeCoversChangedLEDs() {
+    var buffer = new AddressableLEDBuffer(10);
+    buffer.markClean();
+    assertFalse(buffer.isDirty());
+
+    buffer.setRGB(6, 1, 2, 3);
+    buffer.setRGB(3, 4, 5, 6);
+    assertTrue(buffer.isDirty());
+    assertEquals(3, buffer.getDirtyStart());
+    assertEquals(7, buffer.getDirtyEnd());
+  }
+
+  @Test
+  void settingSameColorIsNotDirty() {
+    var buffer = new AddressableLEDBuffer(10);
+    buffer.setLED(4, Color.kFirstRed);
+    buffer.markClean();
+
+    buffer.setLED(4, Color.kFirstRed);
+    buffer.setRGB(5, 0, 0, 0);
+    assertFalse(buffer.isDirty());
+
+    buffer.setRGB(4, 0, 0, 0);
+    assertTrue(buffer.isDirty());
+    assertEquals(4, buffer.getDirtyStart());
+    assertEquals(5, buffer.getDirtyEnd());
+  }
+
+  @Test
+  void viewWritesMarkBackingBufferDirty() {
+    var buffer = new AddressableLEDBuffer(10);
+    var view = buffer.createView(2, 8).reversed();
+    buffer.markClean();
+
+    view.setRGB(0, 255, 255, 255);
+    assertTrue(buffer.isDirty());
+    assertEquals(8, buffer.getDirtyStart());
+    assertEquals(9, buffer.getDirtyEnd());
+  }
 }
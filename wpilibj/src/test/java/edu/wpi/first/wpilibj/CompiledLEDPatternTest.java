@@ -0,0 +1,223 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.wpilibj;
+
+import static edu.wpi.first.units.Units.InchesPerSecond;
+import static edu.wpi.first.units.Units.Meters;
+import static edu.wpi.first.units.Units.Percent;
+import static edu.wpi.first.units.Units.Seconds;
+import static edu.wpi.first.wpilibj.LEDPattern.GradientType.kContinuous;
+import static edu.wpi.first.wpilibj.LEDPattern.GradientType.kDiscontinuous;
+import static edu.wpi.first.wpilibj.util.Color.kBlue;
+import static edu.wpi.first.wpilibj.util.Color.kGreen;
+import static edu.wpi.first.wpilibj.util.Color.kOrange;
+import static edu.wpi.first.wpilibj.util.Color.kRed;
+import static edu.wpi.first.wpilibj.util.Color.kWhite;
+import static edu.wpi.first.wpilibj.util.Color.kYellow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CompiledLEDPatternTest {
+  long m_mockTime;
+
+  // Only lights up every third LED, leaving the others as they were
+  LEDPattern m_sparse =
+      (reader, writer) -> {
+        for (int led = 0; led < reader.getLength(); led += 3) {
+          writer.setLED(led, kOrange);
+        }
+      };
+
+  @BeforeEach
+  void setUp() {
+    m_mockTime = 0;
+    RobotController.setTimeSource(() -> m_mockTime);
+  }
+
+  @AfterEach
+  void tearDown() {
+    RobotController.setTimeSource(RobotController::getFPGATime);
+  }
+
+  @Test
+  void solid() {
+    assertCompiledMatches(LEDPattern.solid(kYellow));
+  }
+
+  @Test
+  void staticPatterns() {
+    assertCompiledMatches(LEDPattern.gradient(kContinuous, kRed, kBlue, kGreen));
+    assertCompiledMatches(LEDPattern.gradient(kDiscontinuous, kRed, kBlue));
+    assertCompiledMatches(LEDPattern.rainbow(255, 128));
+    assertCompiledMatches(LEDPattern.steps(Map.of(0.25, kRed, 0.5, kWhite)));
+  }
+
+  @Test
+  void mappedIndices() {
+    LEDPattern gradient = LEDPattern.gradient(kDiscontinuous, kRed, kBlue, kGreen);
+
+    assertCompiledMatches(gradient.reversed());
+    assertCompiledMatches(gradient.offsetBy(7));
+    assertCompiledMatches(gradient.offsetBy(-40));
+    assertCompiledMatches(gradient.mapIndex((length, index) -> (index * 7) % length));
+  }
+
+  @Test
+  void scrolling() {
+    LEDPattern rainbow = LEDPattern.rainbow(255, 255);
+
+    assertCompiledMatches(rainbow.scrollAtRelativeSpeed(Percent.per(Seconds).of(-25)));
+    assertCompiledMatches(rainbow.scrollAtAbsoluteSpeed(InchesPerSecond.of(4), Meters.of(0.02)));
+    assertCompiledMatches(
+        rainbow.mask(
+            LEDPattern.progressMaskLayer(() -> 0.4)
+                .scrollAtRelativeSpeed(Percent.per(Seconds).of(50))));
+  }
+
+  @Test
+  void blinking() {
+    AtomicBoolean signal = new AtomicBoolean(true);
+    LEDPattern pattern = LEDPattern.solid(kRed).synchronizedBlink(signal::get);
+
+    assertCompiledMatches(LEDPattern.solid(kBlue).blink(Seconds.of(1.5), Seconds.of(0.5)));
+    assertCompiledMatches(pattern);
+    signal.set(false);
+    assertCompiledMatches(pattern);
+  }
+
+  @Test
+  void transforms() {
+    LEDPattern gradient = LEDPattern.gradient(kContinuous, kRed, kWhite, kBlue);
+
+    assertCompiledMatches(gradient.breathe(Seconds.of(2)));
+    assertCompiledMatches(gradient.atBrightness(Percent.of(40)));
+    assertCompiledMatches(gradient.atBrightness(Percent.of(300)));
+  }
+
+  @Test
+  void combinations() {
+    LEDPattern rainbow = LEDPattern.rainbow(255, 255);
+    LEDPattern progress = LEDPattern.progressMaskLayer(() -> 0.7);
+
+    assertCompiledMatches(progress.overlayOn(rainbow));
+    assertCompiledMatches(rainbow.blend(LEDPattern.solid(kBlue)));
+    assertCompiledMatches(rainbow.mask(progress));
+    assertCompiledMatches(rainbow.mask(LEDPattern.solid(kRed)).reversed());
+  }
+
+  @Test
+  void customPatterns() {
+    LEDPattern solid = LEDPattern.solid(kBlue);
+
+    assertCompiledMatches(m_sparse);
+    assertCompiledMatches(m_sparse.overlayOn(solid));
+    assertCompiledMatches(solid.blend(m_sparse));
+    assertCompiledMatches(solid.mask(m_sparse));
+    assertCompiledMatches(m_sparse.reversed().offsetBy(2));
+    assertCompiledMatches(m_sparse.breathe(Seconds.of(2)));
+    assertCompiledMatches(m_sparse.atBrightness(Percent.of(50)).overlayOn(solid));
+  }
+
+  @Test
+  void nestedCustomPatterns() {
+    // Transforms of built-in patterns that contain a custom pattern somewhere below them
+    LEDPattern sparsePair = m_sparse.overlayOn(m_sparse.offsetBy(1));
+
+    assertCompiledMatches(sparsePair.breathe(Seconds.of(2)));
+    assertCompiledMatches(sparsePair.blink(Seconds.of(1)).atBrightness(Percent.of(50)));
+    assertCompiledMatches(m_sparse.reversed().breathe(Seconds.of(2)));
+    assertCompiledMatches(m_sparse.blend(m_sparse).atBrightness(Percent.of(200)));
+    assertCompiledMatches(
+        sparsePair.overlayOn(LEDPattern.solid(kBlue)).breathe(Seconds.of(2)).reversed());
+  }
+
+  @Test
+  void compileTwice() {
+    CompiledLEDPattern compiled = LEDPattern.solid(kRed).compile();
+    CompiledLEDPattern recompiled = compiled.compile();
+
+    assertSame(compiled.getSource(), recompiled.getSource());
+    assertCompiledMatches(compiled.blink(Seconds.of(1)));
+  }
+
+  @Test
+  void unchangedOutputIsClean() {
+    CompiledLEDPattern compiled =
+        LEDPattern.gradient(kContinuous, kRed, kBlue)
+            .scrollAtRelativeSpeed(Percent.per(Seconds).of(100))
+            .compile();
+    AddressableLEDBuffer buffer = new AddressableLEDBuffer(100);
+
+    compiled.applyTo(buffer);
+    assertTrue(buffer.isDirty());
+    buffer.markClean();
+
+    // Same time, same output
+    compiled.applyTo(buffer);
+    assertFalse(buffer.isDirty());
+
+    // Scrolled by one LED; every LED changes
+    m_mockTime = 10_000;
+    compiled.applyTo(buffer);
+    assertTrue(buffer.isDirty());
+    assertEquals(0, buffer.getDirtyStart());
+    assertEquals(100, buffer.getDirtyEnd());
+  }
+
+  @Test
+  void appliesToView() {
+    LEDPattern pattern =
+        LEDPattern.rainbow(255, 255).scrollAtRelativeSpeed(Percent.per(Seconds).of(10));
+    AddressableLEDBuffer expected = new AddressableLEDBuffer(60);
+    AddressableLEDBuffer actual = new AddressableLEDBuffer(60);
+    CompiledLEDPattern compiled = pattern.compile();
+
+    m_mockTime = 3_250_000;
+    pattern.applyTo(expected.createView(20, 39).reversed());
+    compiled.applyTo(actual.createView(20, 39).reversed());
+    assertBuffersEqual(expected, actual);
+
+    actual.markClean();
+    compiled.applyTo(actual.createView(20, 39).reversed());
+    assertFalse(actual.isDirty());
+  }
+
+  // Applies the pattern and its compiled version at several points in time, starting from the same
+  // buffer contents, and checks that they give the same output
+  void assertCompiledMatches(LEDPattern pattern) {
+    CompiledLEDPattern compiled = pattern.compile();
+    for (int length : new int[] {8, 17, 120}) {
+      for (long time : new long[] {0, 320_000, 1_750_000, 123_456_789}) {
+        m_mockTime = time;
+
+        AddressableLEDBuffer expected = new AddressableLEDBuffer(length);
+        AddressableLEDBuffer actual = new AddressableLEDBuffer(length);
+        for (int i = 0; i < length; i++) {
+          expected.setRGB(i, i, 255 - i, 42);
+          actual.setRGB(i, i, 255 - i, 42);
+        }
+
+        pattern.applyTo(expected);
+        compiled.applyTo(actual);
+        assertBuffersEqual(expected, actual);
+      }
+    }
+  }
+
+  void assertBuffersEqual(AddressableLEDBuffer expected, AddressableLEDBuffer actual) {
+    assertEquals(expected.getLength(), actual.getLength());
+    for (int i = 0; i < expected.getLength(); i++) {
+      assertEquals(expected.getLED8Bit(i), actual.getLED8Bit(i), "LED " + i);
+    }
+  }
+}
@@ -667,6 +667,41 @@ class TimedRobotTest {
     robot.close();
   }
 
+  @Test
+  @ResourceLock("timing")
+  void addPeriodicNameTest() {
+    MockRobot robot = new MockRobot();
+
+    robot.addPeriodic(() -> {}, kPeriod / 2.0);
+    robot.addPeriodic(() -> {}, kPeriod / 2.0);
+    robot.addPeriodic(() -> {}, kPeriod / 2.0, kPeriod / 4.0);
+    robot.addPeriodic("Vision", () -> {}, kPeriod);
+
+    Thread robotThread = new Thread(robot::startCompetition);
+    robotThread.start();
+
+    DriverStationSim.setEnabled(false);
+    DriverStationSim.notifyNewData();
+    SimHooks.stepTiming(0.0); // Wait for Notifiers
+
+    SimHooks.stepTiming(kPeriod);
+
+    assertEquals(1, robot.getCallbackHistogram("loopFunc()").getCount());
+    assertEquals(2, robot.getCallbackHistogram("periodic(0.01s)").getCount());
+    assertEquals(2, robot.getCallbackHistogram("periodic(0.01s) #2").getCount());
+    assertEquals(1, robot.getCallbackHistogram("periodic(0.01s, 0.005s)").getCount());
+    assertEquals(1, robot.getCallbackHistogram("Vision").getCount());
+
+    robot.endCompetition();
+    try {
+      robotThread.interrupt();
+      robotThread.join();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    robot.close();
+  }
+
   @Test
   @ResourceLock("timing")
   void addPeriodicWithOffsetTest() {
@@ -0,0 +1,113 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.wpilibj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TimingHistogramTest {
+  @Test
+  void emptyTest() {
+    var histogram = new TimingHistogram(10);
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0, histogram.getPercentile(0.5));
+  }
+
+  @Test
+  void smallValuesAreExactTest() {
+    var histogram = new TimingHistogram(100);
+    for (int i = 1; i <= 20; i++) {
+      histogram.record(i);
+    }
+
+    assertEquals(20, histogram.getCount());
+    assertEquals(10, histogram.getPercentile(0.5));
+    assertEquals(20, histogram.getPercentile(0.99));
+    assertEquals(20, histogram.getMax());
+  }
+
+  @Test
+  void relativeErrorTest() {
+    var histogram = new TimingHistogram(1);
+    for (long value = 1; value < 1L << 32; value = value * 3 + 1) {
+      histogram.record(value);
+      long percentile = histogram.getPercentile(0.5);
+      assertEquals(value, percentile);
+      assertEquals(value, histogram.getMax());
+    }
+
+    var wide = new TimingHistogram(2);
+    for (long value = 32; value < 1L << 32; value = value * 3 + 1) {
+      wide.record(value);
+      wide.record(value * 2);
+      long median = wide.getPercentile(0.5);
+      assertTrue(median >= value && median <= value + value / 16, "value " + value);
+    }
+  }
+
+  @Test
+  void tailLatencyTest() {
+    var histogram = new TimingHistogram(1000);
+    for (int i = 0; i < 990; i++) {
+      histogram.record(1000);
+    }
+    for (int i = 0; i < 10; i++) {
+      histogram.record(20000);
+    }
+
+    assertTrue(histogram.getPercentile(0.5) >= 1000);
+    assertTrue(histogram.getPercentile(0.5) <= 1000 + 1000 / 16);
+    assertTrue(histogram.getPercentile(0.99) <= 1000 + 1000 / 16);
+    assertEquals(20000, histogram.getPercentile(0.999));
+    assertEquals(20000, histogram.getMax());
+  }
+
+  @Test
+  void rollingWindowTest() {
+    var histogram = new TimingHistogram(3);
+    histogram.record(100);
+    histogram.record(5);
+    histogram.record(6);
+    assertEquals(100, histogram.getMax());
+
+    // The 100 leaves the window
+    histogram.record(7);
+    assertEquals(3, histogram.getCount());
+    assertEquals(7, histogram.getMax());
+    assertEquals(7, histogram.getPercentile(1));
+    assertEquals(5, histogram.getPercentile(0));
+  }
+
+  @Test
+  void clampTest() {
+    var histogram = new TimingHistogram(2);
+    histogram.record(-5);
+    assertEquals(0, histogram.getMax());
+
+    histogram.record(Long.MAX_VALUE);
+    assertEquals((1L << 32) - 1, histogram.getMax());
+    assertEquals((1L << 32) - 1, histogram.getPercentile(1));
+  }
+
+  @Test
+  void resetTest() {
+    var histogram = new TimingHistogram(2);
+    histogram.record(50);
+    histogram.reset();
+
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0, histogram.getPercentile(1));
+  }
+
+  @Test
+  void invalidWindowTest() {
+    assertThrows(IllegalArgumentException.class, () -> new TimingHistogram(0));
+  }
+}
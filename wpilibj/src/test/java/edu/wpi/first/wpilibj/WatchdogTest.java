@@ -6,6 +6,7 @@ package edu.wpi.first.wpilibj;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import edu.wpi.first.hal.HAL;
@@ -147,6 +148,45 @@ class WatchdogTest {
     }
   }
 
+  @Test
+  @ResourceLock("timing")
+  void epochHistogramTest() {
+    try (Watchdog watchdog = new Watchdog(0.4, () -> {})) {
+      assertNull(watchdog.getEpochHistogram("Epoch 1"));
+
+      // Histograms are kept across resets
+      for (int i = 1; i <= 3; i++) {
+        watchdog.enable();
+        SimHooks.stepTiming(0.01 * i);
+        watchdog.addEpoch("Epoch 1");
+        watchdog.disable();
+      }
+
+      var histogram = watchdog.getEpochHistogram("Epoch 1");
+      assertEquals(3, histogram.getCount());
+      assertEquals(30000, histogram.getMax(), 100);
+    }
+  }
+
+  @Test
+  @ResourceLock("timing")
+  void staleEpochReleaseTest() {
+    try (Watchdog watchdog = new Watchdog(0.4, () -> {})) {
+      watchdog.enable();
+      watchdog.addEpoch("Stale");
+
+      // Epochs that keep being added are kept, and ones that stop being added are released
+      for (int i = 0; i < 5000; i++) {
+        watchdog.enable();
+        watchdog.addEpoch("Fresh");
+      }
+      watchdog.disable();
+
+      assertNull(watchdog.getEpochHistogram("Stale"));
+      assertEquals(500, watchdog.getEpochHistogram("Fresh").getCount());
+    }
+  }
+
   @Test
   @ResourceLock("timing")
   void multiWatchdogTest() {
@@ -130,4 +130,35 @@ class AddressableLEDSimTest {
       assertEquals((byte) 0, data[11]);
     }
   }
+
+  @Test
+  void testUpdateDataSkipsUnchangedBuffer() {
+    AddressableLEDSim sim = new AddressableLEDSim();
+    BufferCallback callback = new BufferCallback();
+
+    try (AddressableLED led = new AddressableLED(0);
+        CallbackStore cb = sim.registerDataCallback(callback)) {
+      AddressableLEDBuffer ledData = new AddressableLEDBuffer(3);
+      led.setLength(ledData.getLength());
+
+      ledData.setRGB(0, 255, 0, 0);
+      assertTrue(led.updateData(ledData));
+      assertTrue(callback.wasTriggered());
+      assertFalse(ledData.isDirty());
+
+      // Nothing changed since the last write
+      ledData.setRGB(0, 255, 0, 0);
+      assertFalse(led.updateData(ledData));
+
+      ledData.setRGB(2, 0, 0, 255);
+      assertTrue(led.updateData(ledData));
+      byte[] data = sim.getData();
+      assertEquals((byte) 255, data[2]);
+      assertEquals((byte) 255, data[8]);
+
+      // Changing the length requires the data to be written again
+      led.setLength(ledData.getLength());
+      assertTrue(led.updateData(ledData));
+    }
+  }
 }
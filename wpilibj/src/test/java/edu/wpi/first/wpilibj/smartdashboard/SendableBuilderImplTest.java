@@ -0,0 +1,61 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.wpilibj.smartdashboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SendableBuilderImplTest {
+  private NetworkTableInstance m_inst;
+  private NetworkTable m_table;
+
+  @BeforeEach
+  void beforeEach() {
+    m_inst = NetworkTableInstance.create();
+    m_table = m_inst.getTable("Sendable");
+  }
+
+  @AfterEach
+  void afterEach() {
+    SendableBuilderImpl.setSkipUnsubscribedProperties(false);
+    m_inst.close();
+  }
+
+  @Test
+  void subscriberCount() {
+    assertEquals(0, SendableBuilderImpl.getSubscriberCount(new byte[0]));
+    assertEquals(0, SendableBuilderImpl.getSubscriberCount(new byte[] {(byte) 0x90}));
+    assertEquals(3, SendableBuilderImpl.getSubscriberCount(new byte[] {(byte) 0x93, 0, 0, 0}));
+    assertEquals(300, SendableBuilderImpl.getSubscriberCount(new byte[] {(byte) 0xDC, 1, 44}));
+    assertEquals(
+        65_536, SendableBuilderImpl.getSubscriberCount(new byte[] {(byte) 0xDD, 0, 1, 0, 0}));
+  }
+
+  @Test
+  void updatesWithoutSubscriberInfo() {
+    // Without a server there are no subscriber meta topics, so every property is updated
+    SendableBuilderImpl.setSkipUnsubscribedProperties(true);
+    double[] value = {1};
+    try (SendableBuilderImpl builder = new SendableBuilderImpl()) {
+      builder.setTable(m_table);
+      builder.addDoubleProperty("value", () -> value[0], null);
+      builder.update();
+      value[0] = 2;
+      builder.update();
+      assertEquals(2, m_table.getEntry("value").getDouble(0));
+    }
+  }
+
+  @Test
+  void skippingIsOffByDefault() {
+    assertFalse(SendableBuilderImpl.getSkipUnsubscribedProperties());
+  }
+}
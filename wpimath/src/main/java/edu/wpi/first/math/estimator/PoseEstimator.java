@@ -13,11 +13,14 @@ import edu.wpi.first.math.geometry.Pose2d;
 import edu.wpi.first.math.geometry.Rotation2d;
 import edu.wpi.first.math.geometry.Translation2d;
 import edu.wpi.first.math.geometry.Twist2d;
-import edu.wpi.first.math.interpolation.TimeInterpolatableBuffer;
+import edu.wpi.first.math.interpolation.TimeInterpolatablePose2dBuffer;
 import edu.wpi.first.math.kinematics.Kinematics;
 import edu.wpi.first.math.kinematics.Odometry;
 import edu.wpi.first.math.numbers.N1;
 import edu.wpi.first.math.numbers.N3;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
@@ -44,8 +47,8 @@ public class PoseEstimator<T> {
 
   private static final double kBufferDuration = 1.5;
   // Maps timestamps to odometry-only pose estimates
-  private final TimeInterpolatableBuffer<Pose2d> m_odometryPoseBuffer =
-      TimeInterpolatableBuffer.createBuffer(kBufferDuration);
+  private final TimeInterpolatablePose2dBuffer m_odometryPoseBuffer =
+      new TimeInterpolatablePose2dBuffer(kBufferDuration);
   // Maps timestamps to vision updates
   // Always contains one entry before the oldest entry in m_odometryPoseBuffer, unless there have
   // been no vision measurements after the last reset
@@ -179,14 +182,14 @@ public class PoseEstimator<T> {
    */
   public Optional<Pose2d> sampleAt(double timestampSeconds) {
     // Step 0: If there are no odometry updates to sample, skip.
-    if (m_odometryPoseBuffer.getInternalBuffer().isEmpty()) {
+    if (m_odometryPoseBuffer.isEmpty()) {
       return Optional.empty();
     }
 
     // Step 1: Make sure timestamp matches the sample from the odometry pose buffer. (When sampling,
     // the buffer will always use a timestamp between the first and last timestamps)
-    double oldestOdometryTimestamp = m_odometryPoseBuffer.getInternalBuffer().firstKey();
-    double newestOdometryTimestamp = m_odometryPoseBuffer.getInternalBuffer().lastKey();
+    double oldestOdometryTimestamp = m_odometryPoseBuffer.getOldestTimestamp();
+    double newestOdometryTimestamp = m_odometryPoseBuffer.getNewestTimestamp();
     timestampSeconds =
         MathUtil.clamp(timestampSeconds, oldestOdometryTimestamp, newestOdometryTimestamp);
 
@@ -209,12 +212,12 @@ public class PoseEstimator<T> {
   /** Removes stale vision updates that won't affect sampling. */
   private void cleanUpVisionUpdates() {
     // Step 0: If there are no odometry samples, skip.
-    if (m_odometryPoseBuffer.getInternalBuffer().isEmpty()) {
+    if (m_odometryPoseBuffer.isEmpty()) {
       return;
     }
 
     // Step 1: Find the oldest timestamp that needs a vision update.
-    double oldestOdometryTimestamp = m_odometryPoseBuffer.getInternalBuffer().firstKey();
+    double oldestOdometryTimestamp = m_odometryPoseBuffer.getOldestTimestamp();
 
     // Step 2: If there are no vision updates before that timestamp, skip.
     if (m_visionUpdates.isEmpty() || oldestOdometryTimestamp < m_visionUpdates.firstKey()) {
@@ -249,20 +252,64 @@ public class PoseEstimator<T> {
    */
   public void addVisionMeasurement(Pose2d visionRobotPoseMeters, double timestampSeconds) {
     // Step 0: If this measurement is old enough to be outside the pose buffer's timespan, skip.
-    if (m_odometryPoseBuffer.getInternalBuffer().isEmpty()
-        || m_odometryPoseBuffer.getInternalBuffer().lastKey() - kBufferDuration
-            > timestampSeconds) {
+    if (isOutsideBuffer(timestampSeconds)) {
       return;
     }
 
     // Step 1: Clean up any old entries
     cleanUpVisionUpdates();
 
+    // Steps 2-7: Calculate and record the vision update.
+    var visionUpdate = recordVisionUpdate(visionRobotPoseMeters, timestampSeconds);
+
+    if (visionUpdate == null) {
+      return;
+    }
+
+    // Step 8: Remove later vision measurements. (Matches previous behavior)
+    m_visionUpdates.tailMap(timestampSeconds, false).entrySet().clear();
+
+    // Step 9: Update latest pose estimate. Since we cleared all updates after this vision update,
+    // it's guaranteed to be the latest vision update.
+    m_poseEstimate = visionUpdate.compensate(m_odometry.getPoseMeters());
+  }
+
+  /**
+   * Returns true if a vision measurement is too old to be fused, or there is no odometry to fuse it
+   * with.
+   *
+   * @param timestampSeconds The timestamp of the vision measurement in seconds.
+   * @return True if the measurement should be skipped.
+   */
+  private boolean isOutsideBuffer(double timestampSeconds) {
+    return m_odometryPoseBuffer.isEmpty()
+        || m_odometryPoseBuffer.getNewestTimestamp() - kBufferDuration > timestampSeconds;
+  }
+
+  /**
+   * Returns the number of odometry samples at or after a timestamp.
+   *
+   * @param timestampSeconds The timestamp in seconds.
+   * @return The number of odometry samples.
+   */
+  private int odometrySamplesSince(double timestampSeconds) {
+    return m_odometryPoseBuffer.size() - m_odometryPoseBuffer.ceilingIndex(timestampSeconds);
+  }
+
+  /**
+   * Fuses a vision measurement with the pose estimate at its timestamp and records the resulting
+   * vision update. Later vision updates are left in place.
+   *
+   * @param visionRobotPoseMeters The pose of the robot as measured by the vision camera.
+   * @param timestampSeconds The timestamp of the vision measurement in seconds.
+   * @return The recorded vision update, or null if there was nothing to fuse the measurement with.
+   */
+  private VisionUpdate recordVisionUpdate(Pose2d visionRobotPoseMeters, double timestampSeconds) {
     // Step 2: Get the pose measured by odometry at the moment the vision measurement was made.
     var odometrySample = m_odometryPoseBuffer.getSample(timestampSeconds);
 
     if (odometrySample.isEmpty()) {
-      return;
+      return null;
     }
 
     // Step 3: Get the vision-compensated pose estimate at the moment the vision measurement was
@@ -270,7 +317,7 @@ public class PoseEstimator<T> {
     var visionSample = sampleAt(timestampSeconds);
 
     if (visionSample.isEmpty()) {
-      return;
+      return null;
     }
 
     // Step 4: Measure the twist between the old pose estimate and the vision pose.
@@ -288,12 +335,7 @@ public class PoseEstimator<T> {
     var visionUpdate = new VisionUpdate(visionSample.get().exp(scaledTwist), odometrySample.get());
     m_visionUpdates.put(timestampSeconds, visionUpdate);
 
-    // Step 8: Remove later vision measurements. (Matches previous behavior)
-    m_visionUpdates.tailMap(timestampSeconds, false).entrySet().clear();
-
-    // Step 9: Update latest pose estimate. Since we cleared all updates after this vision update,
-    // it's guaranteed to be the latest vision update.
-    m_poseEstimate = visionUpdate.compensate(m_odometry.getPoseMeters());
+    return visionUpdate;
   }
 
   /**
@@ -330,6 +372,83 @@ public class PoseEstimator<T> {
     addVisionMeasurement(visionRobotPoseMeters, timestampSeconds);
   }
 
+  /**
+   * Adds a batch of vision measurements to the Kalman Filter, such as every tag detection from
+   * every camera in one robot loop. This produces the same pose estimate as calling {@link
+   * PoseEstimator#addVisionMeasurement} for each measurement in timestamp order, but only cleans up
+   * old vision updates and recomputes the latest pose estimate once for the whole batch.
+   *
+   * <p>The measurements are sorted by timestamp before they are fused, so a measurement never
+   * discards the vision update recorded by a newer measurement in the same batch. Measurements with
+   * the same timestamp are fused one after another in the order given.
+   *
+   * <p>As with {@link PoseEstimator#addVisionMeasurement(Pose2d, double, Matrix)}, the standard
+   * deviations of a measurement that has them will continue to apply to later measurements in the
+   * batch and to future measurements.
+   *
+   * @param measurements The vision measurements to fuse.
+   * @return The cost of fusing the batch.
+   */
+  public VisionBatchResult addVisionMeasurements(List<VisionMeasurement> measurements) {
+    long startTime = System.nanoTime();
+
+    // Step 0: Sort the measurements oldest first. The sort is stable, so measurements with the
+    // same timestamp keep their order.
+    var sorted = measurements.toArray(new VisionMeasurement[0]);
+    Arrays.sort(sorted, Comparator.comparingDouble(measurement -> measurement.timestampSeconds));
+
+    // Step 1: Clean up any old entries
+    cleanUpVisionUpdates();
+
+    // Step 2: Fuse each measurement in order. Each one is sampled against the pose estimate
+    // corrected by the measurements before it.
+    int applied = 0;
+    int rejected = 0;
+    int unmatched = 0;
+    int discarded = 0;
+    double earliestTimestamp = Double.POSITIVE_INFINITY;
+    for (var measurement : sorted) {
+      if (measurement.stdDevs != null) {
+        setVisionMeasurementStdDevs(measurement.stdDevs);
+      }
+
+      if (m_odometryPoseBuffer.isEmpty()) {
+        unmatched++;
+        continue;
+      }
+
+      if (isOutsideBuffer(measurement.timestampSeconds)) {
+        rejected++;
+        continue;
+      }
+
+      if (recordVisionUpdate(measurement.poseMeters, measurement.timestampSeconds) == null) {
+        unmatched++;
+        continue;
+      }
+
+      // Remove vision updates recorded before this batch that this measurement supersedes. Only
+      // the earliest measurement in the batch can have any.
+      var later = m_visionUpdates.tailMap(measurement.timestampSeconds, false);
+      discarded += later.size();
+      later.clear();
+
+      applied++;
+      earliestTimestamp = Math.min(earliestTimestamp, measurement.timestampSeconds);
+    }
+
+    // Step 3: Update latest pose estimate once for the whole batch.
+    int replayed = 0;
+    if (applied > 0) {
+      m_poseEstimate =
+          m_visionUpdates.lastEntry().getValue().compensate(m_odometry.getPoseMeters());
+      replayed = odometrySamplesSince(earliestTimestamp);
+    }
+
+    return new VisionBatchResult(
+        applied, rejected, unmatched, replayed, discarded, System.nanoTime() - startTime);
+  }
+
   /**
    * Updates the pose estimator with wheel encoder and gyro information. This should be called every
    * loop.
@@ -366,6 +485,46 @@ public class PoseEstimator<T> {
     return getEstimatedPosition();
   }
 
+  /** A timestamped vision measurement for {@link PoseEstimator#addVisionMeasurements(List)}. */
+  public static final class VisionMeasurement {
+    /** The pose of the robot as measured by the vision camera. */
+    public final Pose2d poseMeters;
+
+    /** The timestamp of the vision measurement in seconds. */
+    public final double timestampSeconds;
+
+    /**
+     * Standard deviations of the vision pose measurement (x position in meters, y position in
+     * meters, and heading in radians), or null to keep using the current standard deviations.
+     */
+    public final Matrix<N3, N1> stdDevs;
+
+    /**
+     * Constructs a vision measurement that uses the current standard deviations.
+     *
+     * @param poseMeters The pose of the robot as measured by the vision camera.
+     * @param timestampSeconds The timestamp of the vision measurement in seconds.
+     */
+    public VisionMeasurement(Pose2d poseMeters, double timestampSeconds) {
+      this(poseMeters, timestampSeconds, null);
+    }
+
+    /**
+     * Constructs a vision measurement.
+     *
+     * @param poseMeters The pose of the robot as measured by the vision camera.
+     * @param timestampSeconds The timestamp of the vision measurement in seconds.
+     * @param stdDevs Standard deviations of the vision pose measurement (x position in meters, y
+     *     position in meters, and heading in radians). Increase these numbers to trust the vision
+     *     pose measurement less.
+     */
+    public VisionMeasurement(Pose2d poseMeters, double timestampSeconds, Matrix<N3, N1> stdDevs) {
+      this.poseMeters = poseMeters;
+      this.timestampSeconds = timestampSeconds;
+      this.stdDevs = stdDevs;
+    }
+  }
+
   /**
    * Represents a vision update record. The record contains the vision-compensated pose estimate as
    * well as the corresponding odometry pose estimate.
@@ -22,6 +22,9 @@ import edu.wpi.first.math.kinematics.Odometry3d;
 import edu.wpi.first.math.numbers.N1;
 import edu.wpi.first.math.numbers.N4;
 import edu.wpi.first.math.numbers.N6;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
@@ -262,20 +265,64 @@ public class PoseEstimator3d<T> {
    */
   public void addVisionMeasurement(Pose3d visionRobotPoseMeters, double timestampSeconds) {
     // Step 0: If this measurement is old enough to be outside the pose buffer's timespan, skip.
-    if (m_odometryPoseBuffer.getInternalBuffer().isEmpty()
-        || m_odometryPoseBuffer.getInternalBuffer().lastKey() - kBufferDuration
-            > timestampSeconds) {
+    if (isOutsideBuffer(timestampSeconds)) {
       return;
     }
 
     // Step 1: Clean up any old entries
     cleanUpVisionUpdates();
 
+    // Steps 2-7: Calculate and record the vision update.
+    var visionUpdate = recordVisionUpdate(visionRobotPoseMeters, timestampSeconds);
+
+    if (visionUpdate == null) {
+      return;
+    }
+
+    // Step 8: Remove later vision measurements. (Matches previous behavior)
+    m_visionUpdates.tailMap(timestampSeconds, false).entrySet().clear();
+
+    // Step 9: Update latest pose estimate. Since we cleared all updates after this vision update,
+    // it's guaranteed to be the latest vision update.
+    m_poseEstimate = visionUpdate.compensate(m_odometry.getPoseMeters());
+  }
+
+  /**
+   * Returns true if a vision measurement is too old to be fused, or there is no odometry to fuse it
+   * with.
+   *
+   * @param timestampSeconds The timestamp of the vision measurement in seconds.
+   * @return True if the measurement should be skipped.
+   */
+  private boolean isOutsideBuffer(double timestampSeconds) {
+    return m_odometryPoseBuffer.getInternalBuffer().isEmpty()
+        || m_odometryPoseBuffer.getInternalBuffer().lastKey() - kBufferDuration > timestampSeconds;
+  }
+
+  /**
+   * Returns the number of odometry samples at or after a timestamp.
+   *
+   * @param timestampSeconds The timestamp in seconds.
+   * @return The number of odometry samples.
+   */
+  private int odometrySamplesSince(double timestampSeconds) {
+    return m_odometryPoseBuffer.getInternalBuffer().tailMap(timestampSeconds, true).size();
+  }
+
+  /**
+   * Fuses a vision measurement with the pose estimate at its timestamp and records the resulting
+   * vision update. Later vision updates are left in place.
+   *
+   * @param visionRobotPoseMeters The pose of the robot as measured by the vision camera.
+   * @param timestampSeconds The timestamp of the vision measurement in seconds.
+   * @return The recorded vision update, or null if there was nothing to fuse the measurement with.
+   */
+  private VisionUpdate recordVisionUpdate(Pose3d visionRobotPoseMeters, double timestampSeconds) {
     // Step 2: Get the pose measured by odometry at the moment the vision measurement was made.
     var odometrySample = m_odometryPoseBuffer.getSample(timestampSeconds);
 
     if (odometrySample.isEmpty()) {
-      return;
+      return null;
     }
 
     // Step 3: Get the vision-compensated pose estimate at the moment the vision measurement was
@@ -283,7 +330,7 @@ public class PoseEstimator3d<T> {
     var visionSample = sampleAt(timestampSeconds);
 
     if (visionSample.isEmpty()) {
-      return;
+      return null;
     }
 
     // Step 4: Measure the twist between the old pose estimate and the vision pose.
@@ -309,12 +356,7 @@ public class PoseEstimator3d<T> {
     var visionUpdate = new VisionUpdate(visionSample.get().exp(scaledTwist), odometrySample.get());
     m_visionUpdates.put(timestampSeconds, visionUpdate);
 
-    // Step 8: Remove later vision measurements. (Matches previous behavior)
-    m_visionUpdates.tailMap(timestampSeconds, false).entrySet().clear();
-
-    // Step 9: Update latest pose estimate. Since we cleared all updates after this vision update,
-    // it's guaranteed to be the latest vision update.
-    m_poseEstimate = visionUpdate.compensate(m_odometry.getPoseMeters());
+    return visionUpdate;
   }
 
   /**
@@ -351,6 +393,83 @@ public class PoseEstimator3d<T> {
     addVisionMeasurement(visionRobotPoseMeters, timestampSeconds);
   }
 
+  /**
+   * Adds a batch of vision measurements to the Kalman Filter, such as every tag detection from
+   * every camera in one robot loop. This produces the same pose estimate as calling {@link
+   * PoseEstimator3d#addVisionMeasurement} for each measurement in timestamp order, but only cleans
+   * up old vision updates and recomputes the latest pose estimate once for the whole batch.
+   *
+   * <p>The measurements are sorted by timestamp before they are fused, so a measurement never
+   * discards the vision update recorded by a newer measurement in the same batch. Measurements with
+   * the same timestamp are fused one after another in the order given.
+   *
+   * <p>As with {@link PoseEstimator3d#addVisionMeasurement(Pose3d, double, Matrix)}, the standard
+   * deviations of a measurement that has them will continue to apply to later measurements in the
+   * batch and to future measurements.
+   *
+   * @param measurements The vision measurements to fuse.
+   * @return The cost of fusing the batch.
+   */
+  public VisionBatchResult addVisionMeasurements(List<VisionMeasurement> measurements) {
+    long startTime = System.nanoTime();
+
+    // Step 0: Sort the measurements oldest first. The sort is stable, so measurements with the
+    // same timestamp keep their order.
+    var sorted = measurements.toArray(new VisionMeasurement[0]);
+    Arrays.sort(sorted, Comparator.comparingDouble(measurement -> measurement.timestampSeconds));
+
+    // Step 1: Clean up any old entries
+    cleanUpVisionUpdates();
+
+    // Step 2: Fuse each measurement in order. Each one is sampled against the pose estimate
+    // corrected by the measurements before it.
+    int applied = 0;
+    int rejected = 0;
+    int unmatched = 0;
+    int discarded = 0;
+    double earliestTimestamp = Double.POSITIVE_INFINITY;
+    for (var measurement : sorted) {
+      if (measurement.stdDevs != null) {
+        setVisionMeasurementStdDevs(measurement.stdDevs);
+      }
+
+      if (m_odometryPoseBuffer.getInternalBuffer().isEmpty()) {
+        unmatched++;
+        continue;
+      }
+
+      if (isOutsideBuffer(measurement.timestampSeconds)) {
+        rejected++;
+        continue;
+      }
+
+      if (recordVisionUpdate(measurement.poseMeters, measurement.timestampSeconds) == null) {
+        unmatched++;
+        continue;
+      }
+
+      // Remove vision updates recorded before this batch that this measurement supersedes. Only
+      // the earliest measurement in the batch can have any.
+      var later = m_visionUpdates.tailMap(measurement.timestampSeconds, false);
+      discarded += later.size();
+      later.clear();
+
+      applied++;
+      earliestTimestamp = Math.min(earliestTimestamp, measurement.timestampSeconds);
+    }
+
+    // Step 3: Update latest pose estimate once for the whole batch.
+    int replayed = 0;
+    if (applied > 0) {
+      m_poseEstimate =
+          m_visionUpdates.lastEntry().getValue().compensate(m_odometry.getPoseMeters());
+      replayed = odometrySamplesSince(earliestTimestamp);
+    }
+
+    return new VisionBatchResult(
+        applied, rejected, unmatched, replayed, discarded, System.nanoTime() - startTime);
+  }
+
   /**
    * Updates the pose estimator with wheel encoder and gyro information. This should be called every
    * loop.
@@ -387,6 +506,47 @@ public class PoseEstimator3d<T> {
     return getEstimatedPosition();
   }
 
+  /** A timestamped vision measurement for {@link PoseEstimator3d#addVisionMeasurements(List)}. */
+  public static final class VisionMeasurement {
+    /** The pose of the robot as measured by the vision camera. */
+    public final Pose3d poseMeters;
+
+    /** The timestamp of the vision measurement in seconds. */
+    public final double timestampSeconds;
+
+    /**
+     * Standard deviations of the vision pose measurement (x position in meters, y position in
+     * meters, z position in meters, and angle in radians), or null to keep using the current
+     * standard deviations.
+     */
+    public final Matrix<N4, N1> stdDevs;
+
+    /**
+     * Constructs a vision measurement that uses the current standard deviations.
+     *
+     * @param poseMeters The pose of the robot as measured by the vision camera.
+     * @param timestampSeconds The timestamp of the vision measurement in seconds.
+     */
+    public VisionMeasurement(Pose3d poseMeters, double timestampSeconds) {
+      this(poseMeters, timestampSeconds, null);
+    }
+
+    /**
+     * Constructs a vision measurement.
+     *
+     * @param poseMeters The pose of the robot as measured by the vision camera.
+     * @param timestampSeconds The timestamp of the vision measurement in seconds.
+     * @param stdDevs Standard deviations of the vision pose measurement (x position in meters, y
+     *     position in meters, z position in meters, and angle in radians). Increase these numbers
+     *     to trust the vision pose measurement less.
+     */
+    public VisionMeasurement(Pose3d poseMeters, double timestampSeconds, Matrix<N4, N1> stdDevs) {
+      this.poseMeters = poseMeters;
+      this.timestampSeconds = timestampSeconds;
+      this.stdDevs = stdDevs;
+    }
+  }
+
   /**
    * Represents a vision update record. The record contains the vision-compensated pose estimate as
    * well as the corresponding odometry pose estimate.
@@ -0,0 +1,79 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.math.estimator;
+
+/**
+ * Reports what a batch of vision measurements cost to fuse. Returned by {@link
+ * PoseEstimator#addVisionMeasurements} and {@link PoseEstimator3d#addVisionMeasurements} so robot
+ * code can check that fusing every camera's measurements stays within the loop budget.
+ */
+public final class VisionBatchResult {
+  /** The number of measurements fused into the pose estimate. */
+  public final int appliedMeasurements;
+
+  /**
+   * The number of measurements skipped because they were older than the pose buffer. Measurements
+   * counted in {@link #unmatchedMeasurements} aren't counted here.
+   */
+  public final int rejectedMeasurements;
+
+  /**
+   * The number of measurements skipped because there was no odometry to fuse them with, such as
+   * measurements added before the first odometry update.
+   */
+  public final int unmatchedMeasurements;
+
+  /**
+   * The number of odometry samples at or after the earliest fused measurement, i.e. the window of
+   * the odometry history whose estimate the batch changed.
+   */
+  public final int replayedOdometrySamples;
+
+  /** The number of previously recorded vision updates that the batch superseded. */
+  public final int discardedVisionUpdates;
+
+  /** The time spent fusing the batch in nanoseconds. */
+  public final long elapsedNanos;
+
+  /**
+   * Constructs a VisionBatchResult.
+   *
+   * @param appliedMeasurements The number of measurements fused into the pose estimate.
+   * @param rejectedMeasurements The number of measurements skipped for being older than the pose
+   *     buffer.
+   * @param unmatchedMeasurements The number of measurements skipped for having no odometry to fuse
+   *     them with.
+   * @param replayedOdometrySamples The number of odometry samples in the replayed window.
+   * @param discardedVisionUpdates The number of previously recorded vision updates superseded.
+   * @param elapsedNanos The time spent fusing the batch in nanoseconds.
+   */
+  public VisionBatchResult(
+      int appliedMeasurements,
+      int rejectedMeasurements,
+      int unmatchedMeasurements,
+      int replayedOdometrySamples,
+      int discardedVisionUpdates,
+      long elapsedNanos) {
+    this.appliedMeasurements = appliedMeasurements;
+    this.rejectedMeasurements = rejectedMeasurements;
+    this.unmatchedMeasurements = unmatchedMeasurements;
+    this.replayedOdometrySamples = replayedOdometrySamples;
+    this.discardedVisionUpdates = discardedVisionUpdates;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "VisionBatchResult(applied: %d, rejected: %d, unmatched: %d, "
+            + "replayed odometry samples: %d, discarded vision updates: %d, elapsed: %.3f ms)",
+        appliedMeasurements,
+        rejectedMeasurements,
+        unmatchedMeasurements,
+        replayedOdometrySamples,
+        discardedVisionUpdates,
+        elapsedNanos / 1e6);
+  }
+}
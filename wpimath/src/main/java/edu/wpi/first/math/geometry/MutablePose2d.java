@@ -0,0 +1,279 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.math.geometry;
+
+import edu.wpi.first.math.MathSharedStore;
+
+/**
+ * A mutable 2D pose for allocation-free pose math in loops that run at high rates, such as
+ * odometry. The operations modify the pose in place and compute exactly the same values as the
+ * corresponding {@link Pose2d} operations.
+ *
+ * <p>Prefer {@link Pose2d} everywhere else; convert with {@link #set(Pose2d)} and {@link
+ * #toPose2d()} at the boundaries.
+ */
+public final class MutablePose2d {
+  private double m_x;
+  private double m_y;
+  private double m_theta;
+  private double m_cos = 1.0;
+  private double m_sin;
+
+  /** Constructs a pose at the origin facing toward the positive X axis. */
+  public MutablePose2d() {}
+
+  /**
+   * Constructs a mutable copy of a pose.
+   *
+   * @param pose The pose to copy.
+   */
+  public MutablePose2d(Pose2d pose) {
+    set(pose);
+  }
+
+  /**
+   * Sets this pose to a copy of another pose.
+   *
+   * @param pose The pose to copy.
+   * @return This pose.
+   */
+  public MutablePose2d set(Pose2d pose) {
+    return set(pose.getX(), pose.getY(), pose.getRotation());
+  }
+
+  /**
+   * Sets this pose to a copy of another pose.
+   *
+   * @param pose The pose to copy.
+   * @return This pose.
+   */
+  public MutablePose2d set(MutablePose2d pose) {
+    m_x = pose.m_x;
+    m_y = pose.m_y;
+    m_theta = pose.m_theta;
+    m_cos = pose.m_cos;
+    m_sin = pose.m_sin;
+    return this;
+  }
+
+  /**
+   * Sets the translation and rotation of this pose.
+   *
+   * @param x The x component of the translation in meters.
+   * @param y The y component of the translation in meters.
+   * @param rotation The rotation.
+   * @return This pose.
+   */
+  public MutablePose2d set(double x, double y, Rotation2d rotation) {
+    m_x = x;
+    m_y = y;
+    m_theta = rotation.getRadians();
+    m_cos = rotation.getCos();
+    m_sin = rotation.getSin();
+    return this;
+  }
+
+  /**
+   * Returns the X component of the pose's translation.
+   *
+   * @return The x component of the pose's translation in meters.
+   */
+  public double getX() {
+    return m_x;
+  }
+
+  /**
+   * Returns the Y component of the pose's translation.
+   *
+   * @return The y component of the pose's translation in meters.
+   */
+  public double getY() {
+    return m_y;
+  }
+
+  /**
+   * Returns the angle of the pose's rotation.
+   *
+   * @return The angle in radians.
+   */
+  public double getRadians() {
+    return m_theta;
+  }
+
+  /**
+   * Returns the cosine of the pose's rotation.
+   *
+   * @return The cosine of the pose's rotation.
+   */
+  public double getCos() {
+    return m_cos;
+  }
+
+  /**
+   * Returns the sine of the pose's rotation.
+   *
+   * @return The sine of the pose's rotation.
+   */
+  public double getSin() {
+    return m_sin;
+  }
+
+  /**
+   * Transforms this pose in place. Equivalent to {@link Pose2d#transformBy(Transform2d)}.
+   *
+   * @param other The transform to transform the pose by.
+   * @return This pose.
+   */
+  public MutablePose2d transformBy(Transform2d other) {
+    var rotation = other.getRotation();
+    transformBy(other.getX(), other.getY(), rotation.getCos(), rotation.getSin());
+    return this;
+  }
+
+  /**
+   * Rotates this pose around the origin in place. Equivalent to {@link
+   * Pose2d#rotateBy(Rotation2d)}.
+   *
+   * @param other The rotation to transform the pose by.
+   * @return This pose.
+   */
+  public MutablePose2d rotateBy(Rotation2d other) {
+    double cos = other.getCos();
+    double sin = other.getSin();
+    double x = m_x * cos - m_y * sin;
+    m_y = m_x * sin + m_y * cos;
+    m_x = x;
+    setRotation(m_cos * cos - m_sin * sin, m_cos * sin + m_sin * cos);
+    return this;
+  }
+
+  /**
+   * Applies a twist to this pose in place. Equivalent to {@link Pose2d#exp(Twist2d)}.
+   *
+   * @param twist The change in pose in the robot's coordinate frame since the previous pose update.
+   * @return This pose.
+   */
+  public MutablePose2d exp(Twist2d twist) {
+    return exp(twist.dx, twist.dy, twist.dtheta);
+  }
+
+  /**
+   * Applies a twist to this pose in place. Equivalent to {@link Pose2d#exp(Twist2d)}.
+   *
+   * @param dx The change in x in meters in the robot's coordinate frame.
+   * @param dy The change in y in meters in the robot's coordinate frame.
+   * @param dtheta The change in angle in radians.
+   * @return This pose.
+   */
+  public MutablePose2d exp(double dx, double dy, double dtheta) {
+    double sinTheta = Math.sin(dtheta);
+    double cosTheta = Math.cos(dtheta);
+
+    double s;
+    double c;
+    if (Math.abs(dtheta) < 1E-9) {
+      s = 1.0 - 1.0 / 6.0 * dtheta * dtheta;
+      c = 0.5 * dtheta;
+    } else {
+      s = sinTheta / dtheta;
+      c = (1 - cosTheta) / dtheta;
+    }
+
+    // Normalized the same way as the Rotation2d of the transform in Pose2d.exp()
+    double magnitude = Math.hypot(cosTheta, sinTheta);
+    transformBy(dx * s - dy * c, dx * c + dy * s, cosTheta / magnitude, sinTheta / magnitude);
+    return this;
+  }
+
+  /**
+   * Computes the twist that maps this pose to the end pose. Equivalent to {@link
+   * Pose2d#log(Pose2d)}.
+   *
+   * @param end The end pose for the transformation.
+   * @param out The twist to store the result in.
+   * @return The twist that maps this to end.
+   */
+  public Twist2d log(Pose2d end, Twist2d out) {
+    // end.relativeTo(this)
+    double invCos = Math.cos(-m_theta);
+    double invSin = Math.sin(-m_theta);
+    double deltaX = end.getX() - m_x;
+    double deltaY = end.getY() - m_y;
+    double transformX = deltaX * invCos - deltaY * invSin;
+    double transformY = deltaX * invSin + deltaY * invCos;
+    var endRotation = end.getRotation();
+    double rotX = endRotation.getCos() * invCos - endRotation.getSin() * invSin;
+    double rotY = endRotation.getCos() * invSin + endRotation.getSin() * invCos;
+    double rotMagnitude = Math.hypot(rotX, rotY);
+    double transformCos;
+    double transformSin;
+    if (rotMagnitude > 1e-6) {
+      transformCos = rotX / rotMagnitude;
+      transformSin = rotY / rotMagnitude;
+    } else {
+      transformCos = 1.0;
+      transformSin = 0.0;
+    }
+
+    final double dtheta = Math.atan2(transformSin, transformCos);
+    final double halfDtheta = dtheta / 2.0;
+
+    final double cosMinusOne = transformCos - 1;
+
+    double halfThetaByTanOfHalfDtheta;
+    if (Math.abs(cosMinusOne) < 1E-9) {
+      halfThetaByTanOfHalfDtheta = 1.0 - 1.0 / 12.0 * dtheta * dtheta;
+    } else {
+      halfThetaByTanOfHalfDtheta = -(halfDtheta * transformSin) / cosMinusOne;
+    }
+
+    double magnitude = Math.hypot(halfThetaByTanOfHalfDtheta, -halfDtheta);
+    double cos = halfThetaByTanOfHalfDtheta / magnitude;
+    double sin = -halfDtheta / magnitude;
+    double scale = Math.hypot(halfThetaByTanOfHalfDtheta, halfDtheta);
+
+    out.dx = (transformX * cos - transformY * sin) * scale;
+    out.dy = (transformX * sin + transformY * cos) * scale;
+    out.dtheta = dtheta;
+    return out;
+  }
+
+  /**
+   * Returns an immutable copy of this pose.
+   *
+   * @return The pose.
+   */
+  public Pose2d toPose2d() {
+    return new Pose2d(m_x, m_y, new Rotation2d(m_theta, m_cos, m_sin));
+  }
+
+  @Override
+  public String toString() {
+    return String.format("MutablePose2d(X: %.2f, Y: %.2f, Rads: %.2f)", m_x, m_y, m_theta);
+  }
+
+  // Same as transformBy(new Transform2d(new Translation2d(x, y), new Rotation2d(cos, sin))) for an
+  // already normalized rotation
+  private void transformBy(double x, double y, double cos, double sin) {
+    m_x += x * m_cos - y * m_sin;
+    m_y += x * m_sin + y * m_cos;
+    setRotation(cos * m_cos - sin * m_sin, cos * m_sin + sin * m_cos);
+  }
+
+  // Same normalization as new Rotation2d(x, y)
+  private void setRotation(double x, double y) {
+    double magnitude = Math.hypot(x, y);
+    if (magnitude > 1e-6) {
+      m_cos = x / magnitude;
+      m_sin = y / magnitude;
+    } else {
+      m_cos = 1.0;
+      m_sin = 0.0;
+      MathSharedStore.reportError(
+          "x and y components of Rotation2d are zero\n", Thread.currentThread().getStackTrace());
+    }
+    m_theta = Math.atan2(m_sin, m_cos);
+  }
+}
@@ -108,6 +108,19 @@ public class Rotation2d
     m_sin = Math.sin(value);
   }
 
+  /**
+   * Constructs a Rotation2d from already computed components, without normalizing them.
+   *
+   * @param value The value of the angle in radians.
+   * @param cos The cosine of the angle.
+   * @param sin The sine of the angle.
+   */
+  Rotation2d(double value, double cos, double sin) {
+    m_value = value;
+    m_cos = cos;
+    m_sin = sin;
+  }
+
   /**
    * Constructs a Rotation2d with the given x and y (cosine and sine) components.
    *
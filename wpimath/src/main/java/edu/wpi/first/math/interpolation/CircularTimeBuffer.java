@@ -0,0 +1,234 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.math.interpolation;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Timestamp bookkeeping shared by the circular time interpolatable buffers. Timestamps are kept
+ * sorted in a growable power-of-two ring of doubles; subclasses store the values in parallel rings
+ * indexed by the same slots.
+ */
+abstract class CircularTimeBuffer {
+  private static final int kInitialCapacity = 32;
+
+  private final double m_historySize;
+  private double[] m_times = new double[kInitialCapacity];
+
+  // Slot of the oldest sample
+  private int m_head;
+
+  // Number of samples in the buffer
+  private int m_size;
+
+  CircularTimeBuffer(double historySizeSeconds) {
+    m_historySize = historySizeSeconds;
+  }
+
+  /**
+   * Returns the number of samples in the buffer.
+   *
+   * @return The number of samples.
+   */
+  public int size() {
+    return m_size;
+  }
+
+  /**
+   * Returns true if the buffer has no samples.
+   *
+   * @return True if the buffer is empty.
+   */
+  public boolean isEmpty() {
+    return m_size == 0;
+  }
+
+  /**
+   * Returns the timestamp of a sample. Samples are indexed in timestamp order, oldest first.
+   *
+   * @param index The index of the sample.
+   * @return The timestamp of the sample in seconds.
+   * @throws IndexOutOfBoundsException if the index is out of range.
+   */
+  public double getTimestamp(int index) {
+    return m_times[slot(index)];
+  }
+
+  /**
+   * Returns the timestamp of the oldest sample.
+   *
+   * @return The timestamp of the oldest sample in seconds.
+   * @throws NoSuchElementException if the buffer is empty.
+   */
+  public double getOldestTimestamp() {
+    if (m_size == 0) {
+      throw new NoSuchElementException();
+    }
+    return m_times[m_head];
+  }
+
+  /**
+   * Returns the timestamp of the newest sample.
+   *
+   * @return The timestamp of the newest sample in seconds.
+   * @throws NoSuchElementException if the buffer is empty.
+   */
+  public double getNewestTimestamp() {
+    if (m_size == 0) {
+      throw new NoSuchElementException();
+    }
+    return m_times[physical(m_size - 1)];
+  }
+
+  /**
+   * Returns the index of the oldest sample with a timestamp greater than or equal to the given
+   * time, or {@link #size()} if there is none.
+   *
+   * @param timeSeconds The time in seconds.
+   * @return The index of the sample.
+   */
+  public int ceilingIndex(double timeSeconds) {
+    int lo = 0;
+    int hi = m_size;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (m_times[physical(mid)] < timeSeconds) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  /** Clear all old samples. */
+  public void clear() {
+    for (int i = 0; i < m_size; i++) {
+      clearValue(physical(i));
+    }
+    m_head = 0;
+    m_size = 0;
+  }
+
+  /**
+   * Removes samples older than the history size, then makes room for a sample at the given time. An
+   * existing sample with the same timestamp is replaced.
+   *
+   * @param timeSeconds The timestamp of the sample.
+   * @return The slot to store the sample value in.
+   */
+  final int insert(double timeSeconds) {
+    cleanUp(timeSeconds);
+
+    // Common case: samples arrive in order
+    if (m_size == 0 || timeSeconds > m_times[physical(m_size - 1)]) {
+      ensureCapacity();
+      int slot = physical(m_size++);
+      m_times[slot] = timeSeconds;
+      return slot;
+    }
+
+    int index = ceilingIndex(timeSeconds);
+    if (m_times[physical(index)] == timeSeconds) {
+      return physical(index);
+    }
+
+    // Shift the newer samples up by one
+    ensureCapacity();
+    for (int i = m_size; i > index; i--) {
+      int dst = physical(i);
+      int src = physical(i - 1);
+      m_times[dst] = m_times[src];
+      moveValue(src, dst);
+    }
+    m_size++;
+    int slot = physical(index);
+    m_times[slot] = timeSeconds;
+    return slot;
+  }
+
+  /**
+   * Returns the current capacity of the rings.
+   *
+   * @return The capacity.
+   */
+  final int capacity() {
+    return m_times.length;
+  }
+
+  /**
+   * Returns the ring slot of a sample.
+   *
+   * @param index The index of the sample.
+   * @return The slot.
+   * @throws IndexOutOfBoundsException if the index is out of range.
+   */
+  final int slot(int index) {
+    if (index < 0 || index >= m_size) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    return physical(index);
+  }
+
+  /**
+   * Copies the samples of a value ring in timestamp order to the start of a new array. Used by
+   * {@link #growValues(int)}.
+   *
+   * @param src The value ring.
+   * @param dst The new array.
+   */
+  final void linearize(Object src, Object dst) {
+    int first = Math.min(m_size, m_times.length - m_head);
+    System.arraycopy(src, m_head, dst, 0, first);
+    System.arraycopy(src, 0, dst, first, m_size - first);
+  }
+
+  /**
+   * Grows the value rings to the given capacity, copying the samples in order with {@link
+   * #linearize(Object, Object)}.
+   *
+   * @param capacity The new capacity.
+   */
+  abstract void growValues(int capacity);
+
+  /**
+   * Moves a value from one slot to another.
+   *
+   * @param src The source slot.
+   * @param dst The destination slot.
+   */
+  abstract void moveValue(int src, int dst);
+
+  /**
+   * Releases the value in a slot that is no longer used.
+   *
+   * @param slot The slot.
+   */
+  void clearValue(int slot) {}
+
+  private void cleanUp(double time) {
+    while (m_size > 0 && time - m_times[m_head] >= m_historySize) {
+      clearValue(m_head);
+      m_head = (m_head + 1) & (m_times.length - 1);
+      m_size--;
+    }
+  }
+
+  private void ensureCapacity() {
+    if (m_size < m_times.length) {
+      return;
+    }
+    int capacity = m_times.length * 2;
+    double[] times = new double[capacity];
+    linearize(m_times, times);
+    growValues(capacity);
+    m_times = times;
+    m_head = 0;
+  }
+
+  private int physical(int index) {
+    return (m_head + index) & (m_times.length - 1);
+  }
+}
@@ -0,0 +1,159 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.math.interpolation;
+
+import edu.wpi.first.math.MathUtil;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * A variant of {@link TimeInterpolatableBuffer} that stores its samples in a circular buffer of
+ * primitive timestamps instead of a tree map, so adding a sample in timestamp order does not
+ * allocate once the buffer has grown to fit the history size. Samples are looked up with a binary
+ * search.
+ *
+ * @param <T> The type stored in this buffer.
+ */
+public final class TimeInterpolatableCircularBuffer<T> extends CircularTimeBuffer {
+  private final Interpolator<T> m_interpolatingFunc;
+  private Object[] m_values;
+
+  private TimeInterpolatableCircularBuffer(
+      Interpolator<T> interpolateFunction, double historySizeSeconds) {
+    super(historySizeSeconds);
+    this.m_interpolatingFunc = interpolateFunction;
+    this.m_values = new Object[capacity()];
+  }
+
+  /**
+   * Create a new TimeInterpolatableCircularBuffer.
+   *
+   * @param interpolateFunction The function used to interpolate between values.
+   * @param historySizeSeconds The history size of the buffer.
+   * @param <T> The type of data to store in the buffer.
+   * @return The new TimeInterpolatableCircularBuffer.
+   */
+  public static <T> TimeInterpolatableCircularBuffer<T> createBuffer(
+      Interpolator<T> interpolateFunction, double historySizeSeconds) {
+    return new TimeInterpolatableCircularBuffer<>(interpolateFunction, historySizeSeconds);
+  }
+
+  /**
+   * Create a new TimeInterpolatableCircularBuffer that stores a given subclass of {@link
+   * Interpolatable}.
+   *
+   * @param historySizeSeconds The history size of the buffer.
+   * @param <T> The type of {@link Interpolatable} to store in the buffer.
+   * @return The new TimeInterpolatableCircularBuffer.
+   */
+  public static <T extends Interpolatable<T>> TimeInterpolatableCircularBuffer<T> createBuffer(
+      double historySizeSeconds) {
+    return new TimeInterpolatableCircularBuffer<>(Interpolatable::interpolate, historySizeSeconds);
+  }
+
+  /**
+   * Create a new TimeInterpolatableCircularBuffer to store Double values.
+   *
+   * @param historySizeSeconds The history size of the buffer.
+   * @return The new TimeInterpolatableCircularBuffer.
+   */
+  public static TimeInterpolatableCircularBuffer<Double> createDoubleBuffer(
+      double historySizeSeconds) {
+    return new TimeInterpolatableCircularBuffer<>(MathUtil::interpolate, historySizeSeconds);
+  }
+
+  /**
+   * Add a sample to the buffer.
+   *
+   * @param timeSeconds The timestamp of the sample.
+   * @param sample The sample object.
+   */
+  public void addSample(double timeSeconds, T sample) {
+    // insert() may grow m_values, so it must be called before m_values is read
+    int slot = insert(timeSeconds);
+    m_values[slot] = sample;
+  }
+
+  /**
+   * Returns a sample. Samples are indexed in timestamp order, oldest first.
+   *
+   * @param index The index of the sample.
+   * @return The sample.
+   * @throws IndexOutOfBoundsException if the index is out of range.
+   */
+  public T get(int index) {
+    return value(slot(index));
+  }
+
+  /**
+   * Sample the buffer at the given time. If the buffer is empty, an empty Optional is returned.
+   *
+   * @param timeSeconds The time at which to sample.
+   * @return The interpolated value at that timestamp or an empty Optional.
+   */
+  public Optional<T> getSample(double timeSeconds) {
+    if (isEmpty()) {
+      return Optional.empty();
+    }
+
+    int top = ceilingIndex(timeSeconds);
+
+    // Return the opposite bound if the other doesn't exist, or the sample itself if the requested
+    // time is the same as a sample
+    if (top == size()) {
+      return Optional.of(get(top - 1));
+    }
+    double topTime = getTimestamp(top);
+    if (top == 0 || topTime == timeSeconds) {
+      return Optional.of(get(top));
+    }
+
+    // Otherwise, interpolate. Because T is between [0, 1], we want the ratio of (the difference
+    // between the current time and bottom bound) and (the difference between top and bottom
+    // bounds).
+    double bottomTime = getTimestamp(top - 1);
+    return Optional.of(
+        m_interpolatingFunc.interpolate(
+            get(top - 1), get(top), (timeSeconds - bottomTime) / (topTime - bottomTime)));
+  }
+
+  /**
+   * Returns a copy of the samples in the buffer, keyed by timestamp. Unlike {@link
+   * TimeInterpolatableBuffer#getInternalBuffer()}, changes to the returned map do not affect the
+   * buffer.
+   *
+   * @return The samples in the buffer.
+   */
+  public NavigableMap<Double, T> getInternalBuffer() {
+    var map = new TreeMap<Double, T>();
+    for (int i = 0; i < size(); i++) {
+      map.put(getTimestamp(i), get(i));
+    }
+    return map;
+  }
+
+  @Override
+  void growValues(int capacity) {
+    var values = new Object[capacity];
+    linearize(m_values, values);
+    m_values = values;
+  }
+
+  @Override
+  void moveValue(int src, int dst) {
+    m_values[dst] = m_values[src];
+  }
+
+  @Override
+  void clearValue(int slot) {
+    m_values[slot] = null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private T value(int slot) {
+    return (T) m_values[slot];
+  }
+}
@@ -0,0 +1,174 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.math.interpolation;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * A variant of {@link TimeInterpolatableBuffer} for {@link Pose2d} samples, which stores the x, y
+ * and heading of each pose in circular buffers of primitives. Adding a sample in timestamp order
+ * does not allocate once the buffer has grown to fit the history size; a Pose2d is only created
+ * when a sample is read back.
+ *
+ * <p>The rotation of a sample is stored as its angle in radians, so poses read back from the buffer
+ * recompute the rotation's sine and cosine from the angle.
+ */
+public final class TimeInterpolatablePose2dBuffer extends CircularTimeBuffer {
+  private double[] m_x;
+  private double[] m_y;
+  private double[] m_theta;
+
+  /**
+   * Create a new TimeInterpolatablePose2dBuffer.
+   *
+   * @param historySizeSeconds The history size of the buffer.
+   */
+  public TimeInterpolatablePose2dBuffer(double historySizeSeconds) {
+    super(historySizeSeconds);
+    m_x = new double[capacity()];
+    m_y = new double[capacity()];
+    m_theta = new double[capacity()];
+  }
+
+  /**
+   * Add a sample to the buffer.
+   *
+   * @param timeSeconds The timestamp of the sample.
+   * @param sample The sample pose.
+   */
+  public void addSample(double timeSeconds, Pose2d sample) {
+    addSample(timeSeconds, sample.getX(), sample.getY(), sample.getRotation().getRadians());
+  }
+
+  /**
+   * Add a sample to the buffer.
+   *
+   * @param timeSeconds The timestamp of the sample.
+   * @param x The x component of the sample pose in meters.
+   * @param y The y component of the sample pose in meters.
+   * @param thetaRadians The heading of the sample pose in radians.
+   */
+  public void addSample(double timeSeconds, double x, double y, double thetaRadians) {
+    int slot = insert(timeSeconds);
+    m_x[slot] = x;
+    m_y[slot] = y;
+    m_theta[slot] = thetaRadians;
+  }
+
+  /**
+   * Returns a sample. Samples are indexed in timestamp order, oldest first.
+   *
+   * @param index The index of the sample.
+   * @return The sample.
+   * @throws IndexOutOfBoundsException if the index is out of range.
+   */
+  public Pose2d get(int index) {
+    return pose(slot(index));
+  }
+
+  /**
+   * Returns the x component of a sample without creating a Pose2d.
+   *
+   * @param index The index of the sample.
+   * @return The x component of the sample in meters.
+   * @throws IndexOutOfBoundsException if the index is out of range.
+   */
+  public double getX(int index) {
+    return m_x[slot(index)];
+  }
+
+  /**
+   * Returns the y component of a sample without creating a Pose2d.
+   *
+   * @param index The index of the sample.
+   * @return The y component of the sample in meters.
+   * @throws IndexOutOfBoundsException if the index is out of range.
+   */
+  public double getY(int index) {
+    return m_y[slot(index)];
+  }
+
+  /**
+   * Returns the heading of a sample without creating a Pose2d.
+   *
+   * @param index The index of the sample.
+   * @return The heading of the sample in radians.
+   * @throws IndexOutOfBoundsException if the index is out of range.
+   */
+  public double getTheta(int index) {
+    return m_theta[slot(index)];
+  }
+
+  /**
+   * Sample the buffer at the given time. If the buffer is empty, an empty Optional is returned.
+   *
+   * @param timeSeconds The time at which to sample.
+   * @return The interpolated pose at that timestamp or an empty Optional.
+   */
+  public Optional<Pose2d> getSample(double timeSeconds) {
+    if (isEmpty()) {
+      return Optional.empty();
+    }
+
+    int top = ceilingIndex(timeSeconds);
+
+    // Return the opposite bound if the other doesn't exist, or the sample itself if the requested
+    // time is the same as a sample
+    if (top == size()) {
+      return Optional.of(get(top - 1));
+    }
+    double topTime = getTimestamp(top);
+    if (top == 0 || topTime == timeSeconds) {
+      return Optional.of(get(top));
+    }
+
+    double bottomTime = getTimestamp(top - 1);
+    return Optional.of(
+        get(top - 1).interpolate(get(top), (timeSeconds - bottomTime) / (topTime - bottomTime)));
+  }
+
+  /**
+   * Returns a copy of the samples in the buffer, keyed by timestamp. Unlike {@link
+   * TimeInterpolatableBuffer#getInternalBuffer()}, changes to the returned map do not affect the
+   * buffer.
+   *
+   * @return The samples in the buffer.
+   */
+  public NavigableMap<Double, Pose2d> getInternalBuffer() {
+    var map = new TreeMap<Double, Pose2d>();
+    for (int i = 0; i < size(); i++) {
+      map.put(getTimestamp(i), get(i));
+    }
+    return map;
+  }
+
+  @Override
+  void growValues(int capacity) {
+    var x = new double[capacity];
+    var y = new double[capacity];
+    var theta = new double[capacity];
+    linearize(m_x, x);
+    linearize(m_y, y);
+    linearize(m_theta, theta);
+    m_x = x;
+    m_y = y;
+    m_theta = theta;
+  }
+
+  @Override
+  void moveValue(int src, int dst) {
+    m_x[dst] = m_x[src];
+    m_y[dst] = m_y[src];
+    m_theta[dst] = m_theta[src];
+  }
+
+  private Pose2d pose(int slot) {
+    return new Pose2d(m_x[slot], m_y[slot], new Rotation2d(m_theta[slot]));
+  }
+}
@@ -4,6 +4,7 @@
 
 package edu.wpi.first.math.kinematics;
 
+import edu.wpi.first.math.geometry.MutablePose2d;
 import edu.wpi.first.math.geometry.Pose2d;
 import edu.wpi.first.math.geometry.Rotation2d;
 import edu.wpi.first.math.geometry.Translation2d;
@@ -26,6 +27,7 @@ public class Odometry<T> {
   private Rotation2d m_gyroOffset;
   private Rotation2d m_previousAngle;
   private final T m_previousWheelPositions;
+  private final MutablePose2d m_scratchPose = new MutablePose2d();
 
   /**
    * Constructs an Odometry object.
@@ -118,14 +120,28 @@ public class Odometry<T> {
     var angle = gyroAngle.plus(m_gyroOffset);
 
     var twist = m_kinematics.toTwist2d(m_previousWheelPositions, wheelPositions);
-    twist.dtheta = angle.minus(m_previousAngle).getRadians();
+    twist.dtheta = angleDifference(angle, m_previousAngle);
 
-    var newPose = m_poseMeters.exp(twist);
+    // Integrate in place to avoid the intermediate objects of Pose2d.exp()
+    m_scratchPose.set(m_poseMeters).exp(twist);
 
     m_kinematics.copyInto(wheelPositions, m_previousWheelPositions);
     m_previousAngle = angle;
-    m_poseMeters = new Pose2d(newPose.getTranslation(), angle);
+    m_poseMeters = new Pose2d(m_scratchPose.getX(), m_scratchPose.getY(), angle);
 
     return m_poseMeters;
   }
+
+  // Same as a.minus(b).getRadians(), without allocating
+  private static double angleDifference(Rotation2d a, Rotation2d b) {
+    double cos = Math.cos(-b.getRadians());
+    double sin = Math.sin(-b.getRadians());
+    double x = a.getCos() * cos - a.getSin() * sin;
+    double y = a.getCos() * sin + a.getSin() * cos;
+    double magnitude = Math.hypot(x, y);
+    if (magnitude > 1e-6) {
+      return Math.atan2(y / magnitude, x / magnitude);
+    }
+    return 0.0;
+  }
 }
@@ -42,6 +42,18 @@ public class SwerveModulePositionStruct implements Struct<SwerveModulePosition>
     return new SwerveModulePosition(distance, angle);
   }
 
+  @Override
+  public void unpackInto(SwerveModulePosition out, ByteBuffer bb) {
+    out.distanceMeters = bb.getDouble();
+    // Rotation2d is immutable, so only an angle that changed needs a new object
+    double angle = bb.getDouble();
+    if (out.angle == null
+        || Double.doubleToRawLongBits(out.angle.getRadians())
+            != Double.doubleToRawLongBits(angle)) {
+      out.angle = new Rotation2d(angle);
+    }
+  }
+
   @Override
   public void pack(ByteBuffer bb, SwerveModulePosition value) {
     bb.putDouble(value.distanceMeters);
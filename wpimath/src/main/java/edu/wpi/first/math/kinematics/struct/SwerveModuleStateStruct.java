@@ -42,6 +42,18 @@ public class SwerveModuleStateStruct implements Struct<SwerveModuleState> {
     return new SwerveModuleState(speed, angle);
   }
 
+  @Override
+  public void unpackInto(SwerveModuleState out, ByteBuffer bb) {
+    out.speedMetersPerSecond = bb.getDouble();
+    // Rotation2d is immutable, so only an angle that changed needs a new object
+    double angle = bb.getDouble();
+    if (out.angle == null
+        || Double.doubleToRawLongBits(out.angle.getRadians())
+            != Double.doubleToRawLongBits(angle)) {
+      out.angle = new Rotation2d(angle);
+    }
+  }
+
   @Override
   public void pack(ByteBuffer bb, SwerveModuleState value) {
     bb.putDouble(value.speedMetersPerSecond);
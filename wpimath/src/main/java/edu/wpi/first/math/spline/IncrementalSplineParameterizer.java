@@ -0,0 +1,170 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.math.spline;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Parameterizes a path made of several splines, and re-parameterizes only the splines that changed
+ * when the path is updated. This is meant for tools that edit a path interactively, where moving
+ * one waypoint regenerates every spline but only changes the ones next to it.
+ *
+ * <p>Splines are matched by their coefficients, so unchanged splines are reused even when waypoints
+ * are inserted or removed elsewhere in the path. Quintic splines from {@link
+ * SplineHelper#getQuinticSplinesFromWaypoints} only change next to an edited waypoint. Cubic
+ * splines from {@link SplineHelper#getCubicSplinesFromControlVectors} are solved together, so an
+ * edit usually changes all of them.
+ */
+public class IncrementalSplineParameterizer {
+  private PackedSplinePoints[] m_splinePoints = new PackedSplinePoints[0];
+
+  // m_startDistances[i] is the distance along the path to the start of spline i
+  private double[] m_startDistances = {0.0};
+
+  private record CoefficientKey(double[] coefficients) {
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof CoefficientKey other
+          && Arrays.equals(coefficients, other.coefficients);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(coefficients);
+    }
+  }
+
+  /** Constructs an IncrementalSplineParameterizer with no splines. */
+  public IncrementalSplineParameterizer() {}
+
+  /**
+   * Sets the splines of the path, parameterizing the ones that aren't already part of it. If a
+   * spline is malformed, the path is left as it was.
+   *
+   * @param splines The splines of the path, in order.
+   * @return The number of splines that were parameterized.
+   * @throws SplineParameterizer.MalformedSplineException When a spline is malformed (e.g. has close
+   *     adjacent points with approximately opposing headings)
+   */
+  public int update(Spline... splines) {
+    var existing = new HashMap<CoefficientKey, PackedSplinePoints>();
+    for (var points : m_splinePoints) {
+      existing.put(new CoefficientKey(points.getCoefficients()), points);
+    }
+
+    int parameterized = 0;
+    var splinePoints = new PackedSplinePoints[splines.length];
+    var startDistances = new double[splines.length + 1];
+    for (int i = 0; i < splines.length; i++) {
+      var key = new CoefficientKey(SplineParameterizer.getCoefficients(splines[i]));
+      var points = existing.get(key);
+      if (points == null) {
+        points = SplineParameterizer.parameterizePacked(splines[i]);
+        parameterized++;
+      }
+      splinePoints[i] = points;
+      startDistances[i + 1] = startDistances[i] + points.getLengthMeters();
+    }
+
+    m_splinePoints = splinePoints;
+    m_startDistances = startDistances;
+    return parameterized;
+  }
+
+  /**
+   * Returns the number of splines in the path.
+   *
+   * @return The number of splines.
+   */
+  public int getSplineCount() {
+    return m_splinePoints.length;
+  }
+
+  /**
+   * Returns the parameterized points of a spline in the path.
+   *
+   * @param index The index of the spline.
+   * @return The points of the spline.
+   */
+  public PackedSplinePoints getSplinePoints(int index) {
+    return m_splinePoints[index];
+  }
+
+  /**
+   * Returns the distance along the path to the start of a spline.
+   *
+   * @param index The index of the spline.
+   * @return The distance to the start of the spline in meters.
+   */
+  public double getStartDistance(int index) {
+    return m_startDistances[index];
+  }
+
+  /**
+   * Returns the length of the path.
+   *
+   * @return The length of the path in meters.
+   */
+  public double getLengthMeters() {
+    return m_startDistances[m_startDistances.length - 1];
+  }
+
+  /**
+   * Returns the index of the spline at a distance along the path. Distances past either end of the
+   * path are clamped to it.
+   *
+   * @param distanceMeters The distance along the path in meters.
+   * @return The index of the spline, or -1 if the path has no splines.
+   */
+  public int getSplineIndexAtDistance(double distanceMeters) {
+    if (m_splinePoints.length == 0) {
+      return -1;
+    }
+
+    int index = Arrays.binarySearch(m_startDistances, 0, m_splinePoints.length, distanceMeters);
+    if (index < 0) {
+      // The insertion point is the first spline starting past the distance
+      index = -index - 2;
+    }
+    return Math.max(index, 0);
+  }
+
+  /**
+   * Returns the spline parameter at a distance along the path, within the spline returned by
+   * {@link #getSplineIndexAtDistance(double)}.
+   *
+   * @param distanceMeters The distance along the path in meters.
+   * @return The spline parameter t at that distance.
+   */
+  public double getTAtDistance(double distanceMeters) {
+    int index = getSplineIndexAtDistance(distanceMeters);
+    return m_splinePoints[index].getTAtDistance(distanceMeters - m_startDistances[index]);
+  }
+
+  /**
+   * Returns the points of the whole path, as {@link
+   * edu.wpi.first.math.trajectory.TrajectoryGenerator#splinePointsFromSplines(Spline[])} does.
+   *
+   * @return The spline points for use in time parameterization of a trajectory.
+   */
+  public List<PoseWithCurvature> getPoints() {
+    var points = new ArrayList<PoseWithCurvature>();
+    if (m_splinePoints.length == 0) {
+      return points;
+    }
+
+    points.add(m_splinePoints[0].getPoint(0));
+    for (var splinePoints : m_splinePoints) {
+      // The first point is a duplicate of the last point from the previous spline
+      for (int i = 1; i < splinePoints.size(); i++) {
+        points.add(splinePoints.getPoint(i));
+      }
+    }
+    return points;
+  }
+}
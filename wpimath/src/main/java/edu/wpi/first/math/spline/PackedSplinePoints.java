@@ -0,0 +1,233 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.math.spline;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The points of a parameterized spline, stored as arrays of primitives. Created with {@link
+ * SplineParameterizer#parameterizePacked(Spline)}.
+ *
+ * <p>Along with the pose and curvature of each point, this stores the spline parameter t that the
+ * point was evaluated at and the distance along the spline to the point. Distances are the sum of
+ * the straight-line distances between points, which is what {@link
+ * edu.wpi.first.math.trajectory.TrajectoryParameterizer} uses, so they line up with the distances
+ * of a trajectory generated from the same points. An index over the distances makes looking up the
+ * spline parameter at a distance a constant-time operation.
+ */
+public final class PackedSplinePoints {
+  private final double[] m_coefficients;
+  private final double[] m_ts;
+  private final double[] m_xs;
+  private final double[] m_ys;
+  private final double[] m_cosines;
+  private final double[] m_sines;
+  private final double[] m_curvatures;
+  private final double[] m_distances;
+
+  // m_distanceIndex[k] is the last point at or before k * m_bucketWidth meters
+  private final int[] m_distanceIndex;
+  private final double m_bucketWidth;
+
+  PackedSplinePoints(
+      double[] coefficients,
+      double[] ts,
+      double[] xs,
+      double[] ys,
+      double[] cosines,
+      double[] sines,
+      double[] curvatures,
+      double[] distances) {
+    m_coefficients = coefficients;
+    m_ts = ts;
+    m_xs = xs;
+    m_ys = ys;
+    m_cosines = cosines;
+    m_sines = sines;
+    m_curvatures = curvatures;
+    m_distances = distances;
+
+    int buckets = Math.max(ts.length - 1, 1);
+    m_bucketWidth = getLengthMeters() / buckets;
+    m_distanceIndex = new int[buckets];
+    int point = 0;
+    for (int k = 0; k < buckets; k++) {
+      double distance = k * m_bucketWidth;
+      while (point < distances.length - 1 && distances[point + 1] <= distance) {
+        point++;
+      }
+      m_distanceIndex[k] = point;
+    }
+  }
+
+  /**
+   * Returns the coefficients of the spline these points were parameterized from, in row-major
+   * order. Used to tell whether a spline has changed.
+   *
+   * @return The coefficients. Must not be modified.
+   */
+  double[] getCoefficients() {
+    return m_coefficients;
+  }
+
+  /**
+   * Returns the number of points.
+   *
+   * @return The number of points.
+   */
+  public int size() {
+    return m_ts.length;
+  }
+
+  /**
+   * Returns the distance along the spline from the first point to the last point.
+   *
+   * @return The length of the spline in meters.
+   */
+  public double getLengthMeters() {
+    return m_distances[m_distances.length - 1];
+  }
+
+  /**
+   * Returns the spline parameter of a point.
+   *
+   * @param index The index of the point.
+   * @return The spline parameter t of the point.
+   */
+  public double getT(int index) {
+    return m_ts[index];
+  }
+
+  /**
+   * Returns the x position of a point.
+   *
+   * @param index The index of the point.
+   * @return The x position of the point in meters.
+   */
+  public double getX(int index) {
+    return m_xs[index];
+  }
+
+  /**
+   * Returns the y position of a point.
+   *
+   * @param index The index of the point.
+   * @return The y position of the point in meters.
+   */
+  public double getY(int index) {
+    return m_ys[index];
+  }
+
+  /**
+   * Returns the cosine of the heading of a point.
+   *
+   * @param index The index of the point.
+   * @return The cosine of the heading of the point.
+   */
+  public double getCos(int index) {
+    return m_cosines[index];
+  }
+
+  /**
+   * Returns the sine of the heading of a point.
+   *
+   * @param index The index of the point.
+   * @return The sine of the heading of the point.
+   */
+  public double getSin(int index) {
+    return m_sines[index];
+  }
+
+  /**
+   * Returns the curvature of a point.
+   *
+   * @param index The index of the point.
+   * @return The curvature of the point in radians per meter.
+   */
+  public double getCurvature(int index) {
+    return m_curvatures[index];
+  }
+
+  /**
+   * Returns the distance along the spline from the first point to a point.
+   *
+   * @param index The index of the point.
+   * @return The distance to the point in meters.
+   */
+  public double getDistance(int index) {
+    return m_distances[index];
+  }
+
+  /**
+   * Returns a point as a pose and curvature.
+   *
+   * @param index The index of the point.
+   * @return The pose and curvature of the point.
+   */
+  public PoseWithCurvature getPoint(int index) {
+    return new PoseWithCurvature(
+        new Pose2d(m_xs[index], m_ys[index], new Rotation2d(m_cosines[index], m_sines[index])),
+        m_curvatures[index]);
+  }
+
+  /**
+   * Returns the points as poses and curvatures, as {@link SplineParameterizer#parameterize(Spline)}
+   * does.
+   *
+   * @return A list of poses and curvatures.
+   */
+  public List<PoseWithCurvature> toList() {
+    var points = new ArrayList<PoseWithCurvature>(size());
+    for (int i = 0; i < size(); i++) {
+      points.add(getPoint(i));
+    }
+    return points;
+  }
+
+  /**
+   * Returns the index of the last point at or before a distance along the spline. Runs in constant
+   * time for splines whose points are about evenly spaced, which the parameterizer's tolerances
+   * generally keep them.
+   *
+   * @param distanceMeters The distance along the spline in meters.
+   * @return The index of the point, between 0 and {@code size() - 1} inclusive.
+   */
+  public int getIndexAtDistance(double distanceMeters) {
+    if (!(distanceMeters > 0)) {
+      return 0;
+    }
+    int bucket = (int) Math.min(distanceMeters / m_bucketWidth, m_distanceIndex.length - 1);
+    int point = m_distanceIndex[bucket];
+    while (point < m_distances.length - 1 && m_distances[point + 1] <= distanceMeters) {
+      point++;
+    }
+    return point;
+  }
+
+  /**
+   * Returns the spline parameter at a distance along the spline. The parameter is interpolated
+   * linearly between the points on either side of the distance. Distances past either end of the
+   * spline are clamped to it.
+   *
+   * @param distanceMeters The distance along the spline in meters.
+   * @return The spline parameter t at that distance.
+   */
+  public double getTAtDistance(double distanceMeters) {
+    int point = getIndexAtDistance(distanceMeters);
+    if (point == m_ts.length - 1) {
+      return m_ts[point];
+    }
+
+    double span = m_distances[point + 1] - m_distances[point];
+    if (span <= 0) {
+      return m_ts[point];
+    }
+    double fraction = Math.max(0, (distanceMeters - m_distances[point]) / span);
+    return m_ts[point] + fraction * (m_ts[point + 1] - m_ts[point]);
+  }
+}
@@ -30,6 +30,7 @@ package edu.wpi.first.math.spline;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /** Class used to parameterize a spline by its arc length. */
@@ -51,6 +52,9 @@ public final class SplineParameterizer {
    */
   private static final int kMaxIterations = 5000;
 
+  // Stride of the stack entries in parameterizePacked(): t, x, y, cos, sin, curvature
+  private static final int kStride = 6;
+
   private static class StackContents {
     final double t1;
     final double t0;
@@ -144,4 +148,207 @@ public final class SplineParameterizer {
 
     return splinePoints;
   }
+
+  /**
+   * Parametrizes the spline into arrays of primitives. This finds the same points as {@link
+   * #parameterize(Spline)}, but evaluates the spline's polynomials directly instead of through
+   * matrices and poses, and evaluates each point only once.
+   *
+   * @param spline The spline to parameterize.
+   * @return The points on the spline, along with their spline parameters and distances.
+   * @throws MalformedSplineException When the spline is malformed (e.g. has close adjacent points
+   *     with approximately opposing headings)
+   */
+  public static PackedSplinePoints parameterizePacked(Spline spline) {
+    return parameterizePacked(spline, 0.0, 1.0);
+  }
+
+  /**
+   * Parametrizes the spline into arrays of primitives. This finds the same points as {@link
+   * #parameterize(Spline, double, double)}, but evaluates the spline's polynomials directly instead
+   * of through matrices and poses, and evaluates each point only once.
+   *
+   * @param spline The spline to parameterize.
+   * @param t0 Starting internal spline parameter. It is recommended to use 0.0.
+   * @param t1 Ending internal spline parameter. It is recommended to use 1.0.
+   * @return The points on the spline, along with their spline parameters and distances.
+   * @throws MalformedSplineException When the spline is malformed (e.g. has close adjacent points
+   *     with approximately opposing headings)
+   */
+  public static PackedSplinePoints parameterizePacked(Spline spline, double t0, double t1) {
+    final double[] coefficients = getCoefficients(spline);
+    final int columns = spline.getCoefficients().getNumCols();
+
+    int capacity = 64;
+    int size = 0;
+    double[] ts = new double[capacity];
+    double[] xs = new double[capacity];
+    double[] ys = new double[capacity];
+    double[] cosines = new double[capacity];
+    double[] sines = new double[capacity];
+    double[] curvatures = new double[capacity];
+    double[] distances = new double[capacity];
+
+    // Same traversal as parameterize(), but the stack only holds the end of each segment since
+    // the start is always the last point added. The ends are evaluated when they're pushed.
+    double[] stack = new double[16 * kStride];
+    int top = 0;
+
+    if (!evaluate(coefficients, columns, t0, stack, top)) {
+      throw new MalformedSplineException(kMalformedSplineExceptionMsg);
+    }
+    ts[0] = t0;
+    xs[0] = stack[top + 1];
+    ys[0] = stack[top + 2];
+    cosines[0] = stack[top + 3];
+    sines[0] = stack[top + 4];
+    curvatures[0] = stack[top + 5];
+    size = 1;
+
+    if (!evaluate(coefficients, columns, t1, stack, top)) {
+      throw new MalformedSplineException(kMalformedSplineExceptionMsg);
+    }
+    top += kStride;
+
+    int iterations = 0;
+
+    while (top > 0) {
+      final int end = top - kStride;
+      final int start = size - 1;
+
+      // Twist from the start to the end, as in Pose2d.log()
+      final double dx = stack[end + 1] - xs[start];
+      final double dy = stack[end + 2] - ys[start];
+      final double localX = dx * cosines[start] + dy * sines[start];
+      final double localY = -dx * sines[start] + dy * cosines[start];
+      final double cos = stack[end + 3] * cosines[start] + stack[end + 4] * sines[start];
+      final double sin = stack[end + 4] * cosines[start] - stack[end + 3] * sines[start];
+      final double dtheta = Math.atan2(sin, cos);
+      final double halfDtheta = dtheta / 2.0;
+      final double cosMinusOne = cos - 1;
+
+      double halfThetaByTanOfHalfDtheta;
+      if (Math.abs(cosMinusOne) < 1E-9) {
+        halfThetaByTanOfHalfDtheta = 1.0 - 1.0 / 12.0 * dtheta * dtheta;
+      } else {
+        halfThetaByTanOfHalfDtheta = -(halfDtheta * sin) / cosMinusOne;
+      }
+
+      final double twistDx = localX * halfThetaByTanOfHalfDtheta + localY * halfDtheta;
+      final double twistDy = -localX * halfDtheta + localY * halfThetaByTanOfHalfDtheta;
+
+      if (Math.abs(twistDy) > kMaxDy
+          || Math.abs(twistDx) > kMaxDx
+          || Math.abs(dtheta) > kMaxDtheta) {
+        // Split the segment, leaving its end on the stack for the second half
+        if (top == stack.length) {
+          stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        if (!evaluate(coefficients, columns, (ts[start] + stack[end]) / 2, stack, top)) {
+          throw new MalformedSplineException(kMalformedSplineExceptionMsg);
+        }
+        top += kStride;
+      } else {
+        if (size == capacity) {
+          capacity *= 2;
+          ts = Arrays.copyOf(ts, capacity);
+          xs = Arrays.copyOf(xs, capacity);
+          ys = Arrays.copyOf(ys, capacity);
+          cosines = Arrays.copyOf(cosines, capacity);
+          sines = Arrays.copyOf(sines, capacity);
+          curvatures = Arrays.copyOf(curvatures, capacity);
+          distances = Arrays.copyOf(distances, capacity);
+        }
+        ts[size] = stack[end];
+        xs[size] = stack[end + 1];
+        ys[size] = stack[end + 2];
+        cosines[size] = stack[end + 3];
+        sines[size] = stack[end + 4];
+        curvatures[size] = stack[end + 5];
+        distances[size] = distances[start] + Math.hypot(dx, dy);
+        size++;
+        top = end;
+      }
+
+      iterations++;
+      if (iterations >= kMaxIterations) {
+        throw new MalformedSplineException(kMalformedSplineExceptionMsg);
+      }
+    }
+
+    return new PackedSplinePoints(
+        coefficients,
+        Arrays.copyOf(ts, size),
+        Arrays.copyOf(xs, size),
+        Arrays.copyOf(ys, size),
+        Arrays.copyOf(cosines, size),
+        Arrays.copyOf(sines, size),
+        Arrays.copyOf(curvatures, size),
+        Arrays.copyOf(distances, size));
+  }
+
+  /**
+   * Returns the coefficients of a spline in row-major order.
+   *
+   * @param spline The spline.
+   * @return The coefficients.
+   */
+  static double[] getCoefficients(Spline spline) {
+    final var matrix = spline.getCoefficients();
+    final int columns = matrix.getNumCols();
+    final double[] coefficients = new double[matrix.getNumRows() * columns];
+    for (int row = 0; row < matrix.getNumRows(); row++) {
+      for (int col = 0; col < columns; col++) {
+        coefficients[row * columns + col] = matrix.get(row, col);
+      }
+    }
+    return coefficients;
+  }
+
+  /**
+   * Evaluates the spline at t into a stack entry, as Spline.getPoint() does.
+   *
+   * @param coefficients The spline coefficients in row-major order.
+   * @param columns The number of columns of coefficients, one more than the degree.
+   * @param t The spline parameter.
+   * @param out The array to write t, x, y, cos, sin, and curvature into.
+   * @param offset The index to start writing at.
+   * @return False if the spline has no heading at t.
+   */
+  private static boolean evaluate(
+      double[] coefficients, int columns, double t, double[] out, int offset) {
+    // Row 0 and 1 are x and y. Rows 2 through 5 are the derivatives of those with the coefficients
+    // kept in place, so their trailing zero coefficients are skipped instead of dividing out t.
+    double x = 0;
+    double y = 0;
+    double dx = 0;
+    double dy = 0;
+    double ddx = 0;
+    double ddy = 0;
+    for (int col = 0; col < columns; col++) {
+      x = x * t + coefficients[col];
+      y = y * t + coefficients[columns + col];
+    }
+    for (int col = 0; col < columns - 1; col++) {
+      dx = dx * t + coefficients[2 * columns + col];
+      dy = dy * t + coefficients[3 * columns + col];
+    }
+    for (int col = 0; col < columns - 2; col++) {
+      ddx = ddx * t + coefficients[4 * columns + col];
+      ddy = ddy * t + coefficients[5 * columns + col];
+    }
+
+    final double norm = Math.hypot(dx, dy);
+    if (norm < 1e-6) {
+      return false;
+    }
+
+    out[offset] = t;
+    out[offset + 1] = x;
+    out[offset + 2] = y;
+    out[offset + 3] = dx / norm;
+    out[offset + 4] = dy / norm;
+    out[offset + 5] = (dx * ddy - ddx * dy) / ((dx * dx + dy * dy) * norm);
+    return true;
+  }
 }
@@ -0,0 +1,481 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.math.trajectory;
+
+import edu.wpi.first.math.MathSharedStore;
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Translation2d;
+import edu.wpi.first.math.kinematics.MecanumDriveKinematics;
+import edu.wpi.first.math.kinematics.SwerveDriveKinematics;
+import edu.wpi.first.math.trajectory.constraint.TrajectoryConstraint;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Generates many trajectories at once, such as all the paths of an autonomous routine at robot
+ * startup. Trajectories are generated in parallel on all available cores.
+ *
+ * <p>If a cache directory is given, each generated trajectory is also saved there, in a file named
+ * after a hash of its waypoints and configuration. The configuration's hash covers its velocity
+ * and acceleration limits and, for each of its constraints, the constraint's class name and the
+ * values of its fields. The next time the same trajectory is requested, it is loaded from that file
+ * instead of being generated again. A trajectory is only cached if all of its constraints can be
+ * hashed, which is the case for the constraints in WPILib and for constraints whose behavior only
+ * depends on their fields; constraints created from lambdas are never cached.
+ *
+ * <p>Constraints are called from several threads at once, so they must not modify shared state.
+ *
+ * <pre><code>
+ * var generator =
+ *     new BatchTrajectoryGenerator(
+ *         Filesystem.getOperatingDirectory().toPath().resolve("trajectories"));
+ * int toScoring = generator.add(List.of(start, scoring), config);
+ * int toPickup = generator.add(List.of(scoring, pickup), config);
+ * List&lt;Trajectory&gt; trajectories = generator.generate();
+ * </code></pre>
+ */
+public class BatchTrajectoryGenerator {
+  // Bump when the generated trajectories or the file format change, to invalidate old caches
+  private static final int kCacheVersion = 2;
+  private static final int kMagic = 0x4A525457; // "WTRJ" in little-endian
+  private static final int kHeaderSize = 16;
+  private static final int kColumns = 8;
+
+  private final Path m_cacheDirectory;
+  private final List<Entry> m_entries = new ArrayList<>();
+
+  private static final class Entry {
+    final Supplier<Trajectory> m_generator;
+    final Object[] m_inputs;
+    String m_key;
+
+    Entry(Supplier<Trajectory> generator, Object... inputs) {
+      m_generator = generator;
+      m_inputs = inputs;
+    }
+  }
+
+  /** Constructs a batch generator that doesn't cache trajectories. */
+  public BatchTrajectoryGenerator() {
+    this(null);
+  }
+
+  /**
+   * Constructs a batch generator that caches trajectories in the given directory. The directory is
+   * created if it doesn't exist.
+   *
+   * @param cacheDirectory The directory to cache trajectories in, or null to not cache them.
+   */
+  public BatchTrajectoryGenerator(Path cacheDirectory) {
+    m_cacheDirectory = cacheDirectory;
+  }
+
+  /**
+   * Adds a trajectory to generate from waypoints with quintic splines, as with {@link
+   * TrajectoryGenerator#generateTrajectory(List, TrajectoryConfig)}.
+   *
+   * @param waypoints List of waypoints.
+   * @param config The configuration for the trajectory.
+   * @return The index of the trajectory in the list returned by {@link #generate()}.
+   */
+  public int add(List<Pose2d> waypoints, TrajectoryConfig config) {
+    var copy = List.copyOf(waypoints);
+    return add(new Entry(() -> TrajectoryGenerator.generateTrajectory(copy, config), copy, config));
+  }
+
+  /**
+   * Adds a trajectory to generate from waypoints with clamped cubic splines, as with {@link
+   * TrajectoryGenerator#generateTrajectory(Pose2d, List, Pose2d, TrajectoryConfig)}.
+   *
+   * @param start The starting pose.
+   * @param interiorWaypoints The interior waypoints.
+   * @param end The ending pose.
+   * @param config The configuration for the trajectory.
+   * @return The index of the trajectory in the list returned by {@link #generate()}.
+   */
+  public int add(
+      Pose2d start, List<Translation2d> interiorWaypoints, Pose2d end, TrajectoryConfig config) {
+    var copy = List.copyOf(interiorWaypoints);
+    return add(
+        new Entry(
+            () -> TrajectoryGenerator.generateTrajectory(start, copy, end, config),
+            start,
+            copy,
+            end,
+            config));
+  }
+
+  private int add(Entry entry) {
+    m_entries.add(entry);
+    return m_entries.size() - 1;
+  }
+
+  /**
+   * Generates all the trajectories that have been added, loading them from the cache where
+   * possible.
+   *
+   * @return The trajectories, in the order they were added.
+   */
+  public List<Trajectory> generate() {
+    return generate(PackedTrajectory::toTrajectory, Function.identity());
+  }
+
+  /**
+   * Generates all the trajectories that have been added in packed form, loading them from the cache
+   * where possible.
+   *
+   * @return The trajectories, in the order they were added.
+   */
+  public List<PackedTrajectory> generatePacked() {
+    return generate(Function.identity(), PackedTrajectory::new);
+  }
+
+  private <T> List<T> generate(
+      Function<PackedTrajectory, T> fromPacked, Function<Trajectory, T> fromTrajectory) {
+    boolean caching = m_cacheDirectory != null && createCacheDirectory();
+
+    // Hash everything before generating anything, as user constraints may have fields that change
+    // while they're used
+    for (var entry : m_entries) {
+      entry.m_key = caching ? getKey(entry.m_inputs) : null;
+    }
+
+    int threads = Math.min(m_entries.size(), Runtime.getRuntime().availableProcessors());
+    if (threads <= 1) {
+      List<T> trajectories = new ArrayList<>(m_entries.size());
+      for (var entry : m_entries) {
+        trajectories.add(generateOne(entry, fromPacked, fromTrajectory));
+      }
+      return trajectories;
+    }
+
+    List<Callable<T>> tasks = new ArrayList<>(m_entries.size());
+    for (var entry : m_entries) {
+      tasks.add(() -> generateOne(entry, fromPacked, fromTrajectory));
+    }
+
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            threads,
+            runnable -> {
+              var thread = new Thread(runnable, "BatchTrajectoryGenerator");
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      List<T> trajectories = new ArrayList<>(tasks.size());
+      for (Future<T> future : executor.invokeAll(tasks)) {
+        trajectories.add(future.get());
+      }
+      return trajectories;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while generating trajectories", e);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private <T> T generateOne(
+      Entry entry,
+      Function<PackedTrajectory, T> fromPacked,
+      Function<Trajectory, T> fromTrajectory) {
+    if (entry.m_key == null) {
+      return fromTrajectory.apply(entry.m_generator.get());
+    }
+
+    Path file = m_cacheDirectory.resolve(entry.m_key + ".traj");
+    var cached = load(file);
+    if (cached != null) {
+      return fromPacked.apply(cached);
+    }
+
+    var trajectory = entry.m_generator.get();
+    // Trajectories that failed to generate have a single state; don't keep them around
+    if (trajectory.getStates().size() < 2) {
+      return fromTrajectory.apply(trajectory);
+    }
+    save(file, new PackedTrajectory(trajectory));
+    return fromTrajectory.apply(trajectory);
+  }
+
+  private boolean createCacheDirectory() {
+    try {
+      Files.createDirectories(m_cacheDirectory);
+      return true;
+    } catch (IOException e) {
+      MathSharedStore.reportError(
+          "Could not create trajectory cache directory: " + e.getMessage(), e.getStackTrace());
+      return false;
+    }
+  }
+
+  /**
+   * Loads a cached trajectory. The file is read in one go rather than memory-mapped, because a
+   * mapped file can't be replaced on Windows until the mapping is garbage collected.
+   *
+   * @param file The file to load.
+   * @return The trajectory, or null if the file doesn't exist or is not a valid trajectory.
+   */
+  static PackedTrajectory load(Path file) {
+    if (!Files.isRegularFile(file)) {
+      return null;
+    }
+    ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+    } catch (IOException e) {
+      // Regenerate the trajectory, which replaces the file
+      return null;
+    }
+    if (buffer.capacity() < kHeaderSize) {
+      return null;
+    }
+    int length = buffer.getInt(8);
+    if (buffer.getInt(0) != kMagic
+        || buffer.getInt(4) != kCacheVersion
+        || length < 2
+        || buffer.capacity() != kHeaderSize + (long) length * kColumns * Double.BYTES) {
+      return null;
+    }
+    return PackedTrajectory.readFrom(buffer.position(kHeaderSize).asDoubleBuffer(), length);
+  }
+
+  /**
+   * Saves a trajectory to the cache. The trajectory is written to a temporary file that is then
+   * renamed, so losing power while saving can't leave a partially written file behind.
+   *
+   * @param file The file to save to.
+   * @param trajectory The trajectory.
+   */
+  static void save(Path file, PackedTrajectory trajectory) {
+    var buffer =
+        ByteBuffer.allocate(kHeaderSize + trajectory.size() * kColumns * Double.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(kMagic).putInt(kCacheVersion).putInt(trajectory.size()).putInt(0);
+    trajectory.writeTo(buffer.asDoubleBuffer());
+
+    Path temp = null;
+    try {
+      temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+      Files.write(temp, buffer.array());
+      Files.move(
+          temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      MathSharedStore.reportError(
+          "Could not save trajectory to cache: " + e.getMessage(), e.getStackTrace());
+      if (temp != null) {
+        try {
+          Files.deleteIfExists(temp);
+        } catch (IOException ex) {
+          // ignore
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns a hash of the inputs to a trajectory, for use as its cache file name.
+   *
+   * @param inputs The waypoints and configuration of the trajectory.
+   * @return The hash as a hexadecimal string, or null if one of the inputs can't be hashed.
+   */
+  static String getKey(Object... inputs) {
+    try {
+      var bytes = new ByteArrayOutputStream();
+      var out = new DataOutputStream(bytes);
+      out.writeInt(kCacheVersion);
+      var seen = new IdentityHashMap<Object, Integer>();
+      for (Object input : inputs) {
+        if (!writeFingerprint(out, input, seen)) {
+          return null;
+        }
+      }
+      return HexFormat.of()
+          .formatHex(MessageDigest.getInstance("SHA-256").digest(bytes.toByteArray()));
+    } catch (IOException | NoSuchAlgorithmException e) {
+      return null;
+    }
+  }
+
+  // Writes the limits of a trajectory configuration, then the class name and fields of each of its
+  // constraints in order. Returns false if a constraint can't be hashed.
+  private static boolean writeConfig(
+      DataOutputStream out, TrajectoryConfig config, IdentityHashMap<Object, Integer> seen)
+      throws IOException {
+    out.writeUTF(TrajectoryConfig.class.getName());
+    out.writeDouble(config.getMaxVelocity());
+    out.writeDouble(config.getMaxAcceleration());
+    out.writeDouble(config.getStartVelocity());
+    out.writeDouble(config.getEndVelocity());
+    out.writeBoolean(config.isReversed());
+    List<TrajectoryConstraint> constraints = config.getConstraints();
+    out.writeInt(constraints.size());
+    for (TrajectoryConstraint constraint : constraints) {
+      if (constraint == null || !writeFingerprint(out, constraint, seen)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Writes the value of an object and everything it refers to. Returns false if the object's value
+  // can't be determined from its fields, such as for lambdas and most JDK classes.
+  private static boolean writeFingerprint(
+      DataOutputStream out, Object value, IdentityHashMap<Object, Integer> seen)
+      throws IOException {
+    if (value == null) {
+      out.writeUTF("null");
+      return true;
+    }
+    if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+      out.writeUTF(value.getClass().getName());
+      out.writeUTF(value.toString());
+      return true;
+    }
+    if (value instanceof String string) {
+      out.writeUTF("String");
+      out.writeUTF(string);
+      return true;
+    }
+    if (value instanceof Enum<?> constant) {
+      out.writeUTF(constant.getDeclaringClass().getName());
+      out.writeUTF(constant.name());
+      return true;
+    }
+    if (value instanceof TrajectoryConfig config) {
+      return writeConfig(out, config, seen);
+    }
+    // Kinematics remember the module headings and center of rotation they were last used with, which
+    // don't affect the trajectory but change while it's generated, so only the wheels are written
+    if (value instanceof SwerveDriveKinematics kinematics) {
+      out.writeUTF(SwerveDriveKinematics.class.getName());
+      return writeFingerprint(out, kinematics.getModules(), seen);
+    }
+    if (value instanceof MecanumDriveKinematics kinematics) {
+      out.writeUTF(MecanumDriveKinematics.class.getName());
+      return writeFingerprint(
+          out,
+          new Translation2d[] {
+            kinematics.getFrontLeft(),
+            kinematics.getFrontRight(),
+            kinematics.getRearLeft(),
+            kinematics.getRearRight()
+          },
+          seen);
+    }
+
+    // Objects seen before are written as references, which also stops cycles
+    Integer reference = seen.putIfAbsent(value, seen.size());
+    if (reference != null) {
+      out.writeUTF("ref");
+      out.writeInt(reference);
+      return true;
+    }
+
+    Class<?> type = value.getClass();
+    if (type.isArray()) {
+      out.writeUTF(type.getName());
+      int length = Array.getLength(value);
+      out.writeInt(length);
+      for (int i = 0; i < length; i++) {
+        if (!writeFingerprint(out, Array.get(value, i), seen)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (value instanceof Collection<?> collection) {
+      out.writeUTF("Collection");
+      out.writeInt(collection.size());
+      for (Object element : collection) {
+        if (!writeFingerprint(out, element, seen)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (value instanceof Map<?, ?> map) {
+      out.writeUTF("Map");
+      out.writeInt(map.size());
+      for (var mapEntry : map.entrySet()) {
+        if (!writeFingerprint(out, mapEntry.getKey(), seen)
+            || !writeFingerprint(out, mapEntry.getValue(), seen)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    // Lambdas have no stable name, and JDK classes can't be inspected
+    String name = type.getName();
+    if (type.isSynthetic()
+        || type.isHidden()
+        || name.startsWith("java.")
+        || name.startsWith("javax.")
+        || name.startsWith("jdk.")
+        || name.startsWith("sun.")) {
+      return false;
+    }
+
+    out.writeUTF(name);
+    for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+      Field[] fields = c.getDeclaredFields();
+      Arrays.sort(fields, Comparator.comparing(Field::getName));
+      for (Field field : fields) {
+        int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+          continue;
+        }
+        Object fieldValue;
+        try {
+          field.setAccessible(true);
+          fieldValue = field.get(value);
+        } catch (RuntimeException | IllegalAccessException e) {
+          return false;
+        }
+        out.writeUTF(field.getName());
+        if (!writeFingerprint(out, fieldValue, seen)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+}
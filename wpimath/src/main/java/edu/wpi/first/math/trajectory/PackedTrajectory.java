@@ -0,0 +1,372 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.math.trajectory;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A time-parameterized trajectory stored as columns of primitive values rather than as a list of
+ * {@link Trajectory.State} objects. Each state takes 64 bytes, a fraction of the size of a state
+ * with its pose, translation and rotation objects, and sampling with {@link #sampleInto(double,
+ * Sample)} doesn't allocate any objects. This makes it a good fit for followers that sample a
+ * trajectory every loop, and for autonomous routines that keep many trajectories in memory.
+ *
+ * <p>Samples are interpolated in the same way as {@link Trajectory#sample(double)}, so a packed
+ * trajectory follows the same path as the trajectory it was created from.
+ */
+public class PackedTrajectory {
+  private final double[] m_times;
+  private final double[] m_xs;
+  private final double[] m_ys;
+  private final double[] m_cosines;
+  private final double[] m_sines;
+  private final double[] m_velocities;
+  private final double[] m_accelerations;
+  private final double[] m_curvatures;
+
+  /**
+   * Constructs a packed trajectory from the states of a trajectory.
+   *
+   * @param trajectory The trajectory to pack.
+   * @throws IllegalArgumentException if the trajectory has no states.
+   */
+  public PackedTrajectory(Trajectory trajectory) {
+    this(trajectory.getStates().size());
+
+    List<Trajectory.State> states = trajectory.getStates();
+    for (int i = 0; i < states.size(); i++) {
+      var state = states.get(i);
+      m_times[i] = state.timeSeconds;
+      m_xs[i] = state.poseMeters.getX();
+      m_ys[i] = state.poseMeters.getY();
+      m_cosines[i] = state.poseMeters.getRotation().getCos();
+      m_sines[i] = state.poseMeters.getRotation().getSin();
+      m_velocities[i] = state.velocityMetersPerSecond;
+      m_accelerations[i] = state.accelerationMetersPerSecondSq;
+      m_curvatures[i] = state.curvatureRadPerMeter;
+    }
+  }
+
+  /**
+   * Constructs a packed trajectory with the given number of states, all zero. Used by {@link
+   * TrajectoryParameterizer} to fill in the columns directly.
+   *
+   * @param length The number of states.
+   */
+  PackedTrajectory(int length) {
+    if (length == 0) {
+      throw new IllegalArgumentException("Trajectory has no states.");
+    }
+
+    m_times = new double[length];
+    m_xs = new double[length];
+    m_ys = new double[length];
+    m_cosines = new double[length];
+    m_sines = new double[length];
+    m_velocities = new double[length];
+    m_accelerations = new double[length];
+    m_curvatures = new double[length];
+  }
+
+  /**
+   * Sets a state. Only for use while the trajectory is being built.
+   *
+   * @param index The index of the state.
+   * @param timeSeconds The time elapsed since the beginning of the trajectory.
+   * @param velocityMetersPerSecond The speed at that point of the trajectory.
+   * @param accelerationMetersPerSecondSq The acceleration at that point of the trajectory.
+   * @param pose The pose at that point of the trajectory.
+   * @param curvatureRadPerMeter The curvature at that point of the trajectory.
+   */
+  void set(
+      int index,
+      double timeSeconds,
+      double velocityMetersPerSecond,
+      double accelerationMetersPerSecondSq,
+      Pose2d pose,
+      double curvatureRadPerMeter) {
+    m_times[index] = timeSeconds;
+    m_xs[index] = pose.getX();
+    m_ys[index] = pose.getY();
+    m_cosines[index] = pose.getRotation().getCos();
+    m_sines[index] = pose.getRotation().getSin();
+    m_velocities[index] = velocityMetersPerSecond;
+    m_accelerations[index] = accelerationMetersPerSecondSq;
+    m_curvatures[index] = curvatureRadPerMeter;
+  }
+
+  /**
+   * Sets the acceleration of a state. Only for use while the trajectory is being built.
+   *
+   * @param index The index of the state.
+   * @param accelerationMetersPerSecondSq The acceleration at that point of the trajectory.
+   */
+  void setAcceleration(int index, double accelerationMetersPerSecondSq) {
+    m_accelerations[index] = accelerationMetersPerSecondSq;
+  }
+
+  /**
+   * Writes the columns of the trajectory to a buffer, one column after another.
+   *
+   * @param buffer The buffer to write to.
+   */
+  void writeTo(DoubleBuffer buffer) {
+    buffer.put(m_times);
+    buffer.put(m_xs);
+    buffer.put(m_ys);
+    buffer.put(m_cosines);
+    buffer.put(m_sines);
+    buffer.put(m_velocities);
+    buffer.put(m_accelerations);
+    buffer.put(m_curvatures);
+  }
+
+  /**
+   * Reads a trajectory written with {@link #writeTo(DoubleBuffer)}.
+   *
+   * @param buffer The buffer to read from.
+   * @param length The number of states.
+   * @return The trajectory.
+   */
+  static PackedTrajectory readFrom(DoubleBuffer buffer, int length) {
+    var trajectory = new PackedTrajectory(length);
+    buffer.get(trajectory.m_times);
+    buffer.get(trajectory.m_xs);
+    buffer.get(trajectory.m_ys);
+    buffer.get(trajectory.m_cosines);
+    buffer.get(trajectory.m_sines);
+    buffer.get(trajectory.m_velocities);
+    buffer.get(trajectory.m_accelerations);
+    buffer.get(trajectory.m_curvatures);
+    return trajectory;
+  }
+
+  /**
+   * Returns the number of states in the trajectory.
+   *
+   * @return The number of states.
+   */
+  public int size() {
+    return m_times.length;
+  }
+
+  /**
+   * Returns the overall duration of the trajectory.
+   *
+   * @return The duration of the trajectory.
+   */
+  public double getTotalTimeSeconds() {
+    return m_times[m_times.length - 1];
+  }
+
+  /**
+   * Returns the initial pose of the trajectory.
+   *
+   * @return The initial pose of the trajectory.
+   */
+  public Pose2d getInitialPose() {
+    return getPose(0);
+  }
+
+  /**
+   * Returns one of the states of the trajectory.
+   *
+   * @param index The index of the state.
+   * @return A new state object with the values of that state.
+   */
+  public Trajectory.State getState(int index) {
+    return getState(index, getPose(index));
+  }
+
+  /**
+   * Returns one of the states of the trajectory with the given pose object, which must have the
+   * same value as the state's pose.
+   *
+   * @param index The index of the state.
+   * @param pose The pose of the state.
+   * @return A new state object with the values of that state.
+   */
+  Trajectory.State getState(int index, Pose2d pose) {
+    return new Trajectory.State(
+        m_times[index], m_velocities[index], m_accelerations[index], pose, m_curvatures[index]);
+  }
+
+  /**
+   * Unpacks this into a trajectory made of state objects.
+   *
+   * @return The unpacked trajectory.
+   */
+  public Trajectory toTrajectory() {
+    List<Trajectory.State> states = new ArrayList<>(m_times.length);
+    for (int i = 0; i < m_times.length; i++) {
+      states.add(getState(i));
+    }
+    return new Trajectory(states);
+  }
+
+  private Pose2d getPose(int index) {
+    return new Pose2d(m_xs[index], m_ys[index], new Rotation2d(m_cosines[index], m_sines[index]));
+  }
+
+  /**
+   * Sample the trajectory at a point in time.
+   *
+   * @param timeSeconds The point in time since the beginning of the trajectory to sample.
+   * @return A new state object with the state at that point in time.
+   */
+  public Trajectory.State sample(double timeSeconds) {
+    return sampleInto(timeSeconds, new Trajectory.State());
+  }
+
+  /**
+   * Sample the trajectory at a point in time, reusing a state object. The state's pose is replaced
+   * with a new pose object; use {@link #sampleInto(double, Sample)} to avoid allocating at all.
+   *
+   * @param timeSeconds The point in time since the beginning of the trajectory to sample.
+   * @param out The state object to store the state at that point in time in.
+   * @return The state object that was passed in.
+   */
+  public Trajectory.State sampleInto(double timeSeconds, Trajectory.State out) {
+    var sample = sampleInto(timeSeconds, new Sample());
+    out.timeSeconds = sample.timeSeconds;
+    out.velocityMetersPerSecond = sample.velocityMetersPerSecond;
+    out.accelerationMetersPerSecondSq = sample.accelerationMetersPerSecondSq;
+    out.poseMeters = sample.getPose();
+    out.curvatureRadPerMeter = sample.curvatureRadPerMeter;
+    return out;
+  }
+
+  /**
+   * Sample the trajectory at a point in time without allocating any objects.
+   *
+   * @param timeSeconds The point in time since the beginning of the trajectory to sample.
+   * @param out The sample object to store the state at that point in time in.
+   * @return The sample object that was passed in.
+   */
+  public Sample sampleInto(double timeSeconds, Sample out) {
+    if (timeSeconds <= m_times[0]) {
+      return copyInto(0, out);
+    }
+    if (timeSeconds >= getTotalTimeSeconds()) {
+      return copyInto(m_times.length - 1, out);
+    }
+
+    // Find the first state at or after the requested time. This starts at 1 because we use the
+    // previous state for interpolation.
+    int index = Arrays.binarySearch(m_times, 1, m_times.length, timeSeconds);
+    if (index < 0) {
+      index = -(index + 1);
+    } else {
+      // Binary search finds any matching state, but Trajectory uses the first one
+      while (index > 1 && m_times[index - 1] == timeSeconds) {
+        index--;
+      }
+    }
+    int prev = index - 1;
+
+    // If the difference in states is negligible, then we are spot on!
+    if (Math.abs(m_times[index] - m_times[prev]) < 1E-9) {
+      return copyInto(index, out);
+    }
+
+    // Interpolate between the two states in the same way as Trajectory.State.interpolate()
+    double i = (timeSeconds - m_times[prev]) / (m_times[index] - m_times[prev]);
+    double newT = lerp(m_times[prev], m_times[index], i);
+    double deltaT = newT - m_times[prev];
+
+    double v = m_velocities[prev];
+    double a = m_accelerations[prev];
+    boolean reversing = v < 0 || Math.abs(v) < 1E-9 && a < 0;
+    double newV = v + a * deltaT;
+    double newS = (v * deltaT + 0.5 * a * deltaT * deltaT) * (reversing ? -1.0 : 1.0);
+
+    double dx = m_xs[index] - m_xs[prev];
+    double dy = m_ys[index] - m_ys[prev];
+    double frac = newS / Math.hypot(dx, dy);
+
+    // Rotate from the previous heading by the given fraction of the change in heading
+    double cos = m_cosines[prev];
+    double sin = m_sines[prev];
+    double dtheta =
+        Math.atan2(
+            m_sines[index] * cos - m_cosines[index] * sin,
+            m_cosines[index] * cos + m_sines[index] * sin);
+    double stepCos = Math.cos(dtheta * frac);
+    double stepSin = Math.sin(dtheta * frac);
+    double newCos = stepCos * cos - stepSin * sin;
+    double newSin = stepCos * sin + stepSin * cos;
+    double norm = Math.hypot(newCos, newSin);
+
+    out.timeSeconds = newT;
+    out.xMeters = m_xs[prev] + dx * frac;
+    out.yMeters = m_ys[prev] + dy * frac;
+    out.cos = newCos / norm;
+    out.sin = newSin / norm;
+    out.velocityMetersPerSecond = newV;
+    out.accelerationMetersPerSecondSq = a;
+    out.curvatureRadPerMeter = lerp(m_curvatures[prev], m_curvatures[index], frac);
+    return out;
+  }
+
+  private Sample copyInto(int index, Sample out) {
+    out.timeSeconds = m_times[index];
+    out.xMeters = m_xs[index];
+    out.yMeters = m_ys[index];
+    out.cos = m_cosines[index];
+    out.sin = m_sines[index];
+    out.velocityMetersPerSecond = m_velocities[index];
+    out.accelerationMetersPerSecondSq = m_accelerations[index];
+    out.curvatureRadPerMeter = m_curvatures[index];
+    return out;
+  }
+
+  private static double lerp(double startValue, double endValue, double t) {
+    return startValue + (endValue - startValue) * t;
+  }
+
+  /** A mutable state of a packed trajectory, with the pose stored as primitive values. */
+  public static class Sample {
+    /** The time elapsed since the beginning of the trajectory. */
+    public double timeSeconds;
+
+    /** The x position at that point of the trajectory. */
+    public double xMeters;
+
+    /** The y position at that point of the trajectory. */
+    public double yMeters;
+
+    /** The cosine of the heading at that point of the trajectory. */
+    public double cos = 1;
+
+    /** The sine of the heading at that point of the trajectory. */
+    public double sin;
+
+    /** The speed at that point of the trajectory. */
+    public double velocityMetersPerSecond;
+
+    /** The acceleration at that point of the trajectory. */
+    public double accelerationMetersPerSecondSq;
+
+    /** The curvature at that point of the trajectory. */
+    public double curvatureRadPerMeter;
+
+    /** Default constructor. */
+    public Sample() {}
+
+    /**
+     * Returns the pose at that point of the trajectory.
+     *
+     * @return A new pose object.
+     */
+    public Pose2d getPose() {
+      return new Pose2d(xMeters, yMeters, new Rotation2d(cos, sin));
+    }
+  }
+}
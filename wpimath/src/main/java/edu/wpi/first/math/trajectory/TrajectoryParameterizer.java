@@ -62,6 +62,68 @@ public final class TrajectoryParameterizer {
       double maxVelocityMetersPerSecond,
       double maxAccelerationMetersPerSecondSq,
       boolean reversed) {
+    var constrainedStates =
+        constrainStates(
+            points,
+            constraints,
+            startVelocityMetersPerSecond,
+            endVelocityMetersPerSecond,
+            maxVelocityMetersPerSecond,
+            maxAccelerationMetersPerSecondSq,
+            reversed);
+    var packed = integrate(constrainedStates, reversed);
+
+    // Keep the spline's pose objects rather than unpacking new ones
+    var states = new ArrayList<Trajectory.State>(constrainedStates.size());
+    for (int i = 0; i < constrainedStates.size(); i++) {
+      states.add(packed.getState(i, constrainedStates.get(i).pose.poseMeters));
+    }
+    return new Trajectory(states);
+  }
+
+  /**
+   * Parameterize the trajectory by time, storing it in the packed form used by allocation-free
+   * followers. This is the same as {@link #timeParameterizeTrajectory}, but doesn't create any
+   * state objects.
+   *
+   * @param points Reference to the spline points.
+   * @param constraints A vector of various velocity and acceleration. constraints.
+   * @param startVelocityMetersPerSecond The start velocity for the trajectory.
+   * @param endVelocityMetersPerSecond The end velocity for the trajectory.
+   * @param maxVelocityMetersPerSecond The max velocity for the trajectory.
+   * @param maxAccelerationMetersPerSecondSq The max acceleration for the trajectory.
+   * @param reversed Whether the robot should move backwards. Note that the robot will still move
+   *     from a -&gt; b -&gt; ... -&gt; z as defined in the waypoints.
+   * @return The packed trajectory.
+   */
+  public static PackedTrajectory timeParameterizePackedTrajectory(
+      List<PoseWithCurvature> points,
+      List<TrajectoryConstraint> constraints,
+      double startVelocityMetersPerSecond,
+      double endVelocityMetersPerSecond,
+      double maxVelocityMetersPerSecond,
+      double maxAccelerationMetersPerSecondSq,
+      boolean reversed) {
+    return integrate(
+        constrainStates(
+            points,
+            constraints,
+            startVelocityMetersPerSecond,
+            endVelocityMetersPerSecond,
+            maxVelocityMetersPerSecond,
+            maxAccelerationMetersPerSecondSq,
+            reversed),
+        reversed);
+  }
+
+  private static List<ConstrainedState> constrainStates(
+      List<PoseWithCurvature> points,
+      List<TrajectoryConstraint> constraints,
+      double startVelocityMetersPerSecond,
+      double endVelocityMetersPerSecond,
+      double maxVelocityMetersPerSecond,
+      double maxAccelerationMetersPerSecondSq,
+      boolean reversed) {
     var constrainedStates = new ArrayList<ConstrainedState>(points.size());
     var predecessor =
         new ConstrainedState(
@@ -204,9 +266,14 @@ public final class TrajectoryParameterizer {
       successor = constrainedState;
     }
 
+    return constrainedStates;
+  }
+
+  private static PackedTrajectory integrate(
+      List<ConstrainedState> constrainedStates, boolean reversed) {
     // Now we can integrate the constrained states forward in time to obtain our
     // trajectory states.
-    var states = new ArrayList<Trajectory.State>(points.size());
+    var states = new PackedTrajectory(constrainedStates.size());
     double timeSeconds = 0.0;
     double distanceMeters = 0.0;
     double velocityMetersPerSecond = 0.0;
@@ -228,7 +295,7 @@ public final class TrajectoryParameterizer {
       // Calculate dt
       double dt = 0.0;
       if (i > 0) {
-        states.get(i - 1).accelerationMetersPerSecondSq = reversed ? -accel : accel;
+        states.setAcceleration(i - 1, reversed ? -accel : accel);
         if (Math.abs(accel) > 1E-6) {
           // v_f = v_0 + a * t
           dt = (state.maxVelocityMetersPerSecond - velocityMetersPerSecond) / accel;
@@ -246,16 +313,16 @@ public final class TrajectoryParameterizer {
 
       timeSeconds += dt;
 
-      states.add(
-          new Trajectory.State(
-              timeSeconds,
-              reversed ? -velocityMetersPerSecond : velocityMetersPerSecond,
-              reversed ? -accel : accel,
-              state.pose.poseMeters,
-              state.pose.curvatureRadPerMeter));
+      states.set(
+          i,
+          timeSeconds,
+          reversed ? -velocityMetersPerSecond : velocityMetersPerSecond,
+          reversed ? -accel : accel,
+          state.pose.poseMeters,
+          state.pose.curvatureRadPerMeter);
     }
 
-    return new Trajectory(states);
+    return states;
   }
 
   private static void enforceAccelerationLimits(
@@ -533,4 +533,124 @@ class SwerveDrivePoseEstimatorTest {
         () ->
             assertEquals(0, estimator.getEstimatedPosition().getRotation().getRadians(), kEpsilon));
   }
+
+  @Test
+  void testBatchVisionMeasurements() {
+    var kinematics =
+        new SwerveDriveKinematics(
+            new Translation2d(1, 1),
+            new Translation2d(-1, 1),
+            new Translation2d(1, -1),
+            new Translation2d(-1, -1));
+    var initialPositions =
+        new SwerveModulePosition[] {
+          new SwerveModulePosition(),
+          new SwerveModulePosition(),
+          new SwerveModulePosition(),
+          new SwerveModulePosition()
+        };
+    var sequential =
+        new SwerveDrivePoseEstimator(
+            kinematics,
+            Rotation2d.kZero,
+            initialPositions,
+            Pose2d.kZero,
+            VecBuilder.fill(0.1, 0.1, 0.1),
+            VecBuilder.fill(0.5, 0.5, 0.5));
+    var batched =
+        new SwerveDrivePoseEstimator(
+            kinematics,
+            Rotation2d.kZero,
+            initialPositions,
+            Pose2d.kZero,
+            VecBuilder.fill(0.1, 0.1, 0.1),
+            VecBuilder.fill(0.5, 0.5, 0.5));
+
+    for (int i = 0; i <= 100; i++) {
+      double time = 1 + i * 0.02;
+      var wheelPositions =
+          new SwerveModulePosition[] {
+            new SwerveModulePosition(time, Rotation2d.kZero),
+            new SwerveModulePosition(time, Rotation2d.kZero),
+            new SwerveModulePosition(time, Rotation2d.kZero),
+            new SwerveModulePosition(time, Rotation2d.kZero)
+          };
+      sequential.updateWithTime(time, new Rotation2d(time), wheelPositions);
+      batched.updateWithTime(time, new Rotation2d(time), wheelPositions);
+    }
+
+    // A vision update recorded before the batch that the batch supersedes
+    sequential.addVisionMeasurement(new Pose2d(3, 0.5, new Rotation2d(3)), 2.95);
+    batched.addVisionMeasurement(new Pose2d(3, 0.5, new Rotation2d(3)), 2.95);
+
+    // Measurements from several cameras, out of order. The one at 0.5 s is older than the pose
+    // buffer.
+    var measurements =
+        List.of(
+            new PoseEstimator.VisionMeasurement(new Pose2d(2.6, 0.3, new Rotation2d(2.5)), 2.51),
+            new PoseEstimator.VisionMeasurement(new Pose2d(2, 0.2, new Rotation2d(2)), 2.01),
+            new PoseEstimator.VisionMeasurement(
+                new Pose2d(2.1, -0.1, new Rotation2d(2)), 2.01, VecBuilder.fill(0.2, 0.2, 0.2)),
+            new PoseEstimator.VisionMeasurement(new Pose2d(0.5, 0, Rotation2d.kZero), 0.5));
+
+    // The batch matches adding each measurement in timestamp order
+    sequential.addVisionMeasurement(new Pose2d(0.5, 0, Rotation2d.kZero), 0.5);
+    sequential.addVisionMeasurement(new Pose2d(2, 0.2, new Rotation2d(2)), 2.01);
+    sequential.addVisionMeasurement(
+        new Pose2d(2.1, -0.1, new Rotation2d(2)), 2.01, VecBuilder.fill(0.2, 0.2, 0.2));
+    sequential.addVisionMeasurement(new Pose2d(2.6, 0.3, new Rotation2d(2.5)), 2.51);
+    var result = batched.addVisionMeasurements(measurements);
+
+    assertAll(
+        () -> assertEquals(3, result.appliedMeasurements),
+        () -> assertEquals(1, result.rejectedMeasurements),
+        () -> assertEquals(0, result.unmatchedMeasurements),
+        () -> assertEquals(50, result.replayedOdometrySamples),
+        () -> assertEquals(1, result.discardedVisionUpdates),
+        () -> assertEquals(sequential.getEstimatedPosition(), batched.getEstimatedPosition()));
+    for (double time = 1.5; time <= 3; time += 0.05) {
+      assertEquals(sequential.sampleAt(time), batched.sampleAt(time));
+    }
+
+    // Later measurements use the standard deviations set in the batch
+    sequential.addVisionMeasurement(new Pose2d(3, 0, Rotation2d.kZero), 2.99);
+    batched.addVisionMeasurement(new Pose2d(3, 0, Rotation2d.kZero), 2.99);
+    assertEquals(sequential.getEstimatedPosition(), batched.getEstimatedPosition());
+  }
+
+  @Test
+  void testAddVisionMeasurementsBeforeOdometry() {
+    var kinematics =
+        new SwerveDriveKinematics(
+            new Translation2d(1, 1),
+            new Translation2d(-1, 1),
+            new Translation2d(1, -1),
+            new Translation2d(-1, -1));
+    var estimator =
+        new SwerveDrivePoseEstimator(
+            kinematics,
+            Rotation2d.kZero,
+            new SwerveModulePosition[] {
+              new SwerveModulePosition(),
+              new SwerveModulePosition(),
+              new SwerveModulePosition(),
+              new SwerveModulePosition()
+            },
+            Pose2d.kZero,
+            VecBuilder.fill(0.1, 0.1, 0.1),
+            VecBuilder.fill(0.5, 0.5, 0.5));
+
+    // There's no odometry to fuse these with yet, so they're unmatched rather than rejected
+    var result =
+        estimator.addVisionMeasurements(
+            List.of(
+                new PoseEstimator.VisionMeasurement(new Pose2d(1, 0, Rotation2d.kZero), 0.5),
+                new PoseEstimator.VisionMeasurement(new Pose2d(1, 0, Rotation2d.kZero), 1.0)));
+
+    assertAll(
+        () -> assertEquals(0, result.appliedMeasurements),
+        () -> assertEquals(0, result.rejectedMeasurements),
+        () -> assertEquals(2, result.unmatchedMeasurements),
+        () -> assertEquals(Pose2d.kZero, estimator.getEstimatedPosition()));
+  }
 }
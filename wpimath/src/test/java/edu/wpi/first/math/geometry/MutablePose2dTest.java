@@ -0,0 +1,91 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.math.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class MutablePose2dTest {
+  private static void assertPoseEquals(Pose2d expected, MutablePose2d actual) {
+    // The mutable operations must match the immutable ones exactly, not just within a tolerance
+    assertAll(
+        () -> assertEquals(expected.getX(), actual.getX(), 0.0),
+        () -> assertEquals(expected.getY(), actual.getY(), 0.0),
+        () -> assertEquals(expected.getRotation().getRadians(), actual.getRadians(), 0.0),
+        () -> assertEquals(expected.getRotation().getCos(), actual.getCos(), 0.0),
+        () -> assertEquals(expected.getRotation().getSin(), actual.getSin(), 0.0));
+  }
+
+  private static Pose2d randomPose(Random random) {
+    return new Pose2d(
+        random.nextDouble() * 10 - 5,
+        random.nextDouble() * 10 - 5,
+        new Rotation2d(random.nextDouble() * 4 * Math.PI - 2 * Math.PI));
+  }
+
+  @Test
+  void testTransformBy() {
+    var random = new Random(1);
+    for (int i = 0; i < 1000; i++) {
+      var pose = randomPose(random);
+      var transform = new Transform2d(randomPose(random).getTranslation(), new Rotation2d(i));
+      assertPoseEquals(pose.transformBy(transform), new MutablePose2d(pose).transformBy(transform));
+    }
+  }
+
+  @Test
+  void testRotateBy() {
+    var random = new Random(2);
+    for (int i = 0; i < 1000; i++) {
+      var pose = randomPose(random);
+      var rotation = new Rotation2d(random.nextDouble() * 10);
+      assertPoseEquals(pose.rotateBy(rotation), new MutablePose2d(pose).rotateBy(rotation));
+    }
+  }
+
+  @Test
+  void testExp() {
+    var random = new Random(3);
+    for (int i = 0; i < 1000; i++) {
+      var pose = randomPose(random);
+      // Include twists with no rotation to cover the small angle approximation
+      var twist =
+          new Twist2d(
+              random.nextDouble() - 0.5,
+              random.nextDouble() - 0.5,
+              i % 4 == 0 ? 0.0 : random.nextDouble() - 0.5);
+      assertPoseEquals(pose.exp(twist), new MutablePose2d(pose).exp(twist));
+    }
+  }
+
+  @Test
+  void testLog() {
+    var random = new Random(4);
+    var out = new Twist2d();
+    for (int i = 0; i < 1000; i++) {
+      var start = randomPose(random);
+      var end = i % 4 == 0 ? new Pose2d(1.0, 2.0, start.getRotation()) : randomPose(random);
+      var expected = start.log(end);
+      assertSame(out, new MutablePose2d(start).log(end, out));
+      assertEquals(expected, out);
+      assertEquals(expected.dx, out.dx, 0.0);
+      assertEquals(expected.dy, out.dy, 0.0);
+      assertEquals(expected.dtheta, out.dtheta, 0.0);
+    }
+  }
+
+  @Test
+  void testToPose2d() {
+    var pose = new Pose2d(1.0, 2.0, new Rotation2d(3.0, 4.0));
+    var copy = new MutablePose2d(pose).toPose2d();
+    assertEquals(pose, copy);
+    assertEquals(pose.getRotation().getCos(), copy.getRotation().getCos(), 0.0);
+    assertEquals(pose.getRotation().getSin(), copy.getRotation().getSin(), 0.0);
+  }
+}
@@ -0,0 +1,91 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.math.interpolation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.wpi.first.math.geometry.Rotation2d;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+class TimeInterpolatableCircularBufferTest {
+  @Test
+  void testAddSample() {
+    TimeInterpolatableCircularBuffer<Rotation2d> buffer =
+        TimeInterpolatableCircularBuffer.createBuffer(10);
+
+    // No entries
+    buffer.addSample(1.0, Rotation2d.kZero);
+    assertEquals(0.0, buffer.getSample(1.0).get().getRadians(), 0.001);
+
+    // New entry at start of container
+    buffer.addSample(0.0, new Rotation2d(1.0));
+    assertEquals(1.0, buffer.getSample(0.0).get().getRadians(), 0.001);
+
+    // New entry in middle of container
+    buffer.addSample(0.5, new Rotation2d(0.5));
+    assertEquals(0.5, buffer.getSample(0.5).get().getRadians(), 0.001);
+
+    // Override sample
+    buffer.addSample(0.5, new Rotation2d(1.0));
+    assertEquals(1.0, buffer.getSample(0.5).get().getRadians(), 0.001);
+    assertEquals(3, buffer.size());
+  }
+
+  @Test
+  void testInterpolation() {
+    TimeInterpolatableCircularBuffer<Rotation2d> buffer =
+        TimeInterpolatableCircularBuffer.createBuffer(10);
+
+    buffer.addSample(0.0, Rotation2d.kZero);
+    assertEquals(0.0, buffer.getSample(0.0).get().getRadians(), 0.001);
+    buffer.addSample(1.0, new Rotation2d(1.0));
+    assertEquals(0.5, buffer.getSample(0.5).get().getRadians(), 0.001);
+    assertEquals(1.0, buffer.getSample(1.0).get().getRadians(), 0.001);
+    buffer.addSample(3.0, new Rotation2d(2.0));
+    assertEquals(1.5, buffer.getSample(2.0).get().getRadians(), 0.001);
+
+    buffer.addSample(10.5, new Rotation2d(2));
+    assertEquals(new Rotation2d(1.0), buffer.getSample(0.0).get());
+  }
+
+  @Test
+  void testEmpty() {
+    TimeInterpolatableCircularBuffer<Double> buffer =
+        TimeInterpolatableCircularBuffer.createDoubleBuffer(10);
+
+    assertTrue(buffer.getSample(1.0).isEmpty());
+    assertThrows(NoSuchElementException.class, buffer::getOldestTimestamp);
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(0));
+
+    buffer.addSample(1.0, 2.0);
+    buffer.clear();
+    assertTrue(buffer.isEmpty());
+    assertTrue(buffer.getSample(1.0).isEmpty());
+  }
+
+  @Test
+  void testMatchesTreeMapBuffer() {
+    TimeInterpolatableCircularBuffer<Double> buffer =
+        TimeInterpolatableCircularBuffer.createDoubleBuffer(1.5);
+    TimeInterpolatableBuffer<Double> reference = TimeInterpolatableBuffer.createDoubleBuffer(1.5);
+
+    // Wraps around and grows the ring several times, with some out of order samples
+    for (int i = 0; i < 1000; i++) {
+      double time = i * 0.004 + (i % 7 == 3 ? -0.006 : 0.0);
+      buffer.addSample(time, Math.sin(i));
+      reference.addSample(time, Math.sin(i));
+
+      assertEquals(reference.getInternalBuffer(), buffer.getInternalBuffer());
+      for (double t = time - 2.0; t <= time + 0.1; t += 0.0137) {
+        assertEquals(reference.getSample(t), buffer.getSample(t));
+      }
+    }
+    assertEquals(reference.getInternalBuffer().firstKey(), buffer.getOldestTimestamp());
+    assertEquals(reference.getInternalBuffer().lastKey(), buffer.getNewestTimestamp());
+  }
+}
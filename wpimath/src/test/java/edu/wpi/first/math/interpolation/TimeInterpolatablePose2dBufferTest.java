@@ -0,0 +1,64 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.math.interpolation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import org.junit.jupiter.api.Test;
+
+class TimeInterpolatablePose2dBufferTest {
+  @Test
+  void testPose2d() {
+    var buffer = new TimeInterpolatablePose2dBuffer(10);
+
+    // We expect to be at (1 - 1/Math.sqrt(2), 1/Math.sqrt(2), 45deg) at t=0.5
+    buffer.addSample(0.0, new Pose2d(0.0, 0.0, Rotation2d.kCCW_Pi_2));
+    buffer.addSample(1.0, new Pose2d(1.0, 1.0, Rotation2d.kZero));
+    Pose2d sample = buffer.getSample(0.5).get();
+
+    assertEquals(1.0 - 1.0 / Math.sqrt(2.0), sample.getTranslation().getX(), 0.01);
+    assertEquals(1.0 / Math.sqrt(2.0), sample.getTranslation().getY(), 0.01);
+    assertEquals(45.0, sample.getRotation().getDegrees(), 0.01);
+  }
+
+  @Test
+  void testPrimitiveAccessors() {
+    var buffer = new TimeInterpolatablePose2dBuffer(10);
+    assertTrue(buffer.getSample(0.0).isEmpty());
+
+    buffer.addSample(2.0, 3.0, 4.0, 0.5);
+    buffer.addSample(1.0, new Pose2d(1.0, 2.0, new Rotation2d(0.25)));
+
+    assertEquals(2, buffer.size());
+    assertEquals(1.0, buffer.getTimestamp(0));
+    assertEquals(1.0, buffer.getX(0));
+    assertEquals(2.0, buffer.getY(0));
+    assertEquals(0.25, buffer.getTheta(0));
+    assertEquals(new Pose2d(3.0, 4.0, new Rotation2d(0.5)), buffer.get(1));
+    assertEquals(new Pose2d(3.0, 4.0, new Rotation2d(0.5)), buffer.getSample(5.0).get());
+    assertEquals(new Pose2d(1.0, 2.0, new Rotation2d(0.25)), buffer.getSample(-1.0).get());
+  }
+
+  @Test
+  void testMatchesTreeMapBuffer() {
+    var buffer = new TimeInterpolatablePose2dBuffer(1.5);
+    TimeInterpolatableBuffer<Pose2d> reference = TimeInterpolatableBuffer.createBuffer(1.5);
+
+    for (int i = 0; i < 1000; i++) {
+      double time = i * 0.004;
+      var pose = new Pose2d(i * 0.01, Math.sin(i * 0.01), new Rotation2d(i * 0.003));
+      buffer.addSample(time, pose);
+      reference.addSample(time, pose);
+
+      assertEquals(reference.getInternalBuffer(), buffer.getInternalBuffer());
+      for (double t = time - 2.0; t <= time + 0.1; t += 0.0137) {
+        assertEquals(reference.getSample(t), buffer.getSample(t));
+      }
+    }
+  }
+}
@@ -5,6 +5,7 @@
 package edu.wpi.first.math.kinematics.struct;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import edu.wpi.first.math.geometry.Rotation2d;
 import edu.wpi.first.math.kinematics.SwerveModulePosition;
@@ -27,4 +28,36 @@ class SwerveModulePositionStructTest {
     assertEquals(DATA.distanceMeters, data.distanceMeters);
     assertEquals(DATA.angle, data.angle);
   }
+
+  @Test
+  void testUnpackInto() {
+    ByteBuffer buffer = ByteBuffer.allocate(SwerveModulePosition.struct.getSize());
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    SwerveModulePosition.struct.pack(buffer, DATA);
+    buffer.rewind();
+
+    SwerveModulePosition data = new SwerveModulePosition();
+    SwerveModulePosition.struct.unpackInto(data, buffer);
+    assertEquals(DATA.distanceMeters, data.distanceMeters);
+    assertEquals(DATA.angle, data.angle);
+  }
+
+  @Test
+  void testUnpackIntoReusesUnchangedAngle() {
+    ByteBuffer buffer = ByteBuffer.allocate(SwerveModulePosition.struct.getSize());
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    SwerveModulePosition.struct.pack(buffer, DATA);
+    buffer.rewind();
+
+    Rotation2d angle = new Rotation2d(DATA.angle.getRadians());
+    SwerveModulePosition data = new SwerveModulePosition(1.0, angle);
+    SwerveModulePosition.struct.unpackInto(data, buffer);
+    assertEquals(DATA.distanceMeters, data.distanceMeters);
+    assertSame(angle, data.angle);
+
+    buffer.rewind();
+    data.angle = new Rotation2d(1.0);
+    SwerveModulePosition.struct.unpackInto(data, buffer);
+    assertEquals(DATA.angle, data.angle);
+  }
 }
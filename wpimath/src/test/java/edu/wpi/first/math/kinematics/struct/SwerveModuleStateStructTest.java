@@ -5,6 +5,7 @@
 package edu.wpi.first.math.kinematics.struct;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import edu.wpi.first.math.geometry.Rotation2d;
 import edu.wpi.first.math.kinematics.SwerveModuleState;
@@ -26,4 +27,36 @@ class SwerveModuleStateStructTest {
     assertEquals(DATA.speedMetersPerSecond, data.speedMetersPerSecond);
     assertEquals(DATA.angle, data.angle);
   }
+
+  @Test
+  void testUnpackInto() {
+    ByteBuffer buffer = ByteBuffer.allocate(SwerveModuleState.struct.getSize());
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    SwerveModuleState.struct.pack(buffer, DATA);
+    buffer.rewind();
+
+    SwerveModuleState data = new SwerveModuleState();
+    SwerveModuleState.struct.unpackInto(data, buffer);
+    assertEquals(DATA.speedMetersPerSecond, data.speedMetersPerSecond);
+    assertEquals(DATA.angle, data.angle);
+  }
+
+  @Test
+  void testUnpackIntoReusesUnchangedAngle() {
+    ByteBuffer buffer = ByteBuffer.allocate(SwerveModuleState.struct.getSize());
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    SwerveModuleState.struct.pack(buffer, DATA);
+    buffer.rewind();
+
+    Rotation2d angle = new Rotation2d(DATA.angle.getRadians());
+    SwerveModuleState data = new SwerveModuleState(1.0, angle);
+    SwerveModuleState.struct.unpackInto(data, buffer);
+    assertEquals(DATA.speedMetersPerSecond, data.speedMetersPerSecond);
+    assertSame(angle, data.angle);
+
+    buffer.rewind();
+    data.angle = new Rotation2d(1.0);
+    SwerveModuleState.struct.unpackInto(data, buffer);
+    assertEquals(DATA.angle, data.angle);
+  }
 }
@@ -0,0 +1,93 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.math.spline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.spline.SplineParameterizer.MalformedSplineException;
+import edu.wpi.first.math.trajectory.TrajectoryGenerator;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class IncrementalSplineParameterizerTest {
+  private final List<Pose2d> m_waypoints =
+      new ArrayList<>(
+          List.of(
+              Pose2d.kZero,
+              new Pose2d(2, 1, Rotation2d.fromDegrees(30)),
+              new Pose2d(4, 0, Rotation2d.fromDegrees(-30)),
+              new Pose2d(6, 2, Rotation2d.fromDegrees(60)),
+              new Pose2d(7, 4, Rotation2d.kCCW_Pi_2)));
+
+  private Spline[] getSplines() {
+    return SplineHelper.getQuinticSplinesFromWaypoints(m_waypoints);
+  }
+
+  private static void assertSamePoints(
+      List<PoseWithCurvature> expected, List<PoseWithCurvature> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      var expectedPose = expected.get(i).poseMeters;
+      var actualPose = actual.get(i).poseMeters;
+      assertEquals(expectedPose.getX(), actualPose.getX(), 1e-9);
+      assertEquals(expectedPose.getY(), actualPose.getY(), 1e-9);
+      assertEquals(
+          expectedPose.getRotation().getRadians(), actualPose.getRotation().getRadians(), 1e-9);
+    }
+  }
+
+  @Test
+  void testOnlyChangedSplinesAreParameterized() {
+    var parameterizer = new IncrementalSplineParameterizer();
+    assertEquals(4, parameterizer.update(getSplines()));
+    assertEquals(0, parameterizer.update(getSplines()));
+
+    // Moving a waypoint changes the splines on either side of it
+    m_waypoints.set(2, new Pose2d(4, 0.5, Rotation2d.fromDegrees(-30)));
+    assertEquals(2, parameterizer.update(getSplines()));
+    assertSamePoints(
+        TrajectoryGenerator.splinePointsFromSplines(getSplines()), parameterizer.getPoints());
+
+    // Inserting a waypoint replaces one spline with two
+    m_waypoints.add(1, new Pose2d(1, 1, Rotation2d.kZero));
+    assertEquals(2, parameterizer.update(getSplines()));
+    assertEquals(5, parameterizer.getSplineCount());
+    assertSamePoints(
+        TrajectoryGenerator.splinePointsFromSplines(getSplines()), parameterizer.getPoints());
+  }
+
+  @Test
+  void testDistanceLookup() {
+    var parameterizer = new IncrementalSplineParameterizer();
+    parameterizer.update(getSplines());
+
+    double length = 0;
+    for (int i = 0; i < parameterizer.getSplineCount(); i++) {
+      assertEquals(length, parameterizer.getStartDistance(i), 1e-12);
+      assertEquals(i, parameterizer.getSplineIndexAtDistance(length + 1e-6));
+      length += parameterizer.getSplinePoints(i).getLengthMeters();
+    }
+    assertEquals(length, parameterizer.getLengthMeters(), 1e-12);
+
+    assertEquals(0, parameterizer.getSplineIndexAtDistance(-1));
+    assertEquals(0, parameterizer.getTAtDistance(-1));
+    assertEquals(3, parameterizer.getSplineIndexAtDistance(length + 1));
+    assertEquals(1, parameterizer.getTAtDistance(length + 1));
+  }
+
+  @Test
+  void testMalformedLeavesPath() {
+    var parameterizer = new IncrementalSplineParameterizer();
+    parameterizer.update(getSplines());
+
+    m_waypoints.set(1, new Pose2d(1, 0, Rotation2d.kPi));
+    assertThrows(MalformedSplineException.class, () -> parameterizer.update(getSplines()));
+    assertEquals(4, parameterizer.getSplineCount());
+  }
+}
@@ -0,0 +1,95 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.math.spline;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.geometry.Translation2d;
+import edu.wpi.first.math.spline.SplineParameterizer.MalformedSplineException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PackedSplinePointsTest {
+  private static void assertSamePoints(Spline spline) {
+    var expected = SplineParameterizer.parameterize(spline);
+    var packed = SplineParameterizer.parameterizePacked(spline);
+
+    assertEquals(expected.size(), packed.size());
+    for (int i = 0; i < expected.size(); i++) {
+      var pose = expected.get(i).poseMeters;
+      int index = i;
+      assertAll(
+          () -> assertEquals(pose.getX(), packed.getX(index), 1e-9),
+          () -> assertEquals(pose.getY(), packed.getY(index), 1e-9),
+          () -> assertEquals(pose.getRotation().getCos(), packed.getCos(index), 1e-9),
+          () -> assertEquals(pose.getRotation().getSin(), packed.getSin(index), 1e-9),
+          () ->
+              assertEquals(
+                  expected.get(index).curvatureRadPerMeter, packed.getCurvature(index), 1e-9));
+    }
+  }
+
+  @Test
+  void testQuinticMatchesParameterize() {
+    for (var spline :
+        SplineHelper.getQuinticSplinesFromWaypoints(
+            List.of(
+                Pose2d.kZero,
+                new Pose2d(1, 1, Rotation2d.kZero),
+                new Pose2d(3, 0, Rotation2d.kCW_Pi_2),
+                new Pose2d(-1, 0, Rotation2d.kCCW_Pi_2)))) {
+      assertSamePoints(spline);
+    }
+  }
+
+  @Test
+  void testCubicMatchesParameterize() {
+    var start = new Spline.ControlVector(new double[] {0, 2}, new double[] {0, 0});
+    var end = new Spline.ControlVector(new double[] {4, 0}, new double[] {4, 2});
+    for (var spline :
+        SplineHelper.getCubicSplinesFromControlVectors(
+            start, new Translation2d[] {new Translation2d(2, 1), new Translation2d(3, 3)}, end)) {
+      assertSamePoints(spline);
+    }
+  }
+
+  @Test
+  void testDistanceLookup() {
+    var spline =
+        SplineHelper.getQuinticSplinesFromWaypoints(
+            List.of(Pose2d.kZero, new Pose2d(3, 2, Rotation2d.kCCW_Pi_2)))[0];
+    var packed = SplineParameterizer.parameterizePacked(spline);
+
+    assertEquals(0, packed.getDistance(0));
+    for (int i = 1; i < packed.size(); i++) {
+      assertTrue(packed.getDistance(i) > packed.getDistance(i - 1));
+      assertEquals(packed.getT(i), packed.getTAtDistance(packed.getDistance(i)), 1e-12);
+    }
+
+    double previous = 0;
+    for (double distance = 0; distance < packed.getLengthMeters(); distance += 0.01) {
+      double t = packed.getTAtDistance(distance);
+      assertTrue(t >= previous);
+      previous = t;
+    }
+
+    assertEquals(0, packed.getTAtDistance(-1));
+    assertEquals(1, packed.getTAtDistance(packed.getLengthMeters() + 1));
+  }
+
+  @Test
+  void testMalformed() {
+    var spline =
+        SplineHelper.getQuinticSplinesFromWaypoints(
+            List.of(Pose2d.kZero, new Pose2d(1, 0, Rotation2d.kPi)))[0];
+    assertThrows(
+        MalformedSplineException.class, () -> SplineParameterizer.parameterizePacked(spline));
+  }
+}
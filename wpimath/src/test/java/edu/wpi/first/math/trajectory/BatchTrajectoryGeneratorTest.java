@@ -0,0 +1,221 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.math.trajectory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.geometry.Translation2d;
+import edu.wpi.first.math.kinematics.SwerveDriveKinematics;
+import edu.wpi.first.math.trajectory.constraint.CentripetalAccelerationConstraint;
+import edu.wpi.first.math.trajectory.constraint.MaxVelocityConstraint;
+import edu.wpi.first.math.trajectory.constraint.TrajectoryConstraint;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BatchTrajectoryGeneratorTest {
+  @TempDir Path m_cacheDirectory;
+
+  private static TrajectoryConfig getConfig() {
+    return new TrajectoryConfig(3, 2)
+        .setKinematics(
+            new SwerveDriveKinematics(
+                new Translation2d(0.3, 0.3),
+                new Translation2d(0.3, -0.3),
+                new Translation2d(-0.3, 0.3),
+                new Translation2d(-0.3, -0.3)))
+        .addConstraint(new CentripetalAccelerationConstraint(1.5));
+  }
+
+  private static void addTrajectories(BatchTrajectoryGenerator generator) {
+    for (int i = 0; i < 4; i++) {
+      generator.add(
+          List.of(Pose2d.kZero, new Pose2d(3, i, Rotation2d.fromDegrees(30 * i))), getConfig());
+    }
+    generator.add(
+        Pose2d.kZero,
+        List.of(new Translation2d(1, 1)),
+        new Pose2d(2, 0, Rotation2d.kZero),
+        getConfig());
+  }
+
+  private static List<Trajectory> generateOneByOne() {
+    return List.of(
+        TrajectoryGenerator.generateTrajectory(
+            List.of(Pose2d.kZero, new Pose2d(3, 0, Rotation2d.fromDegrees(0))), getConfig()),
+        TrajectoryGenerator.generateTrajectory(
+            List.of(Pose2d.kZero, new Pose2d(3, 1, Rotation2d.fromDegrees(30))), getConfig()),
+        TrajectoryGenerator.generateTrajectory(
+            List.of(Pose2d.kZero, new Pose2d(3, 2, Rotation2d.fromDegrees(60))), getConfig()),
+        TrajectoryGenerator.generateTrajectory(
+            List.of(Pose2d.kZero, new Pose2d(3, 3, Rotation2d.fromDegrees(90))), getConfig()),
+        TrajectoryGenerator.generateTrajectory(
+            Pose2d.kZero,
+            List.of(new Translation2d(1, 1)),
+            new Pose2d(2, 0, Rotation2d.kZero),
+            getConfig()));
+  }
+
+  @Test
+  void generatesSameTrajectories() {
+    var generator = new BatchTrajectoryGenerator();
+    addTrajectories(generator);
+
+    assertEquals(generateOneByOne(), generator.generate());
+  }
+
+  @Test
+  void loadsFromCache() throws IOException {
+    var expected = generateOneByOne();
+
+    var generator = new BatchTrajectoryGenerator(m_cacheDirectory);
+    addTrajectories(generator);
+    assertEquals(expected, generator.generate());
+    try (var files = Files.list(m_cacheDirectory)) {
+      assertEquals(expected.size(), files.count());
+    }
+
+    // A new generator with the same inputs only loads from the cache
+    generator = new BatchTrajectoryGenerator(m_cacheDirectory);
+    addTrajectories(generator);
+    assertEquals(expected, generator.generate());
+    var packed = generator.generatePacked();
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i), packed.get(i).toTrajectory());
+    }
+  }
+
+  @Test
+  void regeneratesCorruptCacheFiles() throws IOException {
+    var generator = new BatchTrajectoryGenerator(m_cacheDirectory);
+    addTrajectories(generator);
+    var expected = generator.generate();
+
+    try (var files = Files.list(m_cacheDirectory)) {
+      for (Path file : files.toList()) {
+        Files.write(file, new byte[] {1, 2, 3});
+        assertNull(BatchTrajectoryGenerator.load(file));
+      }
+    }
+
+    assertEquals(expected, generator.generate());
+    try (var files = Files.list(m_cacheDirectory)) {
+      for (Path file : files.toList()) {
+        assertNotNull(BatchTrajectoryGenerator.load(file));
+      }
+    }
+  }
+
+  @Test
+  void changedConstraintMissesCache() throws IOException {
+    var waypoints = List.of(Pose2d.kZero, new Pose2d(3, 1, Rotation2d.fromDegrees(45)));
+
+    var generator = new BatchTrajectoryGenerator(m_cacheDirectory);
+    generator.add(
+        waypoints,
+        new TrajectoryConfig(3, 2).addConstraint(new CentripetalAccelerationConstraint(1.5)));
+    var cached = generator.generate().get(0);
+
+    // Same waypoints and limits, but a tighter centripetal acceleration limit
+    var config =
+        new TrajectoryConfig(3, 2).addConstraint(new CentripetalAccelerationConstraint(0.5));
+    generator = new BatchTrajectoryGenerator(m_cacheDirectory);
+    generator.add(waypoints, config);
+    var regenerated = generator.generate().get(0);
+
+    assertEquals(TrajectoryGenerator.generateTrajectory(waypoints, config), regenerated);
+    assertNotEquals(cached, regenerated);
+    try (var files = Files.list(m_cacheDirectory)) {
+      assertEquals(2, files.count());
+    }
+  }
+
+  @Test
+  void keyDependsOnConstraints() {
+    var waypoints = List.of(Pose2d.kZero, new Pose2d(3, 0, Rotation2d.kZero));
+    var key =
+        BatchTrajectoryGenerator.getKey(
+            waypoints, new TrajectoryConfig(3, 2).addConstraint(new MaxVelocityConstraint(1.5)));
+
+    assertNotNull(key);
+    // A constraint with a different parameter
+    assertNotEquals(
+        key,
+        BatchTrajectoryGenerator.getKey(
+            waypoints, new TrajectoryConfig(3, 2).addConstraint(new MaxVelocityConstraint(1.25))));
+    // A different constraint with the same parameter
+    assertNotEquals(
+        key,
+        BatchTrajectoryGenerator.getKey(
+            waypoints,
+            new TrajectoryConfig(3, 2).addConstraint(new CentripetalAccelerationConstraint(1.5))));
+    // The same constraints in a different order
+    assertNotEquals(
+        BatchTrajectoryGenerator.getKey(
+            waypoints,
+            new TrajectoryConfig(3, 2)
+                .addConstraint(new MaxVelocityConstraint(1.5))
+                .addConstraint(new CentripetalAccelerationConstraint(1.5))),
+        BatchTrajectoryGenerator.getKey(
+            waypoints,
+            new TrajectoryConfig(3, 2)
+                .addConstraint(new CentripetalAccelerationConstraint(1.5))
+                .addConstraint(new MaxVelocityConstraint(1.5))));
+  }
+
+  @Test
+  void keyDependsOnInputs() {
+    var waypoints = List.of(Pose2d.kZero, new Pose2d(3, 0, Rotation2d.kZero));
+    var key = BatchTrajectoryGenerator.getKey(waypoints, getConfig());
+
+    assertNotNull(key);
+    assertEquals(key, BatchTrajectoryGenerator.getKey(waypoints, getConfig()));
+    assertNotEquals(key, BatchTrajectoryGenerator.getKey(waypoints, getConfig().setReversed(true)));
+    assertNotEquals(
+        key,
+        BatchTrajectoryGenerator.getKey(
+            waypoints, getConfig().addConstraint(new CentripetalAccelerationConstraint(1))));
+    assertNotEquals(
+        key,
+        BatchTrajectoryGenerator.getKey(
+            List.of(Pose2d.kZero, new Pose2d(3, 0.001, Rotation2d.kZero)), getConfig()));
+  }
+
+  // Created in a static method so that it doesn't refer to the test instance
+  private static TrajectoryConstraint anonymousConstraint() {
+    return new TrajectoryConstraint() {
+      @Override
+      public double getMaxVelocityMetersPerSecond(
+          Pose2d poseMeters, double curvatureRadPerMeter, double velocityMetersPerSecond) {
+        return 1;
+      }
+
+      @Override
+      public MinMax getMinMaxAccelerationMetersPerSecondSq(
+          Pose2d poseMeters, double curvatureRadPerMeter, double velocityMetersPerSecond) {
+        return new MinMax();
+      }
+    };
+  }
+
+  @Test
+  void lambdasAreNotHashed() {
+    Runnable lambda = () -> {};
+
+    // Anonymous classes are hashed by their fields, but lambdas can't be
+    assertNotNull(
+        BatchTrajectoryGenerator.getKey(
+            new TrajectoryConfig(1, 1).addConstraint(anonymousConstraint())));
+    assertNull(BatchTrajectoryGenerator.getKey(List.of(lambda)));
+  }
+}
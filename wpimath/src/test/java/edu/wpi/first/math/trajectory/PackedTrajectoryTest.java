@@ -0,0 +1,88 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.math.trajectory;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.spline.SplineHelper;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PackedTrajectoryTest {
+  @Test
+  void unpacksToSameTrajectory() {
+    var trajectory = TrajectoryGeneratorTest.getTrajectory(new ArrayList<>());
+    var packed = new PackedTrajectory(trajectory);
+
+    assertEquals(trajectory.getStates().size(), packed.size());
+    assertEquals(trajectory.getTotalTimeSeconds(), packed.getTotalTimeSeconds());
+    assertEquals(trajectory.getInitialPose(), packed.getInitialPose());
+    assertEquals(trajectory, packed.toTrajectory());
+  }
+
+  @Test
+  void samplesMatchTrajectory() {
+    var trajectory = TrajectoryGeneratorTest.getTrajectory(new ArrayList<>());
+    var packed = new PackedTrajectory(trajectory);
+    var sample = new PackedTrajectory.Sample();
+    var state = new Trajectory.State();
+
+    for (double t = -0.5; t < trajectory.getTotalTimeSeconds() + 0.5; t += 0.013) {
+      var expected = trajectory.sample(t);
+
+      assertSame(sample, packed.sampleInto(t, sample));
+      assertSample(expected, sample);
+
+      assertSame(state, packed.sampleInto(t, state));
+      assertEquals(expected.timeSeconds, state.timeSeconds, 1e-9);
+      assertEquals(expected.poseMeters, state.poseMeters);
+    }
+  }
+
+  @Test
+  void parameterizerEmitsPackedTrajectory() {
+    var points =
+        TrajectoryGenerator.splinePointsFromSplines(
+            SplineHelper.getQuinticSplinesFromWaypoints(
+                List.of(Pose2d.kZero, new Pose2d(3, 1, Rotation2d.kCW_Pi_2))));
+
+    var trajectory =
+        TrajectoryParameterizer.timeParameterizeTrajectory(points, List.of(), 0, 0, 2, 2, false);
+    var packed =
+        TrajectoryParameterizer.timeParameterizePackedTrajectory(
+            points, List.of(), 0, 0, 2, 2, false);
+
+    assertEquals(trajectory, packed.toTrajectory());
+  }
+
+  @Test
+  void emptyTrajectory() {
+    assertThrows(IllegalArgumentException.class, () -> new PackedTrajectory(new Trajectory()));
+  }
+
+  private static void assertSample(Trajectory.State expected, PackedTrajectory.Sample actual) {
+    assertAll(
+        () -> assertEquals(expected.timeSeconds, actual.timeSeconds, 1e-9),
+        () -> assertEquals(expected.poseMeters.getX(), actual.xMeters, 1e-9),
+        () -> assertEquals(expected.poseMeters.getY(), actual.yMeters, 1e-9),
+        () -> assertEquals(expected.poseMeters.getRotation().getCos(), actual.cos, 1e-9),
+        () -> assertEquals(expected.poseMeters.getRotation().getSin(), actual.sin, 1e-9),
+        () ->
+            assertEquals(
+                expected.velocityMetersPerSecond, actual.velocityMetersPerSecond, 1e-9),
+        () ->
+            assertEquals(
+                expected.accelerationMetersPerSecondSq,
+                actual.accelerationMetersPerSecondSq,
+                1e-9),
+        () -> assertEquals(expected.curvatureRadPerMeter, actual.curvatureRadPerMeter, 1e-9));
+  }
+}
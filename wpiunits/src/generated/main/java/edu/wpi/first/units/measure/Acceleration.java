@@ -781,4 +781,40 @@ public interface Acceleration<D extends Unit> extends Measure<AccelerationUnit<D
     return div(divisorUnit.one());
   }
 
+  /**
+   * Multiplies this measure by another and stores the product in an existing mutable measure
+   * instead of allocating a new one. The result keeps its own unit.
+   *
+   * @param multiplier the measure to multiply by
+   * @param result the mutable measure to store the product in
+   * @return the result measure
+   */
+  default MutAcceleration<D> times(Dimensionless multiplier, MutAcceleration<D> result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() * multiplier.baseUnitMagnitude());
+  }
+
+  /**
+   * Divides this measure by another and stores the quotient in an existing mutable measure instead
+   * of allocating a new one. The result keeps its own unit.
+   *
+   * @param divisor the measure to divide by
+   * @param result the mutable measure to store the quotient in
+   * @return the result measure
+   */
+  default MutAcceleration<D> div(Dimensionless divisor, MutAcceleration<D> result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() / divisor.baseUnitMagnitude());
+  }
+
+  /**
+   * Divides this measure by another and stores the quotient in an existing mutable measure instead
+   * of allocating a new one. The result keeps its own unit.
+   *
+   * @param divisor the measure to divide by
+   * @param result the mutable measure to store the quotient in
+   * @return the result measure
+   */
+  default MutVelocity<AccelerationUnit<D>> div(Time divisor, MutVelocity<AccelerationUnit<D>> result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() / divisor.baseUnitMagnitude());
+  }
+
 }
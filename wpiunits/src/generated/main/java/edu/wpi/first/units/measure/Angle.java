@@ -781,4 +781,64 @@ public interface Angle extends Measure<AngleUnit> {
     return div(divisorUnit.one());
   }
 
+  /**
+   * Divides this measure by another and stores the quotient in an existing mutable measure instead
+   * of allocating a new one. The result keeps its own unit.
+   *
+   * @param divisor the measure to divide by
+   * @param result the mutable measure to store the quotient in
+   * @return the result measure
+   */
+  default MutDimensionless div(Angle divisor, MutDimensionless result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() / divisor.baseUnitMagnitude());
+  }
+
+  /**
+   * Multiplies this measure by another and stores the product in an existing mutable measure
+   * instead of allocating a new one. The result keeps its own unit.
+   *
+   * @param multiplier the measure to multiply by
+   * @param result the mutable measure to store the product in
+   * @return the result measure
+   */
+  default MutAngle times(Dimensionless multiplier, MutAngle result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() * multiplier.baseUnitMagnitude());
+  }
+
+  /**
+   * Divides this measure by another and stores the quotient in an existing mutable measure instead
+   * of allocating a new one. The result keeps its own unit.
+   *
+   * @param divisor the measure to divide by
+   * @param result the mutable measure to store the quotient in
+   * @return the result measure
+   */
+  default MutAngle div(Dimensionless divisor, MutAngle result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() / divisor.baseUnitMagnitude());
+  }
+
+  /**
+   * Multiplies this measure by another and stores the product in an existing mutable measure
+   * instead of allocating a new one. The result keeps its own unit.
+   *
+   * @param multiplier the measure to multiply by
+   * @param result the mutable measure to store the product in
+   * @return the result measure
+   */
+  default MutAngularVelocity times(Frequency multiplier, MutAngularVelocity result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() * multiplier.baseUnitMagnitude());
+  }
+
+  /**
+   * Divides this measure by another and stores the quotient in an existing mutable measure instead
+   * of allocating a new one. The result keeps its own unit.
+   *
+   * @param divisor the measure to divide by
+   * @param result the mutable measure to store the quotient in
+   * @return the result measure
+   */
+  default MutAngularVelocity div(Time divisor, MutAngularVelocity result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() / divisor.baseUnitMagnitude());
+  }
+
 }
@@ -781,4 +781,76 @@ public interface AngularAcceleration extends Measure<AngularAccelerationUnit> {
     return div(divisorUnit.one());
   }
 
+  /**
+   * Divides this measure by another and stores the quotient in an existing mutable measure instead
+   * of allocating a new one. The result keeps its own unit.
+   *
+   * @param divisor the measure to divide by
+   * @param result the mutable measure to store the quotient in
+   * @return the result measure
+   */
+  default MutDimensionless div(AngularAcceleration divisor, MutDimensionless result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() / divisor.baseUnitMagnitude());
+  }
+
+  /**
+   * Multiplies this measure by another and stores the product in an existing mutable measure
+   * instead of allocating a new one. The result keeps its own unit.
+   *
+   * @param multiplier the measure to multiply by
+   * @param result the mutable measure to store the product in
+   * @return the result measure
+   */
+  default MutAngularAcceleration times(Dimensionless multiplier, MutAngularAcceleration result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() * multiplier.baseUnitMagnitude());
+  }
+
+  /**
+   * Divides this measure by another and stores the quotient in an existing mutable measure instead
+   * of allocating a new one. The result keeps its own unit.
+   *
+   * @param divisor the measure to divide by
+   * @param result the mutable measure to store the quotient in
+   * @return the result measure
+   */
+  default MutAngularAcceleration div(Dimensionless divisor, MutAngularAcceleration result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() / divisor.baseUnitMagnitude());
+  }
+
+  /**
+   * Divides this measure by another and stores the quotient in an existing mutable measure instead
+   * of allocating a new one. The result keeps its own unit.
+   *
+   * @param divisor the measure to divide by
+   * @param result the mutable measure to store the quotient in
+   * @return the result measure
+   */
+  default MutAngularVelocity div(Frequency divisor, MutAngularVelocity result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() / divisor.baseUnitMagnitude());
+  }
+
+  /**
+   * Multiplies this measure by another and stores the product in an existing mutable measure
+   * instead of allocating a new one. The result keeps its own unit.
+   *
+   * @param multiplier the measure to multiply by
+   * @param result the mutable measure to store the product in
+   * @return the result measure
+   */
+  default MutAngularVelocity times(Time multiplier, MutAngularVelocity result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() * multiplier.baseUnitMagnitude());
+  }
+
+  /**
+   * Divides this measure by another and stores the quotient in an existing mutable measure instead
+   * of allocating a new one. The result keeps its own unit.
+   *
+   * @param divisor the measure to divide by
+   * @param result the mutable measure to store the quotient in
+   * @return the result measure
+   */
+  default MutVelocity<AngularAccelerationUnit> div(Time divisor, MutVelocity<AngularAccelerationUnit> result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() / divisor.baseUnitMagnitude());
+  }
+
 }
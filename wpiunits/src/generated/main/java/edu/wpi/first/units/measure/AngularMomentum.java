@@ -781,4 +781,64 @@ public interface AngularMomentum extends Measure<AngularMomentumUnit> {
     return div(divisorUnit.one());
   }
 
+  /**
+   * Divides this measure by another and stores the quotient in an existing mutable measure instead
+   * of allocating a new one. The result keeps its own unit.
+   *
+   * @param divisor the measure to divide by
+   * @param result the mutable measure to store the quotient in
+   * @return the result measure
+   */
+  default MutDimensionless div(AngularMomentum divisor, MutDimensionless result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() / divisor.baseUnitMagnitude());
+  }
+
+  /**
+   * Divides this measure by another and stores the quotient in an existing mutable measure instead
+   * of allocating a new one. The result keeps its own unit.
+   *
+   * @param divisor the measure to divide by
+   * @param result the mutable measure to store the quotient in
+   * @return the result measure
+   */
+  default MutMomentOfInertia div(AngularVelocity divisor, MutMomentOfInertia result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() / divisor.baseUnitMagnitude());
+  }
+
+  /**
+   * Multiplies this measure by another and stores the product in an existing mutable measure
+   * instead of allocating a new one. The result keeps its own unit.
+   *
+   * @param multiplier the measure to multiply by
+   * @param result the mutable measure to store the product in
+   * @return the result measure
+   */
+  default MutAngularMomentum times(Dimensionless multiplier, MutAngularMomentum result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() * multiplier.baseUnitMagnitude());
+  }
+
+  /**
+   * Divides this measure by another and stores the quotient in an existing mutable measure instead
+   * of allocating a new one. The result keeps its own unit.
+   *
+   * @param divisor the measure to divide by
+   * @param result the mutable measure to store the quotient in
+   * @return the result measure
+   */
+  default MutAngularMomentum div(Dimensionless divisor, MutAngularMomentum result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() / divisor.baseUnitMagnitude());
+  }
+
+  /**
+   * Divides this measure by another and stores the quotient in an existing mutable measure instead
+   * of allocating a new one. The result keeps its own unit.
+   *
+   * @param divisor the measure to divide by
+   * @param result the mutable measure to store the quotient in
+   * @return the result measure
+   */
+  default MutVelocity<AngularMomentumUnit> div(Time divisor, MutVelocity<AngularMomentumUnit> result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() / divisor.baseUnitMagnitude());
+  }
+
 }
@@ -780,5 +780,77 @@ public interface AngularVelocity extends Measure<AngularVelocityUnit> {
   default Per<AngularVelocityUnit, VoltageUnit> per(VoltageUnit divisorUnit) {
     return div(divisorUnit.one());
   }
+
+  /**
+   * Divides this measure by another and stores the quotient in an existing mutable measure instead
+   * of allocating a new one. The result keeps its own unit.
+   *
+   * @param divisor the measure to divide by
+   * @param result the mutable measure to store the quotient in
+   * @return the result measure
+   */
+  default MutDimensionless div(AngularVelocity divisor, MutDimensionless result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() / divisor.baseUnitMagnitude());
+  }
+
+  /**
+   * Multiplies this measure by another and stores the product in an existing mutable measure
+   * instead of allocating a new one. The result keeps its own unit.
+   *
+   * @param multiplier the measure to multiply by
+   * @param result the mutable measure to store the product in
+   * @return the result measure
+   */
+  default MutAngularVelocity times(Dimensionless multiplier, MutAngularVelocity result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() * multiplier.baseUnitMagnitude());
+  }
+
+  /**
+   * Divides this measure by another and stores the quotient in an existing mutable measure instead
+   * of allocating a new one. The result keeps its own unit.
+   *
+   * @param divisor the measure to divide by
+   * @param result the mutable measure to store the quotient in
+   * @return the result measure
+   */
+  default MutAngularVelocity div(Dimensionless divisor, MutAngularVelocity result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() / divisor.baseUnitMagnitude());
+  }
+
+  /**
+   * Multiplies this measure by another and stores the product in an existing mutable measure
+   * instead of allocating a new one. The result keeps its own unit.
+   *
+   * @param multiplier the measure to multiply by
+   * @param result the mutable measure to store the product in
+   * @return the result measure
+   */
+  default MutAngularAcceleration times(Frequency multiplier, MutAngularAcceleration result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() * multiplier.baseUnitMagnitude());
+  }
+
+  /**
+   * Multiplies this measure by another and stores the product in an existing mutable measure
+   * instead of allocating a new one. The result keeps its own unit.
+   *
+   * @param multiplier the measure to multiply by
+   * @param result the mutable measure to store the product in
+   * @return the result measure
+   */
+  default MutAngle times(Time multiplier, MutAngle result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() * multiplier.baseUnitMagnitude());
+  }
+
+  /**
+   * Divides this measure by another and stores the quotient in an existing mutable measure instead
+   * of allocating a new one. The result keeps its own unit.
+   *
+   * @param divisor the measure to divide by
+   * @param result the mutable measure to store the quotient in
+   * @return the result measure
+   */
+  default MutAngularAcceleration div(Time divisor, MutAngularAcceleration result) {
+    return result.mut_setBaseUnitMagnitude(baseUnitMagnitude() / divisor.baseUnitMagnitude());
+  }
 default Frequency asFrequency() { return Hertz.of(baseUnitMagnitude()); }
 }
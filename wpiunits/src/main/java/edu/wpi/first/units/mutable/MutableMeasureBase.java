@@ -83,4 +83,24 @@ public abstract class MutableMeasureBase<
 
     return (MutSelf) this;
   }
+
+  // The setters below only convert the magnitude once, and keep the unit as-is
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public MutSelf mut_setMagnitude(double magnitude) {
+    this.m_magnitude = magnitude;
+    this.m_baseUnitMagnitude = m_unit.toBaseUnits(magnitude);
+
+    return (MutSelf) this;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public MutSelf mut_setBaseUnitMagnitude(double baseUnitMagnitude) {
+    this.m_magnitude = m_unit.fromBaseUnits(baseUnitMagnitude);
+    this.m_baseUnitMagnitude = baseUnitMagnitude;
+
+    return (MutSelf) this;
+  }
 }
@@ -0,0 +1,101 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.units.measure;
+
+import static edu.wpi.first.units.Units.Amps;
+import static edu.wpi.first.units.Units.Centimeters;
+import static edu.wpi.first.units.Units.Feet;
+import static edu.wpi.first.units.Units.FeetPerSecond;
+import static edu.wpi.first.units.Units.Meters;
+import static edu.wpi.first.units.Units.MetersPerSecond;
+import static edu.wpi.first.units.Units.Millivolts;
+import static edu.wpi.first.units.Units.Ohms;
+import static edu.wpi.first.units.Units.Percent;
+import static edu.wpi.first.units.Units.Seconds;
+import static edu.wpi.first.units.Units.Volts;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import edu.wpi.first.units.VelocityUnit;
+import edu.wpi.first.units.VoltageUnit;
+import org.junit.jupiter.api.Test;
+
+class MutableMeasureTest {
+  @Test
+  void accumulatesInOwnUnit() {
+    MutDistance distance = Feet.mutable(1);
+    distance.mut_acc(2);
+
+    assertEquals(3, distance.magnitude(), 1e-9);
+    assertEquals(Feet.toBaseUnits(3), distance.baseUnitMagnitude(), 1e-9);
+  }
+
+  @Test
+  void plusRawInOtherUnit() {
+    MutDistance distance = Feet.mutable(1);
+    distance.mut_plus(12, Centimeters);
+
+    assertEquals(Feet, distance.unit());
+    assertEquals(Feet.toBaseUnits(1) + 0.12, distance.baseUnitMagnitude(), 1e-9);
+  }
+
+  @Test
+  void setBaseUnitMagnitudeKeepsUnit() {
+    MutDistance distance = Feet.mutable(0);
+    distance.mut_setBaseUnitMagnitude(1);
+
+    assertEquals(Feet, distance.unit());
+    assertEquals(1, distance.baseUnitMagnitude());
+    assertEquals(Feet.fromBaseUnits(1), distance.magnitude(), 1e-9);
+  }
+
+  @Test
+  void timesIntoResult() {
+    MutDistance result = Feet.mutable(0);
+    var returned = MetersPerSecond.of(2).times(Seconds.of(3), result);
+
+    assertSame(result, returned);
+    assertEquals(Feet, result.unit());
+    assertEquals(6, result.in(Meters), 1e-9);
+  }
+
+  @Test
+  void divIntoResult() {
+    MutLinearVelocity result = FeetPerSecond.mutable(0);
+    Meters.of(6).div(Seconds.of(3), result);
+
+    assertEquals(FeetPerSecond, result.unit());
+    assertEquals(2, result.in(MetersPerSecond), 1e-9);
+  }
+
+  @Test
+  void divByTimeIntoVelocity() {
+    var result = new MutVelocity<VoltageUnit>(0, 0, VelocityUnit.combine(Volts, Seconds));
+    Volts.of(12).div(Seconds.of(4), result);
+
+    assertEquals(3, result.magnitude(), 1e-9);
+  }
+
+  @Test
+  void divBySameTypeIntoDimensionless() {
+    MutDimensionless result = Percent.mutable(0);
+    Meters.of(1).div(Meters.of(4), result);
+
+    assertEquals(25, result.magnitude(), 1e-9);
+  }
+
+  @Test
+  void scalesIntoResult() {
+    MutVoltage result = Millivolts.mutable(0);
+    Amps.of(2).times(Ohms.of(3), result);
+    assertEquals(6000, result.magnitude(), 1e-9);
+
+    Volts.of(6).times(Percent.of(50), result);
+    assertEquals(3000, result.magnitude(), 1e-9);
+
+    Volts.of(6).div(Percent.of(50), result);
+    assertEquals(12000, result.magnitude(), 1e-9);
+  }
+}
@@ -88,7 +88,7 @@ public class DataLogReader implements Iterable<DataLogRecord> {
   @Override
   public void forEach(Consumer<? super DataLogRecord> action) {
     int size = m_buf.remaining();
-    for (int pos = 12 + m_buf.getInt(8); pos < size; pos = getNextRecord(pos)) {
+    for (int pos = getFirstRecord(); pos < size; pos = getNextRecord(pos)) {
       DataLogRecord record;
       try {
         record = getRecord(pos);
@@ -101,7 +101,7 @@ public class DataLogReader implements Iterable<DataLogRecord> {
 
   @Override
   public DataLogIterator iterator() {
-    return new DataLogIterator(this, 12 + m_buf.getInt(8));
+    return new DataLogIterator(this, getFirstRecord());
   }
 
   private long readVarInt(int pos, int len) {
@@ -150,5 +150,44 @@ public class DataLogReader implements Iterable<DataLogRecord> {
     return m_buf.remaining();
   }
 
+  ByteBuffer getBuffer() {
+    return m_buf;
+  }
+
+  int getFirstRecord() {
+    return 12 + m_buf.getInt(8);
+  }
+
+  // returns true if the record header and data at pos both fit within the buffer
+  boolean isCompleteRecord(int pos) {
+    int size = m_buf.remaining();
+    if (pos >= size) {
+      return false;
+    }
+    int lenbyte = m_buf.get(pos) & 0xff;
+    int entryLen = (lenbyte & 0x3) + 1;
+    int sizeLen = ((lenbyte >> 2) & 0x3) + 1;
+    int timestampLen = ((lenbyte >> 4) & 0x7) + 1;
+    int headerLen = 1 + entryLen + sizeLen + timestampLen;
+    if (pos + headerLen > size) {
+      return false;
+    }
+    long dataSize = readVarInt(pos + 1 + entryLen, sizeLen);
+    return pos + headerLen + dataSize <= size;
+  }
+
+  int getRecordEntry(int pos) {
+    int lenbyte = m_buf.get(pos) & 0xff;
+    return (int) readVarInt(pos + 1, (lenbyte & 0x3) + 1);
+  }
+
+  long getRecordTimestamp(int pos) {
+    int lenbyte = m_buf.get(pos) & 0xff;
+    int entryLen = (lenbyte & 0x3) + 1;
+    int sizeLen = ((lenbyte >> 2) & 0x3) + 1;
+    int timestampLen = ((lenbyte >> 4) & 0x7) + 1;
+    return readVarInt(pos + 1 + entryLen + sizeLen, timestampLen);
+  }
+
   private final ByteBuffer m_buf;
 }
@@ -4,9 +4,11 @@
 
 package edu.wpi.first.util.datalog;
 
+import edu.wpi.first.util.struct.Struct;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.CharBuffer;
 import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 import java.nio.LongBuffer;
@@ -21,6 +23,7 @@ public class DataLogRecord {
   private static final int kControlStart = 0;
   private static final int kControlFinish = 1;
   private static final int kControlSetMetadata = 2;
+  private static final char kReplacementChar = (char) 0xfffd;
 
   DataLogRecord(int entry, long timestamp, ByteBuffer data) {
     m_entry = entry;
@@ -283,6 +286,22 @@ public class DataLogRecord {
     return new String(getRaw(), StandardCharsets.UTF_8);
   }
 
+  /**
+   * Decodes a data record as a string into a reusable character buffer. Note if the data type (as
+   * indicated in the corresponding start control record for this entry) is not "string", invalid
+   * results may be returned.
+   *
+   * <p>If the provided buffer is null or too small, a new buffer is allocated and returned; callers
+   * should keep the returned buffer for the next call so no allocation occurs in steady state.
+   *
+   * @param out character buffer to decode into (may be null)
+   * @return character buffer containing the string, positioned at 0 with the limit at the end of
+   *     the string
+   */
+  public CharBuffer getString(CharBuffer out) {
+    return decodeString(m_data, 0, m_data.remaining(), out);
+  }
+
   /**
    * Decodes a data record as a boolean array. Note if the data type (as indicated in the
    * corresponding start control record for this entry) is not "boolean[]", invalid results may be
@@ -298,6 +317,24 @@ public class DataLogRecord {
     return arr;
   }
 
+  /**
+   * Decodes a data record as a boolean array into a caller-provided array. Note if the data type
+   * (as indicated in the corresponding start control record for this entry) is not "boolean[]",
+   * invalid results may be returned.
+   *
+   * @param out array to fill; if it is shorter than the record, only the first out.length elements
+   *     are copied
+   * @return number of elements in the record
+   */
+  public int getBooleanArray(boolean[] out) {
+    int size = m_data.remaining();
+    int n = Math.min(size, out.length);
+    for (int i = 0; i < n; i++) {
+      out[i] = m_data.get(i) != 0;
+    }
+    return size;
+  }
+
   /**
    * Decodes a data record as an integer array. Note if the data type (as indicated in the
    * corresponding start control record for this entry) is not "int64[]", invalid results may be
@@ -313,6 +350,28 @@ public class DataLogRecord {
     return arr;
   }
 
+  /**
+   * Decodes a data record as an integer array into a caller-provided array. Note if the data type
+   * (as indicated in the corresponding start control record for this entry) is not "int64[]",
+   * invalid results may be returned.
+   *
+   * @param out array to fill; if it is shorter than the record, only the first out.length elements
+   *     are copied
+   * @return number of elements in the record
+   * @throws InputMismatchException on error
+   */
+  public int getIntegerArray(long[] out) {
+    if ((m_data.limit() % 8) != 0) {
+      throw new InputMismatchException("data size is not a multiple of 8");
+    }
+    int size = m_data.limit() / 8;
+    int n = Math.min(size, out.length);
+    for (int i = 0; i < n; i++) {
+      out[i] = m_data.getLong(i * 8);
+    }
+    return size;
+  }
+
   /**
    * Decodes a data record as an integer array. Note if the data type (as indicated in the
    * corresponding start control record for this entry) is not "int64[]", invalid results may be
@@ -343,6 +402,28 @@ public class DataLogRecord {
     return arr;
   }
 
+  /**
+   * Decodes a data record as a float array into a caller-provided array. Note if the data type (as
+   * indicated in the corresponding start control record for this entry) is not "float[]", invalid
+   * results may be returned.
+   *
+   * @param out array to fill; if it is shorter than the record, only the first out.length elements
+   *     are copied
+   * @return number of elements in the record
+   * @throws InputMismatchException on error
+   */
+  public int getFloatArray(float[] out) {
+    if ((m_data.limit() % 4) != 0) {
+      throw new InputMismatchException("data size is not a multiple of 4");
+    }
+    int size = m_data.limit() / 4;
+    int n = Math.min(size, out.length);
+    for (int i = 0; i < n; i++) {
+      out[i] = m_data.getFloat(i * 4);
+    }
+    return size;
+  }
+
   /**
    * Decodes a data record as a float array. Note if the data type (as indicated in the
    * corresponding start control record for this entry) is not "float[]", invalid results may be
@@ -373,6 +454,28 @@ public class DataLogRecord {
     return arr;
   }
 
+  /**
+   * Decodes a data record as a double array into a caller-provided array. Note if the data type (as
+   * indicated in the corresponding start control record for this entry) is not "double[]", invalid
+   * results may be returned.
+   *
+   * @param out array to fill; if it is shorter than the record, only the first out.length elements
+   *     are copied
+   * @return number of elements in the record
+   * @throws InputMismatchException on error
+   */
+  public int getDoubleArray(double[] out) {
+    if ((m_data.limit() % 8) != 0) {
+      throw new InputMismatchException("data size is not a multiple of 8");
+    }
+    int size = m_data.limit() / 8;
+    int n = Math.min(size, out.length);
+    for (int i = 0; i < n; i++) {
+      out[i] = m_data.getDouble(i * 8);
+    }
+    return size;
+  }
+
   /**
    * Decodes a data record as a double array. Note if the data type (as indicated in the
    * corresponding start control record for this entry) is not "double[]", invalid results may be
@@ -414,6 +517,179 @@ public class DataLogRecord {
     }
   }
 
+  /**
+   * Decodes a data record as a string array into reusable character buffers. Note if the data type
+   * (as indicated in the corresponding start control record for this entry) is not "string[]",
+   * invalid results may be returned.
+   *
+   * <p>If the provided array is null or its length does not match the number of strings, a new
+   * array is allocated (reusing the existing character buffers) and returned. Character buffers are
+   * reused and grown as with {@link #getString(CharBuffer)}. Callers should keep the returned array
+   * for the next call so no allocation occurs in steady state.
+   *
+   * @param out array of character buffers to decode into (may be null)
+   * @return array of character buffers, one per string
+   * @throws InputMismatchException on error
+   */
+  public CharBuffer[] getStringArray(CharBuffer[] out) {
+    try {
+      int size = m_data.getInt(0);
+      // sanity check size
+      if (size < 0 || size > ((m_data.remaining() - 4) / 4)) {
+        throw new InputMismatchException("invalid size");
+      }
+      if (out == null || out.length != size) {
+        CharBuffer[] arr = new CharBuffer[size];
+        if (out != null) {
+          System.arraycopy(out, 0, arr, 0, Math.min(out.length, size));
+        }
+        out = arr;
+      }
+      int pos = 4;
+      for (int i = 0; i < size; i++) {
+        int len = m_data.getInt(pos);
+        pos += 4;
+        if (len < 0 || len > m_data.remaining() - pos) {
+          throw new InputMismatchException("invalid string size");
+        }
+        out[i] = decodeString(m_data, pos, len, out[i]);
+        pos += len;
+      }
+      return out;
+    } catch (BufferUnderflowException | IndexOutOfBoundsException ex) {
+      throw new InputMismatchException();
+    }
+  }
+
+  /**
+   * Decodes a data record as a struct, creating a new object. Note if the data type (as indicated
+   * in the corresponding start control record for this entry) is not the struct type, invalid
+   * results may be returned.
+   *
+   * @param <T> object type
+   * @param struct struct
+   * @return new object
+   * @throws InputMismatchException on error
+   */
+  public <T> T getStruct(Struct<T> struct) {
+    if (m_data.remaining() < struct.getSize()) {
+      throw new InputMismatchException("data size is smaller than struct size");
+    }
+    try {
+      return struct.unpack(m_data);
+    } finally {
+      m_data.position(0);
+    }
+  }
+
+  /**
+   * Decodes a data record as a struct into a mutable object. Note if the data type (as indicated in
+   * the corresponding start control record for this entry) is not the struct type, invalid results
+   * may be returned.
+   *
+   * @param <T> object type
+   * @param struct struct
+   * @param out object (will be updated with deserialized contents)
+   * @throws InputMismatchException on error
+   * @throws UnsupportedOperationException if T is immutable
+   */
+  public <T> void getStructInto(Struct<T> struct, T out) {
+    if (m_data.remaining() < struct.getSize()) {
+      throw new InputMismatchException("data size is smaller than struct size");
+    }
+    try {
+      struct.unpackInto(out, m_data);
+    } finally {
+      m_data.position(0);
+    }
+  }
+
+  /**
+   * Decodes a data record as a struct array into an array of mutable objects. Note if the data type
+   * (as indicated in the corresponding start control record for this entry) is not an array of the
+   * struct type, invalid results may be returned.
+   *
+   * @param <T> object type
+   * @param struct struct
+   * @param out objects (will be updated with deserialized contents); if the array is shorter than
+   *     the record, only the first out.length elements are updated
+   * @return number of elements in the record
+   * @throws InputMismatchException on error
+   * @throws UnsupportedOperationException if T is immutable
+   */
+  public <T> int getStructArrayInto(Struct<T> struct, T[] out) {
+    int structSize = struct.getSize();
+    if ((m_data.limit() % structSize) != 0) {
+      throw new InputMismatchException("data size is not a multiple of struct size");
+    }
+    int size = m_data.limit() / structSize;
+    int n = Math.min(size, out.length);
+    try {
+      for (int i = 0; i < n; i++) {
+        struct.unpackInto(out[i], m_data);
+      }
+    } finally {
+      m_data.position(0);
+    }
+    return size;
+  }
+
+  // decodes UTF-8 without allocating unless the output buffer is too small
+  private static CharBuffer decodeString(ByteBuffer buf, int start, int len, CharBuffer out) {
+    // UTF-8 never needs more UTF-16 code units than bytes
+    if (out == null || out.capacity() < len) {
+      out = CharBuffer.allocate(len);
+    }
+    out.clear();
+    int end = start + len;
+    int i = start;
+    while (i < end) {
+      int b = buf.get(i++) & 0xff;
+      int cp;
+      int extra;
+      if (b < 0x80) {
+        out.put((char) b);
+        continue;
+      } else if ((b & 0xe0) == 0xc0) {
+        cp = b & 0x1f;
+        extra = 1;
+      } else if ((b & 0xf0) == 0xe0) {
+        cp = b & 0x0f;
+        extra = 2;
+      } else if ((b & 0xf8) == 0xf0) {
+        cp = b & 0x07;
+        extra = 3;
+      } else {
+        out.put(kReplacementChar);
+        continue;
+      }
+      if (i + extra > end) {
+        out.put(kReplacementChar);
+        break;
+      }
+      boolean valid = true;
+      for (int j = 0; j < extra; j++) {
+        int c = buf.get(i) & 0xff;
+        if ((c & 0xc0) != 0x80) {
+          valid = false;
+          break;
+        }
+        cp = (cp << 6) | (c & 0x3f);
+        i++;
+      }
+      if (!valid) {
+        out.put(kReplacementChar);
+      } else if (cp >= 0x10000) {
+        out.put(Character.highSurrogate(cp));
+        out.put(Character.lowSurrogate(cp));
+      } else {
+        out.put((char) cp);
+      }
+    }
+    out.flip();
+    return out;
+  }
+
   private String readInnerString(ByteBuffer buf) {
     int size = buf.getInt();
     if (size > buf.remaining()) {
@@ -0,0 +1,514 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.util.datalog;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.InputMismatchException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Random-access data log reader. A single pass over the log builds a per-entry index of record
+ * offsets and timestamps; after that, per-entry and time-range queries are binary searches over the
+ * underlying buffer instead of a linear scan from the start of the log.
+ *
+ * <p>The index can be saved to a sidecar file with {@link #save(String)} and reloaded with {@link
+ * #load(DataLogReader, String)} to skip the indexing pass on later runs.
+ *
+ * <p>Records within each entry (and across the whole log) are ordered by timestamp. Records with
+ * equal timestamps keep their order in the log.
+ */
+public class IndexedDataLogReader {
+  private static final long kIndexMagic = 0x5849474f4c495057L; // "WPILOGIX"
+  private static final int kIndexVersion = 2;
+
+  /** Record offsets and timestamps, in timestamp order. */
+  private static final class RecordIndex {
+    int[] m_positions;
+    long[] m_timestamps;
+    int m_size;
+
+    RecordIndex(int capacity) {
+      m_positions = new int[capacity];
+      m_timestamps = new long[capacity];
+    }
+
+    RecordIndex(int[] positions, long[] timestamps) {
+      m_positions = positions;
+      m_timestamps = timestamps;
+      m_size = positions.length;
+    }
+
+    void add(int pos, long timestamp) {
+      if (m_size == m_positions.length) {
+        int capacity = Math.max(16, m_size * 2);
+        m_positions = Arrays.copyOf(m_positions, capacity);
+        m_timestamps = Arrays.copyOf(m_timestamps, capacity);
+      }
+      m_positions[m_size] = pos;
+      m_timestamps[m_size] = timestamp;
+      m_size++;
+    }
+
+    void trim() {
+      m_positions = Arrays.copyOf(m_positions, m_size);
+      m_timestamps = Arrays.copyOf(m_timestamps, m_size);
+    }
+
+    // sorts by timestamp; ties are broken by position, so this is stable with respect to the log
+    void sort() {
+      for (int i = 1; i < m_size; i++) {
+        if (m_timestamps[i] < m_timestamps[i - 1]) {
+          sortUnordered();
+          return;
+        }
+      }
+    }
+
+    private void sortUnordered() {
+      Integer[] order = new Integer[m_size];
+      for (int i = 0; i < m_size; i++) {
+        order[i] = i;
+      }
+      Arrays.sort(
+          order,
+          (a, b) -> {
+            int cmp = Long.compare(m_timestamps[a], m_timestamps[b]);
+            return cmp != 0 ? cmp : Integer.compare(m_positions[a], m_positions[b]);
+          });
+      int[] positions = new int[m_size];
+      long[] timestamps = new long[m_size];
+      for (int i = 0; i < m_size; i++) {
+        positions[i] = m_positions[order[i]];
+        timestamps[i] = m_timestamps[order[i]];
+      }
+      m_positions = positions;
+      m_timestamps = timestamps;
+    }
+
+    // returns index of first record with timestamp >= the given timestamp
+    int lowerBound(long timestamp) {
+      int lo = 0;
+      int hi = m_size;
+      while (lo < hi) {
+        int mid = (lo + hi) >>> 1;
+        if (m_timestamps[mid] < timestamp) {
+          lo = mid + 1;
+        } else {
+          hi = mid;
+        }
+      }
+      return lo;
+    }
+  }
+
+  /**
+   * Builds an index by reading through the entire log once.
+   *
+   * @param reader data log reader
+   */
+  public IndexedDataLogReader(DataLogReader reader) {
+    m_reader = reader;
+    m_control = new RecordIndex(64);
+    m_all = new RecordIndex(1024);
+    if (!reader.isValid()) {
+      m_control.trim();
+      m_all.trim();
+      return;
+    }
+
+    for (int pos = reader.getFirstRecord();
+        reader.isCompleteRecord(pos);
+        pos = reader.getNextRecord(pos)) {
+      int entry = reader.getRecordEntry(pos);
+      long timestamp = reader.getRecordTimestamp(pos);
+      if (entry == 0) {
+        m_control.add(pos, timestamp);
+        continue;
+      }
+      m_all.add(pos, timestamp);
+      m_entries.computeIfAbsent(entry, k -> new RecordIndex(64)).add(pos, timestamp);
+    }
+
+    m_control.trim();
+    m_control.sort();
+    m_all.trim();
+    m_all.sort();
+    for (RecordIndex index : m_entries.values()) {
+      index.trim();
+      index.sort();
+    }
+    readControlRecords();
+  }
+
+  private IndexedDataLogReader(
+      DataLogReader reader,
+      RecordIndex control,
+      RecordIndex all,
+      Map<Integer, RecordIndex> entries) {
+    m_reader = reader;
+    m_control = control;
+    m_all = all;
+    m_entries.putAll(entries);
+    readControlRecords();
+  }
+
+  // walks control records in timestamp order, so the latest start wins when an entry ID is reused
+  private void readControlRecords() {
+    for (int i = 0; i < m_control.m_size; i++) {
+      DataLogRecord record = m_reader.getRecord(m_control.m_positions[i]);
+      if (record.isStart()) {
+        DataLogRecord.StartRecordData data = record.getStartData();
+        m_starts.put(data.entry, data);
+        m_names.put(data.name, data.entry);
+      }
+    }
+  }
+
+  /**
+   * Loads a previously saved index from a sidecar file. The index must have been built from the
+   * same log.
+   *
+   * @param reader data log reader
+   * @param filename index filename
+   * @return Indexed reader
+   * @throws IOException if unable to open/read file
+   * @throws InputMismatchException if the index file is invalid or does not match the log
+   */
+  public static IndexedDataLogReader load(DataLogReader reader, String filename)
+      throws IOException {
+    ByteBuffer buf;
+    try (RandomAccessFile f = new RandomAccessFile(filename, "r");
+        FileChannel channel = f.getChannel()) {
+      buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    buf.order(ByteOrder.LITTLE_ENDIAN);
+    if (buf.remaining() < 24 || buf.getLong() != kIndexMagic || buf.getInt() != kIndexVersion) {
+      throw new InputMismatchException("not a data log index file");
+    }
+    if (buf.getInt() != reader.size() || buf.getLong() != checksum(reader)) {
+      throw new InputMismatchException("data log index does not match log");
+    }
+
+    try {
+      RecordIndex control = readIndex(buf);
+      RecordIndex all = readIndex(buf);
+      int numEntries = buf.getInt();
+      Map<Integer, RecordIndex> entries = new HashMap<>();
+      for (int i = 0; i < numEntries; i++) {
+        int entry = buf.getInt();
+        entries.put(entry, readIndex(buf));
+      }
+      return new IndexedDataLogReader(reader, control, all, entries);
+    } catch (RuntimeException ex) {
+      throw new InputMismatchException("invalid data log index file");
+    }
+  }
+
+  /**
+   * Saves the index to a sidecar file, so it can be reloaded with {@link #load(DataLogReader,
+   * String)}.
+   *
+   * @param filename index filename
+   * @throws IOException if unable to open/write file
+   */
+  public void save(String filename) throws IOException {
+    long size = 28 + indexBytes(m_control) + indexBytes(m_all);
+    for (RecordIndex index : m_entries.values()) {
+      size += 4 + indexBytes(index);
+    }
+    ByteBuffer buf = ByteBuffer.allocate(Math.toIntExact(size));
+    buf.order(ByteOrder.LITTLE_ENDIAN);
+    buf.putLong(kIndexMagic);
+    buf.putInt(kIndexVersion);
+    buf.putInt(m_reader.size());
+    buf.putLong(checksum(m_reader));
+    writeIndex(buf, m_control);
+    writeIndex(buf, m_all);
+    buf.putInt(m_entries.size());
+    for (Map.Entry<Integer, RecordIndex> entry : m_entries.entrySet()) {
+      buf.putInt(entry.getKey());
+      writeIndex(buf, entry.getValue());
+    }
+    buf.flip();
+
+    try (RandomAccessFile f = new RandomAccessFile(filename, "rw");
+        FileChannel channel = f.getChannel()) {
+      channel.truncate(0);
+      while (buf.hasRemaining()) {
+        channel.write(buf);
+      }
+    }
+  }
+
+  private static long indexBytes(RecordIndex index) {
+    return 4 + 12L * index.m_size;
+  }
+
+  private static void writeIndex(ByteBuffer buf, RecordIndex index) {
+    buf.putInt(index.m_size);
+    buf.asIntBuffer().put(index.m_positions, 0, index.m_size);
+    buf.position(buf.position() + 4 * index.m_size);
+    buf.asLongBuffer().put(index.m_timestamps, 0, index.m_size);
+    buf.position(buf.position() + 8 * index.m_size);
+  }
+
+  private static RecordIndex readIndex(ByteBuffer buf) {
+    int size = buf.getInt();
+    if (size < 0 || size > buf.remaining() / 12) {
+      throw new InputMismatchException("invalid index size");
+    }
+    int[] positions = new int[size];
+    long[] timestamps = new long[size];
+    buf.asIntBuffer().get(positions);
+    buf.position(buf.position() + 4 * size);
+    buf.asLongBuffer().get(timestamps);
+    buf.position(buf.position() + 8 * size);
+    return new RecordIndex(positions, timestamps);
+  }
+
+  // cheap identity check of a log: samples the header and up to 4 KiB at each end of the log
+  private static long checksum(DataLogReader reader) {
+    ByteBuffer buf = reader.getBuffer();
+    int size = buf.remaining();
+    long hash = 1125899906842597L;
+    int head = Math.min(size, 4096);
+    for (int i = 0; i < head; i++) {
+      hash = 31 * hash + buf.get(i);
+    }
+    for (int i = Math.max(head, size - 4096); i < size; i++) {
+      hash = 31 * hash + buf.get(i);
+    }
+    return hash;
+  }
+
+  /**
+   * Gets the underlying data log reader.
+   *
+   * @return data log reader
+   */
+  public DataLogReader getReader() {
+    return m_reader;
+  }
+
+  /**
+   * Gets the IDs of all entries that have at least one data record.
+   *
+   * @return entry IDs, in ascending order
+   */
+  public int[] getEntries() {
+    int[] entries = new int[m_entries.size()];
+    int i = 0;
+    for (int entry : m_entries.keySet()) {
+      entries[i++] = entry;
+    }
+    Arrays.sort(entries);
+    return entries;
+  }
+
+  /**
+   * Gets the start record data for an entry. If an entry ID was reused, the last start record for
+   * that ID is returned.
+   *
+   * @param entry entry ID
+   * @return start record data, or null if no start record was found
+   */
+  public DataLogRecord.StartRecordData getStartData(int entry) {
+    return m_starts.get(entry);
+  }
+
+  /**
+   * Finds the entry ID of the last started entry with the given name.
+   *
+   * @param name entry name
+   * @return entry ID, or -1 if not found
+   */
+  public int findEntry(String name) {
+    return m_names.getOrDefault(name, -1);
+  }
+
+  /**
+   * Gets all control (start, finish, and set metadata) records, in timestamp order.
+   *
+   * @return control records
+   */
+  public List<DataLogRecord> getControlRecords() {
+    List<DataLogRecord> records = new ArrayList<>(m_control.m_size);
+    for (int i = 0; i < m_control.m_size; i++) {
+      records.add(m_reader.getRecord(m_control.m_positions[i]));
+    }
+    return records;
+  }
+
+  /**
+   * Gets the total number of data records in the log.
+   *
+   * @return number of data records
+   */
+  public int getRecordCount() {
+    return m_all.m_size;
+  }
+
+  /**
+   * Gets the number of data records for an entry.
+   *
+   * @param entry entry ID
+   * @return number of data records
+   */
+  public int getRecordCount(int entry) {
+    RecordIndex index = m_entries.get(entry);
+    return index != null ? index.m_size : 0;
+  }
+
+  /**
+   * Gets a data record for an entry by its index.
+   *
+   * @param entry entry ID
+   * @param index record index (0 to getRecordCount(entry) - 1), in timestamp order
+   * @return data record
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public DataLogRecord getRecord(int entry, int index) {
+    RecordIndex records = getIndex(entry, index);
+    return m_reader.getRecord(records.m_positions[index]);
+  }
+
+  /**
+   * Gets the timestamp of a data record for an entry by its index, without decoding the record.
+   *
+   * @param entry entry ID
+   * @param index record index (0 to getRecordCount(entry) - 1), in timestamp order
+   * @return timestamp, in integer microseconds
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public long getTimestamp(int entry, int index) {
+    return getIndex(entry, index).m_timestamps[index];
+  }
+
+  private RecordIndex getIndex(int entry, int index) {
+    RecordIndex records = m_entries.get(entry);
+    if (records == null || index < 0 || index >= records.m_size) {
+      throw new IndexOutOfBoundsException("index " + index + " out of range for entry " + entry);
+    }
+    return records;
+  }
+
+  /**
+   * Finds the index of the first data record for an entry with a timestamp at or after the given
+   * time.
+   *
+   * @param entry entry ID
+   * @param timestamp timestamp, in integer microseconds
+   * @return record index; equal to getRecordCount(entry) if all records are before the timestamp
+   */
+  public int lowerBound(int entry, long timestamp) {
+    RecordIndex index = m_entries.get(entry);
+    return index != null ? index.lowerBound(timestamp) : 0;
+  }
+
+  /**
+   * Gets the most recent data record for an entry at or before the given time.
+   *
+   * @param entry entry ID
+   * @param timestamp timestamp, in integer microseconds
+   * @return data record, or null if there is no record at or before the timestamp
+   */
+  public DataLogRecord getRecordAt(int entry, long timestamp) {
+    RecordIndex index = m_entries.get(entry);
+    if (index == null) {
+      return null;
+    }
+    int i = index.lowerBound(timestamp);
+    if (i < index.m_size && index.m_timestamps[i] == timestamp) {
+      // move to last record with this exact timestamp
+      while (i + 1 < index.m_size && index.m_timestamps[i + 1] == timestamp) {
+        i++;
+      }
+      return m_reader.getRecord(index.m_positions[i]);
+    }
+    return i > 0 ? m_reader.getRecord(index.m_positions[i - 1]) : null;
+  }
+
+  /**
+   * Calls the action for each data record of an entry with a timestamp in [startTime, endTime), in
+   * timestamp order.
+   *
+   * @param entry entry ID
+   * @param startTime start timestamp (inclusive), in integer microseconds
+   * @param endTime end timestamp (exclusive), in integer microseconds
+   * @param action action to call for each record
+   */
+  public void forEach(
+      int entry, long startTime, long endTime, Consumer<? super DataLogRecord> action) {
+    RecordIndex index = m_entries.get(entry);
+    if (index != null) {
+      forEach(index, startTime, endTime, action);
+    }
+  }
+
+  /**
+   * Calls the action for each data record of all entries with a timestamp in [startTime, endTime),
+   * in timestamp order.
+   *
+   * @param startTime start timestamp (inclusive), in integer microseconds
+   * @param endTime end timestamp (exclusive), in integer microseconds
+   * @param action action to call for each record
+   */
+  public void forEach(long startTime, long endTime, Consumer<? super DataLogRecord> action) {
+    forEach(m_all, startTime, endTime, action);
+  }
+
+  private void forEach(
+      RecordIndex index, long startTime, long endTime, Consumer<? super DataLogRecord> action) {
+    for (int i = index.lowerBound(startTime);
+        i < index.m_size && index.m_timestamps[i] < endTime;
+        i++) {
+      action.accept(m_reader.getRecord(index.m_positions[i]));
+    }
+  }
+
+  /**
+   * Gets the data records of an entry with a timestamp in [startTime, endTime), in timestamp order.
+   *
+   * @param entry entry ID
+   * @param startTime start timestamp (inclusive), in integer microseconds
+   * @param endTime end timestamp (exclusive), in integer microseconds
+   * @return data records
+   */
+  public List<DataLogRecord> getRecords(int entry, long startTime, long endTime) {
+    List<DataLogRecord> records = new ArrayList<>();
+    forEach(entry, startTime, endTime, records::add);
+    return records;
+  }
+
+  /**
+   * Gets the data records of all entries with a timestamp in [startTime, endTime), in timestamp
+   * order.
+   *
+   * @param startTime start timestamp (inclusive), in integer microseconds
+   * @param endTime end timestamp (exclusive), in integer microseconds
+   * @return data records
+   */
+  public List<DataLogRecord> getRecords(long startTime, long endTime) {
+    List<DataLogRecord> records = new ArrayList<>();
+    forEach(startTime, endTime, records::add);
+    return records;
+  }
+
+  private final DataLogReader m_reader;
+  private final RecordIndex m_control;
+  private final RecordIndex m_all;
+  private final Map<Integer, RecordIndex> m_entries = new HashMap<>();
+  private final Map<Integer, DataLogRecord.StartRecordData> m_starts = new HashMap<>();
+  private final Map<String, Integer> m_names = new HashMap<>();
+}
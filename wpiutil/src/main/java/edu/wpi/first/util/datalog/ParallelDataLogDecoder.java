@@ -0,0 +1,289 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.util.datalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Decodes the records of a data log on multiple threads.
+ *
+ * <p>A cheap sequential pre-pass walks the record headers to find chunk boundaries and to resolve
+ * control records, so each chunk starts with the set of entries that are active at that point in
+ * the log. The chunks are then decoded in parallel on a {@link ForkJoinPool}, and the results are
+ * merged per entry in timestamp order.
+ */
+public final class ParallelDataLogDecoder {
+  /** Default amount of record data per chunk, in bytes. */
+  public static final int kDefaultChunkSize = 1 << 20;
+
+  /**
+   * Decodes a single data record.
+   *
+   * @param <R> decoded value type
+   */
+  @FunctionalInterface
+  public interface RecordDecoder<R> {
+    /**
+     * Decodes a data record. This is called concurrently from multiple threads.
+     *
+     * @param entry start record data of the entry the record belongs to (set metadata records are
+     *     not applied)
+     * @param record data record
+     * @return decoded value, or null to skip the record
+     */
+    R decode(DataLogRecord.StartRecordData entry, DataLogRecord record);
+  }
+
+  /**
+   * Decoded values of one entry.
+   *
+   * @param <R> decoded value type
+   */
+  public static final class EntryValues<R> {
+    EntryValues(DataLogRecord.StartRecordData entry, long[] timestamps, List<R> values) {
+      m_entry = entry;
+      m_timestamps = timestamps;
+      m_values = values;
+    }
+
+    /**
+     * Gets the start record data of the entry.
+     *
+     * @return start record data
+     */
+    public DataLogRecord.StartRecordData getEntry() {
+      return m_entry;
+    }
+
+    /**
+     * Gets the record timestamps, in timestamp order. The array must not be modified.
+     *
+     * @return timestamps, in integer microseconds
+     */
+    public long[] getTimestamps() {
+      return m_timestamps;
+    }
+
+    /**
+     * Gets the decoded values, in timestamp order.
+     *
+     * @return decoded values
+     */
+    public List<R> getValues() {
+      return m_values;
+    }
+
+    private final DataLogRecord.StartRecordData m_entry;
+    private final long[] m_timestamps;
+    private final List<R> m_values;
+  }
+
+  private static final class Chunk {
+    Chunk(int start, Map<Integer, DataLogRecord.StartRecordData> active) {
+      m_start = start;
+      m_active = active;
+    }
+
+    final int m_start;
+    int m_end;
+    final Map<Integer, DataLogRecord.StartRecordData> m_active;
+    // start records within the chunk, keyed by position, so all chunks share the same instances
+    final Map<Integer, DataLogRecord.StartRecordData> m_starts = new HashMap<>();
+  }
+
+  // values of one entry decoded from one chunk, in log order
+  private static final class ChunkValues<R> {
+    void add(long timestamp, R value) {
+      if (m_size == m_timestamps.length) {
+        m_timestamps = Arrays.copyOf(m_timestamps, m_size * 2);
+      }
+      m_timestamps[m_size++] = timestamp;
+      m_values.add(value);
+    }
+
+    long[] m_timestamps = new long[16];
+    int m_size;
+    final List<R> m_values = new ArrayList<>();
+  }
+
+  private static final class ChunkTask<R>
+      extends RecursiveTask<Map<DataLogRecord.StartRecordData, ChunkValues<R>>> {
+    ChunkTask(DataLogReader reader, Chunk chunk, RecordDecoder<R> decoder) {
+      m_reader = reader;
+      m_chunk = chunk;
+      m_decoder = decoder;
+    }
+
+    @Override
+    protected Map<DataLogRecord.StartRecordData, ChunkValues<R>> compute() {
+      Map<Integer, DataLogRecord.StartRecordData> active = new HashMap<>(m_chunk.m_active);
+      Map<DataLogRecord.StartRecordData, ChunkValues<R>> results = new IdentityHashMap<>();
+      for (int pos = m_chunk.m_start; pos < m_chunk.m_end; pos = m_reader.getNextRecord(pos)) {
+        DataLogRecord record = m_reader.getRecord(pos);
+        if (record.isControl()) {
+          if (record.isStart()) {
+            DataLogRecord.StartRecordData start = m_chunk.m_starts.get(pos);
+            active.put(start.entry, start);
+          } else if (record.isFinish()) {
+            active.remove(record.getFinishEntry());
+          }
+          continue;
+        }
+        DataLogRecord.StartRecordData entry = active.get(record.getEntry());
+        if (entry == null) {
+          continue;
+        }
+        R value = m_decoder.decode(entry, record);
+        if (value != null) {
+          results
+              .computeIfAbsent(entry, k -> new ChunkValues<>())
+              .add(record.getTimestamp(), value);
+        }
+      }
+      return results;
+    }
+
+    private final DataLogReader m_reader;
+    private final Chunk m_chunk;
+    private final RecordDecoder<R> m_decoder;
+  }
+
+  private ParallelDataLogDecoder() {
+    throw new UnsupportedOperationException("This is a utility class!");
+  }
+
+  /**
+   * Decodes all data records of a log using the common fork-join pool.
+   *
+   * @param <R> decoded value type
+   * @param reader data log reader
+   * @param decoder record decoder
+   * @return decoded values per entry, in the order the entries were started
+   */
+  public static <R> List<EntryValues<R>> decode(DataLogReader reader, RecordDecoder<R> decoder) {
+    return decode(reader, decoder, ForkJoinPool.commonPool(), kDefaultChunkSize);
+  }
+
+  /**
+   * Decodes all data records of a log.
+   *
+   * @param <R> decoded value type
+   * @param reader data log reader
+   * @param decoder record decoder
+   * @param pool pool to run the decoding on
+   * @param chunkSize approximate amount of record data per chunk, in bytes
+   * @return decoded values per entry, in the order the entries were started
+   */
+  public static <R> List<EntryValues<R>> decode(
+      DataLogReader reader, RecordDecoder<R> decoder, ForkJoinPool pool, int chunkSize) {
+    List<DataLogRecord.StartRecordData> entries = new ArrayList<>();
+    List<Chunk> chunks = split(reader, chunkSize, entries);
+
+    List<ChunkTask<R>> tasks = new ArrayList<>(chunks.size());
+    for (Chunk chunk : chunks) {
+      tasks.add(new ChunkTask<>(reader, chunk, decoder));
+    }
+    pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+
+    // merge chunk results per entry; chunks are in log order
+    Map<DataLogRecord.StartRecordData, List<ChunkValues<R>>> merged = new IdentityHashMap<>();
+    for (ChunkTask<R> task : tasks) {
+      for (Map.Entry<DataLogRecord.StartRecordData, ChunkValues<R>> result :
+          task.join().entrySet()) {
+        merged.computeIfAbsent(result.getKey(), k -> new ArrayList<>()).add(result.getValue());
+      }
+    }
+
+    List<EntryValues<R>> results = new ArrayList<>();
+    for (DataLogRecord.StartRecordData entry : entries) {
+      List<ChunkValues<R>> parts = merged.get(entry);
+      if (parts != null) {
+        results.add(concat(entry, parts));
+      }
+    }
+    return results;
+  }
+
+  // walks record headers, decoding only control records, to split the log at record boundaries
+  private static List<Chunk> split(
+      DataLogReader reader, int chunkSize, List<DataLogRecord.StartRecordData> entries) {
+    List<Chunk> chunks = new ArrayList<>();
+    if (!reader.isValid()) {
+      return chunks;
+    }
+    Map<Integer, DataLogRecord.StartRecordData> active = new HashMap<>();
+    int pos = reader.getFirstRecord();
+    Chunk chunk = new Chunk(pos, new HashMap<>());
+    for (; reader.isCompleteRecord(pos); pos = reader.getNextRecord(pos)) {
+      if (pos - chunk.m_start >= chunkSize) {
+        chunk.m_end = pos;
+        chunks.add(chunk);
+        chunk = new Chunk(pos, new HashMap<>(active));
+      }
+      if (reader.getRecordEntry(pos) == 0) {
+        DataLogRecord record = reader.getRecord(pos);
+        if (record.isStart()) {
+          DataLogRecord.StartRecordData start = record.getStartData();
+          active.put(start.entry, start);
+          chunk.m_starts.put(pos, start);
+          entries.add(start);
+        } else if (record.isFinish()) {
+          active.remove(record.getFinishEntry());
+        }
+      }
+    }
+    chunk.m_end = pos;
+    chunks.add(chunk);
+    return chunks;
+  }
+
+  private static <R> EntryValues<R> concat(
+      DataLogRecord.StartRecordData entry, List<ChunkValues<R>> parts) {
+    int size = 0;
+    for (ChunkValues<R> part : parts) {
+      size += part.m_size;
+    }
+    long[] timestamps = new long[size];
+    List<R> values = new ArrayList<>(size);
+    int i = 0;
+    for (ChunkValues<R> part : parts) {
+      System.arraycopy(part.m_timestamps, 0, timestamps, i, part.m_size);
+      values.addAll(part.m_values);
+      i += part.m_size;
+    }
+
+    for (i = 1; i < size; i++) {
+      if (timestamps[i] < timestamps[i - 1]) {
+        return sorted(entry, timestamps, values);
+      }
+    }
+    return new EntryValues<>(entry, timestamps, values);
+  }
+
+  // stable sort of values by timestamp
+  private static <R> EntryValues<R> sorted(
+      DataLogRecord.StartRecordData entry, long[] timestamps, List<R> values) {
+    Integer[] order = new Integer[timestamps.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> Long.compare(timestamps[a], timestamps[b]));
+    long[] sortedTimestamps = new long[order.length];
+    List<R> sortedValues = new ArrayList<>(order.length);
+    for (int i = 0; i < order.length; i++) {
+      sortedTimestamps[i] = timestamps[order[i]];
+      sortedValues.add(values.get(order[i]));
+    }
+    return new EntryValues<>(entry, sortedTimestamps, sortedValues);
+  }
+}
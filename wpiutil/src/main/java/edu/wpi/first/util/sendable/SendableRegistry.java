@@ -4,18 +4,24 @@
 
 package edu.wpi.first.util.sendable;
 
+import edu.wpi.first.util.WPIUtilJNI;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
  * The SendableRegistry class is the public interface for registering sensors and actuators for use
  * on dashboards and LiveWindow.
+ *
+ * <p>The registry is safe to use from multiple threads. It holds no global lock; each registered
+ * object has its own lock, so updating one object doesn't block work on any other. Objects are held
+ * weakly, and are dropped from the registry once they are garbage collected.
  */
 @SuppressWarnings("PMD.AvoidCatchingGenericException")
 public final class SendableRegistry {
@@ -36,13 +42,29 @@ public final class SendableRegistry {
       }
     }
 
-    WeakReference<Sendable> m_sendable;
-    SendableBuilder m_builder;
-    String m_name;
-    String m_subsystem = "Ungrouped";
-    WeakReference<Sendable> m_parent;
-    boolean m_liveWindow;
+    volatile WeakReference<Sendable> m_sendable;
+    volatile SendableBuilder m_builder;
+    volatile String m_name;
+    volatile String m_subsystem = "Ungrouped";
+    volatile WeakReference<Sendable> m_parent;
+    volatile boolean m_liveWindow;
     AutoCloseable[] m_data;
+    volatile long m_updatePeriodMicros;
+    long m_nextUpdateMicros;
+
+    // Checks if the builder should be updated, and if so, schedules the next update
+    boolean isUpdateDue() {
+      long period = m_updatePeriodMicros;
+      if (period <= 0) {
+        return true;
+      }
+      long now = WPIUtilJNI.now();
+      if (now < m_nextUpdateMicros) {
+        return false;
+      }
+      m_nextUpdateMicros = now + period;
+      return true;
+    }
 
     void setName(String moduleType, int channel) {
       m_name = moduleType + "[" + channel + "]";
@@ -53,23 +75,98 @@ public final class SendableRegistry {
     }
   }
 
-  private static Supplier<SendableBuilder> liveWindowFactory;
-  private static final Map<Object, Component> components = new WeakHashMap<>();
-  private static int nextDataHandle;
+  // A key in the component map, which refers to its object weakly. Like WeakHashMap, objects are
+  // compared with equals() and hashCode().
+  private static final class WeakKey extends WeakReference<Object> {
+    private final int m_hash;
 
-  private static Component getOrAdd(Sendable sendable) {
-    Component comp = components.get(sendable);
+    WeakKey(Object object, ReferenceQueue<Object> queue) {
+      super(object, queue);
+      m_hash = object.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+      return m_hash;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      Object object = get();
+      return object != null
+          && other instanceof WeakKey key
+          && m_hash == key.m_hash
+          && object.equals(key.get());
+    }
+  }
+
+  // A key for looking up an object in the component map without allocating a weak reference
+  private record LookupKey(Object object) {
+    @Override
+    public int hashCode() {
+      return object.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof WeakKey key && object.equals(key.get());
+    }
+  }
+
+  private static volatile Supplier<SendableBuilder> liveWindowFactory;
+  private static final Map<Object, Component> components = new ConcurrentHashMap<>();
+  private static final ReferenceQueue<Object> collectedKeys = new ReferenceQueue<>();
+  private static final AtomicInteger nextDataHandle = new AtomicInteger();
+
+  // Removes the components of objects that have been garbage collected
+  private static void expungeCollected() {
+    for (Reference<?> key = collectedKeys.poll(); key != null; key = collectedKeys.poll()) {
+      components.remove(key);
+    }
+  }
+
+  private static Component get(Object object) {
+    if (object == null) {
+      return null;
+    }
+    return components.get(new LookupKey(object));
+  }
+
+  private static Component getOrAdd(Object object, Supplier<Component> factory) {
+    expungeCollected();
+    Component comp = get(object);
     if (comp == null) {
-      comp = new Component(sendable);
-      components.put(sendable, comp);
-    } else {
-      if (comp.m_sendable == null) {
-        comp.m_sendable = new WeakReference<>(sendable);
+      Component added = factory.get();
+      comp = components.putIfAbsent(new WeakKey(object, collectedKeys), added);
+      if (comp == null) {
+        comp = added;
       }
     }
     return comp;
   }
 
+  private static Component getOrAdd(Sendable sendable) {
+    Component comp = getOrAdd(sendable, () -> new Component(sendable));
+    if (comp.m_sendable == null) {
+      comp.m_sendable = new WeakReference<>(sendable);
+    }
+    return comp;
+  }
+
+  private static void closeBuilder(Component comp) {
+    if (comp.m_builder != null) {
+      try {
+        comp.m_builder.close();
+      } catch (Exception e) {
+        // ignore
+      }
+    }
+  }
+
   private SendableRegistry() {
     throw new UnsupportedOperationException("This is a utility class!");
   }
@@ -79,7 +176,7 @@ public final class SendableRegistry {
    *
    * @param factory factory function
    */
-  public static synchronized void setLiveWindowBuilderFactory(Supplier<SendableBuilder> factory) {
+  public static void setLiveWindowBuilderFactory(Supplier<SendableBuilder> factory) {
     liveWindowFactory = factory;
   }
 
@@ -89,7 +186,7 @@ public final class SendableRegistry {
    * @param sendable object to add
    * @param name component name
    */
-  public static synchronized void add(Sendable sendable, String name) {
+  public static void add(Sendable sendable, String name) {
     Component comp = getOrAdd(sendable);
     comp.m_name = name;
   }
@@ -101,7 +198,7 @@ public final class SendableRegistry {
    * @param moduleType A string that defines the module name in the label for the value
    * @param channel The channel number the device is plugged into
    */
-  public static synchronized void add(Sendable sendable, String moduleType, int channel) {
+  public static void add(Sendable sendable, String moduleType, int channel) {
     Component comp = getOrAdd(sendable);
     comp.setName(moduleType, channel);
   }
@@ -114,8 +211,7 @@ public final class SendableRegistry {
    * @param moduleNumber The number of the particular module type
    * @param channel The channel number the device is plugged into
    */
-  public static synchronized void add(
-      Sendable sendable, String moduleType, int moduleNumber, int channel) {
+  public static void add(Sendable sendable, String moduleType, int moduleNumber, int channel) {
     Component comp = getOrAdd(sendable);
     comp.setName(moduleType, moduleNumber, channel);
   }
@@ -127,7 +223,7 @@ public final class SendableRegistry {
    * @param subsystem subsystem name
    * @param name component name
    */
-  public static synchronized void add(Sendable sendable, String subsystem, String name) {
+  public static void add(Sendable sendable, String subsystem, String name) {
     Component comp = getOrAdd(sendable);
     comp.m_name = name;
     comp.m_subsystem = subsystem;
@@ -139,20 +235,17 @@ public final class SendableRegistry {
    * @param sendable object to add
    * @param name component name
    */
-  public static synchronized void addLW(Sendable sendable, String name) {
+  public static void addLW(Sendable sendable, String name) {
     Component comp = getOrAdd(sendable);
-    if (liveWindowFactory != null) {
-      if (comp.m_builder != null) {
-        try {
-          comp.m_builder.close();
-        } catch (Exception e) {
-          // ignore
-        }
+    Supplier<SendableBuilder> factory = liveWindowFactory;
+    synchronized (comp) {
+      if (factory != null) {
+        closeBuilder(comp);
+        comp.m_builder = factory.get();
       }
-      comp.m_builder = liveWindowFactory.get();
+      comp.m_liveWindow = true;
+      comp.m_name = name;
     }
-    comp.m_liveWindow = true;
-    comp.m_name = name;
   }
 
   /**
@@ -162,20 +255,17 @@ public final class SendableRegistry {
    * @param moduleType A string that defines the module name in the label for the value
    * @param channel The channel number the device is plugged into
    */
-  public static synchronized void addLW(Sendable sendable, String moduleType, int channel) {
+  public static void addLW(Sendable sendable, String moduleType, int channel) {
     Component comp = getOrAdd(sendable);
-    if (liveWindowFactory != null) {
-      if (comp.m_builder != null) {
-        try {
-          comp.m_builder.close();
-        } catch (Exception e) {
-          // ignore
-        }
+    Supplier<SendableBuilder> factory = liveWindowFactory;
+    synchronized (comp) {
+      if (factory != null) {
+        closeBuilder(comp);
+        comp.m_builder = factory.get();
       }
-      comp.m_builder = liveWindowFactory.get();
+      comp.m_liveWindow = true;
+      comp.setName(moduleType, channel);
     }
-    comp.m_liveWindow = true;
-    comp.setName(moduleType, channel);
   }
 
   /**
@@ -186,21 +276,17 @@ public final class SendableRegistry {
    * @param moduleNumber The number of the particular module type
    * @param channel The channel number the device is plugged into
    */
-  public static synchronized void addLW(
-      Sendable sendable, String moduleType, int moduleNumber, int channel) {
+  public static void addLW(Sendable sendable, String moduleType, int moduleNumber, int channel) {
     Component comp = getOrAdd(sendable);
-    if (liveWindowFactory != null) {
-      if (comp.m_builder != null) {
-        try {
-          comp.m_builder.close();
-        } catch (Exception e) {
-          // ignore
-        }
+    Supplier<SendableBuilder> factory = liveWindowFactory;
+    synchronized (comp) {
+      if (factory != null) {
+        closeBuilder(comp);
+        comp.m_builder = factory.get();
       }
-      comp.m_builder = liveWindowFactory.get();
+      comp.m_liveWindow = true;
+      comp.setName(moduleType, moduleNumber, channel);
     }
-    comp.m_liveWindow = true;
-    comp.setName(moduleType, moduleNumber, channel);
   }
 
   /**
@@ -210,21 +296,18 @@ public final class SendableRegistry {
    * @param subsystem subsystem name
    * @param name component name
    */
-  public static synchronized void addLW(Sendable sendable, String subsystem, String name) {
+  public static void addLW(Sendable sendable, String subsystem, String name) {
     Component comp = getOrAdd(sendable);
-    if (liveWindowFactory != null) {
-      if (comp.m_builder != null) {
-        try {
-          comp.m_builder.close();
-        } catch (Exception e) {
-          // ignore
-        }
+    Supplier<SendableBuilder> factory = liveWindowFactory;
+    synchronized (comp) {
+      if (factory != null) {
+        closeBuilder(comp);
+        comp.m_builder = factory.get();
       }
-      comp.m_builder = liveWindowFactory.get();
+      comp.m_liveWindow = true;
+      comp.m_name = name;
+      comp.m_subsystem = subsystem;
     }
-    comp.m_liveWindow = true;
-    comp.m_name = name;
-    comp.m_subsystem = subsystem;
   }
 
   /**
@@ -234,12 +317,8 @@ public final class SendableRegistry {
    * @param parent parent object
    * @param child child object
    */
-  public static synchronized void addChild(Sendable parent, Object child) {
-    Component comp = components.get(child);
-    if (comp == null) {
-      comp = new Component();
-      components.put(child, comp);
-    }
+  public static void addChild(Sendable parent, Object child) {
+    Component comp = getOrAdd(child, Component::new);
     comp.m_parent = new WeakReference<>(parent);
   }
 
@@ -249,13 +328,19 @@ public final class SendableRegistry {
    * @param sendable object to remove
    * @return true if the object was removed; false if it was not present
    */
-  public static synchronized boolean remove(Sendable sendable) {
-    Component comp = components.remove(sendable);
+  public static boolean remove(Sendable sendable) {
+    expungeCollected();
+    if (sendable == null) {
+      return false;
+    }
+    Component comp = components.remove(new LookupKey(sendable));
     if (comp != null) {
-      try {
-        comp.close();
-      } catch (Exception e) {
-        // ignore
+      synchronized (comp) {
+        try {
+          comp.close();
+        } catch (Exception e) {
+          // ignore
+        }
       }
     }
     return comp != null;
@@ -267,8 +352,8 @@ public final class SendableRegistry {
    * @param sendable object to check
    * @return True if in registry, false if not.
    */
-  public static synchronized boolean contains(Sendable sendable) {
-    return components.containsKey(sendable);
+  public static boolean contains(Sendable sendable) {
+    return get(sendable) != null;
   }
 
   /**
@@ -277,8 +362,8 @@ public final class SendableRegistry {
    * @param sendable object
    * @return Name (empty if object is not in registry)
    */
-  public static synchronized String getName(Sendable sendable) {
-    Component comp = components.get(sendable);
+  public static String getName(Sendable sendable) {
+    Component comp = get(sendable);
     if (comp == null) {
       return "";
     }
@@ -291,8 +376,8 @@ public final class SendableRegistry {
    * @param sendable object
    * @param name name
    */
-  public static synchronized void setName(Sendable sendable, String name) {
-    Component comp = components.get(sendable);
+  public static void setName(Sendable sendable, String name) {
+    Component comp = get(sendable);
     if (comp != null) {
       comp.m_name = name;
     }
@@ -305,8 +390,8 @@ public final class SendableRegistry {
    * @param moduleType A string that defines the module name in the label for the value
    * @param channel The channel number the device is plugged into
    */
-  public static synchronized void setName(Sendable sendable, String moduleType, int channel) {
-    Component comp = components.get(sendable);
+  public static void setName(Sendable sendable, String moduleType, int channel) {
+    Component comp = get(sendable);
     if (comp != null) {
       comp.setName(moduleType, channel);
     }
@@ -320,9 +405,8 @@ public final class SendableRegistry {
    * @param moduleNumber The number of the particular module type
    * @param channel The channel number the device is plugged into
    */
-  public static synchronized void setName(
-      Sendable sendable, String moduleType, int moduleNumber, int channel) {
-    Component comp = components.get(sendable);
+  public static void setName(Sendable sendable, String moduleType, int moduleNumber, int channel) {
+    Component comp = get(sendable);
     if (comp != null) {
       comp.setName(moduleType, moduleNumber, channel);
     }
@@ -335,8 +419,8 @@ public final class SendableRegistry {
    * @param subsystem subsystem name
    * @param name device name
    */
-  public static synchronized void setName(Sendable sendable, String subsystem, String name) {
-    Component comp = components.get(sendable);
+  public static void setName(Sendable sendable, String subsystem, String name) {
+    Component comp = get(sendable);
     if (comp != null) {
       comp.m_name = name;
       comp.m_subsystem = subsystem;
@@ -349,8 +433,8 @@ public final class SendableRegistry {
    * @param sendable object
    * @return Subsystem name (empty if object is not in registry)
    */
-  public static synchronized String getSubsystem(Sendable sendable) {
-    Component comp = components.get(sendable);
+  public static String getSubsystem(Sendable sendable) {
+    Component comp = get(sendable);
     if (comp == null) {
       return "";
     }
@@ -363,8 +447,8 @@ public final class SendableRegistry {
    * @param sendable object
    * @param subsystem subsystem name
    */
-  public static synchronized void setSubsystem(Sendable sendable, String subsystem) {
-    Component comp = components.get(sendable);
+  public static void setSubsystem(Sendable sendable, String subsystem) {
+    Component comp = get(sendable);
     if (comp != null) {
       comp.m_subsystem = subsystem;
     }
@@ -375,8 +459,8 @@ public final class SendableRegistry {
    *
    * @return Handle
    */
-  public static synchronized int getDataHandle() {
-    return nextDataHandle++;
+  public static int getDataHandle() {
+    return nextDataHandle.getAndIncrement();
   }
 
   /**
@@ -388,31 +472,32 @@ public final class SendableRegistry {
    * @return Previous data (may be null). If non-null, caller is responsible for calling close().
    */
   @SuppressWarnings("PMD.CompareObjectsWithEquals")
-  public static synchronized AutoCloseable setData(
-      Sendable sendable, int handle, AutoCloseable data) {
-    Component comp = components.get(sendable);
+  public static AutoCloseable setData(Sendable sendable, int handle, AutoCloseable data) {
+    Component comp = get(sendable);
     if (comp == null) {
       return null;
     }
-    AutoCloseable rv = null;
-    if (comp.m_data == null) {
-      comp.m_data = new AutoCloseable[handle + 1];
-    } else if (handle < comp.m_data.length) {
-      rv = comp.m_data[handle];
-    } else {
-      comp.m_data = Arrays.copyOf(comp.m_data, handle + 1);
-    }
-    if (comp.m_data[handle] != data) {
-      if (comp.m_data[handle] != null) {
-        try {
-          comp.m_data[handle].close();
-        } catch (Exception e) {
-          // ignore
+    synchronized (comp) {
+      AutoCloseable rv = null;
+      if (comp.m_data == null) {
+        comp.m_data = new AutoCloseable[handle + 1];
+      } else if (handle < comp.m_data.length) {
+        rv = comp.m_data[handle];
+      } else {
+        comp.m_data = Arrays.copyOf(comp.m_data, handle + 1);
+      }
+      if (comp.m_data[handle] != data) {
+        if (comp.m_data[handle] != null) {
+          try {
+            comp.m_data[handle].close();
+          } catch (Exception e) {
+            // ignore
+          }
         }
+        comp.m_data[handle] = data;
       }
-      comp.m_data[handle] = data;
+      return rv;
     }
-    return rv;
   }
 
   /**
@@ -422,12 +507,17 @@ public final class SendableRegistry {
    * @param handle data handle returned by getDataHandle()
    * @return data (may be null if none associated)
    */
-  public static synchronized Object getData(Sendable sendable, int handle) {
-    Component comp = components.get(sendable);
-    if (comp == null || comp.m_data == null || handle >= comp.m_data.length) {
+  public static Object getData(Sendable sendable, int handle) {
+    Component comp = get(sendable);
+    if (comp == null) {
       return null;
     }
-    return comp.m_data[handle];
+    synchronized (comp) {
+      if (comp.m_data == null || handle >= comp.m_data.length) {
+        return null;
+      }
+      return comp.m_data[handle];
+    }
   }
 
   /**
@@ -435,8 +525,8 @@ public final class SendableRegistry {
    *
    * @param sendable object
    */
-  public static synchronized void enableLiveWindow(Sendable sendable) {
-    Component comp = components.get(sendable);
+  public static void enableLiveWindow(Sendable sendable) {
+    Component comp = get(sendable);
     if (comp != null) {
       comp.m_liveWindow = true;
     }
@@ -447,8 +537,8 @@ public final class SendableRegistry {
    *
    * @param sendable object
    */
-  public static synchronized void disableLiveWindow(Sendable sendable) {
-    Component comp = components.get(sendable);
+  public static void disableLiveWindow(Sendable sendable) {
+    Component comp = get(sendable);
     if (comp != null) {
       comp.m_liveWindow = false;
     }
@@ -460,30 +550,64 @@ public final class SendableRegistry {
    * @param sendable object
    * @param builder sendable builder
    */
-  public static synchronized void publish(Sendable sendable, SendableBuilder builder) {
+  public static void publish(Sendable sendable, SendableBuilder builder) {
     Component comp = getOrAdd(sendable);
-    if (comp.m_builder != null) {
-      try {
-        comp.m_builder.close();
-      } catch (Exception e) {
-        // ignore
+    synchronized (comp) {
+      closeBuilder(comp);
+      comp.m_builder = builder; // clear any current builder
+      sendable.initSendable(builder);
+      builder.update();
+      comp.m_nextUpdateMicros = 0;
+    }
+  }
+
+  /**
+   * Updates network table information from an object. If the object has an {@link
+   * #setUpdatePeriod(Sendable, double) update period}, this does nothing until that much time has
+   * passed since its last update.
+   *
+   * @param sendable object
+   */
+  public static void update(Sendable sendable) {
+    Component comp = get(sendable);
+    if (comp == null) {
+      return;
+    }
+    synchronized (comp) {
+      if (comp.m_builder != null && comp.isUpdateDue()) {
+        comp.m_builder.update();
       }
     }
-    comp.m_builder = builder; // clear any current builder
-    sendable.initSendable(comp.m_builder);
-    comp.m_builder.update();
   }
 
   /**
-   * Updates network table information from an object.
+   * Sets the minimum time between updates of an object. Objects that change slowly, or that are
+   * only of passing interest on a dashboard, can be updated less often than every robot loop to
+   * save loop time. By default, objects are updated every time {@link #update(Sendable)} is called.
+   *
+   * @param sendable object
+   * @param periodSeconds minimum time between updates, in seconds; 0 to update every time
+   */
+  public static void setUpdatePeriod(Sendable sendable, double periodSeconds) {
+    Component comp = get(sendable);
+    if (comp != null) {
+      comp.m_updatePeriodMicros = (long) (Math.max(periodSeconds, 0) * 1e6);
+    }
+  }
+
+  /**
+   * Gets the minimum time between updates of an object.
    *
    * @param sendable object
+   * @return minimum time between updates, in seconds (0 if the object is updated every time, or is
+   *     not in the registry)
    */
-  public static synchronized void update(Sendable sendable) {
-    Component comp = components.get(sendable);
-    if (comp != null && comp.m_builder != null) {
-      comp.m_builder.update();
+  public static double getUpdatePeriod(Sendable sendable) {
+    Component comp = get(sendable);
+    if (comp == null) {
+      return 0;
     }
+    return comp.m_updatePeriodMicros / 1e6;
   }
 
   /** Data passed to foreachLiveWindow() callback function. */
@@ -511,72 +635,73 @@ public final class SendableRegistry {
     public CallbackData() {}
   }
 
-  // As foreachLiveWindow is single threaded, cache the components it
-  // iterates over to avoid risk of ConcurrentModificationException
-  private static List<Component> foreachComponents = new ArrayList<>();
-
   /**
-   * Iterates over LiveWindow-enabled objects in the registry. It is *not* safe to call other
-   * SendableRegistry functions from the callback.
+   * Iterates over LiveWindow-enabled objects in the registry. Objects added or removed while
+   * iterating may or may not be visited. Each object is locked while the callback runs for it.
    *
    * @param dataHandle data handle to get data object passed to callback
    * @param callback function to call for each object
    */
   @SuppressWarnings("PMD.CompareObjectsWithEquals")
-  public static synchronized void foreachLiveWindow(
-      int dataHandle, Consumer<CallbackData> callback) {
+  public static void foreachLiveWindow(int dataHandle, Consumer<CallbackData> callback) {
+    expungeCollected();
     CallbackData cbdata = new CallbackData();
-    foreachComponents.clear();
-    foreachComponents.addAll(components.values());
-    for (Component comp : foreachComponents) {
-      if (comp.m_builder == null || comp.m_sendable == null) {
-        continue;
+    for (Component comp : components.values()) {
+      synchronized (comp) {
+        foreachLiveWindow(comp, dataHandle, callback, cbdata);
       }
-      cbdata.sendable = comp.m_sendable.get();
-      if (cbdata.sendable != null && comp.m_liveWindow) {
-        cbdata.name = comp.m_name;
-        cbdata.subsystem = comp.m_subsystem;
-        if (comp.m_parent != null) {
-          cbdata.parent = comp.m_parent.get();
-        } else {
-          cbdata.parent = null;
-        }
-        if (comp.m_data != null && dataHandle < comp.m_data.length) {
-          cbdata.data = comp.m_data[dataHandle];
-        } else {
-          cbdata.data = null;
+    }
+  }
+
+  @SuppressWarnings("PMD.CompareObjectsWithEquals")
+  private static void foreachLiveWindow(
+      Component comp, int dataHandle, Consumer<CallbackData> callback, CallbackData cbdata) {
+    if (comp.m_builder == null || comp.m_sendable == null) {
+      return;
+    }
+    cbdata.sendable = comp.m_sendable.get();
+    if (cbdata.sendable != null && comp.m_liveWindow) {
+      cbdata.name = comp.m_name;
+      cbdata.subsystem = comp.m_subsystem;
+      if (comp.m_parent != null) {
+        cbdata.parent = comp.m_parent.get();
+      } else {
+        cbdata.parent = null;
+      }
+      if (comp.m_data != null && dataHandle < comp.m_data.length) {
+        cbdata.data = comp.m_data[dataHandle];
+      } else {
+        cbdata.data = null;
+      }
+      cbdata.builder = comp.m_builder;
+      try {
+        callback.accept(cbdata);
+      } catch (Throwable throwable) {
+        Throwable cause = throwable.getCause();
+        if (cause != null) {
+          throwable = cause;
         }
-        cbdata.builder = comp.m_builder;
-        try {
-          callback.accept(cbdata);
-        } catch (Throwable throwable) {
-          Throwable cause = throwable.getCause();
-          if (cause != null) {
-            throwable = cause;
-          }
-          System.err.println("Unhandled exception calling LiveWindow for " + comp.m_name + ": ");
-          throwable.printStackTrace();
-          comp.m_liveWindow = false;
+        System.err.println("Unhandled exception calling LiveWindow for " + comp.m_name + ": ");
+        throwable.printStackTrace();
+        comp.m_liveWindow = false;
+      }
+      if (cbdata.data != null) {
+        if (comp.m_data == null) {
+          comp.m_data = new AutoCloseable[dataHandle + 1];
+        } else if (dataHandle >= comp.m_data.length) {
+          comp.m_data = Arrays.copyOf(comp.m_data, dataHandle + 1);
         }
-        if (cbdata.data != null) {
-          if (comp.m_data == null) {
-            comp.m_data = new AutoCloseable[dataHandle + 1];
-          } else if (dataHandle >= comp.m_data.length) {
-            comp.m_data = Arrays.copyOf(comp.m_data, dataHandle + 1);
-          }
-          if (comp.m_data[dataHandle] != cbdata.data) {
-            if (comp.m_data[dataHandle] != null) {
-              try {
-                comp.m_data[dataHandle].close();
-              } catch (Exception e) {
-                // ignore
-              }
+        if (comp.m_data[dataHandle] != cbdata.data) {
+          if (comp.m_data[dataHandle] != null) {
+            try {
+              comp.m_data[dataHandle].close();
+            } catch (Exception e) {
+              // ignore
             }
-            comp.m_data[dataHandle] = cbdata.data;
           }
+          comp.m_data[dataHandle] = cbdata.data;
         }
       }
     }
-    foreachComponents.clear();
   }
 }
@@ -0,0 +1,29 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.util.struct;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Placed on a record or enum to generate a {@link Struct} implementation for it at compile time.
+ * The annotation processor in {@code epilogue-processor} emits a class named after the annotated
+ * type with a {@code Struct} suffix (nested type names are joined with underscores, e.g. {@code
+ * Outer_InnerStruct}) in the same package. The generated struct uses the same schema as {@link
+ * StructGenerator}, which also picks up the generated class at runtime and only falls back to
+ * reflection if the annotation processor did not run.
+ *
+ * <pre><code>
+ *   {@literal @}GenerateStruct
+ *    public record ModuleSample(double position, double velocity) {
+ *      public static final ModuleSampleStruct struct = new ModuleSampleStruct();
+ *    }
+ * </code></pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface GenerateStruct {}
@@ -5,6 +5,7 @@
 package edu.wpi.first.util.struct;
 
 import java.lang.reflect.Array;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Collection;
@@ -19,6 +20,7 @@ public final class StructBuffer<T> {
     m_structSize = struct.getSize();
     m_buf = ByteBuffer.allocateDirect(m_structSize).order(ByteOrder.LITTLE_ENDIAN);
     m_struct = struct;
+    m_unpackIntoSupported = !struct.isImmutable();
   }
 
   /**
@@ -139,6 +141,7 @@ public final class StructBuffer<T> {
    * @throws UnsupportedOperationException if T is immutable
    */
   public void readInto(T out, ByteBuffer buf) {
+    buf.order(ByteOrder.LITTLE_ENDIAN);
     m_struct.unpackInto(out, buf);
   }
 
@@ -170,18 +173,54 @@ public final class StructBuffer<T> {
    * @return byte buffer
    */
   public ByteBuffer writeArray(T[] values) {
+    return writeArray(values, values.length);
+  }
+
+  /**
+   * Serializes the first count elements of an array of values to a ByteBuffer. This allows a caller
+   * to reuse a single (possibly oversized) array across calls. The returned ByteBuffer is a direct
+   * byte buffer with the position set to the end of the serialized data.
+   *
+   * @param values values
+   * @param count number of values to serialize
+   * @return byte buffer
+   */
+  public ByteBuffer writeArray(T[] values, int count) {
+    if (count < 0 || count > values.length) {
+      throw new IndexOutOfBoundsException("count " + count + " out of range");
+    }
     m_buf.position(0);
-    if ((values.length * m_structSize) > m_buf.capacity()) {
-      m_buf =
-          ByteBuffer.allocateDirect(values.length * m_structSize * 2)
-              .order(ByteOrder.LITTLE_ENDIAN);
+    if ((count * m_structSize) > m_buf.capacity()) {
+      m_buf = ByteBuffer.allocateDirect(count * m_structSize * 2).order(ByteOrder.LITTLE_ENDIAN);
     }
-    for (T v : values) {
-      m_struct.pack(m_buf, v);
+    for (int i = 0; i < count; i++) {
+      m_struct.pack(m_buf, values[i]);
     }
     return m_buf;
   }
 
+  /**
+   * Serializes the first count elements of an array of values into a caller-provided ByteBuffer,
+   * starting at its current position. The position is advanced to the end of the serialized data.
+   *
+   * @param out output byte buffer (byte order will be set to little endian)
+   * @param values values
+   * @param count number of values to serialize
+   * @throws BufferOverflowException if there is insufficient space in the output buffer
+   */
+  public void writeArrayInto(ByteBuffer out, T[] values, int count) {
+    if (count < 0 || count > values.length) {
+      throw new IndexOutOfBoundsException("count " + count + " out of range");
+    }
+    if (out.remaining() < count * m_structSize) {
+      throw new BufferOverflowException();
+    }
+    out.order(ByteOrder.LITTLE_ENDIAN);
+    for (int i = 0; i < count; i++) {
+      m_struct.pack(out, values[i]);
+    }
+  }
+
   /**
    * Deserializes an array of values from a byte array, creating an array of new objects.
    *
@@ -225,7 +264,60 @@ public final class StructBuffer<T> {
     return arr;
   }
 
+  /**
+   * Deserializes an array of values from a ByteBuffer into a caller-provided array, without
+   * allocating a new array. Existing non-null elements are updated in place with {@link
+   * Struct#unpackInto} when the struct supports it; otherwise new objects are created.
+   *
+   * @param out array to fill; if it is shorter than the serialized data, only the first out.length
+   *     elements are read
+   * @param buf byte buffer
+   * @return number of elements in the serialized data
+   */
+  public int readArrayInto(T[] out, ByteBuffer buf) {
+    buf.order(ByteOrder.LITTLE_ENDIAN);
+    int len = buf.limit() - buf.position();
+    if ((len % m_structSize) != 0) {
+      throw new RuntimeException("buffer size not a multiple of struct size");
+    }
+    int nelem = len / m_structSize;
+    int n = Math.min(nelem, out.length);
+    for (int i = 0; i < n; i++) {
+      if (out[i] == null || !m_unpackIntoSupported) {
+        out[i] = m_struct.unpack(buf);
+        continue;
+      }
+      int pos = buf.position();
+      try {
+        m_struct.unpackInto(out[i], buf);
+      } catch (UnsupportedOperationException ex) {
+        // remember so the exception is only thrown once per buffer
+        m_unpackIntoSupported = false;
+        buf.position(pos);
+        out[i] = m_struct.unpack(buf);
+      }
+    }
+    return nelem;
+  }
+
+  /**
+   * Deserializes an array of values from a byte array into a caller-provided array, without
+   * allocating a new array. Existing non-null elements are updated in place with {@link
+   * Struct#unpackInto} when the struct supports it; otherwise new objects are created.
+   *
+   * @param out array to fill; if it is shorter than the serialized data, only the first out.length
+   *     elements are read
+   * @param buf byte array
+   * @param start starting location within byte array
+   * @param len length of serialized data
+   * @return number of elements in the serialized data
+   */
+  public int readArrayInto(T[] out, byte[] buf, int start, int len) {
+    return readArrayInto(out, ByteBuffer.wrap(buf, start, len));
+  }
+
   private ByteBuffer m_buf;
   private final Struct<T> m_struct;
+  private boolean m_unpackIntoSupported;
   private final int m_structSize;
 }
@@ -245,9 +245,42 @@ public final class StructGenerator {
   }
 
   /**
-   * Generates a {@link Struct} for the given {@link Record} class. If a {@link Struct} cannot be
-   * generated from the {@link Record}, the errors encountered will be printed and a no-op {@link
-   * Struct} will be returned.
+   * Finds the struct class generated at compile time for a type annotated with {@link
+   * GenerateStruct}.
+   *
+   * @param <T> The type the struct is for.
+   * @param cls The class of the type.
+   * @return The generated struct, or null if the type is not annotated or the class was not found.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> Struct<T> findCompiledStruct(Class<T> cls) {
+    if (!cls.isAnnotationPresent(GenerateStruct.class)) {
+      return null;
+    }
+    String packageName = cls.getPackageName();
+    String name =
+        packageName.isEmpty() ? cls.getName() : cls.getName().substring(packageName.length() + 1);
+    String structName = name.replace('$', '_') + "Struct";
+    if (!packageName.isEmpty()) {
+      structName = packageName + "." + structName;
+    }
+    try {
+      Class<?> structClass = Class.forName(structName, true, cls.getClassLoader());
+      if (!Struct.class.isAssignableFrom(structClass)) {
+        return null;
+      }
+      Struct<T> struct = (Struct<T>) structClass.getConstructor().newInstance();
+      return struct.getTypeClass() == cls ? struct : null;
+    } catch (ReflectiveOperationException | LinkageError e) {
+      return null;
+    }
+  }
+
+  /**
+   * Generates a {@link Struct} for the given {@link Record} class. If the record is annotated with
+   * {@link GenerateStruct} and the struct class was generated at compile time, an instance of that
+   * class is returned instead. If a {@link Struct} cannot be generated from the {@link Record}, the
+   * errors encountered will be printed and a no-op {@link Struct} will be returned.
    *
    * @param <R> The type of the record.
    * @param recordClass The class of the record.
@@ -255,6 +288,11 @@ public final class StructGenerator {
    */
   @SuppressWarnings({"unchecked", "PMD.AvoidAccessibilityAlteration"})
   public static <R extends Record> Struct<R> genRecord(final Class<R> recordClass) {
+    Struct<R> compiled = findCompiledStruct(recordClass);
+    if (compiled != null) {
+      return compiled;
+    }
+
     final RecordComponent[] components = recordClass.getRecordComponents();
     final SchemaBuilder schemaBuilder = new SchemaBuilder();
     final ArrayList<Struct<?>> nestedStructs = new ArrayList<>();
@@ -407,9 +445,10 @@ public final class StructGenerator {
   }
 
   /**
-   * Generates a {@link Struct} for the given {@link Enum} class. If a {@link Struct} cannot be
-   * generated from the {@link Enum}, the errors encountered will be printed and a no-op {@link
-   * Struct} will be returned.
+   * Generates a {@link Struct} for the given {@link Enum} class. If the enum is annotated with
+   * {@link GenerateStruct} and the struct class was generated at compile time, an instance of that
+   * class is returned instead. If a {@link Struct} cannot be generated from the {@link Enum}, the
+   * errors encountered will be printed and a no-op {@link Struct} will be returned.
    *
    * @param <E> The type of the enum.
    * @param enumClass The class of the enum.
@@ -417,6 +456,11 @@ public final class StructGenerator {
    */
   @SuppressWarnings({"unchecked", "PMD.AvoidAccessibilityAlteration"})
   public static <E extends Enum<E>> Struct<E> genEnum(Class<E> enumClass) {
+    Struct<E> compiled = findCompiledStruct(enumClass);
+    if (compiled != null) {
+      return compiled;
+    }
+
     final E[] enumVariants = enumClass.getEnumConstants();
     final Field[] allEnumFields = enumClass.getDeclaredFields();
     final SchemaBuilder schemaBuilder = new SchemaBuilder();
@@ -0,0 +1,106 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.util.datalog;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/** Builds an in-memory data log in the wpilog format, for testing readers without JNI. */
+class DataLogBufferBuilder {
+  private final ByteArrayOutputStream m_out = new ByteArrayOutputStream();
+
+  DataLogBufferBuilder() {
+    m_out.writeBytes("WPILOG".getBytes(StandardCharsets.UTF_8));
+    m_out.write(0x00);
+    m_out.write(0x01);
+    writeInt(0);
+  }
+
+  DataLogBufferBuilder start(int entry, String name, String type, long timestamp) {
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    data.write(0);
+    writeInt(data, entry);
+    writeString(data, name);
+    writeString(data, type);
+    writeString(data, "");
+    return record(0, timestamp, data.toByteArray());
+  }
+
+  DataLogBufferBuilder finish(int entry, long timestamp) {
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    data.write(1);
+    writeInt(data, entry);
+    return record(0, timestamp, data.toByteArray());
+  }
+
+  DataLogBufferBuilder appendDouble(int entry, long timestamp, double value) {
+    return record(
+        entry,
+        timestamp,
+        ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putDouble(value).array());
+  }
+
+  DataLogBufferBuilder appendInteger(int entry, long timestamp, long value) {
+    return record(
+        entry,
+        timestamp,
+        ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(value).array());
+  }
+
+  DataLogBufferBuilder appendDoubleArray(int entry, long timestamp, double... values) {
+    ByteBuffer buf = ByteBuffer.allocate(8 * values.length).order(ByteOrder.LITTLE_ENDIAN);
+    for (double value : values) {
+      buf.putDouble(value);
+    }
+    return record(entry, timestamp, buf.array());
+  }
+
+  DataLogBufferBuilder appendString(int entry, long timestamp, String value) {
+    return record(entry, timestamp, value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  DataLogBufferBuilder appendStringArray(int entry, long timestamp, String... values) {
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    writeInt(data, values.length);
+    for (String value : values) {
+      writeString(data, value);
+    }
+    return record(entry, timestamp, data.toByteArray());
+  }
+
+  DataLogBufferBuilder record(int entry, long timestamp, byte[] data) {
+    // always use 4-byte entry and size and 8-byte timestamp fields
+    m_out.write(0x3 | (0x3 << 2) | (0x7 << 4));
+    writeInt(entry);
+    writeInt(data.length);
+    for (int i = 0; i < 8; i++) {
+      m_out.write((int) (timestamp >> (i * 8)) & 0xff);
+    }
+    m_out.writeBytes(data);
+    return this;
+  }
+
+  ByteBuffer build() {
+    return ByteBuffer.wrap(m_out.toByteArray());
+  }
+
+  private void writeInt(int value) {
+    writeInt(m_out, value);
+  }
+
+  private static void writeInt(ByteArrayOutputStream out, int value) {
+    for (int i = 0; i < 4; i++) {
+      out.write((value >> (i * 8)) & 0xff);
+    }
+  }
+
+  private static void writeString(ByteArrayOutputStream out, String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeInt(out, bytes.length);
+    out.writeBytes(bytes);
+  }
+}
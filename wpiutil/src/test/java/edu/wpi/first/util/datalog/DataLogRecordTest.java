@@ -0,0 +1,126 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.util.datalog;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import edu.wpi.first.util.struct.Struct;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.util.Iterator;
+import org.junit.jupiter.api.Test;
+
+class DataLogRecordTest {
+  static class Point {
+    double m_x;
+    double m_y;
+  }
+
+  static class PointStruct implements Struct<Point> {
+    @Override
+    public Class<Point> getTypeClass() {
+      return Point.class;
+    }
+
+    @Override
+    public String getTypeName() {
+      return "Point";
+    }
+
+    @Override
+    public int getSize() {
+      return 16;
+    }
+
+    @Override
+    public String getSchema() {
+      return "double x;double y";
+    }
+
+    @Override
+    public Point unpack(ByteBuffer bb) {
+      Point p = new Point();
+      unpackInto(p, bb);
+      return p;
+    }
+
+    @Override
+    public void unpackInto(Point out, ByteBuffer bb) {
+      out.m_x = bb.getDouble();
+      out.m_y = bb.getDouble();
+    }
+
+    @Override
+    public void pack(ByteBuffer bb, Point value) {
+      bb.putDouble(value.m_x);
+      bb.putDouble(value.m_y);
+    }
+  }
+
+  private static Iterator<DataLogRecord> records(DataLogBufferBuilder builder) {
+    return new DataLogReader(builder.build()).iterator();
+  }
+
+  @Test
+  void testDoubleArrayInto() {
+    var it = records(new DataLogBufferBuilder().appendDoubleArray(1, 0, 1.0, 2.0, 3.0));
+    DataLogRecord record = it.next();
+    double[] arr = new double[4];
+    assertEquals(3, record.getDoubleArray(arr));
+    assertArrayEquals(new double[] {1.0, 2.0, 3.0, 0.0}, arr);
+
+    double[] small = new double[2];
+    assertEquals(3, record.getDoubleArray(small));
+    assertArrayEquals(new double[] {1.0, 2.0}, small);
+  }
+
+  @Test
+  void testStringInto() {
+    var it =
+        records(
+            new DataLogBufferBuilder()
+                .appendString(1, 0, "héllo 😀")
+                .appendString(1, 1, "hello")
+                .appendStringArray(1, 2, "a", "bc", ""));
+    CharBuffer buf = it.next().getString(null);
+    assertEquals("héllo 😀", buf.toString());
+
+    // shorter string reuses the buffer
+    CharBuffer buf2 = it.next().getString(buf);
+    assertSame(buf, buf2);
+    assertEquals("hello", buf2.toString());
+
+    CharBuffer[] arr = it.next().getStringArray((CharBuffer[]) null);
+    assertEquals(3, arr.length);
+    assertEquals("a", arr[0].toString());
+    assertEquals("bc", arr[1].toString());
+    assertEquals("", arr[2].toString());
+  }
+
+  @Test
+  void testStructInto() {
+    ByteBuffer data = ByteBuffer.allocate(32).order(ByteOrder.LITTLE_ENDIAN);
+    data.putDouble(1.0).putDouble(2.0).putDouble(3.0).putDouble(4.0);
+    var it = records(new DataLogBufferBuilder().record(1, 0, data.array()));
+    DataLogRecord record = it.next();
+    var struct = new PointStruct();
+
+    Point p = new Point();
+    record.getStructInto(struct, p);
+    assertEquals(1.0, p.m_x);
+    assertEquals(2.0, p.m_y);
+
+    Point[] arr = {new Point(), new Point()};
+    assertEquals(2, record.getStructArrayInto(struct, arr));
+    assertEquals(1.0, arr[0].m_x);
+    assertEquals(4.0, arr[1].m_y);
+
+    // position is restored, so decoding again gives the same result
+    assertEquals(1.0, record.getStruct(struct).m_x);
+  }
+}
@@ -0,0 +1,138 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.util.datalog;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.InputMismatchException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IndexedDataLogReaderTest {
+  private static ByteBuffer makeLog() {
+    DataLogBufferBuilder builder =
+        new DataLogBufferBuilder().start(1, "/a", "double", 0).start(2, "/b", "int64", 0);
+    for (int i = 0; i < 100; i++) {
+      builder.appendDouble(1, i * 10, i);
+      if (i % 2 == 0) {
+        builder.appendInteger(2, i * 10 + 5, i);
+      }
+    }
+    // out of order record
+    builder.appendDouble(1, 15, -1.0);
+    return builder.build();
+  }
+
+  @Test
+  void testEntries() {
+    var reader = new IndexedDataLogReader(new DataLogReader(makeLog()));
+    assertArrayEquals(new int[] {1, 2}, reader.getEntries());
+    assertEquals(1, reader.findEntry("/a"));
+    assertEquals(2, reader.findEntry("/b"));
+    assertEquals(-1, reader.findEntry("/c"));
+    assertEquals("int64", reader.getStartData(2).type);
+    assertEquals(2, reader.getControlRecords().size());
+    assertEquals(101, reader.getRecordCount(1));
+    assertEquals(50, reader.getRecordCount(2));
+    assertEquals(0, reader.getRecordCount(3));
+    assertEquals(151, reader.getRecordCount());
+  }
+
+  @Test
+  void testTimestampOrder() {
+    var reader = new IndexedDataLogReader(new DataLogReader(makeLog()));
+    assertEquals(10, reader.getTimestamp(1, 1));
+    assertEquals(15, reader.getTimestamp(1, 2));
+    assertEquals(-1.0, reader.getRecord(1, 2).getDouble());
+    assertEquals(2.0, reader.getRecord(1, 3).getDouble());
+    assertThrows(IndexOutOfBoundsException.class, () -> reader.getRecord(1, 101));
+  }
+
+  @Test
+  void testControlRecordOrder() {
+    // entry 3 is reused, but the records for it were written out of timestamp order
+    var log =
+        new DataLogBufferBuilder()
+            .start(3, "/new", "double", 50)
+            .finish(3, 20)
+            .start(3, "/old", "int64", 10)
+            .appendDouble(3, 60, 1.0)
+            .build();
+    var reader = new IndexedDataLogReader(new DataLogReader(log));
+
+    List<DataLogRecord> control = reader.getControlRecords();
+    assertEquals(3, control.size());
+    assertEquals(10, control.get(0).getTimestamp());
+    assertEquals("/old", control.get(0).getStartData().name);
+    assertTrue(control.get(1).isFinish());
+    assertEquals(50, control.get(2).getTimestamp());
+
+    assertEquals("/new", reader.getStartData(3).name);
+    assertEquals("double", reader.getStartData(3).type);
+    assertEquals(3, reader.findEntry("/new"));
+  }
+
+  @Test
+  void testRange() {
+    var reader = new IndexedDataLogReader(new DataLogReader(makeLog()));
+    List<Double> values = new ArrayList<>();
+    reader.forEach(1, 300, 350, r -> values.add(r.getDouble()));
+    assertEquals(List.of(30.0, 31.0, 32.0, 33.0, 34.0), values);
+
+    assertEquals(3, reader.getRecords(2, 300, 350).size());
+    assertEquals(8, reader.getRecords(300, 350).size());
+    assertEquals(0, reader.getRecords(1, 2000, 3000).size());
+
+    assertEquals(31, reader.lowerBound(1, 295));
+    assertEquals(101, reader.lowerBound(1, 5000));
+  }
+
+  @Test
+  void testRecordAt() {
+    var reader = new IndexedDataLogReader(new DataLogReader(makeLog()));
+    assertEquals(42.0, reader.getRecordAt(1, 425).getDouble());
+    assertEquals(42.0, reader.getRecordAt(1, 420).getDouble());
+    assertEquals(-1.0, reader.getRecordAt(1, 15).getDouble());
+    assertNull(reader.getRecordAt(2, 0));
+    assertNull(reader.getRecordAt(3, 100));
+  }
+
+  @Test
+  void testTruncated() {
+    ByteBuffer log = makeLog();
+    log.limit(log.limit() - 3);
+    var reader = new IndexedDataLogReader(new DataLogReader(log.slice()));
+    assertEquals(100, reader.getRecordCount(1));
+  }
+
+  @Test
+  void testSaveLoad(@TempDir Path dir) throws IOException {
+    ByteBuffer log = makeLog();
+    var reader = new IndexedDataLogReader(new DataLogReader(log));
+    String filename = dir.resolve("test.wpilog.idx").toString();
+    reader.save(filename);
+
+    var loaded = IndexedDataLogReader.load(new DataLogReader(log), filename);
+    assertArrayEquals(reader.getEntries(), loaded.getEntries());
+    assertEquals(reader.getRecordCount(), loaded.getRecordCount());
+    assertEquals(1, loaded.findEntry("/a"));
+    for (int i = 0; i < reader.getRecordCount(1); i++) {
+      assertEquals(reader.getTimestamp(1, i), loaded.getTimestamp(1, i));
+      assertEquals(reader.getRecord(1, i).getDouble(), loaded.getRecord(1, i).getDouble());
+    }
+
+    var other = new DataLogReader(new DataLogBufferBuilder().start(1, "/a", "double", 0).build());
+    assertThrows(InputMismatchException.class, () -> IndexedDataLogReader.load(other, filename));
+  }
+}
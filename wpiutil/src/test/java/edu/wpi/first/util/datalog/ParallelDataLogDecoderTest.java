@@ -0,0 +1,99 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.util.datalog;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelDataLogDecoderTest {
+  private ForkJoinPool m_pool;
+
+  @BeforeEach
+  void setup() {
+    m_pool = new ForkJoinPool(4);
+  }
+
+  @AfterEach
+  void shutdown() {
+    m_pool.shutdown();
+  }
+
+  private static Object decode(DataLogRecord.StartRecordData entry, DataLogRecord record) {
+    return switch (entry.type) {
+      case "double" -> record.getDouble();
+      case "string" -> record.getString();
+      default -> null;
+    };
+  }
+
+  @Test
+  void testDecode() {
+    var builder =
+        new DataLogBufferBuilder()
+            .start(1, "/a", "double", 0)
+            .start(2, "/b", "string", 0)
+            .start(3, "/c", "int64", 0);
+    for (int i = 0; i < 1000; i++) {
+      builder.appendDouble(1, i, i);
+      builder.appendString(2, i, Integer.toString(i));
+      builder.appendInteger(3, i, i);
+    }
+    var reader = new DataLogReader(builder.build());
+
+    // small chunks so the log is split many times
+    var results =
+        ParallelDataLogDecoder.decode(reader, ParallelDataLogDecoderTest::decode, m_pool, 256);
+    assertEquals(2, results.size());
+    assertEquals("/a", results.get(0).getEntry().name);
+    assertEquals("/b", results.get(1).getEntry().name);
+
+    List<Object> values = results.get(0).getValues();
+    assertEquals(1000, values.size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals((double) i, values.get(i));
+      assertEquals(i, results.get(0).getTimestamps()[i]);
+      assertEquals(Integer.toString(i), results.get(1).getValues().get(i));
+    }
+  }
+
+  @Test
+  void testReusedEntry() {
+    var builder = new DataLogBufferBuilder().start(1, "/a", "double", 0);
+    for (int i = 0; i < 100; i++) {
+      builder.appendDouble(1, i, i);
+    }
+    builder.finish(1, 100).start(1, "/b", "string", 100);
+    for (int i = 100; i < 200; i++) {
+      builder.appendString(1, i, "x");
+    }
+    var reader = new DataLogReader(builder.build());
+
+    var results =
+        ParallelDataLogDecoder.decode(reader, ParallelDataLogDecoderTest::decode, m_pool, 128);
+    assertEquals(2, results.size());
+    assertEquals("/a", results.get(0).getEntry().name);
+    assertEquals(100, results.get(0).getValues().size());
+    assertEquals("/b", results.get(1).getEntry().name);
+    assertEquals(100, results.get(1).getValues().size());
+  }
+
+  @Test
+  void testTimestampOrder() {
+    var builder = new DataLogBufferBuilder().start(1, "/a", "double", 0);
+    builder.appendDouble(1, 30, 3.0).appendDouble(1, 10, 1.0).appendDouble(1, 20, 2.0);
+    var reader = new DataLogReader(builder.build());
+
+    var results = ParallelDataLogDecoder.decode(reader, ParallelDataLogDecoderTest::decode);
+    assertArrayEquals(new long[] {10, 20, 30}, results.get(0).getTimestamps());
+    assertEquals(new ArrayList<>(List.of(1.0, 2.0, 3.0)), results.get(0).getValues());
+  }
+}
@@ -0,0 +1,161 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.util.sendable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.wpi.first.util.WPIUtilJNI;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SendableRegistryTest {
+  private final List<Sendable> m_sendables = new ArrayList<>();
+
+  @BeforeEach
+  void setup() {
+    WPIUtilJNI.enableMockTime();
+    WPIUtilJNI.setMockTime(0);
+  }
+
+  @AfterEach
+  void cleanup() {
+    m_sendables.forEach(SendableRegistry::remove);
+    WPIUtilJNI.disableMockTime();
+  }
+
+  private Sendable newSendable() {
+    Sendable sendable = builder -> {};
+    m_sendables.add(sendable);
+    return sendable;
+  }
+
+  // A builder that only counts how many times it has been updated
+  private static SendableBuilder countingBuilder(AtomicInteger updates) {
+    return (SendableBuilder)
+        Proxy.newProxyInstance(
+            SendableBuilder.class.getClassLoader(),
+            new Class<?>[] {SendableBuilder.class},
+            (proxy, method, args) -> {
+              if ("update".equals(method.getName())) {
+                updates.incrementAndGet();
+              }
+              return null;
+            });
+  }
+
+  @Test
+  void addAndRemove() {
+    Sendable sendable = newSendable();
+    SendableRegistry.add(sendable, "Subsystem", "Name");
+
+    assertTrue(SendableRegistry.contains(sendable));
+    assertEquals("Name", SendableRegistry.getName(sendable));
+    assertEquals("Subsystem", SendableRegistry.getSubsystem(sendable));
+
+    assertTrue(SendableRegistry.remove(sendable));
+    assertFalse(SendableRegistry.contains(sendable));
+    assertFalse(SendableRegistry.remove(sendable));
+    assertEquals("", SendableRegistry.getName(sendable));
+  }
+
+  @Test
+  void missingOrNull() {
+    assertFalse(SendableRegistry.contains(newSendable()));
+    assertFalse(SendableRegistry.contains(null));
+    assertFalse(SendableRegistry.remove(null));
+    assertNull(SendableRegistry.getData(null, 0));
+  }
+
+  @Test
+  void data() {
+    Sendable sendable = newSendable();
+    SendableRegistry.add(sendable, "Name");
+    int handle = SendableRegistry.getDataHandle();
+    AtomicInteger closed = new AtomicInteger();
+    AutoCloseable data = closed::incrementAndGet;
+
+    assertNull(SendableRegistry.setData(sendable, handle, data));
+    assertSame(data, SendableRegistry.getData(sendable, handle));
+
+    // Replacing the data closes the old data
+    SendableRegistry.setData(sendable, handle, () -> {});
+    assertEquals(1, closed.get());
+  }
+
+  @Test
+  void updateEveryTimeByDefault() {
+    Sendable sendable = newSendable();
+    AtomicInteger updates = new AtomicInteger();
+    SendableRegistry.publish(sendable, countingBuilder(updates));
+    assertEquals(1, updates.get());
+
+    SendableRegistry.update(sendable);
+    SendableRegistry.update(sendable);
+    assertEquals(3, updates.get());
+  }
+
+  @Test
+  void updatePeriod() {
+    Sendable sendable = newSendable();
+    AtomicInteger updates = new AtomicInteger();
+    SendableRegistry.publish(sendable, countingBuilder(updates));
+    SendableRegistry.setUpdatePeriod(sendable, 0.1);
+    assertEquals(0.1, SendableRegistry.getUpdatePeriod(sendable), 1e-9);
+
+    // Publishing counts as an update, but doesn't schedule the next one
+    SendableRegistry.update(sendable);
+    assertEquals(2, updates.get());
+
+    WPIUtilJNI.setMockTime(50_000);
+    SendableRegistry.update(sendable);
+    assertEquals(2, updates.get());
+
+    WPIUtilJNI.setMockTime(100_000);
+    SendableRegistry.update(sendable);
+    SendableRegistry.update(sendable);
+    assertEquals(3, updates.get());
+
+    SendableRegistry.setUpdatePeriod(sendable, 0);
+    SendableRegistry.update(sendable);
+    assertEquals(4, updates.get());
+  }
+
+  @Test
+  void concurrentAccess() throws InterruptedException {
+    Sendable shared = newSendable();
+    AtomicInteger updates = new AtomicInteger();
+    SendableRegistry.publish(shared, countingBuilder(updates));
+
+    Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      int thread = i;
+      threads[i] =
+          new Thread(
+              () -> {
+                for (int j = 0; j < 1000; j++) {
+                  Sendable sendable = builder -> {};
+                  SendableRegistry.add(sendable, "Thread" + thread, "Sendable" + j);
+                  SendableRegistry.update(shared);
+                  SendableRegistry.remove(sendable);
+                }
+              });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(1 + threads.length * 1000, updates.get());
+  }
+}
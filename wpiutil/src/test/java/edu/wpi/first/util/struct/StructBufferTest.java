@@ -0,0 +1,120 @@
+// Copyright (c) FIRST and other WPILib contributors.
+// Open Source Software; you can modify and/or share it under the terms of
+// the WPILib BSD license file in the root directory of this project.
+
+package edu.wpi.first.util.struct;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.jupiter.api.Test;
+
+class StructBufferTest {
+  static class Mutable {
+    int m_value;
+
+    Mutable(int value) {
+      m_value = value;
+    }
+  }
+
+  static class MutableStruct implements Struct<Mutable> {
+    @Override
+    public Class<Mutable> getTypeClass() {
+      return Mutable.class;
+    }
+
+    @Override
+    public String getTypeName() {
+      return "Mutable";
+    }
+
+    @Override
+    public int getSize() {
+      return kSizeInt32;
+    }
+
+    @Override
+    public String getSchema() {
+      return "int32 value";
+    }
+
+    @Override
+    public Mutable unpack(ByteBuffer bb) {
+      return new Mutable(bb.getInt());
+    }
+
+    @Override
+    public void unpackInto(Mutable out, ByteBuffer bb) {
+      out.m_value = bb.getInt();
+    }
+
+    @Override
+    public void pack(ByteBuffer bb, Mutable value) {
+      bb.putInt(value.m_value);
+    }
+  }
+
+  // does not override unpackInto
+  static class NoUnpackIntoStruct extends MutableStruct {
+    @Override
+    public void unpackInto(Mutable out, ByteBuffer bb) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  @Test
+  void testWriteArrayCount() {
+    var buf = StructBuffer.create(new MutableStruct());
+    Mutable[] values = {new Mutable(1), new Mutable(2), new Mutable(3)};
+    ByteBuffer bb = buf.writeArray(values, 2);
+    assertEquals(8, bb.position());
+    bb.flip();
+    assertEquals(1, bb.getInt());
+    assertEquals(2, bb.getInt());
+  }
+
+  @Test
+  void testWriteArrayInto() {
+    var buf = StructBuffer.create(new MutableStruct());
+    Mutable[] values = {new Mutable(1), new Mutable(2), new Mutable(3)};
+    ByteBuffer out = ByteBuffer.allocate(16);
+    out.putInt(0);
+    buf.writeArrayInto(out, values, 3);
+    assertEquals(16, out.position());
+    assertEquals(3, out.order(ByteOrder.LITTLE_ENDIAN).getInt(12));
+  }
+
+  @Test
+  void testReadArrayInto() {
+    var buf = StructBuffer.create(new MutableStruct());
+    Mutable[] values = {new Mutable(1), new Mutable(2), new Mutable(3)};
+    ByteBuffer bb = buf.writeArray(values);
+    bb.flip();
+
+    Mutable first = new Mutable(0);
+    Mutable[] out = {first, null};
+    assertEquals(3, buf.readArrayInto(out, bb));
+    assertSame(first, out[0]);
+    assertEquals(1, out[0].m_value);
+    assertEquals(2, out[1].m_value);
+  }
+
+  @Test
+  void testReadArrayIntoUnsupported() {
+    var buf = StructBuffer.create(new NoUnpackIntoStruct());
+    Mutable[] values = {new Mutable(1), new Mutable(2)};
+    ByteBuffer bb = buf.writeArray(values);
+    bb.flip();
+
+    Mutable first = new Mutable(0);
+    Mutable[] out = {first, new Mutable(0)};
+    assertEquals(2, buf.readArrayInto(out, bb));
+    assertNotSame(first, out[0]);
+    assertEquals(1, out[0].m_value);
+    assertEquals(2, out[1].m_value);
+  }
+}